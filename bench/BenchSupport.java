@@ -0,0 +1,136 @@
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * 벤치마크/스트레스 테스트 공용 도구
+ * 스레드 수, 프로세스 CPU 시간, 스레드별 할당량 측정과 결과 표 출력, 간단한 검증을 제공합니다.
+ */
+final class BenchSupport {
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private BenchSupport() {
+    }
+
+    /**
+     * 현재 JVM의 살아 있는 스레드 수
+     */
+    static int threadCount() {
+        return THREADS.getThreadCount();
+    }
+
+    /**
+     * 프로세스 전체 CPU 시간 (나노초, 지원하지 않으면 -1)
+     */
+    static long processCpuNanos() {
+        java.lang.management.OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        if (os instanceof com.sun.management.OperatingSystemMXBean) {
+            return ((com.sun.management.OperatingSystemMXBean) os).getProcessCpuTime();
+        }
+        return -1;
+    }
+
+    /**
+     * 지정한 스레드가 지금까지 할당한 바이트 수 (지원하지 않으면 -1)
+     */
+    static long allocatedBytes(Thread thread) {
+        if (THREADS instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) THREADS).getThreadAllocatedBytes(thread.getId());
+        }
+        return -1;
+    }
+
+    /**
+     * 현재 스레드가 지금까지 할당한 바이트 수 (지원하지 않으면 -1)
+     */
+    static long allocatedBytes() {
+        return allocatedBytes(Thread.currentThread());
+    }
+
+    /**
+     * 모든 살아 있는 스레드의 누적 할당 바이트 합 (지원하지 않으면 -1)
+     */
+    static long totalAllocatedBytes() {
+        if (!(THREADS instanceof com.sun.management.ThreadMXBean)) return -1;
+        long[] ids = THREADS.getAllThreadIds();
+        long[] bytes = ((com.sun.management.ThreadMXBean) THREADS).getThreadAllocatedBytes(ids);
+        long total = 0;
+        for (long b : bytes) {
+            if (b > 0) total += b;
+        }
+        return total;
+    }
+
+    static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("벤치마크 중 인터럽트", e);
+        }
+    }
+
+    /**
+     * GC를 몇 번 유도하여 이전 단계의 쓰레기가 다음 측정에 섞이지 않게 함
+     */
+    static void settle() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            sleep(50);
+        }
+    }
+
+    /**
+     * 정렬된 표본에서 백분위 값
+     * @param sorted 오름차순 정렬된 표본
+     * @param percentile 0.0 ~ 1.0
+     */
+    static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) return 0;
+        int index = (int) Math.ceil(sorted.length * percentile) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    static long[] sorted(long[] samples, int count) {
+        long[] copy = Arrays.copyOf(samples, count);
+        Arrays.sort(copy);
+        return copy;
+    }
+
+    static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    static void header(String title) {
+        System.out.println();
+        System.out.println("=== " + title + " ===");
+    }
+
+    static void row(String format, Object... args) {
+        System.out.println(String.format(Locale.ROOT, format, args));
+    }
+
+    /**
+     * 조건이 거짓이면 실패 메시지를 출력하고 비정상 종료 코드로 끝냄
+     */
+    static void check(boolean condition, String message) {
+        if (!condition) {
+            System.out.println("FAIL: " + message);
+            System.exit(1);
+        }
+    }
+
+    /**
+     * 정수 인자 (없거나 잘못되면 기본값)
+     */
+    static int intArg(String[] args, int index, int defaultValue) {
+        if (args.length <= index) return defaultValue;
+        try {
+            return Integer.parseInt(args[index]);
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+import model.JsonDataManager;
+import model.UserProfile;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 시작 시 프로필 로드 시간 벤치마크 (user-015)
+ * 프로필 1k/10k/100k개를 저장한 뒤, 매번 새 JVM을 띄워 이진 저장소(profiles.bin)와
+ * JSON(profiles.json, 이후 이진 저장소로 자동 이전)에서 각각 처음 로드하는 시간을 잽니다.
+ * 각 측정은 임시 디렉토리를 작업 디렉토리로 하여 실제 데이터 파일을 건드리지 않습니다.
+ *
+ * 사용법: java ColdStartBench [최대 프로필 수] [반복 횟수]
+ */
+public class ColdStartBench {
+
+    private static final String RESULT_PREFIX = "RESULT ";
+    private static final Pattern LOAD_MILLIS = Pattern.compile("([0-9.]+)ms");
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0 && args[0].equals("probe")) {
+            probe(args[1], Integer.parseInt(args[2]));
+            return;
+        }
+
+        int maxProfiles = BenchSupport.intArg(args, 0, 100_000);
+        int rounds = BenchSupport.intArg(args, 1, 3);
+
+        BenchSupport.header("새 JVM에서 첫 프로필 로드 (" + rounds + "회 중 최선)");
+        BenchSupport.row("%10s %18s %18s %16s %16s", "profiles", "binary load(ms)", "json load(ms)",
+            "binary jvm(ms)", "json jvm(ms)");
+
+        double[] last = null;
+        for (int count = 1000; count <= maxProfiles; count *= 10) {
+            Path dir = Files.createTempDirectory("coldstart-" + count);
+            run(dir, "prepare", count);
+
+            double[] binary = best(dir, "binary", count, rounds);
+            double[] json = best(dir, "json", count, rounds);
+            BenchSupport.row("%10d %18.2f %18.2f %16.1f %16.1f", count, binary[0], json[0], binary[1], json[1]);
+            last = new double[] { binary[0], json[0] };
+            deleteRecursively(dir);
+        }
+
+        BenchSupport.check(last != null && last[0] < last[1],
+            "가장 큰 규모에서 이진 저장소 로드가 JSON보다 느림");
+        System.out.println("\nOK");
+        System.exit(0);
+    }
+
+    /**
+     * 같은 조건으로 새 JVM 로드를 여러 번 실행하여 가장 빠른 값 반환
+     * @return { 로드 시간(ms), JVM 시작부터 로드 완료까지(ms) }
+     */
+    private static double[] best(Path dir, String mode, int count, int rounds) throws Exception {
+        double[] best = { Double.MAX_VALUE, Double.MAX_VALUE };
+        for (int i = 0; i < rounds; i++) {
+            if (mode.equals("json")) {
+                // 이진 저장소가 없으면 JSON에서 읽고 다시 이전함
+                Files.deleteIfExists(dir.resolve("data").resolve("profiles.bin"));
+            }
+            double[] result = run(dir, mode, count);
+            best[0] = Math.min(best[0], result[0]);
+            best[1] = Math.min(best[1], result[1]);
+        }
+        return best;
+    }
+
+    /**
+     * 임시 디렉토리를 작업 디렉토리로 하여 새 JVM에서 probe 실행
+     */
+    private static double[] run(Path dir, String mode, int count) throws Exception {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-cp");
+        command.add(absoluteClassPath());
+        command.add(ColdStartBench.class.getName());
+        command.add("probe");
+        command.add(mode);
+        command.add(Integer.toString(count));
+
+        Process process = new ProcessBuilder(command).directory(dir.toFile()).redirectErrorStream(true).start();
+        String result = null;
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(RESULT_PREFIX)) result = line.substring(RESULT_PREFIX.length());
+            }
+        }
+        int exit = process.waitFor();
+        BenchSupport.check(exit == 0 && result != null, mode + " " + count + " 실행 실패 (종료 코드 " + exit + ")");
+
+        String[] parts = result.split(" ");
+        BenchSupport.check(Integer.parseInt(parts[0]) == count || mode.equals("prepare"),
+            mode + ": 프로필 " + parts[0] + "개 로드 (" + count + "개여야 함)");
+        return new double[] { Double.parseDouble(parts[1]), Double.parseDouble(parts[2]) };
+    }
+
+    /**
+     * 자식 JVM: 데이터 준비 또는 첫 로드 측정
+     */
+    private static void probe(String mode, int count) throws Exception {
+        long jvmStart = java.lang.management.ManagementFactory.getRuntimeMXBean().getStartTime();
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(PrintStream.nullOutputStream()));
+
+        JsonDataManager manager = new JsonDataManager();
+        if (mode.equals("prepare")) {
+            List<UserProfile> profiles = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                UserProfile profile = new UserProfile("프로필-" + i);
+                profile.setWorkMinutes(5 + i % 55);
+                profile.setSnoozeMinutes(1 + i % 10);
+                profiles.add(profile);
+            }
+            manager.saveProfiles(profiles);
+            manager.shutdown();
+            out.println(RESULT_PREFIX + count + " 0 0");
+            System.exit(0);
+        }
+
+        List<UserProfile> profiles = manager.loadProfiles();
+        double sinceJvmStart = System.currentTimeMillis() - jvmStart;
+        Matcher m = LOAD_MILLIS.matcher(manager.getLastLoadStatus());
+        double loadMillis = m.find() ? Double.parseDouble(m.group(1)) : -1;
+        manager.shutdown();
+        out.println(RESULT_PREFIX + profiles.size() + " " + loadMillis + " " + sinceJvmStart);
+        System.exit(0);
+    }
+
+    private static String absoluteClassPath() {
+        StringBuilder path = new StringBuilder();
+        for (String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+            if (path.length() > 0) path.append(File.pathSeparator);
+            path.append(Paths.get(entry).toAbsolutePath().normalize());
+        }
+        return path.toString();
+    }
+
+    private static void deleteRecursively(Path dir) throws Exception {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+}
@@ -0,0 +1,228 @@
+import events.Event;
+import events.EventHandler;
+import events.SimpleEventBus;
+import events.TimerTickEvent;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 이벤트 버스 발행 처리량/지연 벤치마크 (user-007)
+ * 동기 모드와 비동기 모드(BLOCK, DROP_OLDEST, COALESCE_BY_TYPE)를 빈 핸들러의 처리량과
+ * 느린 핸들러(1ms)가 있을 때 발행 스레드가 막히는 시간으로 비교합니다.
+ * 공유 버스(동기)에서 실행기를 지정한 느린 구독자가 발행 스레드를 막지 않는지도 확인합니다.
+ * 상위 타입 구독(계층 디스패치)을 이전의 정확한 타입 조회 방식과 비교하고,
+ * 발행 도중 구독해도 디스패치 테이블에 오래된 구독 목록이 남지 않는지 확인합니다.
+ *
+ * 사용법: java EventBusBench [처리량 측정 이벤트 수] [느린 핸들러 측정 이벤트 수]
+ */
+public class EventBusBench {
+
+    private static final long SLOW_HANDLER_MS = 1;
+    private static final double HIERARCHY_MAX_RATIO = 2.0;   // 상위 타입 구독자 추가 시 허용하는 발행 비용 비율
+
+    public static void main(String[] args) throws Exception {
+        int fastEvents = BenchSupport.intArg(args, 0, 2_000_000);
+        int slowEvents = BenchSupport.intArg(args, 1, 200);
+
+        BenchSupport.header("빈 핸들러 발행 처리량 (" + fastEvents + "건)");
+        BenchSupport.row("%-28s %14s %16s %12s", "mode", "publish(ns/op)", "latency avg(us)", "delivered");
+        for (SimpleEventBus bus : buses()) {
+            AtomicLong delivered = new AtomicLong();
+            bus.subscribe(TimerTickEvent.class, event -> delivered.incrementAndGet());
+            Event event = new TimerTickEvent(60, 1500, 0, "작업 시간", true);
+
+            long start = System.nanoTime();
+            for (int i = 0; i < fastEvents; i++) {
+                bus.publish(event);
+            }
+            long elapsed = System.nanoTime() - start;
+            bus.shutdown();
+            BenchSupport.row("%-28s %14.1f %16.1f %12d", describe(bus), elapsed / (double) fastEvents,
+                bus.getAverageLatencyMicros(), delivered.get());
+        }
+
+        BenchSupport.header("느린 핸들러(" + SLOW_HANDLER_MS + "ms) 발행 스레드 대기 (" + slowEvents + "건)");
+        BenchSupport.row("%-28s %14s %12s %10s %10s", "mode", "publisher(ms)", "delivered", "dropped", "coalesced");
+        for (SimpleEventBus bus : buses()) {
+            AtomicLong delivered = new AtomicLong();
+            bus.subscribe(TimerTickEvent.class, event -> {
+                BenchSupport.sleep(SLOW_HANDLER_MS);
+                delivered.incrementAndGet();
+            });
+            long publisherNanos = publishAll(bus, slowEvents);
+            bus.shutdown();
+            BenchSupport.row("%-28s %14.1f %12d %10d %10d", describe(bus), BenchSupport.millis(publisherNanos),
+                delivered.get(), bus.getDroppedCount(), bus.getCoalescedCount());
+        }
+
+        // 동기 버스라도 실행기를 지정한 구독자는 발행 스레드를 막지 않음
+        BenchSupport.header("동기 버스 + 실행기 지정 구독자");
+        SimpleEventBus bus = new SimpleEventBus();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        AtomicLong delivered = new AtomicLong();
+        bus.subscribe(TimerTickEvent.class, event -> {
+            BenchSupport.sleep(SLOW_HANDLER_MS);
+            delivered.incrementAndGet();
+        }, executor);
+        long publisherNanos = publishAll(bus, slowEvents);
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+        BenchSupport.row("발행 스레드 %.1fms, 전달 %d건", BenchSupport.millis(publisherNanos), delivered.get());
+        BenchSupport.check(delivered.get() == slowEvents, "실행기 구독자 전달 누락: " + delivered.get());
+        BenchSupport.check(publisherNanos < slowEvents * SLOW_HANDLER_MS * 1_000_000L / 2,
+            "실행기를 지정한 구독자가 발행 스레드를 막음");
+
+        compareHierarchyDispatch(fastEvents);
+        checkSubscribeDuringPublish(slowEvents * 50);
+
+        BenchSupport.check(SimpleEventBus.getInstance().getDispatchMode() == SimpleEventBus.DispatchMode.SYNC,
+            "공유 버스는 동기 모드여야 함");
+        System.out.println("\nOK: 공유 버스 " + SimpleEventBus.getInstance().getDispatchMode());
+        System.exit(0);
+    }
+
+    /**
+     * 정확한 타입 조회(이전 방식)와 계층 디스패치(캐시된 테이블)의 동기 발행 비용 비교
+     */
+    private static void compareHierarchyDispatch(int events) {
+        BenchSupport.header("계층 디스패치 vs 정확한 타입 (" + events + "건)");
+        BenchSupport.row("%-34s %14s %12s", "path", "publish(ns/op)", "delivered");
+        Event event = new TimerTickEvent(60, 1500, 0, "작업 시간", true);
+
+        LegacyExactBus legacy = new LegacyExactBus();
+        AtomicLong legacyDelivered = new AtomicLong();
+        legacy.subscribe(TimerTickEvent.class, e -> legacyDelivered.incrementAndGet());
+        double legacyNanos = publishNanos(legacy::publish, event, events);
+        BenchSupport.row("%-34s %14.1f %12d", "exact lookup (before hierarchy)", legacyNanos, legacyDelivered.get());
+        // 아래 두 경로는 지연/발행 통계 기록 비용도 포함
+
+        SimpleEventBus exact = new SimpleEventBus();
+        AtomicLong exactDelivered = new AtomicLong();
+        exact.subscribe(TimerTickEvent.class, e -> exactDelivered.incrementAndGet());
+        double exactNanos = publishNanos(exact::publish, event, events);
+        BenchSupport.row("%-34s %14.1f %12d", "dispatch table, exact subscriber", exactNanos, exactDelivered.get());
+
+        SimpleEventBus hierarchy = new SimpleEventBus();
+        AtomicLong hierarchyDelivered = new AtomicLong();
+        hierarchy.subscribe(Event.class, e -> hierarchyDelivered.incrementAndGet());
+        hierarchy.subscribe(TimerTickEvent.class, e -> hierarchyDelivered.incrementAndGet());
+        double hierarchyNanos = publishNanos(hierarchy::publish, event, events);
+        BenchSupport.row("%-34s %14.1f %12d", "dispatch table, Event + exact", hierarchyNanos, hierarchyDelivered.get());
+        BenchSupport.row("디스패치 테이블 미스: %d, %d", exact.getDispatchTableMisses(), hierarchy.getDispatchTableMisses());
+
+        // 예열 발행도 전달되므로 경로마다 같은 횟수를 발행했는지로 비교 (상위 타입 구독자는 한 번 더 받음)
+        BenchSupport.check(legacyDelivered.get() == exactDelivered.get()
+            && hierarchyDelivered.get() == 2 * exactDelivered.get(), "전달 누락");
+        BenchSupport.check(exact.getDispatchTableMisses() <= 1 && hierarchy.getDispatchTableMisses() <= 1,
+            "구독이 그대로인데 디스패치 테이블을 다시 계산함");
+        // 같은 버스에서 상위 타입 구독자가 하나 더 있어도 조회 비용은 같고 핸들러 호출만 늘어야 함
+        BenchSupport.check(hierarchyNanos <= exactNanos * HIERARCHY_MAX_RATIO,
+            String.format("계층 디스패치가 정확한 타입 구독보다 지나치게 느림: %.1f vs %.1fns", hierarchyNanos, exactNanos));
+    }
+
+    /**
+     * 다른 스레드가 계속 발행하는 중에 구독해도 바로 다음 발행부터 전달되는지 반복 확인
+     * (테이블 계산과 무효화가 엇갈리면 오래된 목록이 캐시되어 새 구독자가 계속 빠질 수 있음)
+     */
+    private static void checkSubscribeDuringPublish(int rounds) throws InterruptedException {
+        BenchSupport.header("발행 중 구독 (" + rounds + "회)");
+        SimpleEventBus bus = new SimpleEventBus();
+        Event event = new TimerTickEvent(60, 1500, 0, "작업 시간", true);
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread publisher = new Thread(() -> {
+            while (running.get()) {
+                bus.publish(event);
+            }
+        }, "Publisher");
+        publisher.start();
+
+        int missed = 0;
+        for (int i = 0; i < rounds; i++) {
+            AtomicLong received = new AtomicLong();
+            EventHandler<TimerTickEvent> handler = e -> received.incrementAndGet();
+            bus.subscribe(TimerTickEvent.class, handler);
+            // 구독이 끝난 뒤의 발행은 반드시 전달되어야 함
+            bus.publish(event);
+            if (received.get() == 0) missed++;
+            bus.unsubscribe(TimerTickEvent.class, handler);
+        }
+        running.set(false);
+        publisher.join();
+
+        BenchSupport.row("구독 직후 발행을 놓친 횟수: %d", missed);
+        BenchSupport.check(missed == 0, "오래된 디스패치 테이블로 새 구독자에게 전달되지 않음: " + missed + "회");
+    }
+
+    /**
+     * 발행 한 번의 평균 비용 (JIT 순서 영향을 줄이기 위해 세 번 재서 가장 빠른 값)
+     */
+    private static double publishNanos(java.util.function.Consumer<Event> publish, Event event, int count) {
+        double best = Double.MAX_VALUE;
+        for (int run = 0; run < 3; run++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < count; i++) {
+                publish.accept(event);
+            }
+            best = Math.min(best, (System.nanoTime() - start) / (double) count);
+        }
+        return best;
+    }
+
+    /**
+     * 계층 디스패치 이전의 동기 발행 경로 (이벤트 클래스로 정확히 조회한 구독자만 호출)
+     */
+    private static final class LegacyExactBus {
+        private final Map<Class<? extends Event>, List<EventHandler<? extends Event>>> subscribers = new ConcurrentHashMap<>();
+
+        <T extends Event> void subscribe(Class<T> eventType, EventHandler<T> handler) {
+            subscribers.computeIfAbsent(eventType, k -> new CopyOnWriteArrayList<>()).add(handler);
+        }
+
+        @SuppressWarnings("unchecked")
+        void publish(Event event) {
+            List<EventHandler<? extends Event>> handlers = subscribers.get(event.getClass());
+            if (handlers == null || handlers.isEmpty()) return;
+            for (EventHandler<? extends Event> handler : handlers) {
+                try {
+                    ((EventHandler<Event>) handler).handle(event);
+                } catch (Exception e) {
+                    System.err.println("이벤트 핸들러 실행 중 오류 발생: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private static SimpleEventBus[] buses() {
+        return new SimpleEventBus[] {
+            new SimpleEventBus(),
+            SimpleEventBus.builder().dispatchMode(SimpleEventBus.DispatchMode.ASYNC)
+                .overflowPolicy(SimpleEventBus.OverflowPolicy.BLOCK).build(),
+            SimpleEventBus.builder().dispatchMode(SimpleEventBus.DispatchMode.ASYNC)
+                .overflowPolicy(SimpleEventBus.OverflowPolicy.DROP_OLDEST).build(),
+            SimpleEventBus.builder().dispatchMode(SimpleEventBus.DispatchMode.ASYNC)
+                .overflowPolicy(SimpleEventBus.OverflowPolicy.COALESCE_BY_TYPE).build()
+        };
+    }
+
+    private static long publishAll(SimpleEventBus bus, int count) {
+        Event event = new TimerTickEvent(60, 1500, 0, "작업 시간", true);
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            bus.publish(event);
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static String describe(SimpleEventBus bus) {
+        return bus.getDispatchMode() == SimpleEventBus.DispatchMode.SYNC
+            ? "SYNC" : "ASYNC/" + bus.getOverflowPolicy();
+    }
+}
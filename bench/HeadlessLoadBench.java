@@ -0,0 +1,166 @@
+import controller.HeadlessTimerServer;
+import controller.SettingsController;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 헤드리스 HTTP/JSON API 부하 테스트 (user-003)
+ * 루프백 클라이언트 여러 개가 여러 사용자의 타이머를 조작하며 초당 요청 수와 p50/p99 지연을 측정합니다.
+ * 잘못된 동작 요청이 세션을 만들지 않는지, 제어 문자가 든 사용자 이름도 올바른 JSON으로 응답하는지 함께 확인합니다.
+ *
+ * 사용법: java HeadlessLoadBench [클라이언트 수] [사용자 수] [측정 시간(초)]
+ */
+public class HeadlessLoadBench {
+
+    public static void main(String[] args) throws Exception {
+        int clients = BenchSupport.intArg(args, 0, 32);
+        int users = BenchSupport.intArg(args, 1, 1000);
+        int seconds = BenchSupport.intArg(args, 2, 5);
+
+        // 서버 준비 로그는 측정 결과와 섞이지 않도록 숨김
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(PrintStream.nullOutputStream()));
+        SettingsController settings = new SettingsController(new InMemoryDataStore());
+        HeadlessTimerServer server = new HeadlessTimerServer(0, settings);
+        server.start();
+        System.setOut(out);
+
+        String base = "http://127.0.0.1:" + server.getPort();
+        HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(Executors.newFixedThreadPool(clients))
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+        checkValidation(client, base);
+
+        // 모든 사용자 세션 시작 (세션마다 남는 프로필 적용 로그는 숨김)
+        System.setOut(new PrintStream(PrintStream.nullOutputStream()));
+        for (int u = 0; u < users; u++) {
+            expect(send(client, "POST", base + "/api/timers/user-" + u + "/start"), 200, "start");
+        }
+        System.setOut(out);
+
+        BenchSupport.header("부하: 클라이언트 " + clients + "개, 사용자 " + users + "명, " + seconds + "초");
+        long[][] samples = new long[clients][];
+        int[] counts = new int[clients];
+        AtomicLong errors = new AtomicLong();
+        long endAt = System.nanoTime() + seconds * 1_000_000_000L;
+        CountDownLatch done = new CountDownLatch(clients);
+        ExecutorService pool = Executors.newFixedThreadPool(clients);
+
+        for (int c = 0; c < clients; c++) {
+            int id = c;
+            pool.execute(() -> {
+                long[] latencies = new long[1 << 16];
+                int n = 0;
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                try {
+                    while (System.nanoTime() < endAt) {
+                        String user = "user-" + random.nextInt(users);
+                        int pick = random.nextInt(10);
+                        // 조회 위주 (상태 7, 통계 1, 일시정지/재시작 2)
+                        String method = pick < 8 ? "GET" : "POST";
+                        String action = pick < 7 ? "status" : pick < 8 ? "statistics" : pick < 9 ? "pause" : "start";
+                        long start = System.nanoTime();
+                        HttpResponse<String> response = send(client, method, base + "/api/timers/" + user + "/" + action);
+                        long elapsed = System.nanoTime() - start;
+                        if (response.statusCode() != 200) errors.incrementAndGet();
+                        if (n == latencies.length) latencies = java.util.Arrays.copyOf(latencies, n * 2);
+                        latencies[n++] = elapsed;
+                    }
+                } catch (Exception e) {
+                    errors.incrementAndGet();
+                } finally {
+                    samples[id] = latencies;
+                    counts[id] = n;
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        pool.shutdown();
+
+        int total = 0;
+        for (int n : counts) total += n;
+        long[] all = new long[total];
+        int offset = 0;
+        for (int c = 0; c < clients; c++) {
+            System.arraycopy(samples[c], 0, all, offset, counts[c]);
+            offset += counts[c];
+        }
+        long[] sorted = BenchSupport.sorted(all, total);
+
+        BenchSupport.row("요청 %d건, 오류 %d건", total, errors.get());
+        BenchSupport.row("초당 요청: %.0f req/s", total / (double) seconds);
+        BenchSupport.row("클라이언트 지연: p50 %.2fms, p99 %.2fms, 최대 %.2fms",
+            BenchSupport.millis(BenchSupport.percentile(sorted, 0.50)),
+            BenchSupport.millis(BenchSupport.percentile(sorted, 0.99)),
+            BenchSupport.millis(sorted.length == 0 ? 0 : sorted[sorted.length - 1]));
+        HeadlessTimerServer.RequestMetrics metrics = server.getMetrics();
+        BenchSupport.row("서버 측정: p50 <= %dus, p99 <= %dus", metrics.getPercentileMicros(0.50),
+            metrics.getPercentileMicros(0.99));
+
+        BenchSupport.check(errors.get() == 0, "부하 중 오류 응답 " + errors.get() + "건");
+        out.println("\nOK");
+
+        System.setOut(new PrintStream(PrintStream.nullOutputStream()));
+        server.stop();
+        settings.shutdown();
+        System.exit(0);
+    }
+
+    /**
+     * 잘못된 요청이 세션을 만들지 않고, 제어 문자가 든 이름도 올바른 JSON으로 응답하는지 확인
+     */
+    private static void checkValidation(HttpClient client, String base) throws Exception {
+        BenchSupport.header("입력 검증");
+        for (int i = 0; i < 1000; i++) {
+            expect(send(client, "POST", base + "/api/timers/bogus-" + i + "/explode"), 404, "알 수 없는 동작");
+            expect(send(client, "GET", base + "/api/timers/bogus-" + i + "/status"), 404, "세션 없는 조회");
+            expect(send(client, "GET", base + "/api/timers/bogus-" + i + "/start"), 404, "잘못된 메서드");
+        }
+        String metrics = send(client, "GET", base + "/api/metrics").body();
+        BenchSupport.check(metrics.contains("\"sessions\":0"), "잘못된 요청이 세션을 만들었음: " + metrics);
+        BenchSupport.row("잘못된 요청 3000건 후 세션 수 0");
+
+        String name = "탭\t줄\n벨\u0007따옴표\"";
+        HttpResponse<String> response = send(client, "GET",
+            base + "/api/timers/" + URLEncoder.encode(name, StandardCharsets.UTF_8).replace("+", "%20") + "/status");
+        expect(response, 404, "세션 없는 조회");
+        for (char c : response.body().toCharArray()) {
+            BenchSupport.check(c >= 0x20, "응답 JSON에 이스케이프되지 않은 제어 문자: " + (int) c);
+        }
+        BenchSupport.check(response.body().contains("\\t") && response.body().contains("\\n")
+            && response.body().contains("\\u0007") && response.body().contains("\\\""),
+            "제어 문자 이스케이프 누락: " + response.body());
+        BenchSupport.row("제어 문자가 든 사용자 이름 이스케이프 확인");
+    }
+
+    private static HttpResponse<String> send(HttpClient client, String method, String url)
+            throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+            .method(method, HttpRequest.BodyPublishers.noBody())
+            .timeout(Duration.ofSeconds(10))
+            .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static void expect(HttpResponse<String> response, int status, String what) {
+        BenchSupport.check(response.statusCode() == status,
+            what + ": " + status + " 기대, " + response.statusCode() + " 응답 (" + response.body() + ")");
+    }
+}
@@ -0,0 +1,42 @@
+import model.DataStore;
+import model.UserProfile;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 디스크를 건드리지 않는 벤치마크용 저장소
+ * SettingsController가 필요한 벤치마크에서 실제 데이터 파일 대신 사용합니다.
+ */
+class InMemoryDataStore implements DataStore {
+
+    private List<UserProfile> profiles = new ArrayList<>();
+    private Map<String, Object> settings = new HashMap<>();
+
+    @Override
+    public synchronized void saveProfiles(List<UserProfile> profiles) {
+        this.profiles = new ArrayList<>(profiles);
+    }
+
+    @Override
+    public synchronized List<UserProfile> loadProfiles() {
+        return new ArrayList<>(profiles);
+    }
+
+    @Override
+    public synchronized void saveSettings(Map<String, Object> settings) {
+        this.settings = new HashMap<>(settings);
+    }
+
+    @Override
+    public synchronized Map<String, Object> loadSettings() {
+        return new HashMap<>(settings);
+    }
+
+    @Override
+    public void printDataStatus() {
+        System.out.println("메모리 저장소: 프로필 " + profiles.size() + "개");
+    }
+}
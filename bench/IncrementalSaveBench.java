@@ -0,0 +1,85 @@
+import model.JsonDataManager;
+import model.UserProfile;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 증분 프로필 저장 벤치마크 (user-014)
+ * 프로필 1만 개 중 하나의 필드만 바꾸고 저장하기를 반복하여,
+ * 바뀐 프로필만 다시 인코딩하는 저장과 매번 전체를 인코딩하는 저장(조각 캐시가 없는 새 JsonDataManager)을 비교합니다.
+ * 설정이 그대로면 settings.json 쓰기를 생략하는지, 이진 저장소(profiles.bin)는 저장마다 다시 쓰지 않고
+ * 종료할 때 한 번만 갱신하는지도 확인합니다.
+ * 결과 파일은 작업 디렉토리의 data 폴더에 생깁니다.
+ *
+ * 사용법: java IncrementalSaveBench [프로필 수] [편집 횟수]
+ */
+public class IncrementalSaveBench {
+
+    public static void main(String[] args) throws Exception {
+        int count = BenchSupport.intArg(args, 0, 10_000);
+        int edits = BenchSupport.intArg(args, 1, 50);
+
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(PrintStream.nullOutputStream()));  // 프로필 생성/저장 진단 출력 숨김
+        List<UserProfile> profiles = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            profiles.add(new UserProfile("프로필-" + i));
+        }
+        Map<String, Object> settings = new HashMap<>();
+        settings.put("currentProfile", "프로필-0");
+        settings.put("autoSaveEnabled", true);
+
+        JsonDataManager incremental = new JsonDataManager();
+        incremental.saveProfiles(profiles);  // 최초 전체 저장
+        incremental.saveSettings(settings);
+        long encodedBefore = incremental.getProfilesEncoded();
+
+        Random random = new Random(42);
+        long incrementalNanos = 0;
+        long fullNanos = 0;
+        for (int i = 0; i < edits; i++) {
+            UserProfile target = profiles.get(random.nextInt(count));
+            target.setWorkMinutes(target.getWorkMinutes() % 60 + 1);
+
+            long start = System.nanoTime();
+            incremental.saveProfiles(profiles);
+            incremental.saveSettings(settings);
+            incrementalNanos += System.nanoTime() - start;
+
+            // 비교: 조각 캐시가 없어 모든 프로필을 다시 인코딩하고 두 파일을 모두 쓰는 저장
+            JsonDataManager full = new JsonDataManager();
+            start = System.nanoTime();
+            full.saveProfiles(profiles);
+            full.saveSettings(settings);
+            fullNanos += System.nanoTime() - start;
+            full.shutdown();
+        }
+        long encoded = incremental.getProfilesEncoded() - encodedBefore;
+        String status = incremental.getWriteStatus();
+        long rebuildsWhileSaving = incremental.getBinaryRebuilds();
+        incremental.shutdown();
+        System.setOut(out);
+
+        BenchSupport.header("프로필 " + count + "개, 한 필드 편집 후 저장 " + edits + "회");
+        BenchSupport.row("%-28s %12s", "save", "avg(ms)");
+        BenchSupport.row("%-28s %12.2f", "증분 (바뀐 프로필만 인코딩)", BenchSupport.millis(incrementalNanos / edits));
+        BenchSupport.row("%-28s %12.2f", "전체 인코딩", BenchSupport.millis(fullNanos / edits));
+        BenchSupport.row("저장당 다시 인코딩한 프로필: %.1f개", encoded / (double) edits);
+        BenchSupport.row("%s", status);
+
+        BenchSupport.check(encoded == edits, "편집 " + edits + "회에 프로필 " + encoded + "개를 다시 인코딩함");
+        BenchSupport.check(status.contains("설정 " + edits),
+            "설정이 그대로인데 settings.json 쓰기를 생략하지 않음: " + status);
+        BenchSupport.check(incrementalNanos < fullNanos, "증분 저장이 전체 인코딩보다 느림");
+        BenchSupport.check(rebuildsWhileSaving == 0, "저장 중에 이진 저장소를 " + rebuildsWhileSaving + "회 다시 씀");
+        BenchSupport.check(incremental.getBinaryRebuilds() == 1,
+            "종료할 때 이진 저장소를 한 번 갱신하지 않음: " + incremental.getBinaryRebuilds() + "회");
+        System.out.println("\nOK");
+        System.exit(0);
+    }
+}
@@ -0,0 +1,129 @@
+import model.TimerModel;
+import model.UserProfile;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 비교용 이전 프로필 파서 (JsonStreamReader 도입 전 JsonDataManager의 정규식 방식)
+ * 필드마다 Pattern.compile로 객체 문자열 전체를 다시 검색하고, 배열/객체 분할도 따로 훑습니다.
+ * 진단 출력만 빼고 원래 동작을 그대로 유지하여 파싱 비용만 비교할 수 있게 합니다.
+ */
+final class LegacyRegexProfileParser {
+
+    private LegacyRegexProfileParser() {
+    }
+
+    static List<UserProfile> parseProfiles(String json) {
+        List<UserProfile> profiles = new ArrayList<>();
+        String profilesSection = extractJsonArray(json, "profiles");
+        if (profilesSection.isEmpty()) {
+            return profiles;
+        }
+        for (String profileStr : splitJsonObjects(profilesSection)) {
+            UserProfile profile = parseProfile(profileStr);
+            if (profile != null) {
+                profiles.add(profile);
+            }
+        }
+        return profiles;
+    }
+
+    private static UserProfile parseProfile(String jsonStr) {
+        try {
+            UserProfile profile = new UserProfile();
+            profile.setProfileName(extractJsonString(jsonStr, "profileName"));
+            profile.setWorkMinutes(extractJsonInt(jsonStr, "workMinutes"));
+            profile.setBreakMinutes(extractJsonInt(jsonStr, "breakMinutes"));
+            profile.setPomodoroMode(extractJsonBoolean(jsonStr, "pomodoroMode"));
+            profile.setSoundEnabled(extractJsonBoolean(jsonStr, "soundEnabled"));
+            profile.setPopupEnabled(extractJsonBoolean(jsonStr, "popupEnabled"));
+            profile.setFlashEnabled(extractJsonBoolean(jsonStr, "flashEnabled"));
+            profile.setSnoozeMinutes(extractJsonInt(jsonStr, "snoozeMinutes"));
+            profile.setAutoStart(extractJsonBoolean(jsonStr, "autoStart"));
+            profile.setMinimizeToTray(extractJsonBoolean(jsonStr, "minimizeToTray"));
+
+            String notificationsStr = extractJsonArray(jsonStr, "enabledNotifications");
+            Map<TimerModel.NotificationType, Boolean> notificationSettings = new HashMap<>();
+            for (TimerModel.NotificationType type : TimerModel.NotificationType.values()) {
+                notificationSettings.put(type, false);
+            }
+            for (String name : splitJsonArrayValues(notificationsStr)) {
+                try {
+                    notificationSettings.put(TimerModel.NotificationType.valueOf(name.trim()), true);
+                } catch (Exception e) {
+                    // 잘못된 알림 유형은 무시
+                }
+            }
+            profile.setNotificationSettings(notificationSettings);
+            return profile;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static String extractJsonString(String json, String key) {
+        Matcher m = Pattern.compile("\"" + key + "\"\\s*:\\s*\"([^\"]+)\"").matcher(json);
+        return m.find() ? m.group(1) : "";
+    }
+
+    private static int extractJsonInt(String json, String key) {
+        Matcher m = Pattern.compile("\"" + key + "\"\\s*:\\s*(\\d+)").matcher(json);
+        return m.find() ? Integer.parseInt(m.group(1)) : 0;
+    }
+
+    private static boolean extractJsonBoolean(String json, String key) {
+        Matcher m = Pattern.compile("\"" + key + "\"\\s*:\\s*(true|false)").matcher(json);
+        return m.find() && Boolean.parseBoolean(m.group(1));
+    }
+
+    private static String extractJsonArray(String json, String key) {
+        Matcher m = Pattern.compile("\"" + key + "\"\\s*:\\s*\\[").matcher(json);
+        if (!m.find()) {
+            return "";
+        }
+        int startIndex = m.end();
+        int bracketCount = 1;
+        for (int i = startIndex; i < json.length(); i++) {
+            char c = json.charAt(i);
+            if (c == '[') {
+                bracketCount++;
+            } else if (c == ']' && --bracketCount == 0) {
+                return json.substring(startIndex, i);
+            }
+        }
+        return "";
+    }
+
+    private static String[] splitJsonObjects(String jsonArray) {
+        List<String> objects = new ArrayList<>();
+        int braceCount = 0;
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i < jsonArray.length(); i++) {
+            char c = jsonArray.charAt(i);
+            current.append(c);
+            if (c == '{') {
+                braceCount++;
+            } else if (c == '}' && --braceCount == 0) {
+                objects.add(current.toString().trim());
+                current = new StringBuilder();
+            }
+        }
+        return objects.toArray(new String[0]);
+    }
+
+    private static String[] splitJsonArrayValues(String arrayContent) {
+        if (arrayContent == null || arrayContent.trim().isEmpty()) {
+            return new String[0];
+        }
+        String[] values = arrayContent.split(",");
+        for (int i = 0; i < values.length; i++) {
+            values[i] = values[i].trim().replaceAll("^\"|\"$", "");
+        }
+        return values;
+    }
+}
@@ -0,0 +1,81 @@
+import model.TimerScheduler;
+
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 호출 스레드에서 등록된 작업을 직접 실행하는 스케줄러 (지연 시간 무시)
+ * 가짜 시계와 함께 쓰면 실제 시간을 기다리지 않고 틱과 페이즈 완료를 일으킬 수 있습니다.
+ */
+final class ManualScheduler implements TimerScheduler {
+
+    private final Queue<ManualTask> tasks = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public Task schedule(Runnable action, long delayMs) {
+        return add(action);
+    }
+
+    @Override
+    public Task scheduleAtFixedRate(Runnable action, long delayMs, long periodMs) {
+        return add(action);
+    }
+
+    private Task add(Runnable action) {
+        ManualTask task = new ManualTask(action);
+        tasks.add(task);
+        return task;
+    }
+
+    /**
+     * 살아 있는 작업을 한 번씩 실행하고 취소된 작업은 제거
+     * @return 실행한 작업 수
+     */
+    int runAll() {
+        int ran = 0;
+        for (Iterator<ManualTask> it = tasks.iterator(); it.hasNext(); ) {
+            ManualTask task = it.next();
+            if (task.isCancelled()) {
+                it.remove();
+            } else {
+                task.action.run();
+                ran++;
+            }
+        }
+        return ran;
+    }
+
+    int liveCount() {
+        int count = 0;
+        for (ManualTask task : tasks) {
+            if (!task.isCancelled()) count++;
+        }
+        return count;
+    }
+
+    @Override
+    public void shutdown() {
+        tasks.clear();
+    }
+
+    private static final class ManualTask implements TimerScheduler.Task {
+
+        private final Runnable action;
+        private volatile boolean cancelled;
+
+        ManualTask(Runnable action) {
+            this.action = action;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+import model.JsonDataManager;
+import model.TimerModel;
+import model.UserProfile;
+
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 프로필 JSON 파싱 벤치마크 (user-011)
+ * 10만 개 프로필 JSON 파일을 스트리밍 리더(JsonDataManager)와 이전 정규식 파서로 각각 읽어 시간을 비교하고,
+ * 두 결과가 같은지와 이스케이프가 든 이름이 스트리밍 리더에서 그대로 복원되는지 확인합니다.
+ *
+ * 사용법: java ProfileParseBench [프로필 수] [반복 횟수]
+ */
+public class ProfileParseBench {
+
+    private static final double MIN_SPEEDUP = 3.0;
+
+    public static void main(String[] args) throws Exception {
+        int count = BenchSupport.intArg(args, 0, 100_000);
+        int rounds = BenchSupport.intArg(args, 1, 3);
+
+        PrintStream out = System.out;
+        JsonDataManager manager = quietly(JsonDataManager::new);
+        Path file = Files.createTempFile("profiles-bench", ".json");
+        List<UserProfile> profiles = quietly(() -> generate(count));
+        quietly(() -> {
+            manager.exportProfilesToFile(profiles, file.toString());
+            return null;
+        });
+
+        BenchSupport.header("프로필 " + count + "개 파싱 (" + Files.size(file) / 1024 + "KB, " + rounds + "회 중 최선)");
+        long bestStream = Long.MAX_VALUE;
+        long bestLegacy = Long.MAX_VALUE;
+        List<UserProfile> streamed = null;
+        List<UserProfile> legacy = null;
+        for (int round = 0; round < rounds; round++) {
+            long start = System.nanoTime();
+            streamed = quietly(() -> manager.importProfilesFromJsonFile(file.toString()));
+            bestStream = Math.min(bestStream, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            legacy = quietly(() -> LegacyRegexProfileParser.parseProfiles(
+                new String(Files.readAllBytes(file), StandardCharsets.UTF_8)));
+            bestLegacy = Math.min(bestLegacy, System.nanoTime() - start);
+        }
+
+        BenchSupport.row("%-24s %10.1f ms", "스트리밍 리더", BenchSupport.millis(bestStream));
+        BenchSupport.row("%-24s %10.1f ms", "이전 정규식 파서", BenchSupport.millis(bestLegacy));
+        double speedup = bestLegacy / (double) bestStream;
+        BenchSupport.row("속도 향상: %.1fx", speedup);
+
+        BenchSupport.check(streamed.size() == count && legacy.size() == count,
+            "프로필 수 불일치: 스트리밍 " + streamed.size() + ", 정규식 " + legacy.size());
+        for (int i = 0; i < count; i++) {
+            BenchSupport.check(streamed.get(i).hasSameSettings(legacy.get(i))
+                               && streamed.get(i).getProfileName().equals(legacy.get(i).getProfileName()),
+                i + "번째 프로필 결과가 다름: " + streamed.get(i) + " / " + legacy.get(i));
+        }
+        BenchSupport.row("두 파서 결과 일치");
+        BenchSupport.check(speedup >= MIN_SPEEDUP, "스트리밍 리더가 충분히 빠르지 않음: " + speedup + "x");
+
+        checkEscapes(manager, file);
+        Files.deleteIfExists(file);
+        out.println("\nOK");
+        System.exit(0);
+    }
+
+    /**
+     * 따옴표, 역슬래시, 줄바꿈, 유니코드가 든 이름이 스트리밍 리더로 그대로 복원되는지 확인
+     */
+    private static void checkEscapes(JsonDataManager manager, Path file) throws Exception {
+        BenchSupport.header("이스케이프");
+        String name = "따옴표\" 역슬래시\\ 탭\t줄\n☕";
+        UserProfile profile = new UserProfile(name);
+        quietly(() -> {
+            manager.exportProfilesToFile(List.of(profile), file.toString());
+            return null;
+        });
+        List<UserProfile> loaded = quietly(() -> manager.importProfilesFromJsonFile(file.toString()));
+        BenchSupport.check(loaded.size() == 1 && name.equals(loaded.get(0).getProfileName()),
+            "이스케이프된 이름 복원 실패: " + loaded);
+        String legacyName = LegacyRegexProfileParser.parseProfiles(
+            new String(Files.readAllBytes(file), StandardCharsets.UTF_8)).get(0).getProfileName();
+        BenchSupport.row("스트리밍 리더 복원 성공, 이전 파서 결과 일치: %s", name.equals(legacyName));
+    }
+
+    private static List<UserProfile> generate(int count) {
+        TimerModel.NotificationType[] types = TimerModel.NotificationType.values();
+        List<UserProfile> profiles = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            UserProfile profile = new UserProfile("프로필-" + i);
+            profile.setWorkMinutes(5 + i % 55);
+            profile.setBreakMinutes(1 + i % 29);
+            profile.setPomodoroMode(i % 2 == 0);
+            profile.setSoundEnabled(i % 3 != 0);
+            profile.setPopupEnabled(i % 5 != 0);
+            profile.setFlashEnabled(i % 7 == 0);
+            profile.setSnoozeMinutes(1 + i % 10);
+            profile.setAutoStart(i % 11 == 0);
+            profile.setMinimizeToTray(i % 13 == 0);
+            for (int t = 0; t < types.length; t++) {
+                profile.setNotificationEnabled(types[t], ((i >> t) & 1) == 1);
+            }
+            profiles.add(profile);
+        }
+        return profiles;
+    }
+
+    /**
+     * 진단 출력이 측정 결과와 섞이지 않도록 표준 출력을 잠시 숨기고 실행
+     */
+    private static <T> T quietly(Work<T> work) throws Exception {
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(PrintStream.nullOutputStream()));
+        try {
+            return work.run();
+        } finally {
+            System.setOut(out);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Work<T> {
+        T run() throws Exception;
+    }
+}
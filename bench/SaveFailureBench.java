@@ -0,0 +1,140 @@
+import controller.SettingsController;
+import events.SaveStateEvent;
+import events.SimpleEventBus;
+import model.CachingDataStore;
+import model.DataStore;
+import model.UserProfile;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 저장 실패 전달 테스트 (user-022)
+ * 실제 저장소 쓰기가 실패하면 자동 저장이 FAILED를 발행하고, 다시 시도하여 성공한 뒤에야
+ * SAVED를 발행하는지 확인합니다. SAVED를 받는 순간 실제 저장소에 마지막 편집이 써져 있어야 합니다.
+ *
+ * 사용법: java SaveFailureBench [연속 실패 횟수] [최대 대기(초)]
+ */
+public class SaveFailureBench {
+
+    private static final int EDITED_WORK_MINUTES = 37;
+
+    public static void main(String[] args) throws Exception {
+        int failures = BenchSupport.intArg(args, 0, 3);
+        int timeoutSeconds = BenchSupport.intArg(args, 1, 20);
+
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(PrintStream.nullOutputStream()));
+        FlakyDataStore backend = new FlakyDataStore();
+        CachingDataStore store = new CachingDataStore(backend);
+        SettingsController settings = new SettingsController(store);
+
+        List<SaveStateEvent> states = new CopyOnWriteArrayList<>();
+        List<String> problems = new CopyOnWriteArrayList<>();
+        SimpleEventBus.getInstance().subscribe(SaveStateEvent.class, event -> {
+            states.add(event);
+            // 동기 버스이므로 저장 스레드에서 바로 확인: SAVED 시점에 편집이 이미 써져 있어야 함
+            if (event.getState() == SaveStateEvent.State.SAVED && backend.lastWrittenWorkMinutes != EDITED_WORK_MINUTES) {
+                problems.add("쓰기 전에 SAVED 발행 (저장소 값 " + backend.lastWrittenWorkMinutes + ")");
+            }
+        });
+
+        backend.watchedProfile = settings.getCurrentProfile().getProfileName();
+        backend.failuresLeft.set(failures);
+        settings.updateCurrentProfileSetting("workMinutes", EDITED_WORK_MINUTES);
+
+        long deadline = System.nanoTime() + timeoutSeconds * 1_000_000_000L;
+        while (settings.getSaveState().getState() != SaveStateEvent.State.SAVED && System.nanoTime() < deadline) {
+            BenchSupport.sleep(50);
+        }
+        System.setOut(out);
+
+        BenchSupport.header("실제 저장소 쓰기 " + failures + "번 실패 후 복구");
+        StringBuilder sequence = new StringBuilder();
+        int failed = 0;
+        for (SaveStateEvent event : states) {
+            if (sequence.length() > 0) sequence.append(" → ");
+            sequence.append(event.getState());
+            if (event.getState() == SaveStateEvent.State.FAILED) failed++;
+        }
+        BenchSupport.row("상태: %s", sequence);
+        BenchSupport.row("실패한 쓰기 %d번, 성공한 쓰기 %d번", backend.failedWrites.get(), backend.writes.get());
+        BenchSupport.row("%s", store.getStatus());
+
+        BenchSupport.check(problems.isEmpty(), String.join(", ", problems));
+        BenchSupport.check(failed > 0, "쓰기가 실패했는데 FAILED가 발행되지 않음");
+        BenchSupport.check(states.indexOf(firstFailed(states)) < states.size() - 1
+                && states.get(states.size() - 1).getState() == SaveStateEvent.State.SAVED,
+            "실패 후 재시도로 SAVED에 도달하지 못함");
+        BenchSupport.check(backend.lastWrittenWorkMinutes == EDITED_WORK_MINUTES, "마지막 편집이 저장소에 없음");
+
+        System.out.println("\nOK");
+        System.setOut(new PrintStream(PrintStream.nullOutputStream()));
+        settings.shutdown();
+        store.shutdown();
+        System.exit(0);
+    }
+
+    private static SaveStateEvent firstFailed(List<SaveStateEvent> states) {
+        for (SaveStateEvent event : states) {
+            if (event.getState() == SaveStateEvent.State.FAILED) return event;
+        }
+        return null;
+    }
+
+    /**
+     * 지정한 횟수만큼 프로필 쓰기가 실패하는 메모리 저장소
+     * 성공한 쓰기 시점에 지켜보는 프로필의 작업 시간을 기록합니다 (프로필 인스턴스는 공유되므로 값을 복사해 둠).
+     */
+    private static final class FlakyDataStore implements DataStore {
+
+        final AtomicInteger failuresLeft = new AtomicInteger();
+        final AtomicInteger failedWrites = new AtomicInteger();
+        final AtomicInteger writes = new AtomicInteger();
+        volatile String watchedProfile;
+        volatile int lastWrittenWorkMinutes;
+        private List<UserProfile> profiles = new ArrayList<>();
+        private Map<String, Object> settings = new HashMap<>();
+
+        @Override
+        public synchronized void saveProfiles(List<UserProfile> profiles) throws IOException {
+            if (failuresLeft.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+                failedWrites.incrementAndGet();
+                throw new IOException("디스크 쓰기 실패 (모의)");
+            }
+            this.profiles = new ArrayList<>(profiles);
+            for (UserProfile profile : profiles) {
+                if (profile.getProfileName().equals(watchedProfile)) {
+                    lastWrittenWorkMinutes = profile.getWorkMinutes();
+                }
+            }
+            writes.incrementAndGet();
+        }
+
+        @Override
+        public synchronized List<UserProfile> loadProfiles() {
+            return new ArrayList<>(profiles);
+        }
+
+        @Override
+        public synchronized void saveSettings(Map<String, Object> settings) {
+            this.settings = new HashMap<>(settings);
+        }
+
+        @Override
+        public synchronized Map<String, Object> loadSettings() {
+            return new HashMap<>(settings);
+        }
+
+        @Override
+        public void printDataStatus() {
+            System.out.println("실패 주입 저장소: 프로필 " + profiles.size() + "개");
+        }
+    }
+}
@@ -0,0 +1,170 @@
+import model.SessionJournal;
+import model.TimerModel;
+
+import java.io.PrintStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * 세션 저널 통계 조회 벤치마크 (user-003)
+ * 기록이 1k/10k/100k/1M건 쌓인 저널에서 소유자별 통계 조회(/statistics가 쓰는 summarize) 시간을 잽니다.
+ * 누적값은 기록할 때 갱신되므로 첫 조회 이후에는 기록 수와 무관하게 일정해야 합니다.
+ * 마지막 세그먼트가 잘린 저널을 다시 열어도 기록이 이어지는지, 줄바꿈이 든 소유자 이름으로도 조회되는지 확인합니다.
+ *
+ * 사용법: java SessionJournalBench [최대 기록 수] [조회 횟수]
+ */
+public class SessionJournalBench {
+
+    private static final int OWNERS = 100;
+    private static final long PHASE_MILLIS = 25 * 60_000L;
+    private static final double MAX_GROWTH_RATIO = 3.0;   // 기록 수가 10배 늘 때 허용하는 조회 시간 증가 비율
+
+    public static void main(String[] args) throws Exception {
+        int maxRecords = BenchSupport.intArg(args, 0, 1_000_000);
+        int queries = BenchSupport.intArg(args, 1, 100_000);
+
+        BenchSupport.header("소유자별 통계 조회 (" + queries + "회)");
+        BenchSupport.row("%10s %16s %18s %14s", "records", "first scan(ms)", "summarize(ns/op)", "append(ns/op)");
+
+        double previous = -1;
+        for (int records = 1000; records <= maxRecords; records *= 10) {
+            Path dir = Files.createTempDirectory("journal-bench");
+            SessionJournal journal = new SessionJournal(dir, 32, 32768);
+            long now = System.currentTimeMillis();
+            for (int i = 0; i < records; i++) {
+                append(journal, i, now + i);
+            }
+
+            long start = System.nanoTime();
+            journal.summarize("owner-0");
+            long firstScan = System.nanoTime() - start;
+
+            long sink = 0;
+            start = System.nanoTime();
+            for (int q = 0; q < queries; q++) {
+                sink += journal.summarize("owner-" + (q % OWNERS)).getWorkSessions();
+            }
+            double perQuery = (System.nanoTime() - start) / (double) queries;
+
+            // 조회 이후 기록도 누적값에 반영되는지 확인
+            SessionJournal.Summary before = journal.summarize("owner-1");
+            start = System.nanoTime();
+            for (int i = 0; i < OWNERS; i++) {
+                append(journal, records + i, now + records + i);
+            }
+            double perAppend = (System.nanoTime() - start) / (double) OWNERS;
+            SessionJournal.Summary after = journal.summarize("owner-1");
+            BenchSupport.check(after.getWorkSessions() + after.getBreakSessions()
+                    == before.getWorkSessions() + before.getBreakSessions() + 1,
+                "조회 후 기록이 누적 통계에 반영되지 않음");
+            checkAgainstScan(journal);
+
+            BenchSupport.row("%10d %16.2f %18.1f %14.1f", records, BenchSupport.millis(firstScan), perQuery, perAppend);
+            BenchSupport.check(sink > 0, "통계가 비어 있음");
+            BenchSupport.check(previous < 0 || perQuery <= previous * MAX_GROWTH_RATIO + 200,
+                String.format("기록 수에 따라 조회 시간이 늘어남: %.1f → %.1fns", previous, perQuery));
+            previous = perQuery;
+
+            journal.close();
+            deleteRecursively(dir);
+        }
+
+        checkTruncatedTail();
+        checkOwnerWithNewline();
+
+        System.out.println("\nOK");
+        System.exit(0);
+    }
+
+    private static void append(SessionJournal journal, int i, long completedAt) {
+        boolean breakPhase = i % 4 == 3;
+        journal.append("owner-" + (i % OWNERS), breakPhase,
+            breakPhase ? TimerModel.NotificationType.REST : TimerModel.NotificationType.STRETCH,
+            PHASE_MILLIS, PHASE_MILLIS - i % 1000, completedAt - PHASE_MILLIS, completedAt);
+    }
+
+    /**
+     * 누적 통계가 전체 기록을 다시 세어 본 값과 같은지 확인
+     */
+    private static void checkAgainstScan(SessionJournal journal) {
+        long[] counts = new long[2];
+        long[] millis = new long[2];
+        journal.forEach(entry -> {
+            if (!entry.getOwner().equals("owner-7")) return;
+            int k = entry.isBreakPhase() ? 1 : 0;
+            counts[k]++;
+            millis[k] += entry.getActualMillis();
+        });
+        SessionJournal.Summary summary = journal.summarize("owner-7");
+        BenchSupport.check(summary.getWorkSessions() == counts[0] && summary.getBreakSessions() == counts[1]
+                && summary.getWorkMinutes() == millis[0] / 60_000 && summary.getBreakMinutes() == millis[1] / 60_000,
+            "누적 통계가 전체 스캔 결과와 다름");
+    }
+
+    /**
+     * 마지막 세그먼트가 잘려 열지 못해도 그 다음 번호로 새 세그먼트를 만들어 계속 기록하는지 확인
+     */
+    private static void checkTruncatedTail() throws Exception {
+        Path dir = Files.createTempDirectory("journal-bench");
+        long now = System.currentTimeMillis();
+        SessionJournal journal = new SessionJournal(dir, 32, 16);
+        for (int i = 0; i < 40; i++) {
+            append(journal, i, now + i);
+        }
+        journal.close();
+
+        Path tail;
+        try (Stream<Path> paths = Files.list(dir)) {
+            tail = paths.filter(p -> p.getFileName().toString().endsWith(".jnl"))
+                .max(Comparator.naturalOrder()).orElseThrow(IllegalStateException::new);
+        }
+        try (FileChannel channel = FileChannel.open(tail, StandardOpenOption.WRITE)) {
+            channel.truncate(8);
+        }
+
+        PrintStream err = System.err;
+        System.setErr(new PrintStream(PrintStream.nullOutputStream()));
+        try {
+            journal = new SessionJournal(dir, 32, 16);
+            long before = journal.getRecordCount();
+            for (int i = 0; i < 20; i++) {
+                append(journal, i, now + 1000 + i);
+            }
+            BenchSupport.check(journal.getRecordCount() == before + 20,
+                "잘린 세그먼트 뒤에 기록되지 않음: " + (journal.getRecordCount() - before) + "/20건");
+            journal.close();
+            journal = new SessionJournal(dir, 32, 16);
+            BenchSupport.check(journal.getRecordCount() == before + 20, "다시 연 저널에서 새 기록이 사라짐");
+            journal.close();
+        } finally {
+            System.setErr(err);
+        }
+        System.out.println("잘린 마지막 세그먼트: 다음 번호로 이어서 기록");
+        deleteRecursively(dir);
+    }
+
+    /**
+     * 기록할 때 줄바꿈을 바꾼 이름과 조회할 때 쓰는 이름이 같은지 확인
+     */
+    private static void checkOwnerWithNewline() throws Exception {
+        Path dir = Files.createTempDirectory("journal-bench");
+        SessionJournal journal = new SessionJournal(dir, 32, 16);
+        long now = System.currentTimeMillis();
+        journal.append("first\nsecond", false, TimerModel.NotificationType.STRETCH,
+            PHASE_MILLIS, PHASE_MILLIS, now - PHASE_MILLIS, now);
+        BenchSupport.check(journal.summarize("first\nsecond").getWorkSessions() == 1,
+            "줄바꿈이 든 소유자 이름으로 통계를 찾지 못함");
+        journal.close();
+        deleteRecursively(dir);
+    }
+
+    private static void deleteRecursively(Path dir) throws Exception {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+}
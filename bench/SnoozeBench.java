@@ -0,0 +1,130 @@
+import model.HierarchicalTimingWheel;
+import model.NotificationManager;
+import model.TimerModel;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스누즈 예약/연장/취소 벤치마크 (user-004)
+ * 공유 타이밍 휠에 스누즈를 1k/10k/100k개 예약한 뒤 연장과 취소의 연산당 비용을 재고,
+ * 연장이 예약을 늘리지 않고 교체하는지, 취소 후 휠에 남는 작업이 없는지, 스누즈 수와 무관하게 스레드 수가 일정한지 확인합니다.
+ * 수동 스케줄러로는 연장/취소된 스누즈가 정확히 한 번 또는 한 번도 전달되지 않는지 확인합니다.
+ *
+ * 사용법: java SnoozeBench [최대 스누즈 수]
+ */
+public class SnoozeBench {
+
+    private static final TimerModel.NotificationType TYPE = TimerModel.NotificationType.REST;
+    private static final long MINUTE_MILLIS = 60_000L;
+    private static final String DELIVERY_LOG = "스누즈 알림 표시";   // NotificationManager가 전달할 때 남기는 로그
+
+    public static void main(String[] args) {
+        int maxSnoozes = BenchSupport.intArg(args, 0, 100_000);
+
+        PrintStream out = System.out;
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel();
+        NotificationManager manager = quietManager(wheel);
+        int threadsBefore = BenchSupport.threadCount();
+
+        BenchSupport.header("공유 타이밍 휠 스누즈 (연산당 비용)");
+        BenchSupport.row("%10s %14s %14s %14s %10s", "snoozes", "snooze(ns/op)", "extend(ns/op)", "cancel(ns/op)", "threads");
+        for (int count = 1000; count <= maxSnoozes; count *= 10) {
+            System.setOut(new PrintStream(PrintStream.nullOutputStream()));
+            List<NotificationManager.SnoozeHandle> handles = new ArrayList<>(count);
+            long start = System.nanoTime();
+            for (int i = 0; i < count; i++) {
+                handles.add(manager.snoozeNotification(TYPE, 1));
+            }
+            long snoozeNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (NotificationManager.SnoozeHandle handle : handles) {
+                manager.extendSnooze(handle, 1);
+            }
+            long extendNanos = System.nanoTime() - start;
+            System.setOut(out);
+
+            BenchSupport.check(wheel.getActiveTaskCount() == count,
+                "연장 후 휠 작업 " + wheel.getActiveTaskCount() + "개 (" + count + "개여야 함)");
+            long remaining = handles.get(0).getRemainingMillis();
+            BenchSupport.check(remaining > MINUTE_MILLIS && remaining <= 2 * MINUTE_MILLIS,
+                "연장 후 남은 시간 " + remaining + "ms (1~2분이어야 함)");
+            int threadsDuring = BenchSupport.threadCount();
+
+            System.setOut(new PrintStream(PrintStream.nullOutputStream()));
+            start = System.nanoTime();
+            for (NotificationManager.SnoozeHandle handle : handles) {
+                manager.cancelSnooze(handle);
+            }
+            long cancelNanos = System.nanoTime() - start;
+            System.setOut(out);
+
+            BenchSupport.check(wheel.getActiveTaskCount() == 0, "취소 후 휠 작업 " + wheel.getActiveTaskCount() + "개");
+            BenchSupport.check(manager.getPendingSnoozeCount() == 0, "취소 후 대기 스누즈 " + manager.getPendingSnoozeCount() + "개");
+            BenchSupport.check(threadsDuring - threadsBefore <= 2,
+                "스누즈 수에 따라 스레드가 늘어남: " + threadsBefore + " → " + threadsDuring);
+            BenchSupport.row("%10d %14.1f %14.1f %14.1f %10d", count, snoozeNanos / (double) count,
+                extendNanos / (double) count, cancelNanos / (double) count, threadsDuring);
+            BenchSupport.settle();
+        }
+        wheel.shutdown();
+
+        checkDelivery(out);
+
+        System.out.println("\nOK");
+        System.exit(0);
+    }
+
+    /**
+     * 예약된 작업을 바로 실행하는 스케줄러로 전달 횟수 확인
+     * 그대로 둔 스누즈와 연장한 스누즈는 한 번씩, 취소한 스누즈는 한 번도 전달되지 않아야 함
+     * 수동 스케줄러는 실행한 작업도 다시 실행하므로, 두 번 실행해도 전달 로그가 늘지 않는지로 중복 전달을 확인
+     */
+    private static void checkDelivery(PrintStream out) {
+        BenchSupport.header("전달 횟수 (수동 스케줄러)");
+        ManualScheduler scheduler = new ManualScheduler();
+        NotificationManager manager = quietManager(scheduler);
+        int count = 999;
+
+        ByteArrayOutputStream log = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(log, true, StandardCharsets.UTF_8));
+        int expected = 0;
+        for (int i = 0; i < count; i++) {
+            NotificationManager.SnoozeHandle handle = manager.snoozeNotification(TYPE, 1);
+            switch (i % 3) {
+                case 0: expected++; break;                                             // 그대로
+                case 1: manager.extendSnooze(handle, 1); manager.extendSnooze(handle, 1); expected++; break;
+                default: manager.extendSnooze(handle, 1); manager.cancelSnooze(handle); break;
+            }
+        }
+        log.reset();
+        scheduler.runAll();
+        scheduler.runAll();
+        System.setOut(out);
+        int delivered = countOccurrences(log.toString(StandardCharsets.UTF_8), DELIVERY_LOG);
+
+        BenchSupport.row("스누즈 %d개 (그대로/연장/연장 후 취소) → 전달 %d번, 기대 %d번", count, delivered, expected);
+        BenchSupport.check(delivered == expected, "전달 횟수 " + delivered + " (기대 " + expected + ")");
+        BenchSupport.check(manager.getPendingSnoozeCount() == 0, "전달 후 대기 스누즈 " + manager.getPendingSnoozeCount() + "개");
+    }
+
+    private static int countOccurrences(String text, String needle) {
+        int count = 0;
+        for (int i = text.indexOf(needle); i >= 0; i = text.indexOf(needle, i + needle.length())) {
+            count++;
+        }
+        return count;
+    }
+
+    private static NotificationManager quietManager(model.TimerScheduler scheduler) {
+        NotificationManager manager = new NotificationManager(scheduler);
+        manager.setPopupEnabled(false);
+        manager.setSoundEnabled(false);
+        manager.setFlashEnabled(false);
+        return manager;
+    }
+}
@@ -0,0 +1,140 @@
+import events.SimpleEventBus;
+import events.TimerTickEvent;
+import model.TimerModel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 타이머 틱 이벤트 할당량 테스트 (user-009)
+ * N개의 TimerModel을 가짜 시계로 여러 초 동안 틱시키며 틱 한 번당 할당 바이트를 측정합니다.
+ * 동기 버스에서는 타이머가 자기 틱 이벤트를 재사용하므로 구독자가 있어도 틱은 할당이 없어야 합니다.
+ * 구독자가 발행 타이머를 구분할 수 있는지(이벤트의 발행자)도 확인하고,
+ * 실행기로 받는 구독자에게는 재사용 이벤트 대신 틱마다 새 이벤트가 전달되는지 확인합니다.
+ *
+ * 사용법: java TickAllocationBench [최대 타이머 수] [측정 초 수]
+ */
+public class TickAllocationBench {
+
+    private static final long SECOND_NANOS = 1_000_000_000L;
+
+    public static void main(String[] args) {
+        int maxTimers = BenchSupport.intArg(args, 0, 100_000);
+        int seconds = BenchSupport.intArg(args, 1, 30);
+
+        BenchSupport.header("틱당 할당량 (" + seconds + "초 동안)");
+        BenchSupport.row("%10s %22s %22s", "timers", "no subscriber(B/tick)", "subscribed(B/tick)");
+
+        for (int timers = 1000; timers <= maxTimers; timers *= 10) {
+            double idle = measure(timers, seconds, false);
+            double subscribed = measure(timers, seconds, true);
+            BenchSupport.row("%10d %22.2f %22.2f", timers, idle, subscribed);
+
+            BenchSupport.check(idle < 1, "구독자가 없는데 틱마다 할당: " + idle + "B");
+            BenchSupport.check(subscribed < 1, "구독자가 있을 때 틱마다 할당: " + subscribed + "B");
+            BenchSupport.settle();
+        }
+        checkExecutorSubscriber();
+
+        System.out.println("\nOK");
+        System.exit(0);
+    }
+
+    /**
+     * 타이머 N개를 시작하고 가짜 시계를 1초씩 진행하며 틱당 할당 바이트 측정
+     */
+    private static double measure(int timers, int seconds, boolean subscribe) {
+        AtomicLong clock = new AtomicLong(SECOND_NANOS);
+        ManualScheduler scheduler = new ManualScheduler();
+        SimpleEventBus bus = new SimpleEventBus();
+        List<TimerModel> models = new ArrayList<>(timers);
+        for (int i = 0; i < timers; i++) {
+            TimerModel model = new TimerModel(scheduler, clock::get, bus);
+            model.startTimer();
+            models.add(model);
+        }
+
+        AtomicLong ticks = new AtomicLong();
+        AtomicLong foreign = new AtomicLong();
+        TimerModel watched = models.get(0);
+        if (subscribe) {
+            bus.subscribe(TimerTickEvent.class, event -> {
+                ticks.incrementAndGet();
+                if (event.getSource() == null) foreign.incrementAndGet();
+            });
+        }
+
+        // 예열 (JIT 컴파일과 이벤트 경로 초기화)
+        for (int i = 0; i < 3; i++) {
+            clock.addAndGet(SECOND_NANOS);
+            scheduler.runAll();
+        }
+
+        long fired = 0;
+        long before = BenchSupport.allocatedBytes();
+        for (int i = 0; i < seconds; i++) {
+            clock.addAndGet(SECOND_NANOS);
+            fired += scheduler.runAll();
+        }
+        long allocated = BenchSupport.allocatedBytes() - before;
+
+        if (subscribe) {
+            BenchSupport.check(foreign.get() == 0, "발행 타이머가 없는 틱 이벤트 " + foreign.get() + "건");
+            checkSource(bus, watched, models.get(models.size() - 1), clock, scheduler);
+        }
+        for (TimerModel model : models) {
+            model.stopTimer();
+        }
+        return allocated / (double) fired;
+    }
+
+    /**
+     * 공유 버스에서도 이벤트의 발행자로 타이머를 구분할 수 있는지 확인
+     */
+    private static void checkSource(SimpleEventBus bus, TimerModel watched, TimerModel other,
+                                    AtomicLong clock, ManualScheduler scheduler) {
+        AtomicLong own = new AtomicLong();
+        AtomicLong stamp = new AtomicLong();
+        bus.subscribe(TimerTickEvent.class, event -> {
+            if (event.getSource() == watched) {
+                own.incrementAndGet();
+                stamp.set(event.getTimestamp());
+            }
+        });
+        long before = System.currentTimeMillis();
+        clock.addAndGet(SECOND_NANOS);
+        scheduler.runAll();
+        BenchSupport.check(own.get() == 1, "지켜보는 타이머의 틱이 " + own.get() + "건 (1건이어야 함)");
+        BenchSupport.check(stamp.get() >= before, "틱 이벤트 타임스탬프가 발행 시각보다 이전임");
+        BenchSupport.check(watched != other, "비교할 타이머가 하나뿐임");
+    }
+
+    /**
+     * 실행기 구독자는 publish가 끝난 뒤에 이벤트를 읽으므로 틱마다 다른 이벤트 객체를 받아야 함
+     */
+    private static void checkExecutorSubscriber() {
+        AtomicLong clock = new AtomicLong(SECOND_NANOS);
+        ManualScheduler scheduler = new ManualScheduler();
+        SimpleEventBus bus = new SimpleEventBus();
+        TimerModel model = new TimerModel(scheduler, clock::get, bus);
+        List<Runnable> deferred = new ArrayList<>();
+        List<TimerTickEvent> received = new ArrayList<>();
+        bus.subscribe(TimerTickEvent.class, received::add, deferred::add);
+        model.startTimer();
+        for (int i = 0; i < 3; i++) {
+            clock.addAndGet(SECOND_NANOS);
+            scheduler.runAll();
+        }
+        deferred.forEach(Runnable::run);
+        model.stopTimer();
+
+        BenchSupport.check(received.size() >= 3, "실행기 구독자가 받은 틱이 " + received.size() + "건");
+        for (int i = 1; i < received.size(); i++) {
+            BenchSupport.check(received.get(i) != received.get(i - 1), "실행기 구독자에게 재사용 이벤트가 전달됨");
+            BenchSupport.check(received.get(i).getRemainingSeconds() < received.get(i - 1).getRemainingSeconds(),
+                "실행기 구독자가 받은 남은 시간이 줄지 않음");
+        }
+        System.out.println("실행기 구독자: 틱 " + received.size() + "건, 모두 별도 이벤트");
+    }
+}
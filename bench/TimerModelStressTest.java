@@ -0,0 +1,183 @@
+import events.SimpleEventBus;
+import events.TimerCompletedEvent;
+import events.TimerStateChangedEvent;
+import model.TimerModel;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * TimerModel 상태 전이 스트레스 테스트 (user-005)
+ * 여러 스레드가 시작/일시정지/정지/초기화를 동시에 호출하고, 틱 스레드는 빠르게 흐르는 가짜 시계로 페이즈 완료를 일으킵니다.
+ * 읽기 스레드는 잠금 없이 얻은 스냅샷이 항상 일관된지 검사하고,
+ * 마지막에 동시 시작 경합과 남은 틱 작업 누수를 확인합니다.
+ *
+ * 사용법: java TimerModelStressTest [전이 스레드 수] [측정 시간(초)]
+ */
+public class TimerModelStressTest {
+
+    private static final long PHASE_NANOS = 60_000_000_000L;  // 작업/휴식 모두 1분
+    private static final long CLOCK_STEP_NANOS = 5_000_000_000L;  // 틱 한 번에 5초씩 진행
+    private static final int DOUBLE_START_ROUNDS = 2000;
+
+    public static void main(String[] args) throws Exception {
+        int writers = BenchSupport.intArg(args, 0, 8);
+        int seconds = BenchSupport.intArg(args, 1, 5);
+
+        AtomicLong clock = new AtomicLong(1_000_000_000L);
+        ManualScheduler scheduler = new ManualScheduler();
+        SimpleEventBus bus = new SimpleEventBus();
+        TimerModel model = new TimerModel(scheduler, clock::get, bus);
+        model.setWorkMinutes(1);
+        model.setBreakMinutes(1);
+
+        AtomicInteger startedEvents = new AtomicInteger();
+        bus.subscribe(TimerStateChangedEvent.class, event -> {
+            if (event.isStarted() && event.getOldState() != TimerModel.TimerState.RUNNING) {
+                startedEvents.incrementAndGet();
+            }
+        });
+        AtomicInteger completedEvents = new AtomicInteger();
+        bus.subscribe(TimerCompletedEvent.class, event -> completedEvents.incrementAndGet());
+
+        BenchSupport.header("전이 경합: 전이 스레드 " + writers + "개, 읽기 스레드 2개, 틱 스레드 1개, " + seconds + "초");
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicLong transitions = new AtomicLong();
+        AtomicLong reads = new AtomicLong();
+        AtomicLong ticks = new AtomicLong();
+        AtomicInteger violations = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(writers + 3);
+
+        for (int w = 0; w < writers; w++) {
+            start("Writer-" + w, done, () -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (running.get()) {
+                    switch (random.nextInt(4)) {
+                        case 0: model.startTimer(); break;
+                        case 1: model.pauseTimer(); break;
+                        case 2: model.stopTimer(); break;
+                        default: model.resetTimer(); break;
+                    }
+                    transitions.incrementAndGet();
+                }
+            });
+        }
+        for (int r = 0; r < 2; r++) {
+            start("Reader-" + r, done, () -> {
+                while (running.get()) {
+                    String problem = checkSnapshot(model.getSnapshot(), clock.get());
+                    if (problem != null && violations.incrementAndGet() <= 5) {
+                        System.out.println("위반: " + problem);
+                    }
+                    reads.incrementAndGet();
+                }
+            });
+        }
+        start("Ticker", done, () -> {
+            while (running.get()) {
+                clock.addAndGet(CLOCK_STEP_NANOS);
+                scheduler.runAll();
+                ticks.incrementAndGet();
+            }
+        });
+
+        BenchSupport.sleep(seconds * 1000L);
+        running.set(false);
+        done.await();
+
+        BenchSupport.row("전이 %d회, 스냅샷 검사 %d회, 틱 %d회, 페이즈 완료 %d회",
+            transitions.get(), reads.get(), ticks.get(), completedEvents.get());
+        BenchSupport.check(completedEvents.get() > 0, "페이즈 완료가 한 번도 일어나지 않아 완료 경합을 검사하지 못함");
+        BenchSupport.check(violations.get() == 0, "불일치 스냅샷 " + violations.get() + "건");
+
+        // 정지 후에는 살아 있는 틱 작업이 남지 않아야 함 (무효화된 작업은 다음 실행에서 스스로 취소)
+        model.stopTimer();
+        scheduler.runAll();
+        scheduler.runAll();
+        BenchSupport.check(scheduler.liveCount() == 0, "정지 후 남은 틱 작업 " + scheduler.liveCount() + "개");
+        BenchSupport.row("정지 후 남은 틱 작업 0개");
+
+        checkDoubleStart(model, scheduler, startedEvents, writers);
+
+        System.out.println("\nOK");
+        System.exit(0);
+    }
+
+    /**
+     * 정지 상태에서 여러 스레드가 동시에 시작해도 한 번만 시작되고 틱 작업도 하나만 남는지 반복 확인
+     */
+    private static void checkDoubleStart(TimerModel model, ManualScheduler scheduler,
+                                         AtomicInteger startedEvents, int threads) throws Exception {
+        BenchSupport.header("동시 시작: 스레드 " + threads + "개 x " + DOUBLE_START_ROUNDS + "회");
+        CyclicBarrier barrier = new CyclicBarrier(threads + 1);
+        Thread[] starters = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            starters[t] = new Thread(() -> {
+                try {
+                    for (int round = 0; round < DOUBLE_START_ROUNDS; round++) {
+                        barrier.await();
+                        model.startTimer();
+                        barrier.await();
+                    }
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }, "Starter-" + t);
+            starters[t].start();
+        }
+
+        for (int round = 0; round < DOUBLE_START_ROUNDS; round++) {
+            model.stopTimer();
+            scheduler.runAll();
+            startedEvents.set(0);
+            barrier.await();  // 동시에 시작
+            barrier.await();  // 모두 반환할 때까지 대기
+            BenchSupport.check(startedEvents.get() == 1,
+                round + "회차: 시작 이벤트 " + startedEvents.get() + "번 (1번이어야 함)");
+            scheduler.runAll();
+            BenchSupport.check(scheduler.liveCount() == 1,
+                round + "회차: 살아 있는 틱 작업 " + scheduler.liveCount() + "개 (1개여야 함)");
+        }
+        for (Thread starter : starters) {
+            starter.join();
+        }
+        BenchSupport.row("모든 회차에서 시작 이벤트 1번, 틱 작업 1개");
+    }
+
+    /**
+     * 스냅샷 불변 조건 검사
+     * @return 위반 내용 (정상이면 null)
+     */
+    private static String checkSnapshot(TimerModel.Snapshot s, long now) {
+        long remaining = s.getRemainingNanos(now);
+        long total = (long) s.getPhaseTotalSeconds() * 1_000_000_000L;
+        if (s.getCurrentCycle() < 0) {
+            return "음수 사이클 " + s.getCurrentCycle();
+        }
+        if (remaining < 0 || remaining > total || total != PHASE_NANOS) {
+            return s.getState() + " 남은 시간 " + remaining + " / 전체 " + total;
+        }
+        if (s.getState() == TimerModel.TimerState.STOPPED && (s.getCurrentCycle() != 0 || remaining != PHASE_NANOS)) {
+            return "정지 상태인데 사이클 " + s.getCurrentCycle() + ", 남은 시간 " + remaining;
+        }
+        if (s.getState() != TimerModel.TimerState.RUNNING && s.getPhaseElapsedNanos(now) + remaining > total) {
+            return s.getState() + " 경과 " + s.getPhaseElapsedNanos(now) + " + 남은 " + remaining + " > 전체";
+        }
+        return null;
+    }
+
+    private static void start(String name, CountDownLatch done, Runnable body) {
+        Thread thread = new Thread(() -> {
+            try {
+                body.run();
+            } finally {
+                done.countDown();
+            }
+        }, name);
+        thread.start();
+    }
+}
@@ -0,0 +1,98 @@
+import model.HierarchicalTimingWheel;
+import model.PerInstanceTimerScheduler;
+import model.TimerModel;
+import model.TimerScheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 타이머 수에 따른 스레드 수/CPU 사용량 확장성 벤치마크 (user-001)
+ * 공유 타이밍 휠로 1개부터 최대 개수(기본 100k)까지 TimerModel을 늘려 가며
+ * 스레드 수가 일정하고 타이머당 CPU 비용이 평탄한지 확인합니다.
+ * 비교용으로 인스턴스별 java.util.Timer 방식도 작은 개수까지만 측정합니다.
+ *
+ * 사용법: java TimingWheelScalingBench [최대 타이머 수] [측정 구간(초)]
+ */
+public class TimingWheelScalingBench {
+
+    private static final int BASELINE_MAX_TIMERS = 1000;  // 인스턴스별 Timer는 타이머마다 스레드가 생기므로 제한
+
+    public static void main(String[] args) {
+        int maxTimers = BenchSupport.intArg(args, 0, 100_000);
+        int windowSeconds = BenchSupport.intArg(args, 1, 3);
+
+        BenchSupport.header("공유 타이밍 휠: 타이머 수별 스레드/CPU");
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel();
+        List<int[]> threadCounts = new ArrayList<>();
+        double[] perTimerMicros = measure(wheel, maxTimers, windowSeconds, threadCounts, wheel);
+        wheel.shutdown();
+
+        int firstThreads = threadCounts.get(0)[1];
+        int lastThreads = threadCounts.get(threadCounts.size() - 1)[1];
+        BenchSupport.check(lastThreads - firstThreads <= 2,
+            "타이머 수가 늘어도 스레드 수는 일정해야 함: " + firstThreads + " → " + lastThreads);
+
+        BenchSupport.header("비교: 인스턴스별 java.util.Timer (최대 " + BASELINE_MAX_TIMERS + "개)");
+        measure(PerInstanceTimerScheduler.getInstance(), Math.min(maxTimers, BASELINE_MAX_TIMERS),
+            windowSeconds, new ArrayList<>(), null);
+
+        BenchSupport.row("%nOK: 휠 스레드 수 %d → %d, 최대 규모 타이머당 CPU %.2fus/s",
+            firstThreads, lastThreads, perTimerMicros[perTimerMicros.length - 1]);
+        System.exit(0);
+    }
+
+    /**
+     * 1, 10, 100 ... 순으로 실행 중인 타이머를 늘리며 구간마다 측정
+     * @return 단계별 타이머 1개·1초당 CPU 시간 (마이크로초)
+     */
+    private static double[] measure(TimerScheduler scheduler, int maxTimers, int windowSeconds,
+                                    List<int[]> threadCounts, HierarchicalTimingWheel wheel) {
+        List<TimerModel> timers = new ArrayList<>(maxTimers);
+        List<Double> perTimer = new ArrayList<>();
+        BenchSupport.row("%10s %8s %14s %16s %14s", "timers", "threads", "cpu(ms/s)", "cpu/timer(us/s)", "fires/s");
+
+        for (int target = 1; target <= maxTimers; target = nextStep(target, maxTimers)) {
+            while (timers.size() < target) {
+                TimerModel model = new TimerModel(scheduler);
+                model.startTimer();
+                timers.add(model);
+            }
+            BenchSupport.sleep(1000);  // 새로 시작한 타이머의 첫 틱이 자리 잡을 때까지
+
+            long firedBefore = wheel != null ? wheel.getFiredCount() : 0;
+            long cpuBefore = BenchSupport.processCpuNanos();
+            long start = System.nanoTime();
+            BenchSupport.sleep(windowSeconds * 1000L);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            long cpu = BenchSupport.processCpuNanos() - cpuBefore;
+            long fired = wheel != null ? wheel.getFiredCount() - firedBefore : -1;
+
+            int threads = BenchSupport.threadCount();
+            threadCounts.add(new int[] { target, threads });
+            double cpuMsPerSecond = cpu / 1e6 / seconds;
+            double cpuPerTimer = cpu / 1e3 / seconds / target;
+            perTimer.add(cpuPerTimer);
+            BenchSupport.row("%10d %8d %14.2f %16.2f %14s", target, threads, cpuMsPerSecond, cpuPerTimer,
+                fired >= 0 ? String.format("%.0f", fired / seconds) : "-");
+
+            if (target == maxTimers) break;
+        }
+
+        for (TimerModel model : timers) {
+            model.stopTimer();
+        }
+        BenchSupport.settle();
+
+        double[] result = new double[perTimer.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = perTimer.get(i);
+        }
+        return result;
+    }
+
+    private static int nextStep(int current, int max) {
+        long next = (long) current * 10;
+        return (int) Math.min(next, max);
+    }
+}
@@ -0,0 +1,122 @@
+import constants.UIConstants;
+import events.SimpleEventBus;
+import model.TimerModel;
+import view.TrayIconAtlas;
+
+import java.awt.Image;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 트레이 아이콘 갱신 할당량 테스트 (user-023)
+ * SystemTrayController가 프레임마다 하는 것처럼 스냅샷의 진행률로 단계를 골라 아틀라스에서 아이콘을 꺼내며,
+ * 예열 후에는 갱신 한 번당 할당이 없어야 합니다 (1배율, 2배율).
+ * 아틀라스가 아직 그리는 중인 상태를 요청해도 프레임을 한 번만 그려 같은 이미지를 돌려주는지도 확인합니다.
+ *
+ * 사용법: java TrayIconBench [갱신 횟수]
+ */
+public class TrayIconBench {
+
+    private static final long SECOND_NANOS = 1_000_000_000L;
+    private static final int WARMUP_UPDATES = 50_000;
+    private static final long BUILD_TIMEOUT_MS = 30_000;
+
+    public static void main(String[] args) {
+        int updates = BenchSupport.intArg(args, 0, 1_000_000);
+        int steps = UIConstants.TRAY_PROGRESS_STEPS;
+
+        BenchSupport.header("트레이 아이콘 갱신 (" + updates + "회)");
+        BenchSupport.row("%8s %14s %16s %10s", "scale", "update(ns/op)", "alloc(B/update)", "swaps");
+
+        int size = UIConstants.TRAY_ICON_SIZE;
+        for (double scale : new double[] { 1.0, 2.0 }) {
+            TrayIconAtlas atlas = TrayIconAtlas.get(size++, scale, steps);
+            Image early = checkOnDemandCached(atlas);
+            awaitComplete(atlas);
+            BenchSupport.check(atlas.getIcon(TimerModel.TimerState.PAUSED, steps / 2) == early,
+                "먼저 그린 프레임과 공개된 프레임이 다름");
+
+            AtomicLong clock = new AtomicLong(SECOND_NANOS);
+            TimerModel running = new TimerModel(new ManualScheduler(), clock::get, new SimpleEventBus());
+            TimerModel paused = new TimerModel(new ManualScheduler(), clock::get, new SimpleEventBus());
+            paused.startTimer();
+            clock.addAndGet(60 * SECOND_NANOS);
+            paused.pauseTimer();
+            clock.set(SECOND_NANOS);
+            running.startTimer();
+
+            long[] swaps = new long[1];
+            update(atlas, running, paused, clock, WARMUP_UPDATES, swaps);
+            swaps[0] = 0;
+
+            long before = BenchSupport.allocatedBytes();
+            long start = System.nanoTime();
+            update(atlas, running, paused, clock, updates, swaps);
+            long elapsed = System.nanoTime() - start;
+            long allocated = BenchSupport.allocatedBytes() - before;
+
+            double perUpdate = allocated / (double) updates;
+            BenchSupport.row("%8.1f %14.1f %16.3f %10d", scale, elapsed / (double) updates, perUpdate, swaps[0]);
+            BenchSupport.check(perUpdate < 1, "트레이 갱신마다 할당: " + perUpdate + "B");
+            BenchSupport.check(swaps[0] > 0, "진행 단계가 바뀌지 않아 이미지를 교체하지 않음");
+            System.out.println("  " + atlas.getStatus());
+        }
+
+        System.out.println("\nOK");
+        System.exit(0);
+    }
+
+    /**
+     * 아직 공개되지 않았을 수 있는 상태를 곧바로 요청하여, 다시 요청하면 같은 이미지를 할당 없이 돌려주는지 확인
+     */
+    private static Image checkOnDemandCached(TrayIconAtlas atlas) {
+        int steps = atlas.getSteps();
+        Image first = atlas.getIcon(TimerModel.TimerState.PAUSED, steps / 2);
+        for (int step = 0; step <= steps; step++) {
+            atlas.getIcon(TimerModel.TimerState.RUNNING, step);
+        }
+
+        long before = BenchSupport.allocatedBytes();
+        for (int round = 0; round < 100; round++) {
+            for (int step = 0; step <= steps; step++) {
+                atlas.getIcon(TimerModel.TimerState.RUNNING, step);
+            }
+        }
+        long allocated = BenchSupport.allocatedBytes() - before;
+
+        BenchSupport.check(atlas.getIcon(TimerModel.TimerState.PAUSED, steps / 2) == first,
+            "같은 프레임을 요청할 때마다 다시 그림");
+        BenchSupport.check(allocated < 1024, "이미 그린 프레임을 다시 요청할 때 할당: " + allocated + "B");
+        return first;
+    }
+
+    private static void awaitComplete(TrayIconAtlas atlas) {
+        long deadline = System.currentTimeMillis() + BUILD_TIMEOUT_MS;
+        while (!atlas.isComplete() && System.currentTimeMillis() < deadline) {
+            BenchSupport.sleep(10);
+        }
+        BenchSupport.check(atlas.isComplete(), "아틀라스를 제한 시간 안에 다 그리지 못함");
+    }
+
+    /**
+     * 실행 중/일시정지 타이머를 번갈아 골라 SystemTrayController.selectTrayIcon과 같은 계산으로 아이콘 선택
+     */
+    private static void update(TrayIconAtlas atlas, TimerModel running, TimerModel paused,
+                               AtomicLong clock, int updates, long[] swaps) {
+        Image[] current = new Image[2];  // 타이머별 현재 아이콘
+        int phaseSeconds = running.getSnapshot().getPhaseTotalSeconds();
+        for (int i = 0; i < updates; i++) {
+            // 실행 중 타이머의 진행률이 페이즈 처음부터 끝까지 모든 단계를 반복해서 지남
+            clock.set(SECOND_NANOS + ((i >> 1) % phaseSeconds) * SECOND_NANOS);
+            TimerModel model = (i & 1) == 0 ? running : paused;
+            TimerModel.Snapshot snapshot = model.getSnapshot();
+            int remainingSeconds = model.getRemainingSeconds(snapshot);
+            int totalSeconds = snapshot.getPhaseTotalSeconds();
+            double fraction = totalSeconds <= 0 ? 0.0 : (totalSeconds - remainingSeconds) / (double) totalSeconds;
+            Image icon = atlas.getIcon(snapshot.getState(), atlas.stepFor(fraction));
+            if (icon != current[i & 1]) {
+                current[i & 1] = icon;
+                swaps[0]++;
+            }
+        }
+    }
+}
@@ -1,4 +1,9 @@
 import view.MainFrame;
+import controller.HeadlessTimerServer;
+import controller.SettingsController;
+import model.DataStore;
+import model.SessionJournal;
+import constants.TimerConstants;
 import constants.UIConstants;
 import java.awt.SystemTray;
 
@@ -23,6 +28,12 @@ public class CodeBreakApplication {
         // 명령행 인수 처리
         ApplicationConfig config = parseCommandLineArguments(args);
         
+        // 헤드리스 모드에서는 AWT/Swing을 전혀 초기화하지 않음
+        if (config.headless) {
+            runHeadless(config);
+            return;
+        }
+        
         // 시스템 속성 설정
         setSystemProperties();
         
@@ -71,6 +82,21 @@ public class CodeBreakApplication {
                     config.autoStartTimer = true;
                     break;
                     
+                case "--headless":
+                    config.headless = true;
+                    break;
+                    
+                case "--port":
+                    if (i + 1 < args.length) {
+                        try {
+                            config.port = Integer.parseInt(args[++i]);
+                        } catch (NumberFormatException e) {
+                            System.err.println("잘못된 포트 번호: " + args[i]);
+                            System.exit(1);
+                        }
+                    }
+                    break;
+                    
                 case "--help":
                 case "-h":
                     printHelp();
@@ -114,6 +140,48 @@ public class CodeBreakApplication {
         System.setProperty(UIConstants.SWING_ANTIALIASING_PROPERTY, "true");
     }
     
+    /**
+     * 헤드리스 모드 실행 - HTTP/JSON API로 타이머 제어
+     */
+    private static void runHeadless(ApplicationConfig config) {
+        System.setProperty(UIConstants.JAVA_HEADLESS_PROPERTY, "true");
+        System.setProperty(TimerConstants.SCHEDULER_PROPERTY, TimerConstants.SCHEDULER_TYPE_WHEEL);
+        
+        if (config.debugMode) {
+            System.out.println("=== " + UIConstants.APP_TITLE + " Headless Debug Mode ===");
+            System.out.println("Java Version: " + System.getProperty("java.version"));
+        }
+        
+        try {
+            SettingsController settingsController = new SettingsController(DataStore.createDefault());
+            
+            // 시작 프로필은 새로 생성되는 사용자 세션의 기본 프로필이 됨
+            if (config.startupProfile != null) {
+                for (var profile : settingsController.getAllProfiles()) {
+                    if (profile.getProfileName().equalsIgnoreCase(config.startupProfile)) {
+                        settingsController.setCurrentProfile(profile);
+                        break;
+                    }
+                }
+            }
+            
+            HeadlessTimerServer server = new HeadlessTimerServer(config.port, settingsController);
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                server.stop();
+                settingsController.shutdown();
+                SessionJournal.closeShared();
+            }, "Headless-Shutdown"));
+            
+            server.start();
+            logApplicationStart(config);
+            
+        } catch (Exception e) {
+            System.err.println("헤드리스 서버 시작 실패: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+    
     /**
      * 애플리케이션 초기화
      */
@@ -266,12 +334,15 @@ public class CodeBreakApplication {
         System.out.println("  -d, --debug            디버그 모드 활성화");
         System.out.println("  -p, --profile NAME     지정된 프로필로 시작");
         System.out.println("  --auto-start           타이머 자동 시작");
+        System.out.println("  --headless             GUI 없이 로컬 HTTP/JSON API 서버로 실행");
+        System.out.println("  --port PORT            헤드리스 서버 포트 (기본값: " + TimerConstants.HEADLESS_DEFAULT_PORT + ")");
         System.out.println("  -h, --help             이 도움말 표시");
         System.out.println("  -v, --version          버전 정보 표시");
         System.out.println();
         System.out.println("예제:");
         System.out.println("  java CodeBreakApplication --minimized --profile \"포모도로\"");
         System.out.println("  java CodeBreakApplication --auto-start --debug");
+        System.out.println("  java CodeBreakApplication --headless --port 8765");
     }
     
     /**
@@ -300,12 +371,14 @@ public class CodeBreakApplication {
         boolean debugMode = false;
         boolean autoStartTimer = false;
         String startupProfile = null;
+        boolean headless = false;
+        int port = TimerConstants.HEADLESS_DEFAULT_PORT;
         
         @Override
         public String toString() {
             return String.format(
-                "ApplicationConfig{startMinimized=%s, disableTray=%s, debugMode=%s, autoStartTimer=%s, startupProfile='%s'}",
-                startMinimized, disableTray, debugMode, autoStartTimer, startupProfile
+                "ApplicationConfig{startMinimized=%s, disableTray=%s, debugMode=%s, autoStartTimer=%s, startupProfile='%s', headless=%s, port=%d}",
+                startMinimized, disableTray, debugMode, autoStartTimer, startupProfile, headless, port
             );
         }
     }
@@ -54,6 +54,15 @@ public final class TimerConstants {
     /** 타이머 틱 간격 (밀리초) */
     public static final int TIMER_TICK_INTERVAL_MS = 1000;
     
+    /** 1밀리초당 나노초 수 */
+    public static final long NANOS_PER_MILLISECOND = 1_000_000L;
+    
+    /** 1초당 나노초 수 */
+    public static final long NANOS_PER_SECOND = 1_000_000_000L;
+    
+    /** 마감 시각 판정 허용 오차 (밀리초) - 이보다 적게 남은 틱은 완료로 처리 */
+    public static final long TIMER_DEADLINE_TOLERANCE_MS = 20;
+    
     // ============================================
     // 🎯 프리셋 타이머 설정
     // ============================================
@@ -121,6 +130,9 @@ public final class TimerConstants {
     /** 알림 다이얼로그 자동 닫기 시간 (초) */
     public static final int NOTIFICATION_AUTO_CLOSE_SECONDS = 10;
     
+    /** 완료 알림 창을 미리 준비하기 시작하는 마감 전 시간 (초) */
+    public static final int NOTIFICATION_PREWARM_SECONDS = 5;
+    
     /** 트레이 알림 표시 시간 (밀리초) */
     public static final int TRAY_NOTIFICATION_DURATION_MS = 3000;
     
@@ -147,9 +159,48 @@ public final class TimerConstants {
     /** 자동 저장 간격 (초) */
     public static final int AUTO_SAVE_INTERVAL_SECONDS = 30;
     
+    /** 마지막 변경 후 자동 저장까지 대기 시간 (밀리초) */
+    public static final long AUTO_SAVE_DEBOUNCE_MS = 500;
+    
+    /** 연속 변경 중에도 첫 변경 후 이 시간 안에는 반드시 저장 (밀리초) */
+    public static final long AUTO_SAVE_MAX_LATENCY_MS = 2000;
+    
     /** 설정 백업 보관 개수 */
     public static final int SETTINGS_BACKUP_COUNT = 5;
     
+    /** 종료 시 남은 데이터 파일 쓰기를 기다리는 최대 시간 (밀리초) */
+    public static final long DATA_WRITER_SHUTDOWN_TIMEOUT_MS = 2000;
+    
+    /** 외부에서 바뀐 프로필 파일을 다시 읽기 전 조용해야 하는 시간 (밀리초, 나눠 쓰는 도중 읽지 않도록) */
+    public static final long PROFILE_RELOAD_DEBOUNCE_MS = 300;
+    
+    /** 프로필 파일을 읽지 못했을 때(쓰는 중 등) 다시 시도하는 최대 횟수 */
+    public static final int PROFILE_RELOAD_MAX_RETRIES = 5;
+    
+    /** 프로필 불러오기에서 한 번에 검증/추가하는 프로필 수 */
+    public static final int IMPORT_BATCH_SIZE = 8192;
+    
+    /** 프로필 불러오기 진행률 알림 최소 간격 (밀리초) */
+    public static final long IMPORT_PROGRESS_INTERVAL_MS = 100;
+    
+    /** 불러오기 실패 시 보고하는 유효성 문제 최대 개수 */
+    public static final int IMPORT_MAX_REPORTED_ISSUES = 20;
+    
+    /** 데이터 저장소 선택 시스템 속성 이름 */
+    public static final String DATA_STORE_PROPERTY = "codebreak.datastore";
+    
+    /** JSON 파일 저장소 (profiles.json + profiles.bin 캐시) */
+    public static final String DATA_STORE_TYPE_JSON = "json";
+    
+    /** properties 파일 저장소 */
+    public static final String DATA_STORE_TYPE_SIMPLE = "simple";
+    
+    /** 쓰기 지연 캐시: 저장 요청 후 실제 저장소에 쓰기까지 모으는 시간 (밀리초) */
+    public static final long DATA_STORE_WRITE_BEHIND_MS = 100;
+    
+    /** 쓰기 지연 캐시: 실제 저장소 쓰기 실패 후 다시 시도하기까지의 시간 (밀리초) */
+    public static final long DATA_STORE_RETRY_MS = 1000;
+    
     /** 프로필 최대 개수 */
     public static final int MAX_PROFILE_COUNT = 20;
     
@@ -201,9 +252,60 @@ public final class TimerConstants {
     /** 이벤트 큐 최대 크기 */
     public static final int EVENT_QUEUE_MAX_SIZE = 1000;
     
+    /** 이벤트 버스 종료 시 대기 중인 이벤트 전달을 기다리는 최대 시간 (밀리초) */
+    public static final long EVENT_BUS_SHUTDOWN_TIMEOUT_MS = 1000;
+    
     /** 캐시 만료 시간 (밀리초) */
     public static final long CACHE_EXPIRY_MS = 60000; // 1분
     
+    // ============================================
+    // 📓 세션 기록 관련 상수
+    // ============================================
+    
+    /** 세션 저널 디렉토리 (data 아래) */
+    public static final String SESSION_JOURNAL_DIR = "journal";
+    
+    /** 세션 레코드 크기 (바이트, 고정 폭) */
+    public static final int SESSION_JOURNAL_RECORD_SIZE = 32;
+    
+    /** 세그먼트당 레코드 수 (32바이트 x 32768 = 1MB) */
+    public static final int SESSION_JOURNAL_SEGMENT_RECORDS = 32768;
+
+    // ============================================
+    // ⚙️ 스케줄러 관련 상수
+    // ============================================
+
+    /** 스케줄러 선택 시스템 속성 이름 */
+    public static final String SCHEDULER_PROPERTY = "codebreak.scheduler";
+
+    /** 인스턴스별 java.util.Timer 스케줄러 */
+    public static final String SCHEDULER_TYPE_TIMER = "timer";
+
+    /** 공유 계층형 타이밍 휠 스케줄러 */
+    public static final String SCHEDULER_TYPE_WHEEL = "wheel";
+
+    /** 타이밍 휠 틱 간격 (밀리초) */
+    public static final long TIMING_WHEEL_TICK_MS = 10;
+
+    /** 타이밍 휠 레벨당 슬롯 비트 수 (2^6 = 64슬롯) */
+    public static final int TIMING_WHEEL_SLOT_BITS = 6;
+
+    /** 타이밍 휠 레벨 수 (10ms * 64^4 ≈ 46시간) */
+    public static final int TIMING_WHEEL_LEVELS = 4;
+
+    /** 타이밍 휠 작업 실행 스레드 수 */
+    public static final int TIMING_WHEEL_WORKER_THREADS = 2;
+
+    // ============================================
+    // 🌐 헤드리스 서버 관련 상수
+    // ============================================
+    
+    /** 헤드리스 HTTP 서버 기본 포트 */
+    public static final int HEADLESS_DEFAULT_PORT = 8765;
+    
+    /** 헤드리스 HTTP 서버 연결 대기열 크기 */
+    public static final int HEADLESS_BACKLOG = 1024;
+    
     // ============================================
     // 🚫 인스턴스 생성 방지
     // ============================================
@@ -234,6 +336,45 @@ public final class TimerConstants {
         return seconds / SECONDS_PER_MINUTE;
     }
     
+    /**
+     * 분을 나노초로 변환
+     * @param minutes 분
+     * @return 나노초
+     */
+    public static long minutesToNanos(int minutes) {
+        return minutesToSeconds(minutes) * NANOS_PER_SECOND;
+    }
+    
+    /**
+     * 밀리초를 나노초로 변환
+     * @param millis 밀리초
+     * @return 나노초
+     */
+    public static long millisToNanos(long millis) {
+        return millis * NANOS_PER_MILLISECOND;
+    }
+    
+    /**
+     * 나노초를 밀리초로 변환 (내림)
+     * @param nanos 나노초
+     * @return 밀리초
+     */
+    public static long nanosToMillis(long nanos) {
+        return nanos / NANOS_PER_MILLISECOND;
+    }
+    
+    /**
+     * 나노초를 초로 변환 (올림) - 남은 시간 표시용
+     * @param nanos 나노초
+     * @return 초
+     */
+    public static int nanosToCeilSeconds(long nanos) {
+        if (nanos <= 0) {
+            return 0;
+        }
+        return (int) ((nanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND);
+    }
+    
     /**
      * 시간 포맷팅 (MM:SS)
      * @param totalSeconds 총 초
@@ -85,6 +85,15 @@ public final class UIConstants {
     /** 아이콘 테두리 두께 */
     public static final int ICON_BORDER_WIDTH = 2;
     
+    /** 트레이 아이콘 기본 크기 (트레이가 크기를 알려주지 않을 때) */
+    public static final int TRAY_ICON_SIZE = 16;
+    
+    /** 트레이 아이콘 진행률 링 단계 수 (미리 그려 두는 프레임 수) */
+    public static final int TRAY_PROGRESS_STEPS = 60;
+    
+    /** 알림 창 아이콘 크기 */
+    public static final int NOTIFICATION_ICON_SIZE = 64;
+    
     // ============================================
     // 📏 레이아웃 관련 상수
     // ============================================
@@ -162,12 +162,7 @@ public class EasyProfileHelper {
      * 프로필 이름으로 찾기
      */
     private UserProfile findProfile(String name) {
-        for (UserProfile profile : settingsController.getAllProfiles()) {
-            if (profile.getProfileName().equals(name)) {
-                return profile;
-            }
-        }
-        return null;
+        return settingsController.findProfile(name);
     }
     
     /**
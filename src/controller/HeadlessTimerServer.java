@@ -0,0 +1,374 @@
+package controller;
+
+import model.*;
+import constants.TimerConstants;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 헤드리스 모드에서 TimerController 동작을 로컬 HTTP/JSON API로 제공하는 서버
+ * 사용자별로 독립된 TimerController를 두고, 모든 타이머는 공유 타이밍 휠로 구동됩니다.
+ * 사용자 세션은 start 요청으로만 만들어지며, 다른 동작은 기존 세션이 없으면 404를 돌려줍니다.
+ *
+ * 경로:
+ *   POST /api/timers/{user}/start | pause | stop | reset
+ *   POST /api/timers/{user}/profile?name=프로필명
+ *   GET  /api/timers/{user}/statistics | status
+ *   GET  /api/metrics
+ */
+public class HeadlessTimerServer {
+    private static final String TIMERS_PATH = "/api/timers/";
+    private static final String METRICS_PATH = "/api/metrics";
+    private static final String START_ACTION = "start";
+    
+    // 동작별 허용 HTTP 메서드 (여기 없는 요청은 세션을 만들기 전에 거절)
+    private static final Map<String, String> ACTION_METHODS = Map.of(
+        START_ACTION, "POST",
+        "pause", "POST",
+        "stop", "POST",
+        "reset", "POST",
+        "profile", "POST",
+        "statistics", "GET",
+        "status", "GET");
+    
+    private final SettingsController settingsController;
+    private final TimerScheduler scheduler;
+    private final Map<String, TimerController> sessions = new ConcurrentHashMap<>();
+    private final RequestMetrics metrics = new RequestMetrics();
+    
+    private final HttpServer server;
+    private final ExecutorService executor;
+    
+    public HeadlessTimerServer(int port, SettingsController settingsController) throws IOException {
+        this.settingsController = settingsController;
+        this.scheduler = HierarchicalTimingWheel.getShared();
+        this.executor = createRequestExecutor();
+        
+        // 응답 헤더와 본문이 따로 전송될 때 Nagle 지연(약 40ms)이 생기지 않도록 (명시 설정이 없을 때만)
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+        
+        // 로컬 루프백에서만 접근 가능
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port),
+                                        TimerConstants.HEADLESS_BACKLOG);
+        this.server.createContext(TIMERS_PATH, this::handleTimerRequest);
+        this.server.createContext(METRICS_PATH, this::handleMetricsRequest);
+        this.server.setExecutor(executor);
+    }
+    
+    /**
+     * 요청당 하나의 스레드를 사용하는 실행기 생성
+     * JDK 21 이상이면 가상 스레드를, 그 이하에서는 데몬 스레드 캐시 풀을 사용합니다.
+     */
+    private static ExecutorService createRequestExecutor() {
+        try {
+            return (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+        } catch (ReflectiveOperationException e) {
+            AtomicLong index = new AtomicLong();
+            return Executors.newCachedThreadPool(r -> {
+                Thread t = new Thread(r, "Headless-Request-" + index.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+        }
+    }
+    
+    public void start() {
+        server.start();
+        metrics.markStarted();
+        System.out.println("🌐 헤드리스 서버 시작: http://" + server.getAddress().getHostString() + ":" + getPort());
+    }
+    
+    public void stop() {
+        server.stop(0);
+        for (TimerController controller : sessions.values()) {
+            controller.stopTimer();
+        }
+        sessions.clear();
+        executor.shutdown();
+        System.out.println("🛑 헤드리스 서버 종료");
+    }
+    
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+    
+    public RequestMetrics getMetrics() {
+        return metrics;
+    }
+    
+    // ============================================
+    // 요청 처리
+    // ============================================
+    
+    private void handleTimerRequest(HttpExchange exchange) throws IOException {
+        long startNanos = System.nanoTime();
+        try {
+            String[] parts = exchange.getRequestURI().getPath().substring(TIMERS_PATH.length()).split("/");
+            if (parts.length != 2 || parts[0].isEmpty()) {
+                sendJson(exchange, 404, error("알 수 없는 경로"));
+                return;
+            }
+            
+            String user = URLDecoder.decode(parts[0], StandardCharsets.UTF_8);
+            String action = parts[1];
+            String method = exchange.getRequestMethod();
+            if (!method.equals(ACTION_METHODS.get(action))) {
+                sendJson(exchange, 404, error("알 수 없는 동작: " + method + " " + action));
+                return;
+            }
+            
+            // 세션은 start로만 만들어짐 (검증되지 않은 요청이 세션을 무한히 늘리지 않도록)
+            TimerController controller = START_ACTION.equals(action)
+                ? sessions.computeIfAbsent(user, this::createSession)
+                : sessions.get(user);
+            if (controller == null) {
+                sendJson(exchange, 404, error("타이머 세션이 없습니다. 먼저 start를 호출하세요: " + user));
+                return;
+            }
+            
+            String body;
+            synchronized (controller) {
+                body = dispatch(controller, action, exchange);
+            }
+            sendJson(exchange, 200, body);
+        } catch (IllegalArgumentException e) {
+            sendJson(exchange, 400, error(e.getMessage()));
+        } catch (Exception e) {
+            System.err.println("헤드리스 요청 처리 중 오류 발생: " + e.getMessage());
+            sendJson(exchange, 500, error("내부 오류"));
+        } finally {
+            metrics.record(System.nanoTime() - startNanos);
+        }
+    }
+    
+    /**
+     * 검증된 동작 실행 후 응답 JSON 반환
+     */
+    private String dispatch(TimerController controller, String action, HttpExchange exchange) {
+        switch (action) {
+            case START_ACTION:
+                controller.startTimer();
+                return statusJson(controller);
+            case "pause":
+                controller.pauseTimer();
+                return statusJson(controller);
+            case "stop":
+                controller.stopTimer();
+                return statusJson(controller);
+            case "reset":
+                controller.resetTimer();
+                return statusJson(controller);
+            case "profile":
+                controller.setCurrentProfile(resolveProfile(queryParam(exchange, "name")));
+                return statusJson(controller);
+            case "statistics":
+                return statisticsJson(controller.getStatistics());
+            case "status":
+                return statusJson(controller);
+            default:
+                throw new IllegalArgumentException("알 수 없는 동작: " + action);
+        }
+    }
+    
+    private void handleMetricsRequest(HttpExchange exchange) throws IOException {
+        if (!"GET".equals(exchange.getRequestMethod())) {
+            sendJson(exchange, 404, error("GET만 지원합니다."));
+            return;
+        }
+        sendJson(exchange, 200, metrics.toJson(sessions.size()));
+    }
+    
+    private TimerController createSession(String user) {
+        TimerModel model = new TimerModel(scheduler);
+        model.setSessionJournal(SessionJournal.getShared(), user);
+        TimerController controller = new TimerController(model, new NotificationManager());
+        UserProfile profile = settingsController.getCurrentProfile();
+        if (profile != null) {
+            controller.setCurrentProfile(profile);
+        }
+        return controller;
+    }
+    
+    private UserProfile resolveProfile(String name) {
+        if (name == null || name.isEmpty()) {
+            throw new IllegalArgumentException("name 파라미터가 필요합니다.");
+        }
+        UserProfile profile = settingsController.findProfile(name);
+        if (profile != null) {
+            return profile;
+        }
+        throw new IllegalArgumentException("프로필을 찾을 수 없습니다: " + name);
+    }
+    
+    private static String queryParam(HttpExchange exchange, String key) {
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null) return null;
+        
+        for (String pair : query.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0 && pair.substring(0, eq).equals(key)) {
+                return URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+    
+    private static void sendJson(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+    
+    // ============================================
+    // JSON 직렬화
+    // ============================================
+    
+    private static String statusJson(TimerController controller) {
+        TimerModel model = controller.getTimerModel();
+        TimerModel.Snapshot snapshot = model.getSnapshot();
+        return "{\"state\":\"" + snapshot.getState() + "\"" +
+               ",\"remainingSeconds\":" + model.getRemainingSeconds(snapshot) +
+               ",\"currentCycle\":" + snapshot.getCurrentCycle() +
+               ",\"phase\":\"" + escape(snapshot.getCurrentPhase()) + "\"" +
+               ",\"statusText\":\"" + escape(controller.getTimerStatusText()) + "\"}";
+    }
+    
+    private static String statisticsJson(TimerController.TimerStatistics stats) {
+        SessionJournal.Summary history = stats.getHistory();
+        String historyJson = history == null ? "null" :
+               "{\"workSessions\":" + history.getWorkSessions() +
+               ",\"breakSessions\":" + history.getBreakSessions() +
+               ",\"workMinutes\":" + history.getWorkMinutes() +
+               ",\"breakMinutes\":" + history.getBreakMinutes() +
+               ",\"lastCompletedAt\":" + history.getLastCompletedAtMillis() + "}";
+        return "{\"totalCycles\":" + stats.getTotalCycles() +
+               ",\"totalWorkSessions\":" + stats.getTotalWorkSessions() +
+               ",\"totalBreakSessions\":" + stats.getTotalBreakSessions() +
+               ",\"estimatedWorkMinutes\":" + stats.getEstimatedWorkMinutes() +
+               ",\"estimatedBreakMinutes\":" + stats.getEstimatedBreakMinutes() +
+               ",\"productivityRatio\":" + String.format(Locale.ROOT, TimerConstants.STATISTICS_FORMAT, stats.getProductivityRatio()) +
+               ",\"pomodoroMode\":" + stats.isPomodoroMode() +
+               ",\"currentPhase\":\"" + escape(stats.getCurrentPhase()) + "\"" +
+               ",\"history\":" + historyJson + "}";
+    }
+    
+    private static String error(String message) {
+        return "{\"error\":\"" + escape(message) + "\"}";
+    }
+    
+    /**
+     * JSON 문자열 값 이스케이프 (따옴표, 역슬래시, 제어 문자)
+     */
+    private static String escape(String value) {
+        if (value == null) return "";
+        StringBuilder out = null;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            String replacement;
+            switch (c) {
+                case '"': replacement = "\\\""; break;
+                case '\\': replacement = "\\\\"; break;
+                case '\b': replacement = "\\b"; break;
+                case '\f': replacement = "\\f"; break;
+                case '\n': replacement = "\\n"; break;
+                case '\r': replacement = "\\r"; break;
+                case '\t': replacement = "\\t"; break;
+                default:
+                    replacement = c < 0x20 ? String.format("\\u%04x", (int) c) : null;
+                    break;
+            }
+            if (replacement == null) {
+                if (out != null) out.append(c);
+                continue;
+            }
+            if (out == null) {
+                // 이스케이프할 문자가 처음 나올 때만 버퍼 생성
+                out = new StringBuilder(value.length() + 16).append(value, 0, i);
+            }
+            out.append(replacement);
+        }
+        return out == null ? value : out.toString();
+    }
+    
+    /**
+     * 요청 처리량과 지연 시간 분포를 기록하는 측정기
+     * 마이크로초 단위 log2 버킷 히스토그램으로 잠금 없이 백분위를 계산합니다.
+     */
+    public static class RequestMetrics {
+        private static final int BUCKETS = 40;
+        
+        private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+        private final AtomicLong requestCount = new AtomicLong();
+        private volatile long startedNanos = System.nanoTime();
+        
+        void markStarted() {
+            startedNanos = System.nanoTime();
+        }
+        
+        void record(long elapsedNanos) {
+            long micros = Math.max(1, elapsedNanos / 1000);
+            int bucket = Math.min(BUCKETS - 1, 63 - Long.numberOfLeadingZeros(micros));
+            histogram.incrementAndGet(bucket);
+            requestCount.incrementAndGet();
+        }
+        
+        public long getRequestCount() {
+            return requestCount.get();
+        }
+        
+        public double getRequestsPerSecond() {
+            double seconds = (System.nanoTime() - startedNanos) / (double) TimerConstants.NANOS_PER_SECOND;
+            return seconds > 0 ? requestCount.get() / seconds : 0.0;
+        }
+        
+        /**
+         * 백분위 지연 시간 (버킷 상한, 마이크로초)
+         * @param percentile 0.0 ~ 1.0
+         * @return 지연 시간 상한 (마이크로초)
+         */
+        public long getPercentileMicros(double percentile) {
+            long total = requestCount.get();
+            if (total == 0) return 0;
+            
+            long target = (long) Math.ceil(total * percentile);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += histogram.get(i);
+                if (seen >= target) {
+                    return 1L << (i + 1);
+                }
+            }
+            return 1L << BUCKETS;
+        }
+        
+        String toJson(int sessionCount) {
+            return "{\"requests\":" + getRequestCount() +
+                   ",\"requestsPerSecond\":" + String.format(Locale.ROOT, TimerConstants.STATISTICS_FORMAT, getRequestsPerSecond()) +
+                   ",\"p50Micros\":" + getPercentileMicros(0.50) +
+                   ",\"p99Micros\":" + getPercentileMicros(0.99) +
+                   ",\"sessions\":" + sessionCount + "}";
+        }
+    }
+}
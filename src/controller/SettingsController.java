@@ -5,67 +5,174 @@ import constants.UIConstants;
 import constants.TimerConstants;
 import events.*;
 
+import javax.swing.SwingUtilities;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.*;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
 
 /**
  * 🚀 향상된 설정 컨트롤러 - 안정적인 자동 저장과 실시간 동기화 지원
  */
 public class SettingsController {
-    private JsonDataManager dataManager;
-    private List<UserProfile> profiles;
+    private final DataStore dataStore;            // 프로필/설정 저장소 (쓰기 지연 캐시 포함)
+    private final JsonDataManager exchange;       // 내보내기/불러오기 형식 처리
+    private final ProfileRepository profiles = new ProfileRepository();  // 이름 색인 + 불변 스냅샷
     private UserProfile currentProfile;
     private UserProfile pendingProfile; // 임시 변경사항을 저장할 프로필
     private Map<String, Object> applicationSettings;
     private TimerController timerController;
     private EventBus eventBus;
     
-    // 자동 저장 관련
-    private ScheduledExecutorService autoSaveScheduler;
-    private boolean hasUnsavedChanges = false;
-    private long lastChangeTime = 0;
-    private static final long AUTO_SAVE_DELAY_MS = 500; // 0.5초 후 자동 저장 (2초 -> 0.5초로 단축)
+    // 자동 저장 관련 (변경이 있을 때만 저장 예약, 유휴 시에는 깨어나지 않음)
+    private ScheduledThreadPoolExecutor autoSaveScheduler;
+    private final Object saveLock = new Object();
+    private ScheduledFuture<?> pendingSave;       // saveLock으로 보호
+    private long burstStartNanos;                 // 아직 저장되지 않은 첫 변경 시각 (saveLock으로 보호)
+    private volatile boolean hasUnsavedChanges = false;
+    
+    // 저장 상태 이벤트 (saveLock 안에서 발행하여 상태 전이 순서대로 전달)
+    private long saveStateSequence;               // saveLock으로 보호
+    private long dirtySinceMillis;                // saveLock으로 보호
+    private volatile SaveStateEvent lastSaveState = new SaveStateEvent(SaveStateEvent.State.SAVED, 0, 0, null);
+    
+    // 자동 저장 통계
+    private final AtomicLong changeCount = new AtomicLong();
+    private final AtomicLong autoSaveCount = new AtomicLong();
+    private final AtomicLong forceSaveCount = new AtomicLong();
+    private final AtomicLong latencySamples = new AtomicLong();
+    private final AtomicLong totalSaveLatencyNanos = new AtomicLong();
+    private final AtomicLong maxSaveLatencyNanos = new AtomicLong();
+    
+    // 외부 프로필 파일 변경 감시 (배포된 profiles.json 반영)
+    private ProfileFileWatcher profileWatcher;
+    private final AtomicLong externalReloadCount = new AtomicLong();
+    private final AtomicLong externalProfileChanges = new AtomicLong();
     
     // 상태 추적
     private final Set<String> changeListeners = new HashSet<>();
     private boolean isLoading = false;
     
-    public SettingsController(JsonDataManager dataManager) {
-        this.dataManager = dataManager;
+    public SettingsController(DataStore dataStore) {
+        this.dataStore = dataStore;
+        // 저장소가 JSON 기반이면 같은 인스턴스로 내보내기/불러오기도 처리
+        JsonDataManager json = dataStore.unwrap(JsonDataManager.class);
+        this.exchange = json != null ? json : new JsonDataManager();
         this.eventBus = SimpleEventBus.getInstance();
         
         initializeAutoSave();
         loadSettings();
+        startProfileWatcher();
         
         System.out.println("✅ SettingsController 초기화 완료");
     }
     
     /**
      * 🔄 자동 저장 스케줄러 초기화
+     * 주기적으로 확인하지 않고 markChanged()가 저장 시점을 예약합니다.
      */
     private void initializeAutoSave() {
-        autoSaveScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        autoSaveScheduler = new ScheduledThreadPoolExecutor(1, r -> {
             Thread t = new Thread(r, "AutoSave-Thread");
             t.setDaemon(true);
             return t;
         });
+        // 재예약으로 취소된 작업이 큐에 남아 스레드를 깨우지 않도록 즉시 제거
+        autoSaveScheduler.setRemoveOnCancelPolicy(true);
         
-        // 주기적으로 변경사항 체크하여 자동 저장 (더 빠른 체크 주기)
-        autoSaveScheduler.scheduleAtFixedRate(() -> {
-            if (hasUnsavedChanges && 
-                System.currentTimeMillis() - lastChangeTime >= AUTO_SAVE_DELAY_MS) {
-                
-                try {
-                    performAutoSave();
-                } catch (Exception e) {
-                    System.err.println("❌ 자동 저장 실패: " + e.getMessage());
-                }
+        System.out.println("🔄 자동 저장 스케줄러 시작");
+    }
+    
+    /**
+     * 👀 프로필 파일 감시 시작
+     */
+    private void startProfileWatcher() {
+        Path profilesPath = dataStore.getProfilesPath();
+        if (profilesPath == null) {
+            return;  // 외부 변경 감시를 지원하지 않는 저장소
+        }
+        profileWatcher = new ProfileFileWatcher(profilesPath, this::onProfilesFileChanged);
+        profileWatcher.start();
+    }
+    
+    /**
+     * 감시 스레드에서 호출: 파일을 읽어 보고, 실제로 바뀌었으면 EDT에서 반영
+     * @return 잘린 파일 등으로 읽지 못했으면 false (감시기가 잠시 후 다시 시도)
+     */
+    private boolean onProfilesFileChanged(Path file) {
+        List<UserProfile> loaded;
+        try {
+            loaded = dataStore.reloadProfilesIfChanged();
+        } catch (IOException e) {
+            System.out.println("⏳ 프로필 파일을 아직 읽을 수 없음 (" + e.getMessage() + ")");
+            return false;
+        }
+        if (loaded == null) {
+            return true;  // 이 앱이 직접 저장한 내용
+        }
+        
+        // 프로필 편집과 같은 EDT에서 병합하여 살아 있는 프로필과 pendingProfile을 한 스레드에서만 수정
+        SwingUtilities.invokeLater(() -> applyExternalProfiles(loaded));
+        return true;
+    }
+    
+    /**
+     * 🔄 외부에서 읽은 프로필 목록을 메모리 목록과 비교하여 바뀐 것만 반영
+     * 기존 인스턴스는 그대로 두고 값만 복사하므로 선택 상태와 다른 곳의 참조가 유지되며,
+     * 바뀌지 않은 프로필은 버전도 그대로라 다음 저장 시 다시 인코딩되지 않음 (EDT에서 호출)
+     */
+    private void applyExternalProfiles(List<UserProfile> loaded) {
+        ProfileRepository.Snapshot before = profiles.snapshot();
+        List<ProfileChangedEvent> events = new ArrayList<>();
+        List<UserProfile> added = new ArrayList<>();
+        Set<String> loadedNames = new HashSet<>();
+        
+        for (UserProfile incoming : loaded) {
+            if (!loadedNames.add(incoming.getProfileName())) continue;
+            
+            UserProfile existing = before.find(incoming.getProfileName());
+            if (existing == null) {
+                added.add(incoming);
+                events.add(new ProfileChangedEvent(null, incoming, false));
+                continue;
             }
-        }, 100, 100, TimeUnit.MILLISECONDS); // 0.1초마다 체크 (1초 -> 0.1초로 단축)
+            if (existing.hasSameSettings(incoming)) continue;
+            
+            UserProfile previous = new UserProfile(existing.getProfileName());
+            previous.copyFrom(existing);
+            existing.copyFrom(incoming);
+            
+            boolean active = existing == currentProfile;
+            if (active && pendingProfile != null) {
+                // 배포된 값이 우선 (아직 저장되지 않은 편집은 덮어씀)
+                pendingProfile.copyFrom(existing);
+            }
+            events.add(new ProfileChangedEvent(previous, existing, active));
+        }
         
-        System.out.println("🔄 자동 저장 스케줄러 시작");
+        for (UserProfile profile : before) {
+            if (loadedNames.contains(profile.getProfileName())) continue;
+            if (profile == currentProfile) {
+                System.out.println("⚠️ 배포된 파일에 현재 프로필이 없어 유지합니다: " + profile.getProfileName());
+                continue;
+            }
+            if (profiles.remove(profile)) {
+                events.add(new ProfileChangedEvent(profile, null, false));
+            }
+        }
+        profiles.addAll(added);
+        
+        externalReloadCount.incrementAndGet();
+        externalProfileChanges.addAndGet(events.size());
+        System.out.println("🔄 외부 프로필 변경 반영: " + events.size() + "개 변경 (전체 " + loaded.size() + "개)");
+        
+        for (ProfileChangedEvent event : events) {
+            eventBus.publish(event);
+        }
     }
     
     /**
@@ -77,7 +184,7 @@ public class SettingsController {
         
         try {
             // 프로필 로드
-            profiles = dataManager.loadProfiles();
+            profiles.replaceAll(dataStore.loadProfiles());
             System.out.println("✅ 프로필 로드: " + profiles.size() + "개");
             
             // 안전성 체크
@@ -87,7 +194,7 @@ public class SettingsController {
             }
             
             // 애플리케이션 설정 로드
-            applicationSettings = dataManager.loadSettings();
+            applicationSettings = dataStore.loadSettings();
             System.out.println("✅ 애플리케이션 설정 로드");
             
             // 현재 프로필 설정
@@ -116,7 +223,7 @@ public class SettingsController {
         currentProfile = findProfileByName(selectedProfileName);
         
         if (currentProfile == null) {
-            currentProfile = profiles.get(0);
+            currentProfile = profiles.getAll().get(0);
             System.out.println("⚠️ 선택된 프로필을 찾을 수 없어서 첫 번째 프로필 사용: " + currentProfile.getProfileName());
             
             // 애플리케이션 설정 업데이트
@@ -142,17 +249,17 @@ public class SettingsController {
     private void handleLoadError() {
         System.out.println("🔧 오류 복구 모드 실행");
         
-        profiles = new ArrayList<>();
+        profiles.replaceAll(Collections.emptyList());
         createDefaultProfiles();
         
         applicationSettings = new HashMap<>();
-        applicationSettings.put("selectedProfile", profiles.get(0).getProfileName());
+        applicationSettings.put("selectedProfile", profiles.getAll().get(0).getProfileName());
         applicationSettings.put("windowWidth", UIConstants.SETTINGS_DEFAULT_WIDTH);
         applicationSettings.put("windowHeight", UIConstants.SETTINGS_DEFAULT_HEIGHT);
         applicationSettings.put("windowX", UIConstants.DEFAULT_WINDOW_X);
         applicationSettings.put("windowY", UIConstants.DEFAULT_WINDOW_Y);
         
-        currentProfile = profiles.get(0);
+        currentProfile = profiles.getAll().get(0);
         
         // 즉시 저장하여 복구된 상태 유지
         forceSave();
@@ -160,22 +267,25 @@ public class SettingsController {
     }
     
     /**
-     * 🔍 이름으로 프로필 찾기
+     * 🔍 이름으로 프로필 찾기 (이름 색인, O(1))
      */
     private UserProfile findProfileByName(String name) {
-        if (name == null) return null;
-        
-        return profiles.stream()
-                .filter(profile -> profile.getProfileName().equals(name))
-                .findFirst()
-                .orElse(null);
+        return profiles.find(name);
     }
     
     /**
      * 💾 자동 저장 실행
      */
     private void performAutoSave() {
-        if (!hasUnsavedChanges) return;
+        long burstStart;
+        synchronized (saveLock) {
+            pendingSave = null;
+            if (!hasUnsavedChanges) return;
+            // 저장 도중 들어온 변경은 다시 표시되고 새 저장이 예약됨
+            hasUnsavedChanges = false;
+            burstStart = burstStartNanos;
+            publishSaveStateLocked(SaveStateEvent.State.SAVING, null);
+        }
         
         System.out.println("💾 자동 저장 실행...");
         
@@ -184,10 +294,13 @@ public class SettingsController {
             applyPendingChanges();
             
             // 실제 저장
-            dataManager.saveProfiles(profiles);
-            dataManager.saveSettings(applicationSettings);
+            dataStore.saveProfiles(profiles.getAll());
+            dataStore.saveSettings(applicationSettings);
+            dataStore.flush();  // 저장 스레드에서 실제로 반영되어야 성공으로 기록
             
-            hasUnsavedChanges = false;
+            recordSaveLatency(burstStart);
+            autoSaveCount.incrementAndGet();
+            publishSaved();
             System.out.println("✅ 자동 저장 완료");
             
             // 변경 이벤트 발송 (설정 업데이트 알림용)
@@ -198,7 +311,8 @@ public class SettingsController {
             
         } catch (Exception e) {
             System.err.println("❌ 자동 저장 실패: " + e.getMessage());
-            throw e;
+            markChanged();  // 다음 기회에 다시 시도
+            publishSaveFailed(e);
         }
     }
     
@@ -218,29 +332,145 @@ public class SettingsController {
     public void forceSave() {
         System.out.println("⚡ 강제 저장 실행");
         
+        long burstStart;
+        boolean hadChanges;
+        synchronized (saveLock) {
+            // 예약된 자동 저장은 이번 저장에 흡수
+            if (pendingSave != null) {
+                pendingSave.cancel(false);
+                pendingSave = null;
+            }
+            hadChanges = hasUnsavedChanges;
+            hasUnsavedChanges = false;
+            burstStart = burstStartNanos;
+            if (hadChanges) {
+                publishSaveStateLocked(SaveStateEvent.State.SAVING, null);
+            }
+        }
+        
         try {
             applyPendingChanges();
-            dataManager.saveProfiles(profiles);
-            dataManager.saveSettings(applicationSettings);
-            hasUnsavedChanges = false;
+            dataStore.saveProfiles(profiles.getAll());
+            dataStore.saveSettings(applicationSettings);
+            dataStore.flush();  // 쓰기 지연 없이 바로 반영
             
+            if (hadChanges) {
+                recordSaveLatency(burstStart);
+                publishSaved();
+            }
+            forceSaveCount.incrementAndGet();
             System.out.println("✅ 강제 저장 완료");
             
         } catch (Exception e) {
             System.err.println("❌ 강제 저장 실패: " + e.getMessage());
             e.printStackTrace();
+            if (hadChanges) {
+                markChanged();  // 자동 저장으로 다시 시도
+                publishSaveFailed(e);
+            }
         }
     }
     
     /**
-     * 📝 변경사항 기록 (빠른 자동 저장 트리거)
+     * 📝 변경사항 기록 (자동 저장 예약)
+     * 연속된 변경은 마지막 변경 후 AUTO_SAVE_DEBOUNCE_MS에 한 번 저장되며,
+     * 첫 변경 후 AUTO_SAVE_MAX_LATENCY_MS를 넘기지 않도록 저장 시점을 제한합니다.
      */
     private void markChanged() {
         if (isLoading) return; // 로딩 중에는 변경사항으로 간주하지 않음
         
-        hasUnsavedChanges = true;
-        lastChangeTime = System.currentTimeMillis();
-        System.out.println("📝 변경사항 감지 - 빠른 자동 저장 예약 (0.5초 후)");
+        changeCount.incrementAndGet();
+        synchronized (saveLock) {
+            long now = System.nanoTime();
+            if (!hasUnsavedChanges) {
+                burstStartNanos = now;
+                dirtySinceMillis = System.currentTimeMillis();
+                hasUnsavedChanges = true;
+                publishSaveStateLocked(SaveStateEvent.State.DIRTY, null);
+            }
+            
+            long debounceDeadline = now + TimerConstants.millisToNanos(TimerConstants.AUTO_SAVE_DEBOUNCE_MS);
+            long latencyCap = burstStartNanos + TimerConstants.millisToNanos(TimerConstants.AUTO_SAVE_MAX_LATENCY_MS);
+            long delay = Math.max(0, Math.min(debounceDeadline, latencyCap) - now);
+            
+            if (pendingSave != null) {
+                pendingSave.cancel(false);
+            }
+            if (!autoSaveScheduler.isShutdown()) {
+                pendingSave = autoSaveScheduler.schedule(this::performAutoSave, delay, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+    
+    /**
+     * 저장 완료 알림 (저장 도중 새 변경이 들어왔으면 이미 DIRTY가 발행되었으므로 생략)
+     */
+    private void publishSaved() {
+        synchronized (saveLock) {
+            if (!hasUnsavedChanges) {
+                dirtySinceMillis = 0;
+                publishSaveStateLocked(SaveStateEvent.State.SAVED, null);
+            }
+        }
+    }
+    
+    private void publishSaveFailed(Exception e) {
+        synchronized (saveLock) {
+            publishSaveStateLocked(SaveStateEvent.State.FAILED, e.getMessage());
+        }
+    }
+    
+    private void publishSaveStateLocked(SaveStateEvent.State state, String message) {
+        SaveStateEvent event = new SaveStateEvent(state, ++saveStateSequence, dirtySinceMillis, message);
+        lastSaveState = event;
+        eventBus.publish(event);
+    }
+    
+    /**
+     * 마지막 저장 상태 (구독 전 초기 표시용)
+     */
+    public SaveStateEvent getSaveState() {
+        return lastSaveState;
+    }
+    
+    /**
+     * 첫 변경부터 저장 완료까지 걸린 시간 기록
+     */
+    private void recordSaveLatency(long burstStart) {
+        long latency = System.nanoTime() - burstStart;
+        latencySamples.incrementAndGet();
+        totalSaveLatencyNanos.addAndGet(latency);
+        maxSaveLatencyNanos.accumulateAndGet(latency, Math::max);
+    }
+    
+    public long getAutoSaveCount() { return autoSaveCount.get(); }
+    public long getForceSaveCount() { return forceSaveCount.get(); }
+    public long getChangeCount() { return changeCount.get(); }
+    
+    /**
+     * 평균 저장 지연 (첫 변경 → 저장 완료, 밀리초)
+     */
+    public double getAverageSaveLatencyMillis() {
+        long samples = latencySamples.get();
+        return samples == 0 ? 0.0 : totalSaveLatencyNanos.get() / (double) samples / TimerConstants.NANOS_PER_MILLISECOND;
+    }
+    
+    /**
+     * 자동 저장 상태 문자열
+     */
+    public String getAutoSaveStatus() {
+        return String.format("변경 %d회 → 자동 저장 %d회, 강제 저장 %d회 | 저장 지연 평균 %.1fms, 최대 %.1fms",
+            changeCount.get(), autoSaveCount.get(), forceSaveCount.get(),
+            getAverageSaveLatencyMillis(), maxSaveLatencyNanos.get() / (double) TimerConstants.NANOS_PER_MILLISECOND);
+    }
+    
+    /**
+     * 외부 프로필 파일 반영 상태 문자열
+     */
+    public String getExternalReloadStatus() {
+        return String.format("외부 반영 %d회, 변경된 프로필 %d개 | %s",
+            externalReloadCount.get(), externalProfileChanges.get(),
+            profileWatcher != null ? profileWatcher.getStatus() : "감시 안 함");
     }
     
     // ============================================
@@ -451,7 +681,7 @@ public class SettingsController {
             
             // 삭제된 프로필이 현재 프로필이면 다른 프로필로 변경
             if (currentProfile == toDelete) {
-                setCurrentProfile(profiles.get(0));
+                setCurrentProfile(profiles.getAll().get(0));
                 System.out.println("➡️ 현재 프로필을 변경함: " + currentProfile.getProfileName());
             }
             
@@ -477,8 +707,7 @@ public class SettingsController {
         
         UserProfile duplicate = addProfile(newName);
         if (duplicate != null) {
-            duplicate.copyFrom(original);
-            duplicate.setProfileName(newName);
+            duplicate.copyFrom(original);  // 이름은 addProfile에서 정규화된 것을 유지
             
             // 🔔 복제된 프로필에도 휴식 알림 기본 활성화
             duplicate.setNotificationEnabled(TimerModel.NotificationType.REST, true);
@@ -499,8 +728,37 @@ public class SettingsController {
     // 📊 상태 조회 API
     // ============================================
     
+    /**
+     * 현재 프로필 목록 (변경 불가 스냅샷, 잠금 없이 순회 가능)
+     */
     public List<UserProfile> getAllProfiles() { 
-        return new ArrayList<>(profiles); 
+        return profiles.getAll(); 
+    }
+    
+    /**
+     * 🔍 이름으로 프로필 찾기
+     */
+    public UserProfile findProfile(String name) {
+        return profiles.find(name);
+    }
+    
+    /**
+     * ✏️ 프로필 이름 변경 (중복이면 false)
+     */
+    public boolean renameProfile(UserProfile profile, String newName) {
+        if (newName == null || newName.trim().isEmpty()) return false;
+        
+        boolean renamed = profiles.rename(profile, newName.trim());
+        if (renamed) {
+            if (profile == currentProfile) {
+                applicationSettings.put("selectedProfile", profile.getProfileName());
+                if (pendingProfile != null) {
+                    pendingProfile.setProfileName(profile.getProfileName());
+                }
+            }
+            markChanged();
+        }
+        return renamed;
     }
     
     public UserProfile getCurrentProfile() { 
@@ -592,10 +850,10 @@ public class SettingsController {
             }
         }
         
-        profiles.add(newProfile);
+        profiles.addUnique(newProfile, ProfileRepository.SUFFIX_SPACE);
         markChanged();
         
-        System.out.println("✅ 새 프로필 '" + profileName + "' 저장 완료!");
+        System.out.println("✅ 새 프로필 '" + newProfile.getProfileName() + "' 저장 완료!");
         return newProfile;
     }
     
@@ -619,10 +877,10 @@ public class SettingsController {
         duplicate.setMinimizeToTray(false);
         System.out.println("✅ 복제된 프로필에 minimizeToTray false 설정");
         
-        profiles.add(duplicate);
+        profiles.addUnique(duplicate, ProfileRepository.SUFFIX_SPACE);
         markChanged();
         
-        System.out.println("✅ 프로필 '" + newName + "' 복제 완료!");
+        System.out.println("✅ 프로필 '" + duplicate.getProfileName() + "' 복제 완료!");
         return duplicate;
     }
     
@@ -661,10 +919,10 @@ public class SettingsController {
         quickProfile.setMinimizeToTray(false);
         System.out.println("✅ 빠른 프로필에 minimizeToTray false 설정");
         
-        profiles.add(quickProfile);
+        profiles.addUnique(quickProfile, ProfileRepository.SUFFIX_SPACE);
         markChanged();
         
-        System.out.println("⚡ 빠간 프로필 '" + profileName + "' 생성 완료!");
+        System.out.println("⚡ 빠간 프로필 '" + quickProfile.getProfileName() + "' 생성 완료!");
         return quickProfile;
     }
     
@@ -732,7 +990,7 @@ public class SettingsController {
         
         // 삭제된 프로필이 현재 프로필이면 다른 프로필로 변경
         if (currentProfile == profile) {
-            setCurrentProfile(profiles.get(0));
+            setCurrentProfile(profiles.getAll().get(0));
             System.out.println("➡️ 현재 프로필을 변경함: " + currentProfile.getProfileName());
         }
         
@@ -748,10 +1006,10 @@ public class SettingsController {
         System.out.println("\n🔄 설정 초기화 시작...");
         
         try {
-            profiles.clear();
+            profiles.replaceAll(Collections.emptyList());
             createDefaultProfiles();
             
-            currentProfile = profiles.get(0);
+            currentProfile = profiles.getAll().get(0);
             
             applicationSettings.clear();
             applicationSettings.put("selectedProfile", currentProfile.getProfileName());
@@ -780,6 +1038,10 @@ public class SettingsController {
     public void shutdown() {
         System.out.println("🧹 SettingsController 종료...");
         
+        if (profileWatcher != null) {
+            profileWatcher.stop();
+        }
+        
         if (hasUnsavedChanges) {
             System.out.println("💾 종료 전 최종 저장");
             forceSave();
@@ -797,6 +1059,9 @@ public class SettingsController {
             System.out.println("🧹 자동 저장 스케줄러 종료");
         }
         
+        // 쓰기 지연 캐시에 남은 내용을 반영하고 파일 쓰기 완료 대기
+        dataStore.shutdown();
+        
         System.out.println("✅ SettingsController 종료 완료");
     }
     
@@ -823,16 +1088,7 @@ public class SettingsController {
      * 유니크한 프로필 이름 자동 생성
      */
     private String generateUniqueProfileName() {
-        String baseName = "내 프로필";
-        String candidateName = baseName;
-        int counter = 1;
-        
-        while (findProfileByName(candidateName) != null) {
-            candidateName = baseName + " " + counter;
-            counter++;
-        }
-        
-        return candidateName;
+        return ensureUniqueName("내 프로필");
     }
     
     /**
@@ -845,18 +1101,10 @@ public class SettingsController {
     }
     
     /**
-     * 이름이 중복되지 않도록 보장
+     * 이름이 중복되지 않도록 보장 ("이름", "이름 1", "이름 2" ...)
      */
     private String ensureUniqueName(String baseName) {
-        String candidateName = baseName;
-        int counter = 1;
-        
-        while (findProfileByName(candidateName) != null) {
-            candidateName = baseName + " " + counter;
-            counter++;
-        }
-        
-        return candidateName;
+        return profiles.allocateUniqueName(baseName, ProfileRepository.SUFFIX_SPACE);
     }
     
     /**
@@ -868,6 +1116,9 @@ public class SettingsController {
         System.out.println("현재 프로필: " + (currentProfile != null ? currentProfile.getProfileName() : "null"));
         System.out.println("임시 프로필: " + (pendingProfile != null ? pendingProfile.getProfileName() : "null"));
         System.out.println("저장되지 않은 변경사항: " + hasUnsavedChanges);
+        System.out.println("자동 저장: " + getAutoSaveStatus());
+        System.out.println("파일 감시: " + getExternalReloadStatus());
+        System.out.println("저장소: " + dataStore.getStatus());
         System.out.println("애플리케이션 설정 수: " + applicationSettings.size());
         System.out.println("===========================================\n");
     }
@@ -881,7 +1132,7 @@ public class SettingsController {
      */
     public void exportProfilesToJsonFile(String filePath) throws Exception {
         try {
-            dataManager.exportProfilesToFile(profiles, filePath);
+            exchange.exportProfilesToFile(profiles.getAll(), filePath);
             System.out.println("✅ 프로필 JSON 내보내기 성공: " + filePath);
         } catch (Exception e) {
             System.err.println("❌ 프로필 JSON 내보내기 실패: " + e.getMessage());
@@ -894,7 +1145,7 @@ public class SettingsController {
      */
     public void exportProfilesToTextFile(String filePath) throws Exception {
         try {
-            dataManager.exportProfilesToTextFile(profiles, filePath);
+            exchange.exportProfilesToTextFile(profiles.getAll(), filePath);
             System.out.println("✅ 프로필 텍스트 내보내기 성공: " + filePath);
         } catch (Exception e) {
             System.err.println("❌ 프로필 텍스트 내보내기 실패: " + e.getMessage());
@@ -902,154 +1153,172 @@ public class SettingsController {
         }
     }
     
+    /**
+     * 📤 조건에 맞는 프로필만 JSON/텍스트로 한 번에 내보내기 (경로가 null인 형식은 건너뜀)
+     * @param filter 내보낼 프로필 조건 (null이면 전체)
+     * @return 내보낸 프로필 수
+     */
+    public int exportProfiles(String jsonPath, String textPath, Predicate<UserProfile> filter) throws Exception {
+        try {
+            int count = exchange.exportProfiles(profiles.getAll(), filter, jsonPath, textPath);
+            System.out.println("✅ 프로필 " + count + "개 내보내기 성공: " +
+                (jsonPath != null ? jsonPath : "") + (jsonPath != null && textPath != null ? ", " : "") +
+                (textPath != null ? textPath : ""));
+            return count;
+        } catch (Exception e) {
+            System.err.println("❌ 프로필 내보내기 실패: " + e.getMessage());
+            throw e;
+        }
+    }
+    
     /**
      * 📥 파일에서 프로필 불러오기 (자동 형식 감지)
      */
     public ImportResult importProfilesFromFile(String filePath) {
-        try {
-            System.out.println("\n📥 프로필 불러오기 시작: " + filePath);
-            
-            // 파일에서 프로필 불러오기
-            List<UserProfile> importedProfiles = dataManager.importProfilesFromFile(filePath);
-            
-            if (importedProfiles.isEmpty()) {
-                return new ImportResult(false, "불러올 프로필이 없습니다.", 0, 0);
-            }
-            
-            // 프로필 유효성 검증
-            List<String> validationIssues = dataManager.validateImportedProfiles(importedProfiles);
+        return importProfilesFromFile(filePath, createImportPipeline());
+    }
+    
+    /**
+     * 📥 불러오기 파이프라인 생성 (진행률 수신기를 붙이거나 다른 스레드에서 cancel() 할 때 사용)
+     */
+    public ProfileImportPipeline createImportPipeline() {
+        return new ProfileImportPipeline(SettingsController::enableRestNotification);
+    }
+    
+    /**
+     * 📥 스트리밍 불러오기 - 읽는 대로 병렬 검증하고 묶음 단위로 추가
+     * 검증 실패/취소/읽기 오류가 나면 이미 추가된 묶음을 한 번에 되돌림
+     */
+    public ImportResult importProfilesFromFile(String filePath, ProfileImportPipeline pipeline) {
+        System.out.println("\n📥 프로필 불러오기 시작: " + filePath);
+        List<UserProfile> committed = new ArrayList<>();
+        List<UserProfile> pending = new ArrayList<>();
+        int[] renamed = new int[1];
+        
+        try (ProfileImportPipeline.ProfileSource source = exchange.openProfileSource(filePath)) {
+            ProfileImportPipeline.Result result = pipeline.run(source, batch -> {
+                // 스냅샷 교체 비용은 기존 목록 크기에 비례하므로 목록이 클수록 묶음을 모아서 한 번에 추가
+                pending.addAll(batch);
+                if (pending.size() >= Math.max(TimerConstants.IMPORT_BATCH_SIZE, profiles.size() / 4)) {
+                    renamed[0] += addImportedProfiles(pending);
+                    committed.addAll(pending);
+                    pending.clear();
+                }
+            });
+            System.out.println("📥 불러오기 " + result.getStatus());
             
-            if (!validationIssues.isEmpty()) {
-                String issues = String.join("\n", validationIssues);
-                return new ImportResult(false, "프로필 유효성 검증 실패:\n" + issues, 0, 0);
+            ImportResult failure = checkImportResult(result);
+            if (failure != null) {
+                profiles.removeAll(committed);
+                return failure;
             }
-            
-            // 중복 이름 처리
-            List<UserProfile> processedProfiles = processImportedProfiles(importedProfiles);
-            
-            // 프로필 추가
-            int addedCount = 0;
-            int skippedCount = 0;
-            
-            for (UserProfile profile : processedProfiles) {
-                if (addProfileIfNotExists(profile)) {
-                    addedCount++;
-                } else {
-                    skippedCount++;
-                }
+            if (!pending.isEmpty()) {
+                renamed[0] += addImportedProfiles(pending);
+                committed.addAll(pending);
             }
             
-            if (addedCount > 0) {
-                markChanged();
-                System.out.println("✅ 프로필 불러오기 완료: " + addedCount + "개 추가, " + skippedCount + "개 건너뜀");
-                return new ImportResult(true, "성공적으로 " + addedCount + "개 프로필을 불러왔습니다.", addedCount, skippedCount);
-            } else {
-                return new ImportResult(false, "새로 추가된 프로필이 없습니다. 모든 프로필이 이미 존재합니다.", 0, skippedCount);
+            if (renamed[0] > 0) {
+                System.out.println("📝 이름이 겹쳐 변경된 프로필: " + renamed[0] + "개");
             }
+            markChanged();
+            int addedCount = committed.size();
+            System.out.println("✅ 프로필 불러오기 완료: " + addedCount + "개 추가");
+            return new ImportResult(true, "성공적으로 " + addedCount + "개 프로필을 불러왔습니다.", addedCount, 0);
             
         } catch (Exception e) {
+            profiles.removeAll(committed);
             System.err.println("❌ 프로필 불러오기 실패: " + e.getMessage());
             return new ImportResult(false, "프로필 불러오기 실패: " + e.getMessage(), 0, 0);
         }
     }
     
     /**
-     * 📥 불러온 프로필들의 중복 이름 처리
+     * 취소/검증 실패/빈 파일이면 실패 결과, 정상이면 null
      */
-    private List<UserProfile> processImportedProfiles(List<UserProfile> importedProfiles) {
-        List<UserProfile> processedProfiles = new ArrayList<>();
-        
-        for (UserProfile importedProfile : importedProfiles) {
-            String originalName = importedProfile.getProfileName();
-            String uniqueName = generateUniqueProfileNameForImport(originalName);
-            
-            if (!uniqueName.equals(originalName)) {
-                System.out.println("📝 프로필 이름 변경: '" + originalName + "' → '" + uniqueName + "'");
-                importedProfile.setProfileName(uniqueName);
-            }
-            
-            processedProfiles.add(importedProfile);
+    private ImportResult checkImportResult(ProfileImportPipeline.Result result) {
+        if (result.isCancelled()) {
+            return new ImportResult(false, "불러오기가 취소되었습니다.", 0, 0);
         }
-        
-        return processedProfiles;
+        if (!result.isValid()) {
+            return new ImportResult(false, "프로필 유효성 검증 실패:\n" + String.join("\n", result.getIssues()), 0, 0);
+        }
+        if (result.getRead() == 0) {
+            return new ImportResult(false, "불러올 프로필이 없습니다.", 0, 0);
+        }
+        return null;
     }
     
     /**
-     * 📝 불러오기용 유니크한 프로필 이름 생성
+     * 🔔 불러온 프로필에는 항상 휴식 알림을 기본 활성화 (검증 스레드에서 병렬 실행)
      */
-    private String generateUniqueProfileNameForImport(String baseName) {
-        String candidateName = baseName;
-        int counter = 1;
-        
-        while (findProfileByName(candidateName) != null) {
-            candidateName = baseName + " (" + counter + ")";
-            counter++;
-        }
-        
-        return candidateName;
+    private static void enableRestNotification(UserProfile profile) {
+        Map<TimerModel.NotificationType, Boolean> settings = profile.getNotificationSettings();
+        settings.put(TimerModel.NotificationType.REST, true);
+        profile.setNotificationSettings(settings);
     }
     
     /**
-     * ➕ 프로필이 존재하지 않으면 추가
+     * 📥 불러온 프로필 묶음을 한 번의 스냅샷 교체로 추가
+     * 기존 프로필이나 같은 묶음 안의 프로필과 이름이 겹치면 "이름 (1)" 형식으로 변경
+     * @return 이름이 바뀐 프로필 수
      */
-    private boolean addProfileIfNotExists(UserProfile profile) {
-        if (findProfileByName(profile.getProfileName()) != null) {
-            return false; // 이미 존재함
+    private int addImportedProfiles(List<UserProfile> importedProfiles) {
+        String[] originalNames = new String[importedProfiles.size()];
+        for (int i = 0; i < originalNames.length; i++) {
+            originalNames[i] = importedProfiles.get(i).getProfileName();
         }
         
-        // 🔔 불러온 프로필에는 항상 휴식 알림을 기본 활성화
-        profile.setNotificationEnabled(TimerModel.NotificationType.REST, true);
+        profiles.addAllUnique(importedProfiles, ProfileRepository.SUFFIX_PAREN);
         
-        profiles.add(profile);
-        return true;
+        int renamed = 0;
+        for (int i = 0; i < originalNames.length; i++) {
+            if (!importedProfiles.get(i).getProfileName().equals(originalNames[i])) {
+                renamed++;
+            }
+        }
+        return renamed;
     }
     
     /**
      * 🔄 기존 프로필들을 불러온 프로필들로 교체
      */
     public ImportResult replaceAllProfilesFromFile(String filePath) {
-        try {
-            System.out.println("\n🔄 모든 프로필 교체 시작: " + filePath);
-            
-            // 파일에서 프로필 불러오기
-            List<UserProfile> importedProfiles = dataManager.importProfilesFromFile(filePath);
-            
-            if (importedProfiles.isEmpty()) {
-                return new ImportResult(false, "불러올 프로필이 없습니다.", 0, 0);
-            }
-            
-            // 프로필 유효성 검증
-            List<String> validationIssues = dataManager.validateImportedProfiles(importedProfiles);
+        return replaceAllProfilesFromFile(filePath, createImportPipeline());
+    }
+    
+    /**
+     * 🔄 스트리밍 교체 - 모두 읽고 검증한 뒤에만 한 번에 교체 (취소/실패 시 기존 목록 유지)
+     */
+    public ImportResult replaceAllProfilesFromFile(String filePath, ProfileImportPipeline pipeline) {
+        System.out.println("\n🔄 모든 프로필 교체 시작: " + filePath);
+        
+        // 기존 프로필 백업 (스냅샷은 불변이므로 그대로 보관)
+        List<UserProfile> backupProfiles = profiles.getAll();
+        
+        try (ProfileImportPipeline.ProfileSource source = exchange.openProfileSource(filePath)) {
+            List<UserProfile> importedProfiles = new ArrayList<>();
+            ProfileImportPipeline.Result result = pipeline.run(source, importedProfiles::addAll);
+            System.out.println("🔄 불러오기 " + result.getStatus());
             
-            if (!validationIssues.isEmpty()) {
-                String issues = String.join("\n", validationIssues);
-                return new ImportResult(false, "프로필 유효성 검증 실패:\n" + issues, 0, 0);
+            ImportResult failure = checkImportResult(result);
+            if (failure != null) {
+                return failure;
             }
             
-            // 기존 프로필 백업
-            List<UserProfile> backupProfiles = new ArrayList<>(profiles);
-            
             try {
-                // 모든 프로필 교체
-                profiles.clear();
-                for (UserProfile profile : importedProfiles) {
-                    // 🔔 불러온 프로필에는 항상 휴식 알림을 기본 활성화
-                    profile.setNotificationEnabled(TimerModel.NotificationType.REST, true);
-                    profiles.add(profile);
-                }
+                profiles.replaceAll(importedProfiles);
                 
                 // 새 현재 프로필 설정
-                setCurrentProfile(profiles.get(0));
+                setCurrentProfile(profiles.getAll().get(0));
                 
                 markChanged();
                 
-                System.out.println("✅ 모든 프로필 교체 완료: " + importedProfiles.size() + "개 프로필");
-                return new ImportResult(true, "성공적으로 " + importedProfiles.size() + "개 프로필로 교체했습니다.", importedProfiles.size(), 0);
+                System.out.println("✅ 모든 프로필 교체 완료: " + profiles.size() + "개 프로필");
+                return new ImportResult(true, "성공적으로 " + profiles.size() + "개 프로필로 교체했습니다.", profiles.size(), 0);
                 
             } catch (Exception e) {
                 // 오류 시 백업 복원
-                profiles.clear();
-                profiles.addAll(backupProfiles);
+                profiles.replaceAll(backupProfiles);
                 throw e;
             }
             
@@ -2,12 +2,12 @@ package controller;
 
 import model.*;
 import view.MainFrame;
+import view.TrayIconAtlas;
 
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
-import java.awt.image.BufferedImage;
 
 /**
  * 시스템 트레이 동작을 관리하는 컨트롤러
@@ -15,6 +15,7 @@ import java.awt.image.BufferedImage;
 public class SystemTrayController {
     private MainFrame mainFrame;
     private TimerModel timerModel;
+    private TimerFrameDispatcher frameDispatcher;
     private TrayIcon trayIcon;
     private SystemTray systemTray;
     private PopupMenu popupMenu;
@@ -29,9 +30,16 @@ public class SystemTrayController {
     
     private boolean isSetup = false;
     
-    public SystemTrayController(MainFrame mainFrame, TimerModel timerModel) {
+    // 미리 그린 아이콘 (실행 중에는 그리지 않고 바꿔 끼우기만 함, EDT에서만 접근)
+    private TrayIconAtlas iconAtlas;
+    private Image currentIcon;
+    private long iconUpdates;
+    private long iconSwaps;
+    
+    public SystemTrayController(MainFrame mainFrame, TimerModel timerModel, TimerFrameDispatcher frameDispatcher) {
         this.mainFrame = mainFrame;
         this.timerModel = timerModel;
+        this.frameDispatcher = frameDispatcher;
         
         if (SystemTray.isSupported()) {
             this.systemTray = SystemTray.getSystemTray();
@@ -48,14 +56,17 @@ public class SystemTrayController {
         }
         
         try {
-            // 트레이 아이콘 생성
-            Image trayIconImage = createTrayIcon();
+            // 트레이 크기/화면 배율에 맞는 아이콘 아틀라스 (처음 한 번만 그림)
+            iconAtlas = TrayIconAtlas.forTray(systemTray);
+            System.out.println("🖼️ 트레이 아이콘 아틀라스: " + iconAtlas.getStatus());
+            TimerModel.Snapshot snapshot = timerModel.getSnapshot();
+            currentIcon = selectTrayIcon(snapshot, timerModel.getRemainingSeconds(snapshot));
             
             // 팝업 메뉴 생성
             createPopupMenu();
             
             // 트레이 아이콘 설정
-            trayIcon = new TrayIcon(trayIconImage, "Code ∧ Break", popupMenu);
+            trayIcon = new TrayIcon(currentIcon, "Code ∧ Break", popupMenu);
             trayIcon.setImageAutoSize(true);
             trayIcon.setToolTip("Code ∧ Break - " + getStatusText());
             
@@ -67,23 +78,17 @@ public class SystemTrayController {
             
             isSetup = true;
             
-            // 타이머 상태 변경 리스너 등록
-            timerModel.addTimerListener(new TimerModel.TimerListener() {
-                @Override
-                public void onTimerTick(int remainingSeconds) {
-                    updateTrayTooltip();
+            // 타이머 프레임 리스너 등록 (EDT에서 호출되므로 추가 invokeLater 불필요)
+            frameDispatcher.addFrameListener(frame -> {
+                if (frame.isStateChanged()) {
+                    refreshTrayMenu(frame.getState());
                 }
+                refreshTrayIcon(frame.getSnapshot(), frame.getRemainingSeconds());
+                refreshTrayTooltip(frame.getSnapshot());
                 
-                @Override
-                public void onTimerComplete(TimerModel.NotificationType type) {
+                if (frame.isCompleted()) {
                     // 트레이에서도 알림 표시
-                    showTrayMessage("휴식 시간!", type.getMessage());
-                }
-                
-                @Override
-                public void onTimerStateChanged(TimerModel.TimerState state) {
-                    updateTrayMenu();
-                    updateTrayTooltip();
+                    showTrayMessage("휴식 시간!", frame.getCompletedType().getMessage());
                 }
             });
             
@@ -93,62 +98,35 @@ public class SystemTrayController {
     }
     
     /**
-     * 트레이 아이콘 생성
+     * 상태와 현재 페이즈 진행률에 맞는 미리 그린 아이콘 선택
      */
-    private Image createTrayIcon() {
-        int size = 16; // 트레이 아이콘 크기
-        BufferedImage icon = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
-        Graphics2D g2d = icon.createGraphics();
-        
-        // 안티얼라이싱 설정
-        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-        
-        // 상태에 따른 아이콘 색상
-        Color iconColor;
-        switch (timerModel.getState()) {
-            case RUNNING:
-                iconColor = new Color(60, 179, 113); // 녹색
-                break;
-            case PAUSED:
-                iconColor = new Color(255, 165, 0); // 주황색
-                break;
-            case STOPPED:
-            default:
-                iconColor = new Color(128, 128, 128); // 회색
-                break;
-        }
-        
-        // 원형 배경
-        g2d.setColor(iconColor);
-        g2d.fillOval(1, 1, size-2, size-2);
-        
-        // 테두리
-        g2d.setColor(Color.WHITE);
-        g2d.setStroke(new BasicStroke(1));
-        g2d.drawOval(1, 1, size-2, size-2);
+    private Image selectTrayIcon(TimerModel.Snapshot snapshot, int remainingSeconds) {
+        int totalSeconds = snapshot.getPhaseTotalSeconds();
+        double fraction = totalSeconds <= 0 ? 0.0 : (totalSeconds - remainingSeconds) / (double) totalSeconds;
+        return iconAtlas.getIcon(snapshot.getState(), iconAtlas.stepFor(fraction));
+    }
+    
+    /**
+     * 트레이 아이콘 갱신 (EDT에서 호출, 진행 단계가 바뀐 경우에만 이미지 교체)
+     */
+    private void refreshTrayIcon(TimerModel.Snapshot snapshot, int remainingSeconds) {
+        if (!isSetup || trayIcon == null) return;
         
-        // 상태 표시 (간단한 기호)
-        g2d.setColor(Color.WHITE);
-        switch (timerModel.getState()) {
-            case RUNNING:
-                // 재생 표시 (작은 삼각형)
-                int[] xPoints = {size/3, size*2/3, size/3};
-                int[] yPoints = {size/4, size/2, size*3/4};
-                g2d.fillPolygon(xPoints, yPoints, 3);
-                break;
-            case PAUSED:
-                // 일시정지 표시 (두 개의 세로선)
-                g2d.fillRect(size/3, size/4, 2, size/2);
-                g2d.fillRect(size*2/3-2, size/4, 2, size/2);
-                break;
-            case STOPPED:
-                // 정지 표시 (작은 사각형)
-                g2d.fillRect(size/3, size/3, size/3, size/3);
-                break;
+        iconUpdates++;
+        Image icon = selectTrayIcon(snapshot, remainingSeconds);
+        if (icon != currentIcon) {
+            currentIcon = icon;
+            iconSwaps++;
+            trayIcon.setImage(icon);
         }
-        
-        g2d.dispose();
-        return icon;
+    }
+    
+    /**
+     * 트레이 아이콘 상태 문자열
+     */
+    public String getTrayIconStatus() {
+        if (iconAtlas == null) return "트레이 없음";
+        return String.format("%s | 갱신 %d회, 이미지 교체 %d회", iconAtlas.getStatus(), iconUpdates, iconSwaps);
     }
     
     /**
@@ -263,41 +241,47 @@ public class SystemTrayController {
     private void updateTrayMenu() {
         if (!isSetup) return;
         
-        SwingUtilities.invokeLater(() -> {
-            // 창 표시/숨기기 메뉴
-            if (mainFrame.isVisible()) {
-                showMenuItem.setLabel("창 숨기기");
-            } else {
-                showMenuItem.setLabel("창 표시");
-            }
-            
-            // 타이머 제어 메뉴
-            switch (timerModel.getState()) {
-                case STOPPED:
-                    startStopMenuItem.setLabel("시작");
-                    startStopMenuItem.setEnabled(true);
-                    resetMenuItem.setEnabled(true);
-                    break;
-                case RUNNING:
-                    startStopMenuItem.setLabel("일시정지");
-                    startStopMenuItem.setEnabled(true);
-                    resetMenuItem.setEnabled(false);
-                    break;
-                case PAUSED:
-                    startStopMenuItem.setLabel("재개");
-                    startStopMenuItem.setEnabled(true);
-                    resetMenuItem.setEnabled(true);
-                    break;
-            }
-            
-            // 프로필 메뉴 업데이트
-            updateProfileMenu();
-            
-            // 트레이 아이콘 업데이트
-            if (trayIcon != null) {
-                trayIcon.setImage(createTrayIcon());
-            }
-        });
+        SwingUtilities.invokeLater(() -> refreshTrayMenu(timerModel.getState()));
+    }
+    
+    /**
+     * 트레이 메뉴와 아이콘 갱신 (EDT에서 호출)
+     */
+    private void refreshTrayMenu(TimerModel.TimerState state) {
+        if (!isSetup) return;
+        
+        // 창 표시/숨기기 메뉴
+        if (mainFrame.isVisible()) {
+            showMenuItem.setLabel("창 숨기기");
+        } else {
+            showMenuItem.setLabel("창 표시");
+        }
+        
+        // 타이머 제어 메뉴
+        switch (state) {
+            case STOPPED:
+                startStopMenuItem.setLabel("시작");
+                startStopMenuItem.setEnabled(true);
+                resetMenuItem.setEnabled(true);
+                break;
+            case RUNNING:
+                startStopMenuItem.setLabel("일시정지");
+                startStopMenuItem.setEnabled(true);
+                resetMenuItem.setEnabled(false);
+                break;
+            case PAUSED:
+                startStopMenuItem.setLabel("재개");
+                startStopMenuItem.setEnabled(true);
+                resetMenuItem.setEnabled(true);
+                break;
+        }
+        
+        // 프로필 메뉴 업데이트
+        updateProfileMenu();
+        
+        // 트레이 아이콘 업데이트
+        TimerModel.Snapshot snapshot = timerModel.getSnapshot();
+        refreshTrayIcon(snapshot, timerModel.getRemainingSeconds(snapshot));
     }
     
     /**
@@ -306,31 +290,42 @@ public class SystemTrayController {
     private void updateTrayTooltip() {
         if (!isSetup || trayIcon == null) return;
         
-        SwingUtilities.invokeLater(() -> {
-            String tooltip = "Code ∧ Break - " + getStatusText();
-            trayIcon.setToolTip(tooltip);
-        });
+        SwingUtilities.invokeLater(() -> refreshTrayTooltip(timerModel.getSnapshot()));
+    }
+    
+    /**
+     * 트레이 툴팁 갱신 (EDT에서 호출)
+     */
+    private void refreshTrayTooltip(TimerModel.Snapshot snapshot) {
+        if (!isSetup || trayIcon == null) return;
+        
+        String tooltip = "Code ∧ Break - " + getStatusText(snapshot);
+        trayIcon.setToolTip(tooltip);
     }
     
     /**
      * 상태 텍스트 가져오기
      */
     private String getStatusText() {
+        return getStatusText(timerModel.getSnapshot());
+    }
+    
+    private String getStatusText(TimerModel.Snapshot snapshot) {
         StringBuilder status = new StringBuilder();
         
-        switch (timerModel.getState()) {
+        switch (snapshot.getState()) {
             case RUNNING:
-                status.append("실행 중 (").append(timerModel.getFormattedTime()).append(")");
+                status.append("실행 중 (").append(timerModel.getFormattedTime(snapshot)).append(")");
                 break;
             case PAUSED:
-                status.append("일시정지 (").append(timerModel.getFormattedTime()).append(")");
+                status.append("일시정지 (").append(timerModel.getFormattedTime(snapshot)).append(")");
                 break;
             case STOPPED:
                 status.append("정지");
                 break;
         }
         
-        status.append(" | ").append(timerModel.getCurrentPhase());
+        status.append(" | ").append(snapshot.getCurrentPhase());
         
         return status.toString();
     }
@@ -339,12 +334,13 @@ public class SystemTrayController {
      * 빠른 상태 표시
      */
     private void showQuickStatus() {
+        TimerModel.Snapshot snapshot = timerModel.getSnapshot();
         String message = String.format(
             "상태: %s\n시간: %s\n페이즈: %s\n사이클: %d",
-            timerModel.getState().toString(),
-            timerModel.getFormattedTime(),
-            timerModel.getCurrentPhase(),
-            timerModel.getCurrentCycle()
+            snapshot.getState().toString(),
+            timerModel.getFormattedTime(snapshot),
+            snapshot.getCurrentPhase(),
+            snapshot.getCurrentCycle()
         );
         
         showTrayMessage("현재 상태", message);
@@ -475,6 +471,7 @@ public class SystemTrayController {
      */
     public void cleanup() {
         if (isSetup && systemTray != null && trayIcon != null) {
+            System.out.println("📊 트레이 아이콘: " + getTrayIconStatus());
             systemTray.remove(trayIcon);
             isSetup = false;
         }
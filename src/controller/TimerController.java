@@ -117,13 +117,14 @@ public class TimerController {
     /**
      * 알림 스누즈 (지정된 시간 후 다시 알림) - 최적화됨
      */
-    public void snoozeNotification(TimerModel.NotificationType type) {
-        notificationManager.snoozeNotification(type);
+    public NotificationManager.SnoozeHandle snoozeNotification(TimerModel.NotificationType type) {
+        NotificationManager.SnoozeHandle handle = notificationManager.snoozeNotification(type);
         
         // 타이머는 계속 진행
         if (isPaused()) {
             timerModel.startTimer();
         }
+        return handle;
     }
     
     /**
@@ -294,13 +295,18 @@ public class TimerController {
         private final int breakMinutes;
         private final boolean pomodoroMode;
         private final String currentPhase;
+        private final SessionJournal.Summary history;  // 세션 저널 누적 기록 (저널이 없으면 null)
         
         public TimerStatistics(TimerModel model) {
-            this.totalCycles = model.getCurrentCycle();
-            this.workMinutes = model.getWorkMinutes();
-            this.breakMinutes = model.getBreakMinutes();
-            this.pomodoroMode = model.isPomodoroMode();
-            this.currentPhase = model.getCurrentPhase();
+            TimerModel.Snapshot snapshot = model.getSnapshot();
+            this.totalCycles = snapshot.getCurrentCycle();
+            this.workMinutes = snapshot.getWorkMinutes();
+            this.breakMinutes = snapshot.getBreakMinutes();
+            this.pomodoroMode = snapshot.isPomodoroMode();
+            this.currentPhase = snapshot.getCurrentPhase();
+            
+            SessionJournal journal = model.getSessionJournal();
+            this.history = journal != null ? journal.summarize(model.getJournalOwner()) : null;
         }
         
         public int getTotalWorkSessions() {
@@ -333,6 +339,7 @@ public class TimerController {
         public int getBreakMinutes() { return breakMinutes; }
         public boolean isPomodoroMode() { return pomodoroMode; }
         public String getCurrentPhase() { return currentPhase; }
+        public SessionJournal.Summary getHistory() { return history; }
     }
     
     // Getters
@@ -0,0 +1,197 @@
+package controller;
+
+import model.*;
+import constants.*;
+import events.*;
+
+import javax.swing.*;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 타이머 이벤트를 프레임 단위로 모아 EDT에 한 번만 전달하는 디스패처
+ * 모델이 이벤트 버스로 발행하는 틱/상태 변경/완료 이벤트를 구독하며,
+ * 같은 순간에 몰려도 EDT 작업은 하나만 예약되고 모든 UI 리스너는 같은 불변 스냅샷을 받습니다.
+ */
+public class TimerFrameDispatcher {
+    
+    // 프레임에 누적되는 변경 종류
+    private static final int FLAG_TICK = 1;
+    private static final int FLAG_STATE = 1 << 1;
+    private static final int FLAG_COMPLETE = 1 << 2;
+    
+    private final TimerModel timerModel;
+    private final EventBus eventBus;
+    private final List<FrameListener> listeners = new CopyOnWriteArrayList<>();
+    
+    // 0이 아니면 EDT 작업이 이미 예약되어 있음
+    private final AtomicInteger pendingFlags = new AtomicInteger();
+    private final AtomicReference<TimerModel.NotificationType> pendingCompletion = new AtomicReference<>();
+    
+    // 구독 해제를 위해 핸들러 참조 보관 (공유 버스이므로 다른 타이머가 발행한 이벤트는 무시)
+    private final EventHandler<TimerTickEvent> tickHandler = event -> {
+        if (isOwnEvent(event)) request(FLAG_TICK);
+    };
+    private final EventHandler<TimerStateChangedEvent> stateHandler = event -> {
+        if (isOwnEvent(event)) request(FLAG_STATE);
+    };
+    private final EventHandler<TimerCompletedEvent> completedHandler = event -> {
+        if (!isOwnEvent(event)) return;
+        pendingCompletion.set(event.getNotificationType());
+        request(FLAG_COMPLETE);
+    };
+    
+    // 통계
+    private final AtomicLong notificationCount = new AtomicLong();
+    private final AtomicLong runnableCount = new AtomicLong();
+    private volatile long windowStartNanos = System.nanoTime();  // EDT에서만 갱신
+    private int windowRunnables;
+    private volatile int runnablesPerSecond;
+    
+    /**
+     * UI 갱신 리스너 (항상 EDT에서 호출됨)
+     */
+    public interface FrameListener {
+        void onTimerFrame(Frame frame);
+    }
+    
+    public TimerFrameDispatcher(TimerModel timerModel) {
+        this.timerModel = timerModel;
+        this.eventBus = timerModel.getEventBus();
+        eventBus.subscribe(TimerTickEvent.class, tickHandler);
+        eventBus.subscribe(TimerStateChangedEvent.class, stateHandler);
+        eventBus.subscribe(TimerCompletedEvent.class, completedHandler);
+    }
+    
+    public void addFrameListener(FrameListener listener) {
+        listeners.add(listener);
+    }
+    
+    public void removeFrameListener(FrameListener listener) {
+        listeners.remove(listener);
+    }
+    
+    /**
+     * 이벤트 구독 해제
+     */
+    public void dispose() {
+        eventBus.unsubscribe(TimerTickEvent.class, tickHandler);
+        eventBus.unsubscribe(TimerStateChangedEvent.class, stateHandler);
+        eventBus.unsubscribe(TimerCompletedEvent.class, completedHandler);
+        listeners.clear();
+    }
+    
+    /**
+     * 이 디스패처의 타이머가 발행한 이벤트인지 (발행자가 없는 이벤트는 받아들임)
+     */
+    private boolean isOwnEvent(Event event) {
+        Object source = event.getSource();
+        return source == null || source == timerModel;
+    }
+    
+    /**
+     * 변경 플래그를 누적하고 (어느 스레드에서든 호출될 수 있음), 대기 중인 프레임이 없을 때만 EDT 작업 예약
+     */
+    private void request(int flag) {
+        notificationCount.incrementAndGet();
+        int previous = pendingFlags.getAndUpdate(flags -> flags | flag);
+        if (previous == 0) {
+            SwingUtilities.invokeLater(this::flush);
+        }
+    }
+    
+    /**
+     * EDT에서 누적된 변경을 하나의 프레임으로 전달
+     */
+    private void flush() {
+        int flags = pendingFlags.getAndSet(0);
+        if (flags == 0) return;
+        
+        TimerModel.NotificationType completedType = null;
+        if ((flags & FLAG_COMPLETE) != 0) {
+            completedType = pendingCompletion.getAndSet(null);
+        }
+        
+        TimerModel.Snapshot snapshot = timerModel.getSnapshot();
+        Frame frame = new Frame(snapshot, timerModel.getRemainingSeconds(snapshot), flags, completedType);
+        
+        for (FrameListener listener : listeners) {
+            try {
+                listener.onTimerFrame(frame);
+            } catch (Exception e) {
+                System.err.println("타이머 프레임 처리 오류: " + e.getMessage());
+            }
+        }
+        
+        recordRunnable();
+    }
+    
+    /**
+     * 초당 EDT 작업 수 집계 (1초 창)
+     */
+    private void recordRunnable() {
+        runnableCount.incrementAndGet();
+        windowRunnables++;
+        
+        long now = System.nanoTime();
+        long elapsed = now - windowStartNanos;
+        if (elapsed >= TimerConstants.NANOS_PER_SECOND) {
+            runnablesPerSecond = (int) Math.round(windowRunnables * (double) TimerConstants.NANOS_PER_SECOND / elapsed);
+            windowRunnables = 0;
+            windowStartNanos = now;
+        }
+    }
+    
+    /**
+     * 최근 1초 창 기준 초당 EDT 작업 수 (2초 이상 작업이 없으면 0)
+     */
+    public int getRunnablesPerSecond() {
+        if (System.nanoTime() - windowStartNanos > 2 * TimerConstants.NANOS_PER_SECOND) {
+            return 0;
+        }
+        return runnablesPerSecond;
+    }
+    
+    public long getRunnableCount() { return runnableCount.get(); }
+    public long getNotificationCount() { return notificationCount.get(); }
+    
+    /**
+     * 디스패처 상태 문자열
+     */
+    public String getStatus() {
+        long runnables = runnableCount.get();
+        long notifications = notificationCount.get();
+        return String.format("EDT 작업: %d/초 | 누적 %d회 (모델 알림 %d회 병합)",
+            getRunnablesPerSecond(), runnables, notifications);
+    }
+    
+    /**
+     * 한 번의 EDT 작업에 전달되는 불변 프레임
+     */
+    public static final class Frame {
+        private final TimerModel.Snapshot snapshot;
+        private final int remainingSeconds;
+        private final int flags;
+        private final TimerModel.NotificationType completedType;
+        
+        private Frame(TimerModel.Snapshot snapshot, int remainingSeconds, int flags,
+                      TimerModel.NotificationType completedType) {
+            this.snapshot = snapshot;
+            this.remainingSeconds = remainingSeconds;
+            this.flags = flags;
+            this.completedType = completedType;
+        }
+        
+        public TimerModel.Snapshot getSnapshot() { return snapshot; }
+        public TimerModel.TimerState getState() { return snapshot.getState(); }
+        public int getRemainingSeconds() { return remainingSeconds; }
+        public String getFormattedTime() { return TimerConstants.formatTime(remainingSeconds); }
+        public boolean isTick() { return (flags & FLAG_TICK) != 0; }
+        public boolean isStateChanged() { return (flags & FLAG_STATE) != 0; }
+        public boolean isCompleted() { return completedType != null; }
+        public TimerModel.NotificationType getCompletedType() { return completedType; }
+    }
+}
@@ -16,47 +16,36 @@ public class TimerStatusCache {
     private static final String MODE_POMODORO = "포모도로";
     private static final String MODE_NORMAL = "일반";
     
-    // 캐시된 상태 정보
-    private String cachedStatusText;
-    private TimerModel.TimerState lastState;
-    private boolean lastPomodoroMode;
-    private int lastCycle;
-    private String lastPhase;
+    // 캐시된 상태 정보 (키와 텍스트를 함께 교체하여 여러 스레드에서 읽어도 일관됨)
+    private volatile CachedStatus cached;
     
     /**
      * 타이머 상태 텍스트 가져오기 (캐싱 적용)
      */
     public String getTimerStatusText(TimerModel model) {
+        // 한 번의 스냅샷 읽기로 모든 키를 비교
+        TimerModel.Snapshot snapshot = model.getSnapshot();
+        CachedStatus current = cached;
+        
         // 상태가 변경된 경우에만 새로 생성
-        if (needsUpdate(model)) {
-            cachedStatusText = buildStatusText(model);
-            updateCacheKeys(model);
+        if (current == null || !current.matches(snapshot)) {
+            current = new CachedStatus(snapshot, buildStatusText(snapshot));
+            cached = current;
         }
         
-        return cachedStatusText;
-    }
-    
-    /**
-     * 캐시 업데이트가 필요한지 확인
-     */
-    private boolean needsUpdate(TimerModel model) {
-        return cachedStatusText == null ||
-               lastState != model.getState() ||
-               lastPomodoroMode != model.isPomodoroMode() ||
-               lastCycle != model.getCurrentCycle() ||
-               !lastPhase.equals(model.getCurrentPhase());
+        return current.text;
     }
     
     /**
      * 상태 텍스트 생성 (최적화된 버전)
      */
-    private String buildStatusText(TimerModel model) {
+    private String buildStatusText(TimerModel.Snapshot snapshot) {
         // StringBuilder 대신 String.format 사용으로 더 읽기 쉽게
         return String.format("상태: %s | 모드: %s | 사이클: %d | 페이즈: %s",
-            getStateText(model.getState()),
-            model.isPomodoroMode() ? MODE_POMODORO : MODE_NORMAL,
-            model.getCurrentCycle(),
-            model.getCurrentPhase()
+            getStateText(snapshot.getState()),
+            snapshot.isPomodoroMode() ? MODE_POMODORO : MODE_NORMAL,
+            snapshot.getCurrentCycle(),
+            snapshot.getCurrentPhase()
         );
     }
     
@@ -73,21 +62,33 @@ public class TimerStatusCache {
     }
     
     /**
-     * 캐시 키 업데이트
+     * 캐시 초기화
      */
-    private void updateCacheKeys(TimerModel model) {
-        lastState = model.getState();
-        lastPomodoroMode = model.isPomodoroMode();
-        lastCycle = model.getCurrentCycle();
-        lastPhase = model.getCurrentPhase();
+    public void clearCache() {
+        cached = null;
     }
     
     /**
-     * 캐시 초기화
+     * 캐시 키와 텍스트를 묶은 불변 항목
      */
-    public void clearCache() {
-        cachedStatusText = null;
-        lastState = null;
-        lastPhase = null;
+    private static final class CachedStatus {
+        private final TimerModel.TimerState state;
+        private final boolean pomodoroMode;
+        private final int cycle;
+        private final String text;
+        
+        CachedStatus(TimerModel.Snapshot snapshot, String text) {
+            this.state = snapshot.getState();
+            this.pomodoroMode = snapshot.isPomodoroMode();
+            this.cycle = snapshot.getCurrentCycle();
+            this.text = text;
+        }
+        
+        // 페이즈는 모드와 사이클에서 결정되므로 별도 비교 불필요
+        boolean matches(TimerModel.Snapshot snapshot) {
+            return state == snapshot.getState() &&
+                   pomodoroMode == snapshot.isPomodoroMode() &&
+                   cycle == snapshot.getCurrentCycle();
+        }
     }
 }
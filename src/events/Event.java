@@ -5,12 +5,18 @@ package events;
  * 이벤트 기반 아키텍처를 위한 기본 인터페이스를 제공합니다.
  */
 public abstract class Event {
-    private final long timestamp;
+    private long timestamp;  // 재사용 이벤트는 발행마다 갱신
     private final String eventType;
+    private final Object source;  // 이벤트를 발행한 객체 (없으면 null)
     
     protected Event(String eventType) {
+        this(eventType, null);
+    }
+    
+    protected Event(String eventType, Object source) {
         this.timestamp = System.currentTimeMillis();
         this.eventType = eventType;
+        this.source = source;
     }
     
     /**
@@ -21,6 +27,13 @@ public abstract class Event {
         return timestamp;
     }
     
+    /**
+     * 발생 시각을 지금으로 갱신 (발행자가 같은 객체를 다시 발행할 때)
+     */
+    protected void restamp() {
+        this.timestamp = System.currentTimeMillis();
+    }
+    
     /**
      * 이벤트 타입
      * @return 이벤트 타입 문자열
@@ -29,6 +42,15 @@ public abstract class Event {
         return eventType;
     }
     
+    /**
+     * 이벤트를 발행한 객체
+     * 공유 이벤트 버스에서 여러 발행자(예: 여러 타이머)의 이벤트를 구분할 때 사용합니다.
+     * @return 발행 객체 (지정하지 않았으면 null)
+     */
+    public Object getSource() {
+        return source;
+    }
+    
     @Override
     public String toString() {
         return String.format("%s{timestamp=%d, type='%s'}", 
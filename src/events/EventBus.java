@@ -1,5 +1,7 @@
 package events;
 
+import java.util.concurrent.Executor;
+
 /**
  * 이벤트 버스 인터페이스
  * 이벤트의 발행과 구독을 관리합니다.
@@ -20,6 +22,15 @@ public interface EventBus {
      */
     <T extends Event> void subscribe(Class<T> eventType, EventHandler<T> handler);
     
+    /**
+     * 지정된 실행기에서 호출되는 핸들러를 등록합니다. (예: EDT 전달)
+     * @param eventType 이벤트 타입 클래스
+     * @param handler 이벤트 핸들러
+     * @param executor 핸들러 실행기 (null이면 버스의 디스패치 스레드에서 실행)
+     * @param <T> 이벤트 타입
+     */
+    <T extends Event> void subscribe(Class<T> eventType, EventHandler<T> handler, Executor executor);
+    
     /**
      * 특정 이벤트 타입에서 핸들러 등록을 해제합니다.
      * @param eventType 이벤트 타입 클래스
@@ -28,6 +39,26 @@ public interface EventBus {
      */
     <T extends Event> void unsubscribe(Class<T> eventType, EventHandler<T> handler);
     
+    /**
+     * 해당 타입(또는 상위 타입)의 이벤트를 받을 구독자가 있는지 확인합니다.
+     * 발행 측은 구독자가 없을 때 이벤트 생성을 생략할 수 있습니다.
+     * @param eventType 이벤트 타입 클래스
+     * @return 구독자가 있으면 true
+     */
+    default boolean hasSubscribers(Class<? extends Event> eventType) {
+        return true;
+    }
+    
+    /**
+     * 해당 타입의 이벤트가 publish 호출 안에서 모든 구독자에게 전달되는지 확인합니다.
+     * true이면 발행자는 publish가 끝난 뒤 같은 이벤트 객체를 재사용할 수 있습니다.
+     * @param eventType 이벤트 타입 클래스
+     * @return 큐나 실행기를 거치지 않고 바로 전달되면 true
+     */
+    default boolean deliversInline(Class<? extends Event> eventType) {
+        return false;
+    }
+    
     /**
      * 모든 구독을 해제합니다.
      */
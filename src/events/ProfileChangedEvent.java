@@ -9,17 +9,25 @@ import model.UserProfile;
 public class ProfileChangedEvent extends Event {
     private final UserProfile oldProfile;
     private final UserProfile newProfile;
+    private final boolean activeProfile;
     
     public ProfileChangedEvent(UserProfile oldProfile, UserProfile newProfile) {
-        super("PROFILE_CHANGED");
-        this.oldProfile = oldProfile;
-        this.newProfile = newProfile;
+        this(oldProfile, newProfile, true);
     }
     
     public ProfileChangedEvent(UserProfile newProfile) {
+        this(null, newProfile, true);
+    }
+    
+    /**
+     * @param activeProfile 현재 선택된 프로필에 대한 변경인지 여부
+     *                      (false면 목록의 다른 프로필이 바뀐 것으로, 타이머에 적용하지 않음)
+     */
+    public ProfileChangedEvent(UserProfile oldProfile, UserProfile newProfile, boolean activeProfile) {
         super("PROFILE_CHANGED");
-        this.oldProfile = null;
+        this.oldProfile = oldProfile;
         this.newProfile = newProfile;
+        this.activeProfile = activeProfile;
     }
     
     /**
@@ -38,6 +46,14 @@ public class ProfileChangedEvent extends Event {
         return newProfile;
     }
     
+    /**
+     * 현재 선택된 프로필에 대한 변경인지 확인
+     * @return 선택된 프로필이면 true (외부 변경으로 목록의 다른 프로필이 추가/수정/삭제되면 false)
+     */
+    public boolean isActiveProfile() {
+        return activeProfile;
+    }
+    
     /**
      * 프로필이 실제로 변경되었는지 확인
      * @return 변경 여부
@@ -56,7 +72,7 @@ public class ProfileChangedEvent extends Event {
     public String toString() {
         String oldName = oldProfile != null ? oldProfile.getProfileName() : "null";
         String newName = newProfile != null ? newProfile.getProfileName() : "null";
-        return String.format("ProfileChangedEvent{old='%s', new='%s', timestamp=%d}", 
-                           oldName, newName, getTimestamp());
+        return String.format("ProfileChangedEvent{old='%s', new='%s', active=%b, timestamp=%d}", 
+                           oldName, newName, activeProfile, getTimestamp());
     }
 }
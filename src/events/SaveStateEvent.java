@@ -0,0 +1,83 @@
+package events;
+
+/**
+ * 저장 상태 변경 이벤트
+ * 설정/프로필 변경이 생기거나 저장이 시작·완료·실패할 때 발생합니다.
+ * 상태가 바뀔 때만 발행되므로 UI는 주기적으로 확인하지 않고 이 이벤트에만 반응하면 됩니다.
+ */
+public class SaveStateEvent extends Event {
+
+    /**
+     * 저장 상태
+     */
+    public enum State {
+        DIRTY,   // 저장되지 않은 변경 있음 (자동 저장 예약됨)
+        SAVING,  // 저장 중
+        SAVED,   // 모든 변경이 저장소에 반영됨
+        FAILED   // 저장 실패 (변경은 남아 있고 다시 시도 예정)
+    }
+
+    private final State state;
+    private final long sequence;
+    private final long dirtySinceMillis;
+    private final String message;
+
+    /**
+     * @param sequence 발행 순서 (늦게 도착한 이전 상태를 무시하는 데 사용)
+     * @param dirtySinceMillis 아직 저장되지 않은 첫 변경 시각 (변경이 없으면 0)
+     * @param message 실패 사유 (실패가 아니면 null)
+     */
+    public SaveStateEvent(State state, long sequence, long dirtySinceMillis, String message) {
+        super("SAVE_STATE");
+        this.state = state;
+        this.sequence = sequence;
+        this.dirtySinceMillis = dirtySinceMillis;
+        this.message = message;
+    }
+
+    /**
+     * 저장 상태
+     * @return 상태
+     */
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * 발행 순서
+     * @return 순번 (클수록 최신)
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * 아직 저장되지 않은 첫 변경 시각
+     * @return 타임스탬프 (밀리초, 변경이 없으면 0)
+     */
+    public long getDirtySinceMillis() {
+        return dirtySinceMillis;
+    }
+
+    /**
+     * 실패 사유
+     * @return 메시지 (실패가 아니면 null)
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * 저장되지 않은 변경이 남아 있는지 확인
+     * @return DIRTY/SAVING/FAILED면 true
+     */
+    public boolean hasPendingChanges() {
+        return state != State.SAVED;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SaveStateEvent{state=%s, seq=%d, dirtySince=%d, message=%s, timestamp=%d}",
+                           state, sequence, dirtySinceMillis, message, getTimestamp());
+    }
+}
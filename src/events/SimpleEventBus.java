@@ -2,72 +2,312 @@ package events;
 
 import constants.TimerConstants;
 
+import java.awt.EventQueue;
 import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 단순한 이벤트 버스 구현체
  * 순환 의존성을 제거하고 컴포넌트 간 결합도를 낮춥니다.
+ * 동기 모드에서는 발행 스레드에서, 비동기 모드에서는 전용 디스패치 스레드에서 핸들러를 실행합니다.
+ * 상위 타입(예: Event)에 등록한 핸들러도 하위 타입 이벤트를 모두 받습니다.
  */
 public class SimpleEventBus implements EventBus {
     
+    /** EDT에서 핸들러를 실행하는 실행기 */
+    public static final Executor EDT_EXECUTOR = EventQueue::invokeLater;
+    
+    /**
+     * 디스패치 모드
+     */
+    public enum DispatchMode {
+        SYNC,   // 발행 스레드에서 즉시 실행
+        ASYNC   // 제한된 큐를 거쳐 디스패치 스레드에서 실행
+    }
+    
+    /**
+     * 비동기 큐가 가득 찼을 때의 처리 정책
+     */
+    public enum OverflowPolicy {
+        BLOCK,              // 공간이 생길 때까지 발행 스레드 대기
+        DROP_OLDEST,        // 가장 오래된 이벤트를 버리고 추가
+        COALESCE_BY_TYPE    // 같은 타입의 대기 중인 이벤트를 최신 이벤트로 교체
+    }
+    
     // 싱글톤 인스턴스
     private static SimpleEventBus instance;
     
-    // 이벤트 타입별 핸들러 목록을 저장하는 맵
-    private final Map<Class<? extends Event>, List<EventHandler<? extends Event>>> subscribers;
+    // 이벤트 타입별 구독 목록을 저장하는 맵
+    private final Map<Class<? extends Event>, List<Subscription>> subscribers;
+    
+    // 구체 이벤트 클래스별로 상위 타입 구독까지 펼친 핸들러 배열 캐시 (구독 변경 시 무효화)
+    private final Map<Class<?>, Subscription[]> dispatchTable = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriptionVersion = new AtomicInteger();
+    private static final Subscription[] NO_SUBSCRIPTIONS = new Subscription[0];
     
     // 디버그 모드 플래그
     private final boolean debugMode;
     
+    // 비동기 디스패치 설정
+    private final DispatchMode dispatchMode;
+    private final OverflowPolicy overflowPolicy;
+    private final BlockingQueue<Object> queue;  // Envelope 또는 병합용 이벤트 타입 키
+    private final Map<Class<? extends Event>, Envelope> coalesced = new ConcurrentHashMap<>();
+    private volatile Thread dispatchThread;
+    private volatile boolean running = true;
+    
+    // 통계
+    private final AtomicLong publishedCount = new AtomicLong();
+    private final AtomicLong dispatchedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong coalescedCount = new AtomicLong();
+    private final AtomicLong totalLatencyNanos = new AtomicLong();
+    private volatile long maxLatencyNanos;
+    private final AtomicLong dispatchTableMisses = new AtomicLong();
+    
     public SimpleEventBus() {
         this(false);
     }
     
     public SimpleEventBus(boolean debugMode) {
+        this(debugMode, DispatchMode.SYNC, OverflowPolicy.BLOCK, TimerConstants.EVENT_QUEUE_MAX_SIZE);
+    }
+    
+    public SimpleEventBus(boolean debugMode, DispatchMode dispatchMode, OverflowPolicy overflowPolicy, int queueCapacity) {
         this.subscribers = new ConcurrentHashMap<>();
         this.debugMode = debugMode;
+        this.dispatchMode = dispatchMode;
+        this.overflowPolicy = overflowPolicy;
+        this.queue = dispatchMode == DispatchMode.ASYNC ? new ArrayBlockingQueue<>(queueCapacity) : null;
     }
     
     @Override
-    @SuppressWarnings("unchecked")
     public void publish(Event event) {
         if (event == null) {
             logDebug("이벤트가 null입니다. 무시합니다.");
             return;
         }
         
-        logDebug("이벤트 발행: " + event);
+        if (debugMode) {
+            logDebug("이벤트 발행: " + event);
+        }
+        publishedCount.incrementAndGet();
         
-        Class<? extends Event> eventType = event.getClass();
-        List<EventHandler<? extends Event>> handlers = subscribers.get(eventType);
+        // 동기 모드이거나 디스패치 스레드 자신이 발행한 경우 즉시 실행 (자기 자신을 기다리는 교착 방지)
+        if (dispatchMode == DispatchMode.SYNC || Thread.currentThread() == dispatchThread) {
+            dispatch(event, System.nanoTime());
+            return;
+        }
         
-        if (handlers == null || handlers.isEmpty()) {
-            logDebug("이벤트 타입 " + eventType.getSimpleName() + "에 대한 구독자가 없습니다.");
+        if (!running) {
+            droppedCount.incrementAndGet();
+            logDebug("이벤트 버스가 종료되어 이벤트를 버립니다: " + event);
             return;
         }
         
-        // 핸들러 실행
-        for (EventHandler<? extends Event> handler : handlers) {
+        ensureDispatchThread();
+        enqueue(new Envelope(event, System.nanoTime()));
+    }
+    
+    /**
+     * 오버플로 정책에 따라 큐에 추가
+     */
+    private void enqueue(Envelope envelope) {
+        switch (overflowPolicy) {
+            case DROP_OLDEST:
+                while (!queue.offer(envelope)) {
+                    if (queue.poll() != null) {
+                        droppedCount.incrementAndGet();
+                    }
+                }
+                break;
+            case COALESCE_BY_TYPE:
+                Class<? extends Event> eventType = envelope.event.getClass();
+                if (coalesced.put(eventType, envelope) != null) {
+                    // 아직 전달되지 않은 같은 타입 이벤트를 교체함
+                    coalescedCount.incrementAndGet();
+                    return;
+                }
+                putUninterruptibly(eventType);
+                break;
+            case BLOCK:
+            default:
+                putUninterruptibly(envelope);
+                break;
+        }
+    }
+    
+    private void putUninterruptibly(Object item) {
+        boolean interrupted = false;
+        while (true) {
             try {
-                ((EventHandler<Event>) handler).handle(event);
-                logDebug("핸들러 실행 완료: " + handler.getClass().getSimpleName());
-            } catch (Exception e) {
-                System.err.println("이벤트 핸들러 실행 중 오류 발생: " + e.getMessage());
-                e.printStackTrace();
+                queue.put(item);
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    /**
+     * 디스패치 스레드를 필요할 때 시작
+     */
+    private void ensureDispatchThread() {
+        if (dispatchThread != null) return;
+        
+        synchronized (this) {
+            if (dispatchThread == null) {
+                Thread thread = new Thread(this::runDispatchLoop, "EventBus-Dispatcher");
+                thread.setDaemon(true);
+                dispatchThread = thread;
+                thread.start();
+            }
+        }
+    }
+    
+    private void runDispatchLoop() {
+        while (running || !queue.isEmpty()) {
+            try {
+                Object item = queue.take();
+                Envelope envelope;
+                if (item instanceof Envelope) {
+                    envelope = (Envelope) item;
+                } else {
+                    envelope = coalesced.remove(item);
+                }
+                
+                if (envelope != null) {
+                    dispatch(envelope.event, envelope.enqueuedNanos);
+                }
+            } catch (InterruptedException e) {
+                if (!running) break;
+            }
+        }
+    }
+    
+    /**
+     * 구독자에게 이벤트 전달 (실행기가 지정된 구독자는 해당 실행기에서 실행)
+     */
+    private void dispatch(Event event, long enqueuedNanos) {
+        recordLatency(System.nanoTime() - enqueuedNanos);
+        
+        Class<? extends Event> eventType = event.getClass();
+        Subscription[] handlers = dispatchTable.get(eventType);
+        if (handlers == null) {
+            handlers = resolveSubscriptions(eventType);
+        }
+        
+        if (handlers.length == 0) {
+            if (debugMode) {
+                logDebug("이벤트 타입 " + eventType.getSimpleName() + "에 대한 구독자가 없습니다.");
+            }
+            return;
+        }
+        
+        // 핸들러 실행 (구체 타입 구독자부터 상위 타입 구독자 순)
+        for (Subscription subscription : handlers) {
+            if (subscription.executor == null) {
+                subscription.invoke(event);
+            } else {
+                subscription.executor.execute(() -> subscription.invoke(event));
+            }
+        }
+        dispatchedCount.incrementAndGet();
+    }
+    
+    @Override
+    public boolean hasSubscribers(Class<? extends Event> eventType) {
+        Subscription[] handlers = dispatchTable.get(eventType);
+        if (handlers == null) {
+            handlers = resolveSubscriptions(eventType);
+        }
+        return handlers.length > 0;
+    }
+    
+    @Override
+    public boolean deliversInline(Class<? extends Event> eventType) {
+        if (dispatchMode != DispatchMode.SYNC) {
+            return false;
+        }
+        Subscription[] handlers = dispatchTable.get(eventType);
+        if (handlers == null) {
+            handlers = resolveSubscriptions(eventType);
+        }
+        // 실행기로 넘기는 구독자는 publish가 끝난 뒤에 이벤트를 읽음
+        for (Subscription subscription : handlers) {
+            if (subscription.executor != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * 이벤트 클래스와 모든 상위 클래스에 등록된 구독을 모아 디스패치 테이블에 캐시
+     * 계산 도중 구독이 바뀌었다면 캐시하지 않아 오래된 배열이 남지 않습니다.
+     * 무효화(버전 증가 → 비우기)가 확인과 저장 사이에 끼어들 수 있으므로 저장 후 버전을 다시 확인합니다.
+     */
+    private Subscription[] resolveSubscriptions(Class<? extends Event> eventType) {
+        dispatchTableMisses.incrementAndGet();
+        int version = subscriptionVersion.get();
+        
+        List<Subscription> resolved = new ArrayList<>();
+        for (Class<?> type = eventType; type != null && Event.class.isAssignableFrom(type); type = type.getSuperclass()) {
+            List<Subscription> handlers = subscribers.get(type);
+            if (handlers != null) {
+                resolved.addAll(handlers);
             }
         }
+        
+        Subscription[] table = resolved.isEmpty() ? NO_SUBSCRIPTIONS : resolved.toArray(new Subscription[0]);
+        if (version == subscriptionVersion.get()) {
+            dispatchTable.put(eventType, table);
+            // 저장 전에 비워졌다면 버전은 이미 바뀌었으므로 방금 넣은 배열을 직접 제거
+            if (version != subscriptionVersion.get()) {
+                dispatchTable.remove(eventType, table);
+            }
+        }
+        return table;
+    }
+    
+    /**
+     * 구독 변경 후 디스패치 테이블 무효화
+     */
+    private void invalidateDispatchTable() {
+        subscriptionVersion.incrementAndGet();
+        dispatchTable.clear();
+    }
+    
+    private void recordLatency(long latencyNanos) {
+        totalLatencyNanos.addAndGet(latencyNanos);
+        if (latencyNanos > maxLatencyNanos) {
+            maxLatencyNanos = latencyNanos;
+        }
     }
     
     @Override
     public <T extends Event> void subscribe(Class<T> eventType, EventHandler<T> handler) {
+        subscribe(eventType, handler, null);
+    }
+    
+    @Override
+    public <T extends Event> void subscribe(Class<T> eventType, EventHandler<T> handler, Executor executor) {
         if (eventType == null || handler == null) {
             logDebug("이벤트 타입 또는 핸들러가 null입니다. 구독을 무시합니다.");
             return;
         }
         
-        subscribers.computeIfAbsent(eventType, k -> new CopyOnWriteArrayList<>()).add(handler);
+        subscribers.computeIfAbsent(eventType, k -> new CopyOnWriteArrayList<>()).add(new Subscription(handler, executor));
+        invalidateDispatchTable();
         logDebug("핸들러 구독: " + eventType.getSimpleName() + " -> " + handler.getClass().getSimpleName());
     }
     
@@ -77,15 +317,16 @@ public class SimpleEventBus implements EventBus {
             return;
         }
         
-        List<EventHandler<? extends Event>> handlers = subscribers.get(eventType);
+        List<Subscription> handlers = subscribers.get(eventType);
         if (handlers != null) {
-            handlers.remove(handler);
+            handlers.removeIf(subscription -> subscription.handler.equals(handler));
             logDebug("핸들러 구독 해제: " + eventType.getSimpleName() + " -> " + handler.getClass().getSimpleName());
             
             // 핸들러가 없으면 리스트 제거
             if (handlers.isEmpty()) {
                 subscribers.remove(eventType);
             }
+            invalidateDispatchTable();
         }
     }
     
@@ -96,6 +337,7 @@ public class SimpleEventBus implements EventBus {
                 .sum();
         
         subscribers.clear();
+        invalidateDispatchTable();
         logDebug("모든 구독 해제됨. 총 " + subscriberCount + "개의 핸들러가 해제되었습니다.");
     }
     
@@ -115,7 +357,7 @@ public class SimpleEventBus implements EventBus {
      * @return 구독자 수
      */
     public int getSubscriberCount(Class<? extends Event> eventType) {
-        List<EventHandler<? extends Event>> handlers = subscribers.get(eventType);
+        List<Subscription> handlers = subscribers.get(eventType);
         return handlers != null ? handlers.size() : 0;
     }
     
@@ -127,6 +369,57 @@ public class SimpleEventBus implements EventBus {
         return new HashSet<>(subscribers.keySet());
     }
     
+    /**
+     * 대기 중인 비동기 이벤트 수
+     * @return 큐 크기 (동기 모드에서는 0)
+     */
+    public int getQueueSize() {
+        return queue != null ? queue.size() : 0;
+    }
+    
+    public DispatchMode getDispatchMode() { return dispatchMode; }
+    public OverflowPolicy getOverflowPolicy() { return overflowPolicy; }
+    public long getPublishedCount() { return publishedCount.get(); }
+    public long getDispatchedCount() { return dispatchedCount.get(); }
+    public long getDroppedCount() { return droppedCount.get(); }
+    public long getCoalescedCount() { return coalescedCount.get(); }
+    public long getDispatchTableMisses() { return dispatchTableMisses.get(); }
+    public int getDispatchTableSize() { return dispatchTable.size(); }
+    
+    /**
+     * 발행부터 디스패치 시작까지의 평균 지연 (마이크로초)
+     */
+    public double getAverageLatencyMicros() {
+        long dispatched = dispatchedCount.get();
+        return dispatched == 0 ? 0 : totalLatencyNanos.get() / 1000.0 / dispatched;
+    }
+    
+    /**
+     * 발행부터 디스패치 시작까지의 최대 지연 (마이크로초)
+     */
+    public long getMaxLatencyMicros() {
+        return maxLatencyNanos / 1000;
+    }
+    
+    /**
+     * 비동기 디스패치 스레드 종료 (대기 중인 이벤트는 모두 전달한 뒤 종료)
+     */
+    public void shutdown() {
+        running = false;
+        Thread thread = dispatchThread;
+        if (thread != null && thread != Thread.currentThread()) {
+            // 큐가 비어 take()에서 대기 중이면 깨움
+            if (queue.isEmpty()) {
+                thread.interrupt();
+            }
+            try {
+                thread.join(TimerConstants.EVENT_BUS_SHUTDOWN_TIMEOUT_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+    
     /**
      * 이벤트 버스 상태 정보
      * @return 상태 문자열
@@ -134,12 +427,23 @@ public class SimpleEventBus implements EventBus {
     public String getStatus() {
         StringBuilder status = new StringBuilder();
         status.append("EventBus 상태:\n");
+        status.append("- 디스패치 모드: ").append(dispatchMode);
+        if (dispatchMode == DispatchMode.ASYNC) {
+            status.append(" (").append(overflowPolicy).append(", 대기 ").append(getQueueSize()).append(")");
+        }
+        status.append("\n");
+        status.append("- 발행/전달: ").append(getPublishedCount()).append("/").append(getDispatchedCount())
+              .append(" (버림 ").append(getDroppedCount()).append(", 병합 ").append(getCoalescedCount()).append(")\n");
+        status.append(String.format(Locale.ROOT, "- 전달 지연: 평균 %.1fµs, 최대 %dµs%n",
+              getAverageLatencyMicros(), getMaxLatencyMicros()));
+        status.append("- 디스패치 테이블: ").append(getDispatchTableSize()).append("개 타입 캐시 (재계산 ")
+              .append(getDispatchTableMisses()).append("회)\n");
         status.append("- 총 구독자 수: ").append(getSubscriberCount()).append("\n");
         status.append("- 이벤트 타입 수: ").append(subscribers.size()).append("\n");
         
         if (!subscribers.isEmpty()) {
             status.append("- 구독된 이벤트 타입:\n");
-            for (Map.Entry<Class<? extends Event>, List<EventHandler<? extends Event>>> entry : subscribers.entrySet()) {
+            for (Map.Entry<Class<? extends Event>, List<Subscription>> entry : subscribers.entrySet()) {
                 status.append("  - ").append(entry.getKey().getSimpleName())
                       .append(": ").append(entry.getValue().size()).append("개 핸들러\n");
             }
@@ -149,7 +453,7 @@ public class SimpleEventBus implements EventBus {
     }
     
     /**
-     * 디버그 로그 출력
+     * 디버그 로그 출력 (발행 경로에서는 문자열 생성 비용을 피하도록 호출 전에 debugMode 확인)
      * @param message 로그 메시지
      */
     private void logDebug(String message) {
@@ -158,19 +462,76 @@ public class SimpleEventBus implements EventBus {
         }
     }
     
+    /**
+     * 구독 정보 (핸들러와 실행기)
+     */
+    private final class Subscription {
+        private final EventHandler<? extends Event> handler;
+        private final Executor executor;  // null이면 디스패치 스레드에서 직접 실행
+        
+        Subscription(EventHandler<? extends Event> handler, Executor executor) {
+            this.handler = handler;
+            this.executor = executor;
+        }
+        
+        @SuppressWarnings("unchecked")
+        void invoke(Event event) {
+            try {
+                ((EventHandler<Event>) handler).handle(event);
+                if (debugMode) {
+                    logDebug("핸들러 실행 완료: " + handler.getClass().getSimpleName());
+                }
+            } catch (Exception e) {
+                System.err.println("이벤트 핸들러 실행 중 오류 발생: " + e.getMessage());
+                e.printStackTrace();
+            }
+        }
+    }
+    
+    /**
+     * 큐에 들어간 이벤트와 발행 시각
+     */
+    private static final class Envelope {
+        private final Event event;
+        private final long enqueuedNanos;
+        
+        Envelope(Event event, long enqueuedNanos) {
+            this.event = event;
+            this.enqueuedNanos = enqueuedNanos;
+        }
+    }
+    
     /**
      * 빌더 패턴을 통한 EventBus 생성
      */
     public static class Builder {
         private boolean debugMode = false;
+        private DispatchMode dispatchMode = DispatchMode.SYNC;
+        private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+        private int queueCapacity = TimerConstants.EVENT_QUEUE_MAX_SIZE;
         
         public Builder debugMode(boolean enabled) {
             this.debugMode = enabled;
             return this;
         }
         
+        public Builder dispatchMode(DispatchMode mode) {
+            this.dispatchMode = mode;
+            return this;
+        }
+        
+        public Builder overflowPolicy(OverflowPolicy policy) {
+            this.overflowPolicy = policy;
+            return this;
+        }
+        
+        public Builder queueCapacity(int capacity) {
+            this.queueCapacity = capacity;
+            return this;
+        }
+        
         public SimpleEventBus build() {
-            return new SimpleEventBus(debugMode);
+            return new SimpleEventBus(debugMode, dispatchMode, overflowPolicy, queueCapacity);
         }
     }
     
@@ -187,10 +548,7 @@ public class SimpleEventBus implements EventBus {
      * @return SimpleEventBus 인스턴스
      */
     public static synchronized SimpleEventBus getInstance() {
-        if (instance == null) {
-            instance = new SimpleEventBus(false);
-        }
-        return instance;
+        return getInstance(false);
     }
     
     /**
@@ -200,6 +558,8 @@ public class SimpleEventBus implements EventBus {
      */
     public static synchronized SimpleEventBus getInstance(boolean debugMode) {
         if (instance == null) {
+            // 공유 버스는 동기 모드 (발행 순서와 즉시 전달 보장)
+            // 느린 구독자는 실행기를 지정해 구독하고, 비동기 큐가 필요한 곳은 builder()로 별도 버스를 만듦
             instance = new SimpleEventBus(debugMode);
         }
         return instance;
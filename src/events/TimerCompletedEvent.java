@@ -17,7 +17,16 @@ public class TimerCompletedEvent extends Event {
     public TimerCompletedEvent(TimerModel.NotificationType notificationType, int completedCycle, 
                               String completedPhase, boolean isPomodoroMode, 
                               int workMinutes, int breakMinutes) {
-        super("TIMER_COMPLETED");
+        this(null, notificationType, completedCycle, completedPhase, isPomodoroMode, workMinutes, breakMinutes);
+    }
+    
+    /**
+     * 발행한 타이머를 지정하여 생성
+     */
+    public TimerCompletedEvent(TimerModel source, TimerModel.NotificationType notificationType, int completedCycle,
+                              String completedPhase, boolean isPomodoroMode,
+                              int workMinutes, int breakMinutes) {
+        super("TIMER_COMPLETED", source);
         this.notificationType = notificationType;
         this.completedCycle = completedCycle;
         this.completedPhase = completedPhase;
@@ -15,7 +15,15 @@ public class TimerStateChangedEvent extends Event {
     
     public TimerStateChangedEvent(TimerModel.TimerState oldState, TimerModel.TimerState newState, 
                                  int remainingSeconds, int currentCycle, String currentPhase) {
-        super("TIMER_STATE_CHANGED");
+        this(null, oldState, newState, remainingSeconds, currentCycle, currentPhase);
+    }
+    
+    /**
+     * 발행한 타이머를 지정하여 생성
+     */
+    public TimerStateChangedEvent(TimerModel source, TimerModel.TimerState oldState, TimerModel.TimerState newState,
+                                 int remainingSeconds, int currentCycle, String currentPhase) {
+        super("TIMER_STATE_CHANGED", source);
         this.oldState = oldState;
         this.newState = newState;
         this.remainingSeconds = remainingSeconds;
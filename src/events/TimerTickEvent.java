@@ -1,26 +1,58 @@
 package events;
 
 import constants.TimerConstants;
+import model.TimerModel;
 
 /**
  * 타이머 틱 이벤트
  * 타이머가 1초마다 틱할 때 발생합니다.
+ * 타이머가 같은 객체를 틱마다 갱신해 다시 발행할 수 있으므로 핸들러 밖에서 보관하려면 copy()를 사용하세요.
  */
 public class TimerTickEvent extends Event {
-    private final int remainingSeconds;
-    private final int totalSeconds;
-    private final int currentCycle;
-    private final String currentPhase;
-    private final boolean isPomodoroMode;
+    private int remainingSeconds;
+    private int totalSeconds;
+    private int currentCycle;
+    private String currentPhase;
+    private boolean isPomodoroMode;
     
     public TimerTickEvent(int remainingSeconds, int totalSeconds, int currentCycle, 
                          String currentPhase, boolean isPomodoroMode) {
-        super("TIMER_TICK");
+        this(null, remainingSeconds, totalSeconds, currentCycle, currentPhase, isPomodoroMode);
+    }
+    
+    /**
+     * 발행한 타이머를 지정하여 생성
+     */
+    public TimerTickEvent(TimerModel source, int remainingSeconds, int totalSeconds, int currentCycle,
+                         String currentPhase, boolean isPomodoroMode) {
+        super("TIMER_TICK", source);
+        this.remainingSeconds = remainingSeconds;
+        this.totalSeconds = totalSeconds;
+        this.currentCycle = currentCycle;
+        this.currentPhase = currentPhase;
+        this.isPomodoroMode = isPomodoroMode;
+    }
+    
+    /**
+     * 재사용 중인 이벤트의 값과 발생 시각을 갱신 (발행한 타이머만 호출)
+     */
+    public void update(int remainingSeconds, int totalSeconds, int currentCycle,
+                       String currentPhase, boolean isPomodoroMode) {
         this.remainingSeconds = remainingSeconds;
         this.totalSeconds = totalSeconds;
         this.currentCycle = currentCycle;
         this.currentPhase = currentPhase;
         this.isPomodoroMode = isPomodoroMode;
+        restamp();
+    }
+    
+    /**
+     * 핸들러 밖에서 보관할 수 있는 복사본
+     * @return 같은 값을 가진 새 이벤트 (발생 시각은 복사 시점)
+     */
+    public TimerTickEvent copy() {
+        return new TimerTickEvent((TimerModel) getSource(), remainingSeconds, totalSeconds, currentCycle,
+                                  currentPhase, isPomodoroMode);
     }
     
     /**
@@ -0,0 +1,222 @@
+package model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.zip.CRC32;
+
+/**
+ * 빠른 시작을 위한 버전 관리되는 이진 프로필 저장 형식 (profiles.bin)
+ * JSON은 내보내기/교환 형식으로 유지되고, 이 형식은 시작 시 우선 읽는 캐시 역할을 합니다.
+ *
+ * 파일 구조 (빅 엔디언):
+ *   헤더   [매직 "CBP1"][헤더 길이][형식 버전][레코드 크기][프로필 수]
+ *          [알림 유형 수][문자열 수][문자열 테이블 바이트 수][본문 CRC32]
+ *   문자열 [길이(u16)][UTF-8 바이트] × 문자열 수  (앞쪽은 알림 유형 이름, 뒤쪽은 프로필 이름)
+ *   레코드 [이름 번호][작업 분][휴식 분][스누즈 분][플래그][알림 비트마스크] × 프로필 수
+ *
+ * 헤더 길이와 레코드 크기를 기록하므로 뒤에 필드가 추가되어도 이전 버전이 알고 있는 부분만 읽을 수 있습니다.
+ */
+public final class BinaryProfileStore {
+    
+    private static final int MAGIC = 0x43425031; // "CBP1"
+    public static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 36;
+    private static final int RECORD_SIZE = 24;
+    
+    // 플래그 비트
+    private static final int FLAG_POMODORO = 1;
+    private static final int FLAG_SOUND = 1 << 1;
+    private static final int FLAG_POPUP = 1 << 2;
+    private static final int FLAG_FLASH = 1 << 3;
+    private static final int FLAG_AUTO_START = 1 << 4;
+    private static final int FLAG_MINIMIZE_TO_TRAY = 1 << 5;
+    
+    private static final TimerModel.NotificationType[] TYPES = TimerModel.NotificationType.values();
+    
+    private BinaryProfileStore() {}
+    
+    /**
+     * 프로필 목록을 이진 형식으로 인코딩
+     */
+    public static byte[] encode(List<UserProfile> profiles) {
+        // 문자열 테이블: 알림 유형 이름 다음에 프로필 이름 (같은 이름은 한 번만)
+        List<byte[]> strings = new ArrayList<>(TYPES.length + profiles.size());
+        Map<String, Integer> stringIndex = new HashMap<>();
+        for (TimerModel.NotificationType type : TYPES) {
+            strings.add(type.name().getBytes(StandardCharsets.UTF_8));
+        }
+        
+        int[] nameIndexes = new int[profiles.size()];
+        int stringBytes = 0;
+        for (byte[] typeName : strings) {
+            stringBytes += 2 + typeName.length;
+        }
+        for (int i = 0; i < nameIndexes.length; i++) {
+            String name = profiles.get(i).getProfileName();
+            if (name == null) name = "";
+            Integer index = stringIndex.get(name);
+            if (index == null) {
+                byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+                if (bytes.length > 0xFFFF) {
+                    bytes = Arrays.copyOf(bytes, 0xFFFF);
+                }
+                index = strings.size();
+                strings.add(bytes);
+                stringIndex.put(name, index);
+                stringBytes += 2 + bytes.length;
+            }
+            nameIndexes[i] = index;
+        }
+        
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + stringBytes + profiles.size() * RECORD_SIZE);
+        buffer.position(HEADER_SIZE);
+        for (byte[] bytes : strings) {
+            buffer.putShort((short) bytes.length);
+            buffer.put(bytes);
+        }
+        for (int i = 0; i < nameIndexes.length; i++) {
+            UserProfile profile = profiles.get(i);
+            buffer.putInt(nameIndexes[i]);
+            buffer.putInt(profile.getWorkMinutes());
+            buffer.putInt(profile.getBreakMinutes());
+            buffer.putInt(profile.getSnoozeMinutes());
+            buffer.putInt(encodeFlags(profile));
+            buffer.putInt(encodeNotifications(profile));
+        }
+        
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), HEADER_SIZE, buffer.capacity() - HEADER_SIZE);
+        
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, HEADER_SIZE);
+        buffer.putInt(8, FORMAT_VERSION);
+        buffer.putInt(12, RECORD_SIZE);
+        buffer.putInt(16, profiles.size());
+        buffer.putInt(20, TYPES.length);
+        buffer.putInt(24, strings.size());
+        buffer.putInt(28, stringBytes);
+        buffer.putInt(32, (int) crc.getValue());
+        return buffer.array();
+    }
+    
+    /**
+     * 이진 형식에서 프로필 목록 복원
+     * @throws IOException 형식이 맞지 않거나 손상된 경우
+     */
+    public static List<UserProfile> decode(byte[] data) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        if (data.length < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("이진 프로필 형식이 아닙니다");
+        }
+        
+        int headerSize = buffer.getInt(4);
+        int version = buffer.getInt(8);
+        int recordSize = buffer.getInt(12);
+        int profileCount = buffer.getInt(16);
+        int typeCount = buffer.getInt(20);
+        int stringCount = buffer.getInt(24);
+        int stringBytes = buffer.getInt(28);
+        int checksum = buffer.getInt(32);
+        
+        if (version > FORMAT_VERSION) {
+            throw new IOException("지원하지 않는 이진 프로필 버전: " + version);
+        }
+        if (headerSize < HEADER_SIZE || recordSize < RECORD_SIZE || profileCount < 0 || typeCount < 0
+                || typeCount > 32 || stringCount < typeCount || stringBytes < 0
+                || (long) headerSize + stringBytes + (long) profileCount * recordSize != data.length) {
+            throw new IOException("이진 프로필 헤더가 손상되었습니다");
+        }
+        
+        CRC32 crc = new CRC32();
+        crc.update(data, headerSize, data.length - headerSize);
+        if ((int) crc.getValue() != checksum) {
+            throw new IOException("이진 프로필 체크섬 불일치");
+        }
+        
+        // 문자열 테이블
+        String[] strings = new String[stringCount];
+        buffer.position(headerSize);
+        int stringsEnd = headerSize + stringBytes;
+        for (int i = 0; i < stringCount; i++) {
+            if (buffer.position() + 2 > stringsEnd) throw new IOException("문자열 테이블이 손상되었습니다");
+            int length = buffer.getShort() & 0xFFFF;
+            if (buffer.position() + length > stringsEnd) throw new IOException("문자열 테이블이 손상되었습니다");
+            strings[i] = new String(data, buffer.position(), length, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+        }
+        
+        // 파일에 기록된 알림 비트 순서를 현재 enum으로 매핑 (모르는 유형은 무시)
+        TimerModel.NotificationType[] bitTypes = new TimerModel.NotificationType[typeCount];
+        for (int bit = 0; bit < typeCount; bit++) {
+            for (TimerModel.NotificationType type : TYPES) {
+                if (type.name().equals(strings[bit])) {
+                    bitTypes[bit] = type;
+                    break;
+                }
+            }
+        }
+        
+        List<UserProfile> profiles = new ArrayList<>(profileCount);
+        int recordsStart = stringsEnd;
+        for (int i = 0; i < profileCount; i++) {
+            int offset = recordsStart + i * recordSize;
+            int nameIndex = buffer.getInt(offset);
+            if (nameIndex < typeCount || nameIndex >= stringCount) {
+                throw new IOException("잘못된 프로필 이름 번호: " + nameIndex);
+            }
+            
+            UserProfile profile = new UserProfile(strings[nameIndex]);
+            profile.setWorkMinutes(buffer.getInt(offset + 4));
+            profile.setBreakMinutes(buffer.getInt(offset + 8));
+            profile.setSnoozeMinutes(buffer.getInt(offset + 12));
+            
+            int flags = buffer.getInt(offset + 16);
+            profile.setPomodoroMode((flags & FLAG_POMODORO) != 0);
+            profile.setSoundEnabled((flags & FLAG_SOUND) != 0);
+            profile.setPopupEnabled((flags & FLAG_POPUP) != 0);
+            profile.setFlashEnabled((flags & FLAG_FLASH) != 0);
+            profile.setAutoStart((flags & FLAG_AUTO_START) != 0);
+            profile.setMinimizeToTray((flags & FLAG_MINIMIZE_TO_TRAY) != 0);
+            
+            int mask = buffer.getInt(offset + 20);
+            Map<TimerModel.NotificationType, Boolean> notificationSettings = new HashMap<>();
+            for (TimerModel.NotificationType type : TYPES) {
+                notificationSettings.put(type, false);
+            }
+            for (int bit = 0; bit < typeCount; bit++) {
+                if ((mask & (1 << bit)) != 0 && bitTypes[bit] != null) {
+                    notificationSettings.put(bitTypes[bit], true);
+                }
+            }
+            profile.setNotificationSettings(notificationSettings);
+            
+            profiles.add(profile);
+        }
+        
+        return profiles;
+    }
+    
+    private static int encodeFlags(UserProfile profile) {
+        int flags = 0;
+        if (profile.isPomodoroMode()) flags |= FLAG_POMODORO;
+        if (profile.isSoundEnabled()) flags |= FLAG_SOUND;
+        if (profile.isPopupEnabled()) flags |= FLAG_POPUP;
+        if (profile.isFlashEnabled()) flags |= FLAG_FLASH;
+        if (profile.isAutoStart()) flags |= FLAG_AUTO_START;
+        if (profile.isMinimizeToTray()) flags |= FLAG_MINIMIZE_TO_TRAY;
+        return flags;
+    }
+    
+    private static int encodeNotifications(UserProfile profile) {
+        Map<TimerModel.NotificationType, Boolean> notificationSettings = profile.getNotificationSettings();
+        int mask = 0;
+        for (int bit = 0; bit < TYPES.length; bit++) {
+            if (notificationSettings.getOrDefault(TYPES[bit], false)) {
+                mask |= 1 << bit;
+            }
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,309 @@
+package model;
+
+import constants.TimerConstants;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 쓰기 지연(write-behind) 캐시 저장소
+ * 한 번 읽거나 저장한 내용은 메모리에서 바로 돌려주고, 저장 요청은 최신 내용만 남겨 두었다가
+ * 전용 스레드에서 모아서 실제 저장소에 씁니다. 호출자는 디스크 쓰기(fsync)를 기다리지 않습니다.
+ * 저장 결과가 필요한 호출자는 flush()로 직접 반영하고 실패를 받습니다.
+ * 실패한 쓰기는 버리지 않고 다시 대기시켜 재시도하며, shutdown() 또는 JVM 종료 시 남은 쓰기를 반드시 반영합니다.
+ */
+public class CachingDataStore implements DataStore {
+    
+    private final DataStore backend;
+    private final long writeDelayMs;
+    private final ScheduledThreadPoolExecutor flusher;
+    private final Thread shutdownHook;
+    
+    // 캐시와 대기 중인 쓰기 (lock으로 보호)
+    private final Object lock = new Object();
+    private List<UserProfile> cachedProfiles;
+    private Map<String, Object> cachedSettings;
+    private List<UserProfile> pendingProfiles;
+    private Map<String, Object> pendingSettings;
+    private boolean flushScheduled;
+    private boolean closed;
+    
+    // 실제 저장소 쓰기 순서 보장 (늦게 꺼낸 내용이 먼저 쓰이지 않도록)
+    private final Object flushLock = new Object();
+    
+    // 통계
+    private final AtomicLong saveRequests = new AtomicLong();
+    private final AtomicLong coalescedWrites = new AtomicLong();
+    private final AtomicLong flushCount = new AtomicLong();
+    private final AtomicLong backendWrites = new AtomicLong();
+    private final AtomicLong failedFlushes = new AtomicLong();
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong cacheMisses = new AtomicLong();
+    private final AtomicLong maxFlushNanos = new AtomicLong();
+    
+    public CachingDataStore(DataStore backend) {
+        this(backend, TimerConstants.DATA_STORE_WRITE_BEHIND_MS);
+    }
+    
+    public CachingDataStore(DataStore backend, long writeDelayMs) {
+        this.backend = backend;
+        this.writeDelayMs = Math.max(0, writeDelayMs);
+        
+        flusher = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread t = new Thread(r, "DataStore-WriteBehind");
+            t.setDaemon(true);
+            return t;
+        });
+        // 종료 시 예약된 쓰기는 shutdown()이 직접 반영하므로 버림
+        flusher.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        
+        // shutdown()을 거치지 않고 JVM이 끝나도 대기 중인 쓰기를 잃지 않도록 함
+        shutdownHook = new Thread(this::flushInBackground, "DataStore-ShutdownFlush");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+    
+    // ============================================
+    // 📖 읽기 (캐시 우선)
+    // ============================================
+    
+    /**
+     * 프로필 목록 (캐시된 목록의 복사본, 프로필 인스턴스는 공유)
+     */
+    @Override
+    public List<UserProfile> loadProfiles() {
+        synchronized (lock) {
+            if (cachedProfiles != null) {
+                cacheHits.incrementAndGet();
+                return new ArrayList<>(cachedProfiles);
+            }
+        }
+        cacheMisses.incrementAndGet();
+        List<UserProfile> loaded = backend.loadProfiles();
+        synchronized (lock) {
+            // 읽는 동안 저장 요청이 들어왔으면 그쪽이 더 최신
+            if (cachedProfiles == null) {
+                cachedProfiles = Collections.unmodifiableList(new ArrayList<>(loaded));
+            }
+            return new ArrayList<>(cachedProfiles);
+        }
+    }
+    
+    @Override
+    public Map<String, Object> loadSettings() {
+        synchronized (lock) {
+            if (cachedSettings != null) {
+                cacheHits.incrementAndGet();
+                return new HashMap<>(cachedSettings);
+            }
+        }
+        cacheMisses.incrementAndGet();
+        Map<String, Object> loaded = backend.loadSettings();
+        synchronized (lock) {
+            if (cachedSettings == null) {
+                cachedSettings = new HashMap<>(loaded);
+            }
+            return new HashMap<>(cachedSettings);
+        }
+    }
+    
+    // ============================================
+    // ✏️ 쓰기 (지연 후 모아서 반영)
+    // ============================================
+    
+    @Override
+    public void saveProfiles(List<UserProfile> profiles) throws IOException {
+        List<UserProfile> copy = Collections.unmodifiableList(new ArrayList<>(profiles));
+        saveRequests.incrementAndGet();
+        synchronized (lock) {
+            cachedProfiles = copy;
+            if (!closed) {
+                if (pendingProfiles != null) coalescedWrites.incrementAndGet();
+                pendingProfiles = copy;
+                scheduleFlushLocked();
+                return;
+            }
+        }
+        // 종료 후 들어온 쓰기는 바로 반영
+        backend.saveProfiles(copy);
+        backendWrites.incrementAndGet();
+    }
+    
+    @Override
+    public void saveSettings(Map<String, Object> settings) throws IOException {
+        Map<String, Object> copy = new HashMap<>(settings);
+        saveRequests.incrementAndGet();
+        synchronized (lock) {
+            cachedSettings = copy;
+            if (!closed) {
+                if (pendingSettings != null) coalescedWrites.incrementAndGet();
+                pendingSettings = copy;
+                scheduleFlushLocked();
+                return;
+            }
+        }
+        backend.saveSettings(copy);
+        backendWrites.incrementAndGet();
+    }
+    
+    private void scheduleFlushLocked() {
+        scheduleFlushLocked(writeDelayMs);
+    }
+    
+    private void scheduleFlushLocked(long delayMs) {
+        if (flushScheduled) return;
+        try {
+            flusher.schedule(this::flushInBackground, delayMs, TimeUnit.MILLISECONDS);
+            flushScheduled = true;
+        } catch (RejectedExecutionException e) {
+            // 종료 중: shutdown()의 마지막 flush가 반영함
+        }
+    }
+    
+    /**
+     * 대기 중인 쓰기를 호출 스레드에서 즉시 실제 저장소에 반영
+     * 대기 내용은 실제 저장소 쓰기가 모두 성공한 뒤에만 비우므로, 실패하면 그대로 남아 다시 시도됨
+     * @throws IOException 실제 저장소 쓰기 실패
+     */
+    @Override
+    public void flush() throws IOException {
+        synchronized (flushLock) {
+            List<UserProfile> profiles;
+            Map<String, Object> settings;
+            synchronized (lock) {
+                profiles = pendingProfiles;
+                settings = pendingSettings;
+                flushScheduled = false;
+            }
+            if (profiles == null && settings == null) return;
+            
+            long start = System.nanoTime();
+            try {
+                if (profiles != null) {
+                    backend.saveProfiles(profiles);
+                    backendWrites.incrementAndGet();
+                }
+                if (settings != null) {
+                    backend.saveSettings(settings);
+                    backendWrites.incrementAndGet();
+                }
+                backend.flush();
+                clearPending(profiles, settings);
+            } catch (IOException | RuntimeException e) {
+                failedFlushes.incrementAndGet();
+                throw e;
+            }
+            flushCount.incrementAndGet();
+            maxFlushNanos.accumulateAndGet(System.nanoTime() - start, Math::max);
+        }
+    }
+    
+    /**
+     * 반영한 내용이 아직 대기 중인 최신 내용이면 비움 (그사이 들어온 새 저장 요청은 유지)
+     */
+    private void clearPending(List<UserProfile> profiles, Map<String, Object> settings) {
+        synchronized (lock) {
+            if (profiles != null && pendingProfiles == profiles) pendingProfiles = null;
+            if (settings != null && pendingSettings == settings) pendingSettings = null;
+        }
+    }
+    
+    /**
+     * 쓰기 스레드/종료 훅에서 반영: 실패하면 기록하고 잠시 후 다시 시도
+     */
+    private void flushInBackground() {
+        try {
+            flush();
+        } catch (IOException | RuntimeException e) {
+            System.err.println("❌ 지연 쓰기 실패, " + TimerConstants.DATA_STORE_RETRY_MS + "ms 후 재시도: " + e.getMessage());
+            synchronized (lock) {
+                if (!closed) {
+                    scheduleFlushLocked(TimerConstants.DATA_STORE_RETRY_MS);
+                }
+            }
+        }
+    }
+    
+    // ============================================
+    // 🔗 실제 저장소 위임
+    // ============================================
+    
+    @Override
+    public Path getProfilesPath() {
+        return backend.getProfilesPath();
+    }
+    
+    /**
+     * 외부 변경을 읽으면 캐시를 비워 다음 읽기가 실제 저장소를 보도록 함
+     */
+    @Override
+    public List<UserProfile> reloadProfilesIfChanged() throws IOException {
+        List<UserProfile> loaded = backend.reloadProfilesIfChanged();
+        if (loaded != null) {
+            synchronized (lock) {
+                if (pendingProfiles == null) {
+                    cachedProfiles = null;
+                }
+            }
+        }
+        return loaded;
+    }
+    
+    @Override
+    public <T> T unwrap(Class<T> type) {
+        return type.isInstance(this) ? type.cast(this) : backend.unwrap(type);
+    }
+    
+    /**
+     * 예약된 쓰기를 취소하고 남은 내용을 직접 반영한 뒤 실제 저장소 종료
+     */
+    @Override
+    public void shutdown() {
+        synchronized (lock) {
+            if (closed) return;
+            closed = true;
+        }
+        flusher.shutdown();
+        try {
+            flush();
+        } catch (IOException | RuntimeException e) {
+            System.err.println("❌ 종료 시 남은 쓰기 반영 실패: " + e.getMessage());
+        }
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException e) {
+            // 이미 JVM 종료 중
+        }
+        backend.shutdown();
+    }
+    
+    @Override
+    public void printDataStatus() {
+        backend.printDataStatus();
+        System.out.println("쓰기 지연 캐시: " + getStatus());
+    }
+    
+    /**
+     * 캐시 상태 문자열
+     */
+    @Override
+    public String getStatus() {
+        boolean pending;
+        synchronized (lock) {
+            pending = pendingProfiles != null || pendingSettings != null;
+        }
+        return String.format("%s | 저장 요청 %d, 병합 %d, 반영 %d회(쓰기 %d, 실패 %d, 최대 %.2fms) | 캐시 적중 %d, 실패 %d%s",
+            backend.getClass().getSimpleName(), saveRequests.get(), coalescedWrites.get(),
+            flushCount.get(), backendWrites.get(), failedFlushes.get(),
+            maxFlushNanos.get() / (double) TimerConstants.NANOS_PER_MILLISECOND,
+            cacheHits.get(), cacheMisses.get(), pending ? " | 대기 중" : "");
+    }
+    
+    public DataStore getBackend() {
+        return backend;
+    }
+}
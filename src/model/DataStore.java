@@ -0,0 +1,106 @@
+package model;
+
+import constants.TimerConstants;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 프로필/설정 저장소 인터페이스
+ * JSON 파일, properties 파일 등 저장 방식을 교체할 수 있게 합니다.
+ */
+public interface DataStore {
+    
+    /**
+     * 프로필 목록 저장
+     * 실패를 삼키지 않고 던지며, 쓰기를 미루는 구현은 flush()에서 실패를 알림
+     * @param profiles 저장할 프로필 목록
+     * @throws IOException 저장 실패
+     */
+    void saveProfiles(List<UserProfile> profiles) throws IOException;
+    
+    /**
+     * 프로필 목록 로드 (저장된 것이 없으면 기본 프로필)
+     * @return 프로필 목록
+     */
+    List<UserProfile> loadProfiles();
+    
+    /**
+     * 애플리케이션 설정 저장
+     * @param settings 저장할 설정
+     * @throws IOException 저장 실패
+     */
+    void saveSettings(Map<String, Object> settings) throws IOException;
+    
+    /**
+     * 애플리케이션 설정 로드 (저장된 것이 없으면 기본 설정)
+     * @return 설정
+     */
+    Map<String, Object> loadSettings();
+    
+    /**
+     * 외부 변경을 감시할 프로필 파일 경로
+     * @return 경로, 감시를 지원하지 않으면 null
+     */
+    default Path getProfilesPath() {
+        return null;
+    }
+    
+    /**
+     * 외부에서 바뀐 프로필 다시 읽기
+     * @return 새 프로필 목록, 바뀌지 않았으면 null
+     * @throws IOException 아직 읽을 수 없는 경우 (나중에 다시 시도)
+     */
+    default List<UserProfile> reloadProfilesIfChanged() throws IOException {
+        return null;
+    }
+    
+    /**
+     * 미뤄 둔 쓰기를 지금 저장소에 반영합니다.
+     * @throws IOException 쓰기 실패 (미뤄 둔 내용은 남아 다시 시도됨)
+     */
+    default void flush() throws IOException {
+    }
+    
+    /**
+     * 남은 쓰기를 마치고 저장소를 종료합니다.
+     */
+    default void shutdown() {
+    }
+    
+    /**
+     * 이 저장소 또는 감싼 저장소 중 지정한 형식의 구현 반환
+     * @param type 찾을 구현 클래스
+     * @return 구현, 없으면 null
+     */
+    default <T> T unwrap(Class<T> type) {
+        return type.isInstance(this) ? type.cast(this) : null;
+    }
+    
+    /**
+     * 저장 상태 문자열
+     */
+    default String getStatus() {
+        return getClass().getSimpleName();
+    }
+    
+    /**
+     * 현재 저장된 데이터 상태 출력 (디버깅용)
+     */
+    void printDataStatus();
+    
+    /**
+     * 시스템 속성에 따라 기본 저장소를 선택하고 쓰기 지연 캐시로 감쌉니다.
+     * -Dcodebreak.datastore=simple 이면 properties 파일을, 그 외에는 JSON 파일을 사용합니다.
+     * @return 기본 저장소
+     */
+    static DataStore createDefault() {
+        String type = System.getProperty(TimerConstants.DATA_STORE_PROPERTY, TimerConstants.DATA_STORE_TYPE_JSON);
+        DataStore backend = TimerConstants.DATA_STORE_TYPE_SIMPLE.equalsIgnoreCase(type)
+            ? new SimpleDataManager()
+            : new JsonDataManager();
+        return new CachingDataStore(backend);
+    }
+}
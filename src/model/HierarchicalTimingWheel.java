@@ -0,0 +1,449 @@
+package model;
+
+import constants.TimerConstants;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 계층형 타이밍 휠 스케줄러
+ * 하나의 휠 스레드와 소수의 작업 스레드로 수많은 TimerModel의 틱과 완료를 구동합니다.
+ *
+ * 각 레벨은 64개의 슬롯을 가지며, 슬롯은 이중 연결 리스트이므로 삽입/취소는 O(1)입니다.
+ * 상위 레벨의 슬롯은 하위 레벨이 한 바퀴 돌 때마다 아래로 캐스케이드됩니다.
+ * 버킷 조작은 휠 스레드에서만 수행되고, 다른 스레드의 요청은 큐를 통해 전달됩니다.
+ */
+public class HierarchicalTimingWheel implements TimerScheduler {
+    
+    // 공유 인스턴스
+    private static HierarchicalTimingWheel shared;
+    
+    private static final int SLOT_BITS = TimerConstants.TIMING_WHEEL_SLOT_BITS;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    
+    // 작업 상태
+    private static final int WAITING = 0;
+    private static final int EXPIRED = 1;
+    private static final int CANCELLED = 2;
+    
+    private final long tickNanos;
+    private final int levels;
+    private final long maxSpanTicks;
+    private final Bucket[][] wheel;
+    private final long startNanos;
+    
+    // 다른 스레드에서 들어온 등록/취소 요청
+    private final Queue<WheelTask> pendingAdds = new ConcurrentLinkedQueue<>();
+    private final Queue<WheelTask> pendingCancels = new ConcurrentLinkedQueue<>();
+    
+    private final Thread wheelThread;
+    private final ExecutorService dispatcher;
+    private final int workerThreads;
+    
+    private volatile boolean running = true;
+    private volatile boolean idle = false;
+    
+    // 휠 스레드 전용 상태
+    private long nextTick;
+    private int bucketedTasks;
+    
+    // 통계
+    private final AtomicInteger activeTasks = new AtomicInteger();
+    private final AtomicLong firedCount = new AtomicLong();
+    
+    public HierarchicalTimingWheel() {
+        this(TimerConstants.TIMING_WHEEL_TICK_MS, TimerConstants.TIMING_WHEEL_LEVELS,
+             TimerConstants.TIMING_WHEEL_WORKER_THREADS);
+    }
+    
+    public HierarchicalTimingWheel(long tickMs, int levels, int workerThreads) {
+        if (tickMs <= 0 || levels <= 0 || workerThreads <= 0) {
+            throw new IllegalArgumentException("틱 간격, 레벨 수, 작업 스레드 수는 양수여야 합니다.");
+        }
+        
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMs);
+        this.levels = levels;
+        this.maxSpanTicks = 1L << (SLOT_BITS * levels);
+        this.workerThreads = workerThreads;
+        
+        this.wheel = new Bucket[levels][SLOTS];
+        for (int level = 0; level < levels; level++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                wheel[level][slot] = new Bucket();
+            }
+        }
+        
+        AtomicInteger workerIndex = new AtomicInteger();
+        this.dispatcher = Executors.newFixedThreadPool(workerThreads, r -> {
+            Thread t = new Thread(r, "TimingWheel-Worker-" + workerIndex.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        
+        this.startNanos = System.nanoTime();
+        this.nextTick = 0;
+        
+        this.wheelThread = new Thread(this::runWheel, "TimingWheel-Thread");
+        this.wheelThread.setDaemon(true);
+        this.wheelThread.start();
+    }
+    
+    /**
+     * 공유 타이밍 휠 인스턴스 반환
+     * @return 공유 인스턴스
+     */
+    public static synchronized HierarchicalTimingWheel getShared() {
+        if (shared == null) {
+            shared = new HierarchicalTimingWheel();
+        }
+        return shared;
+    }
+    
+    @Override
+    public Task schedule(Runnable action, long delayMs) {
+        return submit(action, delayMs, 0);
+    }
+    
+    @Override
+    public Task scheduleAtFixedRate(Runnable action, long delayMs, long periodMs) {
+        if (periodMs <= 0) {
+            throw new IllegalArgumentException("주기는 양수여야 합니다: " + periodMs);
+        }
+        long periodTicks = Math.max(1, TimeUnit.MILLISECONDS.toNanos(periodMs) / tickNanos);
+        return submit(action, delayMs, periodTicks);
+    }
+    
+    private Task submit(Runnable action, long delayMs, long periodTicks) {
+        if (action == null) {
+            throw new IllegalArgumentException("작업이 null입니다.");
+        }
+        if (!running) {
+            throw new IllegalStateException("타이밍 휠이 종료되었습니다.");
+        }
+        
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(0, delayMs));
+        WheelTask task = new WheelTask(action, tickAtOrAfter(deadlineNanos), periodTicks);
+        activeTasks.incrementAndGet();
+        enqueueAdd(task);
+        return task;
+    }
+    
+    @Override
+    public void shutdown() {
+        running = false;
+        LockSupport.unpark(wheelThread);
+        dispatcher.shutdown();
+    }
+    
+    // ============================================
+    // 휠 스레드
+    // ============================================
+    
+    private void runWheel() {
+        while (running) {
+            long wait = (startNanos + nextTick * tickNanos) - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(this, wait);
+                continue;
+            }
+            
+            processCancels();
+            processAdds();
+            
+            if (bucketedTasks == 0) {
+                // 예약된 작업이 없으면 새 작업이 들어올 때까지 깨어나지 않음
+                idle = true;
+                if (pendingAdds.isEmpty() && running) {
+                    LockSupport.park(this);
+                }
+                idle = false;
+                nextTick = Math.max(nextTick, tickAtOrBefore(System.nanoTime()));
+                continue;
+            }
+            
+            advance(nextTick);
+            nextTick++;
+        }
+    }
+    
+    private void processAdds() {
+        WheelTask task;
+        while ((task = pendingAdds.poll()) != null) {
+            if (!task.isCancelled()) {
+                place(task);
+            }
+        }
+    }
+    
+    private void processCancels() {
+        WheelTask task;
+        while ((task = pendingCancels.poll()) != null) {
+            if (task.bucket != null) {
+                task.bucket.remove(task);
+                bucketedTasks--;
+            }
+        }
+    }
+    
+    /**
+     * 마감 틱까지의 거리에 따라 레벨과 슬롯을 선택해 작업을 배치
+     */
+    private void place(WheelTask task) {
+        long deadline = Math.max(task.deadlineTick, nextTick);
+        long delta = deadline - nextTick;
+        
+        // 최상위 레벨 범위를 넘는 작업은 범위 끝에 두었다가 다시 배치
+        if (delta >= maxSpanTicks) {
+            delta = maxSpanTicks - 1;
+            deadline = nextTick + delta;
+        }
+        
+        int level = 0;
+        while (delta >= (1L << (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        
+        int slot = (int) ((deadline >>> (SLOT_BITS * level)) & SLOT_MASK);
+        wheel[level][slot].add(task);
+        bucketedTasks++;
+    }
+    
+    /**
+     * 한 틱 진행: 필요한 상위 레벨을 캐스케이드한 뒤 레벨 0 슬롯을 만료
+     */
+    private void advance(long tick) {
+        for (int level = 1; level < levels; level++) {
+            long lowerMask = (1L << (SLOT_BITS * level)) - 1;
+            if ((tick & lowerMask) != 0) {
+                break;
+            }
+            int slot = (int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK);
+            cascade(wheel[level][slot]);
+        }
+        
+        expire(wheel[0][(int) (tick & SLOT_MASK)], tick);
+    }
+    
+    private void cascade(Bucket bucket) {
+        WheelTask task = bucket.drain();
+        while (task != null) {
+            WheelTask next = task.detach();
+            bucketedTasks--;
+            if (!task.isCancelled()) {
+                place(task);
+            }
+            task = next;
+        }
+    }
+    
+    private void expire(Bucket bucket, long tick) {
+        WheelTask task = bucket.drain();
+        while (task != null) {
+            WheelTask next = task.detach();
+            bucketedTasks--;
+            if (!task.isCancelled()) {
+                if (task.deadlineTick > tick) {
+                    place(task);
+                } else {
+                    fire(task);
+                }
+            }
+            task = next;
+        }
+    }
+    
+    private void fire(WheelTask task) {
+        if (task.periodTicks > 0) {
+            firedCount.incrementAndGet();
+            dispatcher.execute(() -> runPeriodic(task));
+        } else if (task.state.compareAndSet(WAITING, EXPIRED)) {
+            activeTasks.decrementAndGet();
+            firedCount.incrementAndGet();
+            dispatcher.execute(() -> runSafely(task.action));
+        }
+    }
+    
+    /**
+     * 반복 작업 실행 후 다음 마감으로 재등록
+     * 실행이 끝난 뒤에 재등록하므로 같은 작업이 겹쳐 실행되지 않습니다.
+     */
+    private void runPeriodic(WheelTask task) {
+        try {
+            runSafely(task.action);
+        } finally {
+            if (!task.isCancelled() && running) {
+                long next = task.deadlineTick + task.periodTicks;
+                long now = tickAtOrBefore(System.nanoTime());
+                if (next <= now) {
+                    // 절전 등으로 놓친 주기는 한 번으로 합침
+                    next += ((now - next) / task.periodTicks + 1) * task.periodTicks;
+                }
+                task.deadlineTick = next;
+                enqueueAdd(task);
+            }
+        }
+    }
+    
+    private void runSafely(Runnable action) {
+        try {
+            action.run();
+        } catch (Throwable t) {
+            System.err.println("타이밍 휠 작업 실행 중 오류 발생: " + t.getMessage());
+            t.printStackTrace();
+        }
+    }
+    
+    private void enqueueAdd(WheelTask task) {
+        pendingAdds.offer(task);
+        if (idle) {
+            LockSupport.unpark(wheelThread);
+        }
+    }
+    
+    private long tickAtOrAfter(long nanos) {
+        long elapsed = nanos - startNanos;
+        return elapsed <= 0 ? 0 : (elapsed + tickNanos - 1) / tickNanos;
+    }
+    
+    private long tickAtOrBefore(long nanos) {
+        long elapsed = nanos - startNanos;
+        return elapsed <= 0 ? 0 : elapsed / tickNanos;
+    }
+    
+    // ============================================
+    // 상태 조회
+    // ============================================
+    
+    /**
+     * 대기 중인 작업 수 (반복 작업은 취소될 때까지 포함)
+     * @return 활성 작업 수
+     */
+    public int getActiveTaskCount() {
+        return activeTasks.get();
+    }
+    
+    /**
+     * 지금까지 실행된 작업 수
+     * @return 실행 횟수
+     */
+    public long getFiredCount() {
+        return firedCount.get();
+    }
+    
+    /**
+     * 휠이 사용하는 스레드 수 (휠 스레드 + 작업 스레드)
+     * @return 스레드 수
+     */
+    public int getThreadCount() {
+        return workerThreads + 1;
+    }
+    
+    /**
+     * 타이밍 휠 상태 정보
+     * @return 상태 문자열
+     */
+    public String getStatus() {
+        StringBuilder status = new StringBuilder();
+        status.append("TimingWheel 상태:\n");
+        status.append("- 틱 간격: ").append(TimeUnit.NANOSECONDS.toMillis(tickNanos)).append("ms\n");
+        status.append("- 레벨 수: ").append(levels).append(" (").append(SLOTS).append("슬롯/레벨)\n");
+        status.append("- 스레드 수: ").append(getThreadCount()).append("\n");
+        status.append("- 활성 작업 수: ").append(getActiveTaskCount()).append("\n");
+        status.append("- 실행된 작업 수: ").append(getFiredCount()).append("\n");
+        return status.toString();
+    }
+    
+    // ============================================
+    // 내부 자료구조
+    // ============================================
+    
+    /**
+     * 휠에 배치되는 작업 (버킷 내 이중 연결 리스트 노드)
+     */
+    private final class WheelTask implements Task {
+        final Runnable action;
+        final long periodTicks;
+        final AtomicInteger state = new AtomicInteger(WAITING);
+        volatile long deadlineTick;
+        
+        // 휠 스레드 전용
+        WheelTask prev;
+        WheelTask next;
+        Bucket bucket;
+        
+        WheelTask(Runnable action, long deadlineTick, long periodTicks) {
+            this.action = action;
+            this.deadlineTick = deadlineTick;
+            this.periodTicks = periodTicks;
+        }
+        
+        WheelTask detach() {
+            WheelTask following = next;
+            prev = null;
+            next = null;
+            bucket = null;
+            return following;
+        }
+        
+        @Override
+        public void cancel() {
+            if (state.compareAndSet(WAITING, CANCELLED)) {
+                activeTasks.decrementAndGet();
+                pendingCancels.offer(this);
+            }
+        }
+        
+        @Override
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+    }
+    
+    /**
+     * 슬롯 하나에 해당하는 작업 목록
+     */
+    private static final class Bucket {
+        private WheelTask head;
+        private WheelTask tail;
+        
+        void add(WheelTask task) {
+            task.bucket = this;
+            task.prev = tail;
+            task.next = null;
+            if (tail == null) {
+                head = task;
+            } else {
+                tail.next = task;
+            }
+            tail = task;
+        }
+        
+        void remove(WheelTask task) {
+            if (task.prev != null) {
+                task.prev.next = task.next;
+            } else {
+                head = task.next;
+            }
+            if (task.next != null) {
+                task.next.prev = task.prev;
+            } else {
+                tail = task.prev;
+            }
+            task.detach();
+        }
+        
+        WheelTask drain() {
+            WheelTask first = head;
+            head = null;
+            tail = null;
+            return first;
+        }
+    }
+}
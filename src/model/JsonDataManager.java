@@ -1,17 +1,105 @@
 package model;
 
+import constants.TimerConstants;
+
+import java.awt.EventQueue;
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+import java.util.zip.CRC32;
 
 /**
  * JSON 파일 읽기/쓰기를 관리하는 클래스
  * 간단한 JSON 파싱 기능을 직접 구현
  */
-public class JsonDataManager {
+public class JsonDataManager implements DataStore {
     private static final String DATA_DIR = "data";
     private static final String PROFILES_FILE = "profiles.json";
     private static final String SETTINGS_FILE = "settings.json";
+    private static final String PROFILES_BINARY_FILE = "profiles.bin";  // 시작용 이진 저장소 (BinaryProfileStore)
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String BACKUP_SUFFIX = ".bak.";
+    private static final int IMPORT_READ_BUFFER_CHARS = 64 * 1024;
+    private static final int EXPORT_WRITE_BUFFER_CHARS = 64 * 1024;
+    
+    // 모든 데이터/내보내기 파일은 플랫폼 기본 인코딩과 관계없이 UTF-8
+    private static final Charset CHARSET = StandardCharsets.UTF_8;
+    
+    // 스트리밍 리더가 문자열을 만들지 않고 비교하는 필드/값 이름
+    private static final String[] PROFILES_KEY = { "profiles" };
+    private static final String[] PROFILE_FIELDS = {
+        "profileName", "workMinutes", "breakMinutes", "pomodoroMode", "soundEnabled", "popupEnabled",
+        "flashEnabled", "snoozeMinutes", "autoStart", "minimizeToTray", "enabledNotifications"
+    };
+    private static final TimerModel.NotificationType[] NOTIFICATION_TYPES = TimerModel.NotificationType.values();
+    private static final String[] NOTIFICATION_NAMES = new String[NOTIFICATION_TYPES.length];
+    static {
+        for (int i = 0; i < NOTIFICATION_TYPES.length; i++) {
+            NOTIFICATION_NAMES[i] = NOTIFICATION_TYPES[i].name();
+        }
+    }
+    
+    // 임시 파일 쓰기 → fsync → 원자적 이름 변경을 한 스레드에서 순서대로 처리 (EDT를 막지 않음)
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "JsonDataManager-Writer");
+        t.setDaemon(true);
+        return t;
+    });
+    
+    // 쓰기 통계
+    private final AtomicLong writeCount = new AtomicLong();
+    private final AtomicLong writeFailures = new AtomicLong();
+    private final AtomicLong totalWriteNanos = new AtomicLong();
+    private final AtomicLong maxWriteNanos = new AtomicLong();
+    private final AtomicLong backupRecoveries = new AtomicLong();
+    
+    // EDT에서 예약한 쓰기의 실패 (다음 flush()에서 호출자에게 전달)
+    private final AtomicReference<IOException> asyncWriteFailure = new AtomicReference<>();
+    
+    // 마지막 프로필 로드 정보
+    private volatile String lastLoadSource = "-";
+    private volatile long lastLoadNanos;
+    
+    // 프로필별 직렬화 조각 캐시 (프로필 버전이 그대로면 재사용, saveProfiles에서만 접근)
+    private static final byte[] PROFILES_HEADER = "{\n  \"profiles\": [\n".getBytes(CHARSET);
+    private static final byte[] PROFILES_FOOTER = "  ]\n}".getBytes(CHARSET);
+    private static final byte[] PROFILE_SEPARATOR = ",\n".getBytes(CHARSET);
+    private static final byte[] NEWLINE = "\n".getBytes(CHARSET);
+    private static final ProfileFragment[] NO_FRAGMENTS = new ProfileFragment[0];
+    private Map<UserProfile, ProfileFragment> fragmentCache = new IdentityHashMap<>();
+    
+    // 마지막으로 디스크에 반영된 내용 (쓰기가 성공한 뒤 쓰기 스레드에서만 갱신, 실패하면 무효화)
+    private volatile ProfileFragment[] lastSavedFragments = NO_FRAGMENTS;
+    private volatile Map<String, Object> lastSavedSettings;
+    
+    // 이진 저장소에 아직 반영하지 않은 마지막 저장 프로필 (쓰기 스레드에서만 접근, 종료할 때 한 번 반영)
+    private List<UserProfile> pendingBinaryProfiles;
+    private final AtomicLong binaryRebuilds = new AtomicLong();
+    
+    // 직렬화 통계
+    private final AtomicLong profilesEncoded = new AtomicLong();
+    private final AtomicLong fragmentsReused = new AtomicLong();
+    private final AtomicLong profileWritesSkipped = new AtomicLong();
+    private final AtomicLong settingsWritesSkipped = new AtomicLong();
+    
+    // 외부 변경 감지: 마지막으로 직접 쓰거나 반영한 profiles.json 내용의 체크섬 (-1이면 모름)
+    private volatile long knownProfilesChecksum = -1;
+    private final AtomicLong externalReloads = new AtomicLong();
+    private final AtomicLong selfWritesIgnored = new AtomicLong();
     
     public JsonDataManager() {
         createDataDirectory();
@@ -33,112 +121,272 @@ public class JsonDataManager {
     
     /**
      * 사용자 프로필을 JSON 파일에 저장
+     * 바뀐 프로필만 다시 인코딩하고 나머지는 캐시된 바이트 조각을 이어 붙이며,
+     * 바뀐 것이 없으면 파일을 다시 쓰지 않음
      */
-    public void saveProfiles(List<UserProfile> profiles) {
+    @Override
+    public synchronized void saveProfiles(List<UserProfile> profiles) throws IOException {
         try {
-            StringBuilder json = new StringBuilder();
-            json.append("{\n");
-            json.append("  \"profiles\": [\n");
+            Map<UserProfile, ProfileFragment> nextCache = new IdentityHashMap<>(profiles.size() * 2);
+            ProfileFragment[] fragments = new ProfileFragment[profiles.size()];
+            boolean changed = profiles.size() != lastSavedFragments.length;
+            int encoded = 0;
             
-            for (int i = 0; i < profiles.size(); i++) {
+            for (int i = 0; i < fragments.length; i++) {
                 UserProfile profile = profiles.get(i);
-                json.append("    {\n");
-                json.append("      \"profileName\": \"").append(escapeJson(profile.getProfileName())).append("\",\n");
-                json.append("      \"workMinutes\": ").append(profile.getWorkMinutes()).append(",\n");
-                json.append("      \"breakMinutes\": ").append(profile.getBreakMinutes()).append(",\n");
-                json.append("      \"pomodoroMode\": ").append(profile.isPomodoroMode()).append(",\n");
-                json.append("      \"soundEnabled\": ").append(profile.isSoundEnabled()).append(",\n");
-                json.append("      \"popupEnabled\": ").append(profile.isPopupEnabled()).append(",\n");
-                json.append("      \"flashEnabled\": ").append(profile.isFlashEnabled()).append(",\n");
-                json.append("      \"snoozeMinutes\": ").append(profile.getSnoozeMinutes()).append(",\n");
-                json.append("      \"autoStart\": ").append(profile.isAutoStart()).append(",\n");
-                json.append("      \"minimizeToTray\": ").append(profile.isMinimizeToTray()).append(",\n");
-                
-                // 활성화된 알림 유형들
-                json.append("      \"enabledNotifications\": [");
-                Map<TimerModel.NotificationType, Boolean> notificationSettings = profile.getNotificationSettings();
-                List<String> enabledTypes = new ArrayList<>();
-                for (TimerModel.NotificationType type : TimerModel.NotificationType.values()) {
-                    if (notificationSettings.getOrDefault(type, false)) {
-                        enabledTypes.add(type.name());
-                    }
-                }
-                for (int j = 0; j < enabledTypes.size(); j++) {
-                    json.append("\"").append(enabledTypes.get(j)).append("\"");
-                    if (j < enabledTypes.size() - 1) json.append(", ");
+                ProfileFragment fragment = fragmentCache.get(profile);
+                if (fragment == null || fragment.version != profile.getVersion()) {
+                    fragment = new ProfileFragment(profile.getVersion(), encodeProfile(profile));
+                    encoded++;
                 }
-                json.append("]");
-                json.append("\n");
-                
-                json.append("    }");
-                if (i < profiles.size() - 1) json.append(",");
-                json.append("\n");
+                nextCache.put(profile, fragment);
+                fragments[i] = fragment;
+                changed = changed || fragment != lastSavedFragments[i];
             }
             
-            json.append("  ]\n");
-            json.append("}");
+            fragmentCache = nextCache;
+            profilesEncoded.addAndGet(encoded);
+            fragmentsReused.addAndGet(fragments.length - encoded);
             
-            writeToFile(Paths.get(DATA_DIR, PROFILES_FILE), json.toString());
+            if (!changed) {
+                profileWritesSkipped.incrementAndGet();
+                return;
+            }
             
-        } catch (Exception e) {
+            // 조각을 하나의 배열로 합치지 않고 그대로 모아 쓰기(gathering write)
+            byte[][] chunks = new byte[fragments.length * 2 + 2][];
+            int c = 0;
+            chunks[c++] = PROFILES_HEADER;
+            for (int i = 0; i < fragments.length; i++) {
+                chunks[c++] = fragments[i].bytes;
+                chunks[c++] = i < fragments.length - 1 ? PROFILE_SEPARATOR : NEWLINE;
+            }
+            chunks[c] = PROFILES_FOOTER;
+            
+            // 파일 감시가 자기 저장을 외부 변경으로 오인하지 않도록 쓰기 전에 기록
+            knownProfilesChecksum = checksum(chunks);
+            // 이진 저장소는 저장마다 전체를 다시 쓰지 않고 종료할 때 갱신 (그때까지는 JSON이 더 최신이라 시작 시 JSON 사용)
+            List<UserProfile> saved = new ArrayList<>(profiles);
+            writeDurably(() -> writeAtomically(Paths.get(DATA_DIR, PROFILES_FILE), chunks, true), () -> {
+                lastSavedFragments = fragments;
+                pendingBinaryProfiles = saved;
+            }, () -> lastSavedFragments = NO_FRAGMENTS);
+            
+        } catch (IOException e) {
             System.err.println("프로필 저장 실패: " + e.getMessage());
+            throw e;
+        }
+    }
+    
+    /**
+     * 프로필 하나를 profiles.json 형식의 바이트 조각으로 인코딩
+     */
+    private byte[] encodeProfile(UserProfile profile) {
+        StringBuilder json = new StringBuilder(384);
+        try {
+            writeProfileJson(json, profile);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);  // StringBuilder는 IOException을 던지지 않음
         }
+        return json.toString().getBytes(CHARSET);
+    }
+    
+    /**
+     * 프로필 하나를 JSON 객체로 출력 (profiles.json 조각과 내보내기 파일이 같은 형식을 씀)
+     */
+    private static void writeProfileJson(Appendable out, UserProfile profile) throws IOException {
+        out.append("    {\n");
+        out.append("      \"profileName\": \"").append(escapeJson(profile.getProfileName())).append("\",\n");
+        out.append("      \"workMinutes\": ").append(Integer.toString(profile.getWorkMinutes())).append(",\n");
+        out.append("      \"breakMinutes\": ").append(Integer.toString(profile.getBreakMinutes())).append(",\n");
+        out.append("      \"pomodoroMode\": ").append(Boolean.toString(profile.isPomodoroMode())).append(",\n");
+        out.append("      \"soundEnabled\": ").append(Boolean.toString(profile.isSoundEnabled())).append(",\n");
+        out.append("      \"popupEnabled\": ").append(Boolean.toString(profile.isPopupEnabled())).append(",\n");
+        out.append("      \"flashEnabled\": ").append(Boolean.toString(profile.isFlashEnabled())).append(",\n");
+        out.append("      \"snoozeMinutes\": ").append(Integer.toString(profile.getSnoozeMinutes())).append(",\n");
+        out.append("      \"autoStart\": ").append(Boolean.toString(profile.isAutoStart())).append(",\n");
+        out.append("      \"minimizeToTray\": ").append(Boolean.toString(profile.isMinimizeToTray())).append(",\n");
+        
+        // 활성화된 알림 유형들
+        out.append("      \"enabledNotifications\": [");
+        Map<TimerModel.NotificationType, Boolean> notificationSettings = profile.getNotificationSettings();
+        boolean first = true;
+        for (TimerModel.NotificationType type : NOTIFICATION_TYPES) {
+            if (notificationSettings.getOrDefault(type, false)) {
+                if (!first) out.append(", ");
+                out.append("\"").append(type.name()).append("\"");
+                first = false;
+            }
+        }
+        out.append("]\n");
+        out.append("    }");
     }
     
     /**
      * JSON 파일에서 사용자 프로필 로드
+     * 본 파일이 손상되었으면 가장 최근의 유효한 백업으로 복구
      */
+    @Override
     public List<UserProfile> loadProfiles() {
-        List<UserProfile> profiles = new ArrayList<>();
+        long start = System.nanoTime();
+        List<UserProfile> profiles = loadBinaryProfiles();
+        if (profiles != null) {
+            recordLoad(PROFILES_BINARY_FILE, profiles.size(), start);
+            return profiles;
+        }
         
-        try {
-            Path profilesPath = Paths.get(DATA_DIR, PROFILES_FILE);
-            System.out.println("🔍 프로필 파일 경로: " + profilesPath.toAbsolutePath());
-            
-            if (!Files.exists(profilesPath)) {
-                System.out.println("ℹ️ 프로필 파일이 없어서 기본 프로필들을 생성합니다");
-                // 기본 프로필들 생성
-                profiles.add(UserProfile.createPomodoroProfile());
-                profiles.add(UserProfile.createLongWorkProfile());
-                profiles.add(UserProfile.createShortFocusProfile());
-                System.out.println("✅ 기본 프로필 3개 생성 완료");
+        Path profilesPath = Paths.get(DATA_DIR, PROFILES_FILE);
+        System.out.println("🔍 프로필 파일 경로: " + profilesPath.toAbsolutePath());
+        
+        for (Path candidate : getReadCandidates(profilesPath)) {
+            try {
+                System.out.println("📖 프로필 파일 읽기 시작: " + candidate.getFileName() + " (" + Files.size(candidate) + " bytes)");
+                try (Reader source = openReader(candidate)) {
+                    profiles = parseProfilesFromJson(source);
+                }
+                if (profiles.isEmpty()) {
+                    System.out.println("⚠️ 파싱된 프로필이 없습니다: " + candidate.getFileName());
+                    continue;
+                }
+                
+                System.out.println("🔄 파싱 결과: " + profiles.size() + "개 프로필");
+                if (!candidate.equals(profilesPath)) {
+                    backupRecoveries.incrementAndGet();
+                    System.out.println("🛟 백업에서 프로필 복구: " + candidate.getFileName());
+                }
+                recordLoad(candidate.getFileName().toString(), profiles.size(), start);
+                
+                // 이진 저장소가 없거나 오래되었으면 자동 이전
+                migrateToBinary(profiles);
                 return profiles;
+                
+            } catch (Exception e) {
+                System.err.println("❌ 프로필 로드 실패 (" + candidate.getFileName() + "): " + e.getMessage());
             }
+        }
+        
+        // 읽을 수 있는 파일이 없으면 기본 프로필 반환
+        profiles = new ArrayList<>();
+        profiles.add(UserProfile.createPomodoroProfile());
+        profiles.add(UserProfile.createLongWorkProfile());
+        profiles.add(UserProfile.createShortFocusProfile());
+        System.out.println("✅ 기본 프로필 3개 생성 완료");
+        return profiles;
+    }
+    
+    /**
+     * 감시 대상 프로필 파일 경로
+     */
+    @Override
+    public Path getProfilesPath() {
+        return Paths.get(DATA_DIR, PROFILES_FILE);
+    }
+    
+    /**
+     * 외부에서 바뀐 profiles.json 다시 읽기 (파일 감시에서 호출)
+     * @return 새 프로필 목록, 내용이 이 앱이 마지막으로 쓰거나 읽은 것과 같으면 null
+     * @throws IOException 쓰는 도중이라 잘렸거나 구문이 맞지 않는 경우 (나중에 다시 시도)
+     */
+    @Override
+    public List<UserProfile> reloadProfilesIfChanged() throws IOException {
+        long start = System.nanoTime();
+        Path profilesPath = getProfilesPath();
+        byte[] bytes = Files.readAllBytes(profilesPath);
+        long crc = checksum(bytes);
+        if (crc == knownProfilesChecksum) {
+            selfWritesIgnored.incrementAndGet();
+            return null;
+        }
+        
+        List<UserProfile> profiles;
+        try (Reader source = new InputStreamReader(new ByteArrayInputStream(bytes), CHARSET)) {
+            profiles = parseProfilesFromJson(source);
+        }
+        if (profiles.isEmpty()) {
+            throw new IOException("프로필이 없는 파일은 반영하지 않습니다");
+        }
+        
+        knownProfilesChecksum = crc;
+        externalReloads.incrementAndGet();
+        recordLoad(PROFILES_FILE + " (외부 변경)", profiles.size(), start);
+        migrateToBinary(profiles);
+        return profiles;
+    }
+    
+    private static long checksum(byte[]... chunks) {
+        CRC32 crc = new CRC32();
+        for (byte[] chunk : chunks) {
+            crc.update(chunk, 0, chunk.length);
+        }
+        return crc.getValue();
+    }
+    
+    /**
+     * 이진 저장소에서 프로필 로드
+     * 파일이 없거나, JSON보다 오래되었거나, 손상되었으면 null (JSON 경로로 진행)
+     */
+    private List<UserProfile> loadBinaryProfiles() {
+        Path binaryPath = Paths.get(DATA_DIR, PROFILES_BINARY_FILE);
+        Path jsonPath = Paths.get(DATA_DIR, PROFILES_FILE);
+        
+        try {
+            if (!Files.exists(binaryPath)) return null;
             
-            System.out.println("📖 프로필 파일 읽기 시작...");
-            String content = readFromFile(profilesPath);
-            System.out.println("📝 파일 내용 길이: " + content.length() + " 문자");
-            
-            profiles = parseProfilesFromJson(content);
-            System.out.println("🔄 파싱 결과: " + profiles.size() + "개 프로필");
-            
-            if (profiles.isEmpty()) {
-                System.out.println("⚠️ 파싱된 프로필이 없어서 기본 프로필들을 생성합니다");
-                profiles.add(UserProfile.createPomodoroProfile());
-                profiles.add(UserProfile.createLongWorkProfile());
-                profiles.add(UserProfile.createShortFocusProfile());
-                System.out.println("✅ 기본 프로필 3개 생성 완료");
+            // JSON을 직접 고쳤거나 이전 버전이 JSON만 저장한 경우 JSON을 우선
+            if (Files.exists(jsonPath)
+                    && Files.getLastModifiedTime(jsonPath).compareTo(Files.getLastModifiedTime(binaryPath)) > 0) {
+                System.out.println("ℹ️ profiles.json이 이진 저장소보다 최신이므로 JSON에서 로드합니다");
+                return null;
             }
             
+            List<UserProfile> profiles = BinaryProfileStore.decode(Files.readAllBytes(binaryPath));
+            return profiles.isEmpty() ? null : profiles;
+            
         } catch (Exception e) {
-            System.err.println("❌ 프로필 로드 실패: " + e.getMessage());
-            e.printStackTrace();
-            // 에러 시 기본 프로필 반환
-            profiles.clear();
-            profiles.add(UserProfile.createPomodoroProfile());
-            profiles.add(UserProfile.createLongWorkProfile());
-            profiles.add(UserProfile.createShortFocusProfile());
-            System.out.println("🔧 에러 복구: 기본 프로필 3개 생성");
+            System.err.println("⚠️ 이진 프로필 로드 실패, JSON으로 대체: " + e.getMessage());
+            return null;
         }
-        
-        return profiles;
+    }
+    
+    /**
+     * JSON에서 읽은 프로필로 이진 저장소 생성
+     */
+    private void migrateToBinary(List<UserProfile> profiles) {
+        try {
+            byte[][] binary = { BinaryProfileStore.encode(profiles) };
+            writeDurably(() -> writeAtomically(Paths.get(DATA_DIR, PROFILES_BINARY_FILE), binary, false), null, null);
+            System.out.println("📦 이진 프로필 저장소 갱신: " + profiles.size() + "개");
+        } catch (IOException e) {
+            System.err.println("이진 프로필 저장소 생성 실패: " + e.getMessage());
+        }
+    }
+    
+    private void recordLoad(String source, int count, long startNanos) {
+        lastLoadSource = source;
+        lastLoadNanos = System.nanoTime() - startNanos;
+        System.out.println(String.format("✅ 프로필 %d개 로드 (%s, %.2fms)",
+            count, source, lastLoadNanos / (double) TimerConstants.NANOS_PER_MILLISECOND));
+    }
+    
+    /**
+     * 마지막 프로필 로드의 출처와 소요 시간
+     */
+    public String getLastLoadStatus() {
+        return String.format("%s에서 %.2fms", lastLoadSource, lastLoadNanos / (double) TimerConstants.NANOS_PER_MILLISECOND);
     }
     
     /**
      * 애플리케이션 설정 저장
      */
-    public void saveSettings(Map<String, Object> settings) {
+    @Override
+    public synchronized void saveSettings(Map<String, Object> settings) throws IOException {
         try {
+            // 마지막으로 저장한 내용과 같으면 settings.json을 건드리지 않음
+            if (settings.equals(lastSavedSettings)) {
+                settingsWritesSkipped.incrementAndGet();
+                return;
+            }
+            
             StringBuilder json = new StringBuilder();
             json.append("{\n");
             
@@ -162,34 +410,39 @@ public class JsonDataManager {
             
             json.append("}");
             
-            writeToFile(Paths.get(DATA_DIR, SETTINGS_FILE), json.toString());
+            byte[][] bytes = { json.toString().getBytes(CHARSET) };
+            Map<String, Object> saved = new HashMap<>(settings);
+            writeDurably(() -> writeAtomically(Paths.get(DATA_DIR, SETTINGS_FILE), bytes, true),
+                         () -> lastSavedSettings = saved, () -> lastSavedSettings = null);
             
-        } catch (Exception e) {
+        } catch (IOException e) {
             System.err.println("설정 저장 실패: " + e.getMessage());
+            throw e;
         }
     }
     
     /**
      * 애플리케이션 설정 로드
      */
+    @Override
     public Map<String, Object> loadSettings() {
-        Map<String, Object> settings = new HashMap<>();
+        Path settingsPath = Paths.get(DATA_DIR, SETTINGS_FILE);
         
-        try {
-            Path settingsPath = Paths.get(DATA_DIR, SETTINGS_FILE);
-            if (!Files.exists(settingsPath)) {
-                return getDefaultSettings();
+        for (Path candidate : getReadCandidates(settingsPath)) {
+            try (Reader source = openReader(candidate)) {
+                Map<String, Object> settings = parseSettingsFromJson(source);
+                if (!candidate.equals(settingsPath)) {
+                    backupRecoveries.incrementAndGet();
+                    System.out.println("🛟 백업에서 설정 복구: " + candidate.getFileName());
+                }
+                return settings;
+                
+            } catch (Exception e) {
+                System.err.println("설정 로드 실패 (" + candidate.getFileName() + "): " + e.getMessage());
             }
-            
-            String content = readFromFile(settingsPath);
-            settings = parseSettingsFromJson(content);
-            
-        } catch (Exception e) {
-            System.err.println("설정 로드 실패: " + e.getMessage());
-            return getDefaultSettings();
         }
         
-        return settings;
+        return getDefaultSettings();
     }
     
     /**
@@ -207,256 +460,381 @@ public class JsonDataManager {
     }
     
     /**
-     * JSON에서 프로필 목록 파싱
+     * JSON에서 프로필 목록 파싱 (스트리밍 리더로 한 번만 훑으며 UserProfile에 직접 바인딩)
+     * 잘리거나 손상된 파일은 구문 오류로 거부하여 백업으로 복구할 수 있게 함
      */
-    private List<UserProfile> parseProfilesFromJson(String json) {
+    private List<UserProfile> parseProfilesFromJson(Reader source) throws IOException {
+        return drain(new JsonProfileSource(source, null, -1));
+    }
+    
+    private static List<UserProfile> drain(ProfileImportPipeline.ProfileSource source) throws IOException {
         List<UserProfile> profiles = new ArrayList<>();
+        UserProfile profile;
+        while ((profile = source.next()) != null) {
+            profiles.add(profile);
+        }
+        return profiles;
+    }
+    
+    /**
+     * 개별 프로필 객체 읽기 (없는 필드는 UserProfile 기본값 유지)
+     */
+    private UserProfile readProfile(JsonStreamReader reader) throws IOException {
+        UserProfile profile = new UserProfile();
         
-        try {
-            System.out.println("🔍 JSON 파싱 시작...");
-            System.out.println("📋 JSON 내용 미리보기: " + json.substring(0, Math.min(200, json.length())) + "...");
-            
-            // 간단한 JSON 파싱 (정규식 사용)
-            String profilesSection = extractJsonArray(json, "profiles");
-            System.out.println("📦 profiles 섹션 길이: " + profilesSection.length());
-            System.out.println("📋 profiles 섹션 미리보기: " + profilesSection.substring(0, Math.min(100, profilesSection.length())) + "...");
-            
-            if (profilesSection.isEmpty()) {
-                System.out.println("❌ profiles 섹션이 비어있습니다!");
-                return profiles;
+        // 모든 알림을 비활성화로 시작
+        Map<TimerModel.NotificationType, Boolean> notificationSettings = new HashMap<>();
+        for (TimerModel.NotificationType type : NOTIFICATION_TYPES) {
+            notificationSettings.put(type, false);
+        }
+        
+        reader.beginObject();
+        while (reader.hasNext()) {
+            int field = reader.nextName(PROFILE_FIELDS);
+            if (reader.peek() == JsonStreamReader.Token.NULL) {
+                reader.nextNull();
+                continue;
             }
             
-            String[] profileStrings = splitJsonObjects(profilesSection);
-            System.out.println("✂️ 분할된 프로필 객체 수: " + profileStrings.length);
-            
-            for (int i = 0; i < profileStrings.length; i++) {
-                String profileStr = profileStrings[i];
-                System.out.println("🔄 프로필 " + (i+1) + " 파싱 시작: " + profileStr.substring(0, Math.min(50, profileStr.length())) + "...");
-                
-                UserProfile profile = parseProfile(profileStr);
-                if (profile != null) {
-                    profiles.add(profile);
-                    System.out.println("✅ 프로필 파싱 성공: " + profile.getProfileName());
-                } else {
-                    System.out.println("❌ 프로필 파싱 실패: " + (i+1));
-                }
+            switch (field) {
+                case 0: profile.setProfileName(reader.nextString()); break;
+                case 1: profile.setWorkMinutes(reader.nextInt()); break;
+                case 2: profile.setBreakMinutes(reader.nextInt()); break;
+                case 3: profile.setPomodoroMode(reader.nextBoolean()); break;
+                case 4: profile.setSoundEnabled(reader.nextBoolean()); break;
+                case 5: profile.setPopupEnabled(reader.nextBoolean()); break;
+                case 6: profile.setFlashEnabled(reader.nextBoolean()); break;
+                case 7: profile.setSnoozeMinutes(reader.nextInt()); break;
+                case 8: profile.setAutoStart(reader.nextBoolean()); break;
+                case 9: profile.setMinimizeToTray(reader.nextBoolean()); break;
+                case 10: readEnabledNotifications(reader, notificationSettings); break;
+                default: reader.skipValue(); break;
             }
-            
-        } catch (Exception e) {
-            System.err.println("❌ JSON 파싱 실패: " + e.getMessage());
-            e.printStackTrace();
         }
+        reader.endObject();
         
-        return profiles;
+        // 프로필에 알림 설정 적용
+        profile.setNotificationSettings(notificationSettings);
+        return profile;
     }
     
     /**
-     * 개별 프로필 파싱
+     * enabledNotifications 배열 읽기 (잘못된 알림 유형은 무시)
      */
-    private UserProfile parseProfile(String jsonStr) {
-        try {
-            UserProfile profile = new UserProfile();
-            
-            profile.setProfileName(extractJsonString(jsonStr, "profileName"));
-            profile.setWorkMinutes(extractJsonInt(jsonStr, "workMinutes"));
-            profile.setBreakMinutes(extractJsonInt(jsonStr, "breakMinutes"));
-            profile.setPomodoroMode(extractJsonBoolean(jsonStr, "pomodoroMode"));
-            profile.setSoundEnabled(extractJsonBoolean(jsonStr, "soundEnabled"));
-            profile.setPopupEnabled(extractJsonBoolean(jsonStr, "popupEnabled"));
-            profile.setFlashEnabled(extractJsonBoolean(jsonStr, "flashEnabled"));
-            profile.setSnoozeMinutes(extractJsonInt(jsonStr, "snoozeMinutes"));
-            profile.setAutoStart(extractJsonBoolean(jsonStr, "autoStart"));
-            profile.setMinimizeToTray(extractJsonBoolean(jsonStr, "minimizeToTray"));
-            
-            // 알림 유형 파싱
-            String notificationsStr = extractJsonArray(jsonStr, "enabledNotifications");
-            String[] notificationNames = splitJsonArrayValues(notificationsStr);
-            
-            // 모든 알림을 비활성화로 시작
-            Map<TimerModel.NotificationType, Boolean> notificationSettings = new HashMap<>();
-            for (TimerModel.NotificationType type : TimerModel.NotificationType.values()) {
-                notificationSettings.put(type, false);
+    private void readEnabledNotifications(JsonStreamReader reader,
+                                          Map<TimerModel.NotificationType, Boolean> notificationSettings) throws IOException {
+        reader.beginArray();
+        while (reader.hasNext()) {
+            if (reader.peek() != JsonStreamReader.Token.STRING) {
+                reader.skipValue();
+                continue;
             }
-            
-            // JSON에서 가져온 활성화된 알림들을 설정
-            for (String name : notificationNames) {
-                try {
-                    TimerModel.NotificationType type = TimerModel.NotificationType.valueOf(name.trim());
-                    notificationSettings.put(type, true);
-                } catch (Exception e) {
-                    // 잘못된 알림 유형은 무시
-                    System.err.println("알 수 없는 알림 유형: " + name);
-                }
+            int index = reader.nextString(NOTIFICATION_NAMES);
+            if (index >= 0) {
+                notificationSettings.put(NOTIFICATION_TYPES[index], true);
+            } else {
+                System.err.println("알 수 없는 알림 유형을 무시합니다");
             }
-            
-            // 프로필에 알림 설정 적용
-            profile.setNotificationSettings(notificationSettings);
-            
-            return profile;
-            
-        } catch (Exception e) {
-            System.err.println("프로필 파싱 실패: " + e.getMessage());
-            return null;
         }
+        reader.endArray();
     }
     
     /**
-     * JSON에서 설정 파싱
+     * JSON에서 설정 파싱 (문자열/숫자/불린 값만 보관, 중첩 값은 건너뜀)
      */
-    private Map<String, Object> parseSettingsFromJson(String json) {
+    private Map<String, Object> parseSettingsFromJson(Reader source) throws IOException {
         Map<String, Object> settings = new HashMap<>();
         
-        // 간단한 키-값 파싱
-        String[] lines = json.split("\n");
-        for (String line : lines) {
-            line = line.trim();
-            if (line.contains(":") && !line.startsWith("{") && !line.startsWith("}")) {
-                String[] parts = line.split(":", 2);
-                if (parts.length == 2) {
-                    String key = parts[0].trim().replaceAll("\"", "");
-                    String value = parts[1].trim().replaceAll("[,}]", "");
-                    
-                    // 값 타입 추론
-                    if (value.equals("true") || value.equals("false")) {
-                        settings.put(key, Boolean.parseBoolean(value));
-                    } else if (value.matches("-?\\d+")) {
-                        settings.put(key, Integer.parseInt(value));
-                    } else {
-                        settings.put(key, value.replaceAll("\"", ""));
-                    }
-                }
+        JsonStreamReader reader = new JsonStreamReader(source);
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String key = reader.nextName();
+            switch (reader.peek()) {
+                case STRING: settings.put(key, reader.nextString()); break;
+                case NUMBER: settings.put(key, reader.nextNumber()); break;
+                case BOOLEAN: settings.put(key, reader.nextBoolean()); break;
+                default: reader.skipValue(); break;
             }
         }
+        reader.endObject();
         
         return settings;
     }
     
-    // 유틸리티 메서드들
-    private String extractJsonString(String json, String key) {
-        String pattern = "\"" + key + "\"\\s*:\\s*\"([^\"]+)\"";
-        java.util.regex.Pattern p = java.util.regex.Pattern.compile(pattern);
-        java.util.regex.Matcher m = p.matcher(json);
-        return m.find() ? m.group(1) : "";
-    }
-    
-    private int extractJsonInt(String json, String key) {
-        String pattern = "\"" + key + "\"\\s*:\\s*(\\d+)";
-        java.util.regex.Pattern p = java.util.regex.Pattern.compile(pattern);
-        java.util.regex.Matcher m = p.matcher(json);
-        return m.find() ? Integer.parseInt(m.group(1)) : 0;
-    }
-    
-    private boolean extractJsonBoolean(String json, String key) {
-        String pattern = "\"" + key + "\"\\s*:\\s*(true|false)";
-        java.util.regex.Pattern p = java.util.regex.Pattern.compile(pattern);
-        java.util.regex.Matcher m = p.matcher(json);
-        return m.find() ? Boolean.parseBoolean(m.group(1)) : false;
+    private static String escapeJson(String str) {
+        return str.replace("\\", "\\\\").replace("\"", "\\\"");
     }
     
-    private String extractJsonArray(String json, String key) {
-        System.out.println("🔍 배열 추출 시작: '" + key + "'");
-        
-        // "profiles": [ 를 찾습니다
-        String startPattern = "\"" + key + "\"\\s*:\\s*\\[";
-        java.util.regex.Pattern p = java.util.regex.Pattern.compile(startPattern);
-        java.util.regex.Matcher m = p.matcher(json);
-        
-        if (!m.find()) {
-            System.out.println("❌ 시작 패턴을 찾을 수 없습니다: " + startPattern);
-            return "";
-        }
-        
-        int startIndex = m.end(); // [ 다음 위치
-        System.out.println("✅ 시작 위치 발견: " + startIndex);
-        
-        // 이제 [ 부터 매칭되는 ] 를 찾습니다
-        int bracketCount = 1; // 이미 [ 하나를 시작했습니다
-        int endIndex = -1;
+    /**
+     * 💾 데이터 파일 쓰기를 쓰기 전용 스레드에서 수행
+     * EDT에서 호출되면 기다리지 않고 예약만 하며(실패는 다음 flush()가 던짐), 다른 스레드에서는 완료까지 기다림
+     * 마지막 저장 내용 캐시는 쓰기가 실제로 성공한 뒤에만 갱신하고 실패하면 무효화하므로,
+     * 비동기 쓰기가 실패해도 다음 저장이 같은 내용이라는 이유로 생략되지 않음
+     * @param onSuccess 쓰기 성공 후 쓰기 스레드에서 실행 (null 가능)
+     * @param onFailure 쓰기 실패 후 쓰기 스레드에서 실행 (null 가능)
+     */
+    private void writeDurably(WriteAction write, Runnable onSuccess, Runnable onFailure) throws IOException {
+        Callable<Void> task = () -> {
+            try {
+                write.run();
+            } catch (IOException | RuntimeException e) {
+                if (onFailure != null) onFailure.run();
+                throw e;
+            }
+            if (onSuccess != null) onSuccess.run();
+            return null;
+        };
         
-        for (int i = startIndex; i < json.length(); i++) {
-            char c = json.charAt(i);
-            if (c == '[') {
-                bracketCount++;
-            } else if (c == ']') {
-                bracketCount--;
-                if (bracketCount == 0) {
-                    endIndex = i;
-                    break;
+        if (EventQueue.isDispatchThread()) {
+            writer.execute(() -> {
+                try {
+                    task.call();
+                } catch (Exception e) {
+                    System.err.println("❌ 파일 저장 실패: " + e.getMessage());
+                    asyncWriteFailure.set(e instanceof IOException ? (IOException) e : new IOException(e));
                 }
-            }
+            });
+            return;
         }
         
-        if (endIndex == -1) {
-            System.out.println("❌ 매칭되는 ] 를 찾을 수 없습니다");
-            return "";
+        Future<?> pending = writer.submit(task);
+        try {
+            pending.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof IOException ? (IOException) cause : new IOException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("저장 대기 중 인터럽트");
         }
-        
-        String result = json.substring(startIndex, endIndex);
-        System.out.println("✅ 배열 추출 성공: " + result.length() + " 문자");
-        System.out.println("📝 추출된 내용 미리보기: " + result.substring(0, Math.min(100, result.length())) + "...");
-        
-        return result;
     }
     
-    private String[] splitJsonObjects(String jsonArray) {
-        System.out.println("✂️ JSON 객체 분할 시작...");
-        System.out.println("📜 입력 내용 길이: " + jsonArray.length());
-        System.out.println("📜 입력 내용: " + jsonArray.substring(0, Math.min(150, jsonArray.length())) + "...");
-        
-        List<String> objects = new ArrayList<>();
-        int braceCount = 0;
-        StringBuilder current = new StringBuilder();
+    /**
+     * 임시 파일에 쓰고 fsync 후 원자적으로 교체 (교체 전 기존 파일은 백업으로 보관)
+     * 쓰는 도중 중단되어도 본 파일은 이전 내용 그대로 남음
+     */
+    private void writeAtomically(Path target, byte[][] chunks, boolean keepBackups) throws IOException {
+        long start = System.nanoTime();
+        Path temp = target.resolveSibling(target.getFileName() + TEMP_SUFFIX);
         
-        for (int i = 0; i < jsonArray.length(); i++) {
-            char c = jsonArray.charAt(i);
-            current.append(c);
+        try {
+            try (FileChannel channel = FileChannel.open(temp,
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                writeFully(channel, chunks);
+                channel.force(true);
+            }
             
-            if (c == '{') {
-                braceCount++;
-                System.out.println("🔍 인덱스 " + i + ": '{' 발견, braceCount = " + braceCount);
-            } else if (c == '}') {
-                braceCount--;
-                System.out.println("🔍 인덱스 " + i + ": '}' 발견, braceCount = " + braceCount);
-                
-                if (braceCount == 0) {
-                    String obj = current.toString().trim();
-                    System.out.println("✅ 객체 " + (objects.size() + 1) + " 추출 완료: " + obj.length() + " 문자");
-                    System.out.println("📝 객체 내용: " + obj.substring(0, Math.min(100, obj.length())) + "...");
-                    objects.add(obj);
-                    current = new StringBuilder();
-                }
+            if (keepBackups) {
+                rotateBackups(target);
             }
+            
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            syncDirectory(target.toAbsolutePath().getParent());
+            
+        } catch (IOException e) {
+            writeFailures.incrementAndGet();
+            Files.deleteIfExists(temp);
+            throw e;
         }
         
-        System.out.println("🏁 최종 결과: " + objects.size() + "개 객체 분할 완료");
-        
-        return objects.toArray(new String[0]);
+        long elapsed = System.nanoTime() - start;
+        writeCount.incrementAndGet();
+        totalWriteNanos.addAndGet(elapsed);
+        maxWriteNanos.accumulateAndGet(elapsed, Math::max);
     }
     
-    private String[] splitJsonArrayValues(String arrayContent) {
-        if (arrayContent == null || arrayContent.trim().isEmpty()) {
-            return new String[0];
+    /**
+     * 여러 조각을 순서대로 모아 쓰기 (다 쓴 조각은 건너뛰며 진행)
+     */
+    private static void writeFully(FileChannel channel, byte[][] chunks) throws IOException {
+        ByteBuffer[] buffers = new ByteBuffer[chunks.length];
+        for (int i = 0; i < chunks.length; i++) {
+            buffers[i] = ByteBuffer.wrap(chunks[i]);
         }
-        
-        String[] values = arrayContent.split(",");
-        // 따옴표 제거 및 공백 제거
-        for (int i = 0; i < values.length; i++) {
-            values[i] = values[i].trim().replaceAll("^\"|\"$", ""); // 양쪽 따옴표 제거
+        int offset = 0;
+        while (offset < buffers.length) {
+            channel.write(buffers, offset, buffers.length - offset);
+            while (offset < buffers.length && !buffers[offset].hasRemaining()) {
+                offset++;
+            }
         }
+    }
+    
+    /**
+     * 백업 회전: .bak.1(가장 최근) ~ .bak.N, 현재 파일은 .bak.1로 복사
+     */
+    private void rotateBackups(Path target) throws IOException {
+        int count = TimerConstants.SETTINGS_BACKUP_COUNT;
+        if (count <= 0 || !Files.exists(target)) return;
         
-        return values;
+        Files.deleteIfExists(getBackupPath(target, count));
+        for (int i = count - 1; i >= 1; i--) {
+            Path from = getBackupPath(target, i);
+            if (Files.exists(from)) {
+                Files.move(from, getBackupPath(target, i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Files.copy(target, getBackupPath(target, 1), StandardCopyOption.REPLACE_EXISTING);
     }
     
-    private String escapeJson(String str) {
-        return str.replace("\\", "\\\\").replace("\"", "\\\"");
+    private Path getBackupPath(Path target, int index) {
+        return target.resolveSibling(target.getFileName() + BACKUP_SUFFIX + index);
+    }
+    
+    /**
+     * 이름 변경을 디스크에 반영 (디렉토리 fsync를 지원하지 않는 OS에서는 무시)
+     */
+    private void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException | UnsupportedOperationException e) {
+            // Windows 등에서는 디렉토리를 열 수 없음
+        }
+    }
+    
+    /**
+     * 읽기 시도 순서: 본 파일, 그다음 최근 백업부터
+     */
+    private List<Path> getReadCandidates(Path target) {
+        List<Path> candidates = new ArrayList<>();
+        if (Files.exists(target)) {
+            candidates.add(target);
+        }
+        for (int i = 1; i <= TimerConstants.SETTINGS_BACKUP_COUNT; i++) {
+            Path backup = getBackupPath(target, i);
+            if (Files.exists(backup)) {
+                candidates.add(backup);
+            }
+        }
+        return candidates;
+    }
+    
+    /**
+     * 지금까지 예약된 쓰기가 디스크에 반영될 때까지 기다림 (EDT에서 예약한 쓰기 포함)
+     * @throws IOException 그사이 예약된 쓰기가 실패한 경우
+     */
+    @Override
+    public void flush() throws IOException {
+        try {
+            // 쓰기 스레드는 하나이므로 빈 작업이 끝나면 앞선 쓰기도 모두 끝난 것
+            writer.submit(() -> { }).get();
+        } catch (RejectedExecutionException e) {
+            // 종료됨: shutdown()이 남은 쓰기를 모두 기다렸음
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("저장 대기 중 인터럽트");
+        }
+        IOException failure = asyncWriteFailure.getAndSet(null);
+        if (failure != null) {
+            throw failure;
+        }
+    }
+    
+    /**
+     * 예약된 쓰기를 모두 마치고 쓰기 스레드 종료
+     */
+    @Override
+    public void shutdown() {
+        try {
+            writer.execute(this::rebuildBinaryProfiles);
+        } catch (RejectedExecutionException e) {
+            // 이미 종료됨
+        }
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(TimerConstants.DATA_WRITER_SHUTDOWN_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                System.err.println("⚠️ 저장 작업이 제한 시간 내에 끝나지 않았습니다");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    /**
+     * 미뤄 둔 이진 저장소를 마지막으로 저장한 프로필로 다시 만듦 (쓰기 스레드에서 앞선 쓰기가 모두 끝난 뒤 실행)
+     * 비정상 종료로 반영하지 못하면 다음 시작 때 더 최신인 JSON에서 로드한 뒤 다시 만듦
+     */
+    private void rebuildBinaryProfiles() {
+        List<UserProfile> profiles = pendingBinaryProfiles;
+        if (profiles == null) return;
+        pendingBinaryProfiles = null;
+        try {
+            byte[][] binary = { BinaryProfileStore.encode(profiles) };
+            writeAtomically(Paths.get(DATA_DIR, PROFILES_BINARY_FILE), binary, false);
+            binaryRebuilds.incrementAndGet();
+        } catch (IOException | RuntimeException e) {
+            System.err.println("이진 프로필 저장소 갱신 실패: " + e.getMessage());
+        }
+    }
+    
+    public long getWriteCount() { return writeCount.get(); }
+    public long getBinaryRebuilds() { return binaryRebuilds.get(); }
+    public long getBackupRecoveries() { return backupRecoveries.get(); }
+    
+    /**
+     * 평균 쓰기 지연 (밀리초, fsync 포함)
+     */
+    public double getAverageWriteMillis() {
+        long count = writeCount.get();
+        return count == 0 ? 0.0 : totalWriteNanos.get() / (double) count / TimerConstants.NANOS_PER_MILLISECOND;
+    }
+    
+    public double getMaxWriteMillis() {
+        return maxWriteNanos.get() / (double) TimerConstants.NANOS_PER_MILLISECOND;
+    }
+    
+    /**
+     * 저장 상태 문자열
+     */
+    public String getWriteStatus() {
+        return String.format("저장 %d회 (실패 %d) | 평균 %.2fms, 최대 %.2fms | 백업 복구 %d회 | " +
+                "프로필 인코딩 %d, 재사용 %d | 생략: 프로필 %d, 설정 %d | 외부 변경 반영 %d, 자체 저장 무시 %d | 이진 저장소 갱신 %d회",
+            writeCount.get(), writeFailures.get(), getAverageWriteMillis(), getMaxWriteMillis(), backupRecoveries.get(),
+            profilesEncoded.get(), fragmentsReused.get(), profileWritesSkipped.get(), settingsWritesSkipped.get(),
+            externalReloads.get(), selfWritesIgnored.get(), binaryRebuilds.get());
+    }
+    
+    @Override
+    public String getStatus() {
+        return getWriteStatus();
     }
     
-    private void writeToFile(Path path, String content) throws IOException {
-        Files.write(path, content.getBytes(), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+    public long getProfilesEncoded() { return profilesEncoded.get(); }
+    public long getFragmentsReused() { return fragmentsReused.get(); }
+    
+    /**
+     * 쓰기 스레드에서 실행할 파일 쓰기
+     */
+    @FunctionalInterface
+    private interface WriteAction {
+        void run() throws IOException;
+    }
+    
+    /**
+     * 프로필 하나의 직렬화 결과와 그때의 프로필 버전
+     */
+    private static final class ProfileFragment {
+        final int version;
+        final byte[] bytes;
+        
+        ProfileFragment(int version, byte[] bytes) {
+            this.version = version;
+            this.bytes = bytes;
+        }
     }
     
     private String readFromFile(Path path) throws IOException {
-        return new String(Files.readAllBytes(path));
+        return new String(Files.readAllBytes(path), CHARSET);
+    }
+    
+    private Reader openReader(Path path) throws IOException {
+        return new InputStreamReader(Files.newInputStream(path), CHARSET);
     }
     
     // ============================================
@@ -466,6 +844,7 @@ public class JsonDataManager {
     /**
      * 현재 저장된 데이터 상태 출력 (디버깅용)
      */
+    @Override
     public void printDataStatus() {
         System.out.println("\n=== 📊 데이터 상태 확인 ===");
         
@@ -497,6 +876,8 @@ public class JsonDataManager {
             }
         }
         
+        System.out.println("마지막 프로필 로드: " + getLastLoadStatus());
+        System.out.println("저장 통계: " + getWriteStatus());
         System.out.println("========================\n");
     }
     
@@ -527,123 +908,131 @@ public class JsonDataManager {
      * 📤 프로필을 JSON 파일로 내보내기
      */
     public void exportProfilesToFile(List<UserProfile> profiles, String filePath) throws IOException {
-        StringBuilder json = new StringBuilder();
-        json.append("{\n");
-        json.append("  \"export_info\": {\n");
-        json.append("    \"app_name\": \"CodeBreak\",\n");
-        json.append("    \"version\": \"1.0\",\n");
-        json.append("    \"export_date\": \"").append(new java.text.SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(new java.util.Date())).append("\",\n");
-        json.append("    \"profile_count\": ").append(profiles.size()).append("\n");
-        json.append("  },\n");
-        json.append("  \"profiles\": [\n");
+        exportProfiles(profiles, null, filePath, null);
+        System.out.println("✅ 프로필을 JSON 파일로 내보내기 완료: " + filePath);
+    }
+    
+    /**
+     * 📤 프로필을 텍스트 파일로 내보내기
+     */
+    public void exportProfilesToTextFile(List<UserProfile> profiles, String filePath) throws IOException {
+        exportProfiles(profiles, null, null, filePath);
+        System.out.println("✅ 프로필을 텍스트 파일로 내보내기 완료: " + filePath);
+    }
+    
+    /**
+     * 📤 프로필 목록을 한 번 순회하며 JSON과 텍스트 파일로 동시에 내보내기
+     * 문서 전체를 메모리에 만들지 않고 UTF-8 버퍼 Writer로 바로 쓰므로 프로필 수와 관계없이 추가 메모리가 일정함
+     * @param filter 내보낼 프로필 조건 (null이면 전체)
+     * @param jsonPath JSON 파일 경로 (null이면 JSON은 쓰지 않음)
+     * @param textPath 텍스트 파일 경로 (null이면 텍스트는 쓰지 않음)
+     * @return 내보낸 프로필 수
+     */
+    public int exportProfiles(List<UserProfile> profiles, Predicate<UserProfile> filter,
+                              String jsonPath, String textPath) throws IOException {
+        if (jsonPath == null && textPath == null) {
+            throw new IllegalArgumentException("내보낼 파일 경로가 없습니다");
+        }
         
-        for (int i = 0; i < profiles.size(); i++) {
-            UserProfile profile = profiles.get(i);
-            json.append("    {\n");
-            json.append("      \"profileName\": \"").append(escapeJson(profile.getProfileName())).append("\",\n");
-            json.append("      \"workMinutes\": ").append(profile.getWorkMinutes()).append(",\n");
-            json.append("      \"breakMinutes\": ").append(profile.getBreakMinutes()).append(",\n");
-            json.append("      \"pomodoroMode\": ").append(profile.isPomodoroMode()).append(",\n");
-            json.append("      \"soundEnabled\": ").append(profile.isSoundEnabled()).append(",\n");
-            json.append("      \"popupEnabled\": ").append(profile.isPopupEnabled()).append(",\n");
-            json.append("      \"flashEnabled\": ").append(profile.isFlashEnabled()).append(",\n");
-            json.append("      \"snoozeMinutes\": ").append(profile.getSnoozeMinutes()).append(",\n");
-            json.append("      \"autoStart\": ").append(profile.isAutoStart()).append(",\n");
-            json.append("      \"minimizeToTray\": ").append(profile.isMinimizeToTray()).append(",\n");
+        // JSON 머리말에 개수가 먼저 나오므로 조건만 미리 한 번 검사
+        int count = profiles.size();
+        if (filter != null) {
+            count = 0;
+            for (UserProfile profile : profiles) {
+                if (filter.test(profile)) count++;
+            }
+        }
+        
+        Date now = new Date();
+        try (Writer json = jsonPath != null ? openWriter(jsonPath) : null;
+             Writer text = textPath != null ? openWriter(textPath) : null) {
             
-            // 활성화된 알림 유형들
-            json.append("      \"enabledNotifications\": [");
-            Map<TimerModel.NotificationType, Boolean> notificationSettings = profile.getNotificationSettings();
-            List<String> enabledTypes = new ArrayList<>();
-            for (TimerModel.NotificationType type : TimerModel.NotificationType.values()) {
-                if (notificationSettings.getOrDefault(type, false)) {
-                    enabledTypes.add(type.name());
+            if (json != null) writeJsonExportHeader(json, count, now);
+            if (text != null) writeTextExportHeader(text, now);
+            
+            int written = 0;
+            for (UserProfile profile : profiles) {
+                if (filter != null && !filter.test(profile)) continue;
+                
+                if (json != null) {
+                    if (written > 0) json.write(",\n");
+                    writeProfileJson(json, profile);
                 }
+                if (text != null) {
+                    writeProfileText(text, profile);
+                }
+                written++;
             }
-            for (int j = 0; j < enabledTypes.size(); j++) {
-                json.append("\"").append(enabledTypes.get(j)).append("\"");
-                if (j < enabledTypes.size() - 1) json.append(", ");
-            }
-            json.append("]\n");
             
-            json.append("    }");
-            if (i < profiles.size() - 1) json.append(",");
-            json.append("\n");
+            if (json != null) {
+                json.write(written > 0 ? "\n  ]\n}" : "  ]\n}");
+            }
+            return written;
         }
-        
-        json.append("  ]\n");
-        json.append("}");
-        
-        writeToFile(Paths.get(filePath), json.toString());
-        System.out.println("✅ 프로필을 JSON 파일로 내보내기 완료: " + filePath);
+    }
+    
+    private static Writer openWriter(String filePath) throws IOException {
+        return new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(Paths.get(filePath)), CHARSET),
+                                  EXPORT_WRITE_BUFFER_CHARS);
+    }
+    
+    private static void writeJsonExportHeader(Writer out, int count, Date date) throws IOException {
+        out.write("{\n");
+        out.write("  \"export_info\": {\n");
+        out.write("    \"app_name\": \"CodeBreak\",\n");
+        out.write("    \"version\": \"1.0\",\n");
+        out.write("    \"export_date\": \"" + new java.text.SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(date) + "\",\n");
+        out.write("    \"profile_count\": " + count + "\n");
+        out.write("  },\n");
+        out.write("  \"profiles\": [\n");
+    }
+    
+    private static void writeTextExportHeader(Writer out, Date date) throws IOException {
+        out.write("=== CodeBreak 설정 백업 ===\n");
+        out.write("생성일시: " + date + "\n\n");
+        out.write("=== 프로필 정보 ===\n");
     }
     
     /**
-     * 📤 프로필을 텍스트 파일로 내보내기 (사람이 읽기 쉬운 형식)
+     * 프로필 하나를 텍스트 백업 형식으로 출력
      */
-    public void exportProfilesToTextFile(List<UserProfile> profiles, String filePath) throws IOException {
-        StringBuilder content = new StringBuilder();
-        content.append("=== CodeBreak 설정 백업 ===\n");
-        content.append("생성일시: ").append(new java.util.Date()).append("\n\n");
-        
-        content.append("=== 프로필 정보 ===\n");
-        for (UserProfile profile : profiles) {
-            content.append("프로필: ").append(profile.getProfileName()).append("\n");
-            content.append("  작업시간: ").append(profile.getWorkMinutes()).append("분\n");
-            content.append("  휴식시간: ").append(profile.getBreakMinutes()).append("분\n");
-            content.append("  포모도로 모드: ").append(profile.isPomodoroMode() ? "예" : "아니오").append("\n");
-            content.append("  소리 알림: ").append(profile.isSoundEnabled() ? "예" : "아니오").append("\n");
-            content.append("  팝업 알림: ").append(profile.isPopupEnabled() ? "예" : "아니오").append("\n");
-            content.append("  화면 깜빡임: ").append(profile.isFlashEnabled() ? "예" : "아니오").append("\n");
-            content.append("  스누즈 시간: ").append(profile.getSnoozeMinutes()).append("분\n");
-            content.append("  자동 시작: ").append(profile.isAutoStart() ? "예" : "아니오").append("\n");
-            content.append("  트레이 최소화: ").append(profile.isMinimizeToTray() ? "예" : "아니오").append("\n");
-            
-            // 알림 유형들
-            content.append("  활성화된 알림: ");
-            Map<TimerModel.NotificationType, Boolean> notificationSettings = profile.getNotificationSettings();
-            List<String> enabledTypes = new ArrayList<>();
-            for (TimerModel.NotificationType type : TimerModel.NotificationType.values()) {
-                if (notificationSettings.getOrDefault(type, false)) {
-                    enabledTypes.add(type.getName());
-                }
+    private static void writeProfileText(Appendable out, UserProfile profile) throws IOException {
+        out.append("프로필: ").append(profile.getProfileName()).append("\n");
+        out.append("  작업시간: ").append(Integer.toString(profile.getWorkMinutes())).append("분\n");
+        out.append("  휴식시간: ").append(Integer.toString(profile.getBreakMinutes())).append("분\n");
+        out.append("  포모도로 모드: ").append(profile.isPomodoroMode() ? "예" : "아니오").append("\n");
+        out.append("  소리 알림: ").append(profile.isSoundEnabled() ? "예" : "아니오").append("\n");
+        out.append("  팝업 알림: ").append(profile.isPopupEnabled() ? "예" : "아니오").append("\n");
+        out.append("  화면 깜빡임: ").append(profile.isFlashEnabled() ? "예" : "아니오").append("\n");
+        out.append("  스누즈 시간: ").append(Integer.toString(profile.getSnoozeMinutes())).append("분\n");
+        out.append("  자동 시작: ").append(profile.isAutoStart() ? "예" : "아니오").append("\n");
+        out.append("  트레이 최소화: ").append(profile.isMinimizeToTray() ? "예" : "아니오").append("\n");
+        
+        // 알림 유형들
+        out.append("  활성화된 알림: ");
+        Map<TimerModel.NotificationType, Boolean> notificationSettings = profile.getNotificationSettings();
+        boolean first = true;
+        for (TimerModel.NotificationType type : NOTIFICATION_TYPES) {
+            if (notificationSettings.getOrDefault(type, false)) {
+                if (!first) out.append(", ");
+                out.append(type.getName());
+                first = false;
             }
-            content.append(String.join(", ", enabledTypes)).append("\n");
-            content.append("\n");
         }
-        
-        writeToFile(Paths.get(filePath), content.toString());
-        System.out.println("✅ 프로필을 텍스트 파일로 내보내기 완료: " + filePath);
+        out.append("\n\n");
     }
     
     /**
      * 📥 JSON 파일에서 프로필 불러오기
      */
     public List<UserProfile> importProfilesFromJsonFile(String filePath) throws IOException {
-        if (!Files.exists(Paths.get(filePath))) {
-            throw new IOException("파일을 찾을 수 없습니다: " + filePath);
-        }
-        
-        String content = readFromFile(Paths.get(filePath));
-        System.out.println("📖 JSON 파일 읽기 완료: " + filePath);
-        
-        // JSON 형식 확인
-        if (!content.trim().startsWith("{")) {
-            throw new IOException("올바른 JSON 형식이 아닙니다.");
-        }
-        
-        try {
-            List<UserProfile> profiles = parseProfilesFromJson(content);
-            
+        try (ProfileImportPipeline.ProfileSource source = openProfileSource(filePath, Boolean.TRUE)) {
+            List<UserProfile> profiles = drain(source);
             if (profiles.isEmpty()) {
                 throw new IOException("불러올 수 있는 프로필이 없습니다.");
             }
-            
             System.out.println("✅ JSON 파일에서 " + profiles.size() + "개 프로필 불러오기 완료");
             return profiles;
-            
-        } catch (Exception e) {
-            throw new IOException("JSON 파일 파싱 실패: " + e.getMessage());
         }
     }
     
@@ -651,57 +1040,220 @@ public class JsonDataManager {
      * 📥 텍스트 파일에서 프로필 불러오기 (간단한 형식)
      */
     public List<UserProfile> importProfilesFromTextFile(String filePath) throws IOException {
-        if (!Files.exists(Paths.get(filePath))) {
+        try (ProfileImportPipeline.ProfileSource source = openProfileSource(filePath, Boolean.FALSE)) {
+            List<UserProfile> profiles = drain(source);
+            if (profiles.isEmpty()) {
+                throw new IOException("불러올 수 있는 프로필이 없습니다.");
+            }
+            System.out.println("✅ 텍스트 파일에서 " + profiles.size() + "개 프로필 불러오기 완료");
+            return profiles;
+        }
+    }
+    
+    /**
+     * 📥 불러오기용 스트리밍 원본 열기 (형식 자동 감지)
+     * 파일 전체를 읽지 않고 첫 글자만 보고 JSON/텍스트를 구분하며,
+     * 프로필은 next()를 호출할 때마다 하나씩 파싱됨
+     */
+    public ProfileImportPipeline.ProfileSource openProfileSource(String filePath) throws IOException {
+        return openProfileSource(filePath, null);
+    }
+    
+    /**
+     * @param json TRUE/FALSE면 형식 고정, null이면 자동 감지
+     */
+    private ProfileImportPipeline.ProfileSource openProfileSource(String filePath, Boolean json) throws IOException {
+        Path path = Paths.get(filePath);
+        if (!Files.exists(path)) {
             throw new IOException("파일을 찾을 수 없습니다: " + filePath);
         }
         
-        String content = readFromFile(Paths.get(filePath));
-        System.out.println("📖 텍스트 파일 읽기 완료: " + filePath);
-        
-        List<UserProfile> profiles = new ArrayList<>();
-        
+        CountingInputStream counter = new CountingInputStream(Files.newInputStream(path));
+        BufferedReader reader = new BufferedReader(new InputStreamReader(counter, CHARSET), IMPORT_READ_BUFFER_CHARS);
         try {
-            String[] lines = content.split("\n");
-            UserProfile currentProfile = null;
+            int first = peekFirstSignificantChar(reader);
+            boolean isJson = json != null ? json : first == '{';
+            if (isJson && first != '{') {
+                throw new IOException("올바른 JSON 형식이 아닙니다.");
+            }
+            if (first < 0) {
+                throw new IOException("불러올 수 있는 프로필이 없습니다.");
+            }
             
-            for (String line : lines) {
+            System.out.println("🔍 " + (isJson ? "JSON" : "텍스트") + " 형식으로 불러오기: " + filePath);
+            long total = Files.size(path);
+            return isJson ? new JsonProfileSource(reader, counter, total) : new TextProfileSource(reader, counter, total);
+        } catch (IOException | RuntimeException e) {
+            reader.close();
+            throw e;
+        }
+    }
+    
+    /**
+     * 공백과 BOM을 건너뛴 첫 글자 (읽기 위치는 그대로 둠, 파일이 비었으면 -1)
+     */
+    private static int peekFirstSignificantChar(BufferedReader reader) throws IOException {
+        reader.mark(IMPORT_READ_BUFFER_CHARS);
+        try {
+            int c;
+            do {
+                c = reader.read();
+            } while (c == '\uFEFF' || (c >= 0 && Character.isWhitespace(c)));
+            return c;
+        } finally {
+            reader.reset();
+        }
+    }
+    
+    /**
+     * profiles.json/내보내기 JSON 형식의 "profiles" 배열을 하나씩 읽는 원본
+     */
+    private final class JsonProfileSource implements ProfileImportPipeline.ProfileSource {
+        private final Reader source;
+        private final JsonStreamReader reader;
+        private final CountingInputStream counter;
+        private final long totalBytes;
+        private boolean started;
+        private boolean inProfiles;
+        private boolean finished;
+        
+        JsonProfileSource(Reader source, CountingInputStream counter, long totalBytes) {
+            this.source = source;
+            this.reader = new JsonStreamReader(source);
+            this.counter = counter;
+            this.totalBytes = totalBytes;
+        }
+        
+        @Override
+        public UserProfile next() throws IOException {
+            while (!finished) {
+                if (!started) {
+                    reader.beginObject();
+                    started = true;
+                }
+                
+                if (inProfiles) {
+                    if (!reader.hasNext()) {
+                        reader.endArray();
+                        inProfiles = false;
+                    } else if (reader.peek() == JsonStreamReader.Token.BEGIN_OBJECT) {
+                        return readProfile(reader);
+                    } else {
+                        reader.skipValue();
+                    }
+                    continue;
+                }
+                
+                if (!reader.hasNext()) {
+                    reader.endObject();
+                    finished = true;
+                } else if (reader.nextName(PROFILES_KEY) < 0 || reader.peek() != JsonStreamReader.Token.BEGIN_ARRAY) {
+                    reader.skipValue();  // export_info 등 알 수 없는 필드
+                } else {
+                    reader.beginArray();
+                    inProfiles = true;
+                }
+            }
+            return null;
+        }
+        
+        @Override
+        public long getBytesRead() { return counter != null ? counter.count : -1; }
+        
+        @Override
+        public long getTotalBytes() { return totalBytes; }
+        
+        @Override
+        public void close() throws IOException {
+            source.close();
+        }
+    }
+    
+    /**
+     * 텍스트 백업 형식("프로필: 이름" 다음에 "키: 값" 줄들)을 하나씩 읽는 원본
+     */
+    private final class TextProfileSource implements ProfileImportPipeline.ProfileSource {
+        private static final String PROFILE_PREFIX = "프로필: ";
+        
+        private final BufferedReader reader;
+        private final CountingInputStream counter;
+        private final long totalBytes;
+        private UserProfile pending;  // 속성을 읽고 있는 프로필 (다음 "프로필:" 줄을 만나면 반환)
+        
+        TextProfileSource(BufferedReader reader, CountingInputStream counter, long totalBytes) {
+            this.reader = reader;
+            this.counter = counter;
+            this.totalBytes = totalBytes;
+        }
+        
+        @Override
+        public UserProfile next() throws IOException {
+            String line;
+            while ((line = reader.readLine()) != null) {
                 line = line.trim();
                 
-                if (line.startsWith("프로필: ")) {
-                    // 이전 프로필 저장
-                    if (currentProfile != null) {
-                        profiles.add(currentProfile);
+                if (line.startsWith(PROFILE_PREFIX)) {
+                    UserProfile completed = pending;
+                    pending = new UserProfile(line.substring(PROFILE_PREFIX.length()).trim());
+                    if (completed != null) {
+                        return completed;
                     }
-                    
-                    // 새 프로필 시작
-                    String profileName = line.substring(4).trim();
-                    currentProfile = new UserProfile(profileName);
-                    
-                } else if (currentProfile != null && line.contains(": ")) {
-                    String[] parts = line.split(": ", 2);
-                    if (parts.length == 2) {
-                        String key = parts[0].trim();
-                        String value = parts[1].trim();
-                        
-                        parseTextProfileProperty(currentProfile, key, value);
+                } else if (pending != null) {
+                    int separator = line.indexOf(": ");
+                    if (separator >= 0) {
+                        parseTextProfileProperty(pending, line.substring(0, separator).trim(),
+                                                 line.substring(separator + 2).trim());
                     }
                 }
             }
             
-            // 마지막 프로필 저장
-            if (currentProfile != null) {
-                profiles.add(currentProfile);
-            }
-            
-            if (profiles.isEmpty()) {
-                throw new IOException("불러올 수 있는 프로필이 없습니다.");
-            }
-            
-            System.out.println("✅ 텍스트 파일에서 " + profiles.size() + "개 프로필 불러오기 완료");
-            return profiles;
-            
-        } catch (Exception e) {
-            throw new IOException("텍스트 파일 파싱 실패: " + e.getMessage());
+            // 마지막 프로필
+            UserProfile last = pending;
+            pending = null;
+            return last;
+        }
+        
+        @Override
+        public long getBytesRead() { return counter.count; }
+        
+        @Override
+        public long getTotalBytes() { return totalBytes; }
+        
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+    
+    /**
+     * 읽은 바이트 수를 세는 입력 스트림 (진행률 계산용, 읽는 스레드에서만 사용)
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+        long count;
+        
+        CountingInputStream(InputStream in) {
+            super(new BufferedInputStream(in, IMPORT_READ_BUFFER_CHARS));
+        }
+        
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) count++;
+            return b;
+        }
+        
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) count += n;
+            return n;
+        }
+        
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
         }
     }
     
@@ -783,24 +1335,12 @@ public class JsonDataManager {
      * 🔍 파일 형식 자동 감지 및 불러오기
      */
     public List<UserProfile> importProfilesFromFile(String filePath) throws IOException {
-        if (!Files.exists(Paths.get(filePath))) {
-            throw new IOException("파일을 찾을 수 없습니다: " + filePath);
-        }
-        
-        String content = readFromFile(Paths.get(filePath));
-        
-        // JSON 형식인지 확인
-        if (content.trim().startsWith("{") && content.contains("\"profiles\":")) {
-            System.out.println("🔍 JSON 형식으로 감지됨");
-            return importProfilesFromJsonFile(filePath);
-        }
-        // 텍스트 형식인지 확인
-        else if (content.contains("=== CodeBreak 설정 백업 ===") || content.contains("프로필: ")) {
-            System.out.println("🔍 텍스트 형식으로 감지됨");
-            return importProfilesFromTextFile(filePath);
-        }
-        else {
-            throw new IOException("지원하지 않는 파일 형식입니다. JSON 또는 CodeBreak 텍스트 형식만 지원됩니다.");
+        try (ProfileImportPipeline.ProfileSource source = openProfileSource(filePath)) {
+            List<UserProfile> profiles = drain(source);
+            if (profiles.isEmpty()) {
+                throw new IOException("지원하지 않는 파일 형식입니다. JSON 또는 CodeBreak 텍스트 형식만 지원됩니다.");
+            }
+            return profiles;
         }
     }
     
@@ -809,32 +1349,49 @@ public class JsonDataManager {
      */
     public List<String> validateImportedProfiles(List<UserProfile> profiles) {
         List<String> issues = new ArrayList<>();
-        
         for (int i = 0; i < profiles.size(); i++) {
-            UserProfile profile = profiles.get(i);
-            String prefix = "프로필 " + (i + 1) + " (" + profile.getProfileName() + "): ";
-            
-            // 이름 검증
-            if (profile.getProfileName() == null || profile.getProfileName().trim().isEmpty()) {
-                issues.add(prefix + "프로필 이름이 비어있습니다.");
-            }
-            
-            // 작업시간 검증
-            if (profile.getWorkMinutes() < 1 || profile.getWorkMinutes() > 999) {
-                issues.add(prefix + "작업시간이 유효하지 않습니다 (1-999분): " + profile.getWorkMinutes());
-            }
-            
-            // 휴식시간 검증
-            if (profile.getBreakMinutes() < 0 || profile.getBreakMinutes() > 999) {
-                issues.add(prefix + "휴식시간이 유효하지 않습니다 (0-999분): " + profile.getBreakMinutes());
-            }
-            
-            // 스누즈시간 검증
-            if (profile.getSnoozeMinutes() < 1 || profile.getSnoozeMinutes() > 30) {
-                issues.add(prefix + "스누즈시간이 유효하지 않습니다 (1-30분): " + profile.getSnoozeMinutes());
-            }
+            issues.addAll(validateProfile(profiles.get(i), i));
+        }
+        return issues;
+    }
+    
+    /**
+     * 프로필 하나의 유효성 검증 (상태를 바꾸지 않으므로 여러 스레드에서 동시에 호출 가능)
+     * @param index 파일 안에서의 순서 (0부터)
+     * @return 문제 목록 (없으면 빈 목록)
+     */
+    static List<String> validateProfile(UserProfile profile, int index) {
+        List<String> issues = Collections.emptyList();
+        String name = profile.getProfileName();
+        
+        // 이름 검증
+        if (name == null || name.trim().isEmpty()) {
+            issues = addIssue(issues, profile, index, "프로필 이름이 비어있습니다.");
+        }
+        
+        // 작업시간 검증
+        if (profile.getWorkMinutes() < 1 || profile.getWorkMinutes() > 999) {
+            issues = addIssue(issues, profile, index, "작업시간이 유효하지 않습니다 (1-999분): " + profile.getWorkMinutes());
+        }
+        
+        // 휴식시간 검증
+        if (profile.getBreakMinutes() < 0 || profile.getBreakMinutes() > 999) {
+            issues = addIssue(issues, profile, index, "휴식시간이 유효하지 않습니다 (0-999분): " + profile.getBreakMinutes());
         }
         
+        // 스누즈시간 검증
+        if (profile.getSnoozeMinutes() < 1 || profile.getSnoozeMinutes() > 30) {
+            issues = addIssue(issues, profile, index, "스누즈시간이 유효하지 않습니다 (1-30분): " + profile.getSnoozeMinutes());
+        }
+        
+        return issues;
+    }
+    
+    private static List<String> addIssue(List<String> issues, UserProfile profile, int index, String message) {
+        if (issues.isEmpty()) {
+            issues = new ArrayList<>(2);
+        }
+        issues.add("프로필 " + (index + 1) + " (" + profile.getProfileName() + "): " + message);
         return issues;
     }
 }
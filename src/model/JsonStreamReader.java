@@ -0,0 +1,436 @@
+package model;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * 한 번의 순차 읽기로 JSON을 토큰 단위로 꺼내는 스트리밍 리더
+ * 정규식이나 부분 문자열 없이 고정 크기 버퍼만 사용하며,
+ * 이스케이프(\\uXXXX 포함), 중첩 배열/객체, 알 수 없는 필드 건너뛰기를 지원합니다.
+ */
+public class JsonStreamReader {
+    
+    /**
+     * 다음 토큰 종류
+     */
+    public enum Token {
+        BEGIN_OBJECT, END_OBJECT, BEGIN_ARRAY, END_ARRAY,
+        NAME, STRING, NUMBER, BOOLEAN, NULL, END_DOCUMENT
+    }
+    
+    private static final int BUFFER_SIZE = 8192;
+    
+    // 컨테이너 스택 (중첩 깊이만큼)
+    private static final int SCOPE_EMPTY_OBJECT = 1;
+    private static final int SCOPE_OBJECT = 2;        // 첫 멤버 이후
+    private static final int SCOPE_OBJECT_VALUE = 3;  // 이름을 읽고 값 대기
+    private static final int SCOPE_EMPTY_ARRAY = 4;
+    private static final int SCOPE_ARRAY = 5;
+    private static final int SCOPE_DOCUMENT = 6;
+    
+    private final Reader in;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int pos;
+    private int limit;
+    private long consumed;  // 오류 위치 표시용
+    
+    private int[] stack = new int[16];
+    private int depth;
+    
+    // 문자열/숫자 재사용 버퍼
+    private final StringBuilder scratch = new StringBuilder(64);
+    
+    // 미리 본 토큰 (값 읽기 전까지 유지)
+    private Token peeked;
+    
+    public JsonStreamReader(Reader in) {
+        this.in = in;
+        stack[depth++] = SCOPE_DOCUMENT;
+    }
+    
+    // ============================================
+    // 🔍 토큰 탐색
+    // ============================================
+    
+    /**
+     * 다음 토큰 종류 확인 (소비하지 않음)
+     */
+    public Token peek() throws IOException {
+        if (peeked != null) return peeked;
+        
+        int scope = stack[depth - 1];
+        int c;
+        switch (scope) {
+            case SCOPE_EMPTY_ARRAY:
+                stack[depth - 1] = SCOPE_ARRAY;
+                c = nextNonWhitespace();
+                if (c == ']') return peeked = Token.END_ARRAY;
+                break;
+            case SCOPE_ARRAY:
+                c = nextNonWhitespace();
+                if (c == ']') return peeked = Token.END_ARRAY;
+                if (c != ',') throw syntaxError("',' 또는 ']'가 필요합니다");
+                c = nextNonWhitespace();
+                break;
+            case SCOPE_EMPTY_OBJECT:
+            case SCOPE_OBJECT:
+                c = nextNonWhitespace();
+                if (c == '}') return peeked = Token.END_OBJECT;
+                if (scope == SCOPE_OBJECT) {
+                    if (c != ',') throw syntaxError("',' 또는 '}'가 필요합니다");
+                    c = nextNonWhitespace();
+                }
+                if (c != '"') throw syntaxError("필드 이름이 필요합니다");
+                stack[depth - 1] = SCOPE_OBJECT_VALUE;
+                return peeked = Token.NAME;
+            case SCOPE_OBJECT_VALUE:
+                c = nextNonWhitespace();
+                if (c != ':') throw syntaxError("':'가 필요합니다");
+                stack[depth - 1] = SCOPE_OBJECT;
+                c = nextNonWhitespace();
+                break;
+            default:
+                c = nextNonWhitespace();
+                if (c == -1) return peeked = Token.END_DOCUMENT;
+                break;
+        }
+        
+        switch (c) {
+            case '{': return peeked = Token.BEGIN_OBJECT;
+            case '[': return peeked = Token.BEGIN_ARRAY;
+            case '"': return peeked = Token.STRING;
+            case 't':
+            case 'f':
+                pos--;  // 리터럴은 첫 글자부터 다시 읽음
+                return peeked = Token.BOOLEAN;
+            case 'n':
+                pos--;
+                return peeked = Token.NULL;
+            case -1: throw syntaxError("예상치 못한 문서 끝");
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    pos--;  // 숫자는 첫 글자부터 다시 읽음
+                    return peeked = Token.NUMBER;
+                }
+                throw syntaxError("알 수 없는 값 시작 문자 '" + (char) c + "'");
+        }
+    }
+    
+    public boolean hasNext() throws IOException {
+        Token token = peek();
+        return token != Token.END_OBJECT && token != Token.END_ARRAY && token != Token.END_DOCUMENT;
+    }
+    
+    public void beginObject() throws IOException {
+        expect(Token.BEGIN_OBJECT);
+        push(SCOPE_EMPTY_OBJECT);
+    }
+    
+    public void endObject() throws IOException {
+        expect(Token.END_OBJECT);
+        depth--;
+    }
+    
+    public void beginArray() throws IOException {
+        expect(Token.BEGIN_ARRAY);
+        push(SCOPE_EMPTY_ARRAY);
+    }
+    
+    public void endArray() throws IOException {
+        expect(Token.END_ARRAY);
+        depth--;
+    }
+    
+    // ============================================
+    // 📥 값 읽기
+    // ============================================
+    
+    public String nextName() throws IOException {
+        expect(Token.NAME);
+        return readString();
+    }
+    
+    /**
+     * 필드 이름을 후보 목록과 비교해 인덱스 반환 (문자열을 만들지 않음)
+     * @return 일치하는 후보 인덱스, 없으면 -1
+     */
+    public int nextName(String[] candidates) throws IOException {
+        expect(Token.NAME);
+        return matchString(candidates);
+    }
+    
+    public String nextString() throws IOException {
+        Token token = peek();
+        if (token == Token.NUMBER || token == Token.BOOLEAN) {
+            peeked = null;
+            return token == Token.NUMBER ? readNumberText() : Boolean.toString(readBoolean());
+        }
+        expect(Token.STRING);
+        return readString();
+    }
+    
+    /**
+     * 문자열 값을 후보 목록과 비교해 인덱스 반환 (문자열을 만들지 않음)
+     * @return 일치하는 후보 인덱스, 없으면 -1
+     */
+    public int nextString(String[] candidates) throws IOException {
+        expect(Token.STRING);
+        return matchString(candidates);
+    }
+    
+    public boolean nextBoolean() throws IOException {
+        expect(Token.BOOLEAN);
+        return readBoolean();
+    }
+    
+    public void nextNull() throws IOException {
+        expect(Token.NULL);
+        readLiteral("null");
+    }
+    
+    public int nextInt() throws IOException {
+        long value = nextLong();
+        if (value != (int) value) throw syntaxError("int 범위를 벗어난 숫자: " + value);
+        return (int) value;
+    }
+    
+    public long nextLong() throws IOException {
+        expect(Token.NUMBER);
+        boolean negative = false;
+        long value = 0;
+        int digits = 0;
+        int c = read();
+        if (c == '-') {
+            negative = true;
+            c = read();
+        }
+        while (c >= '0' && c <= '9') {
+            if (value > (Long.MAX_VALUE - (c - '0')) / 10) throw syntaxError("숫자가 너무 큽니다");
+            value = value * 10 + (c - '0');
+            digits++;
+            c = read();
+        }
+        if (c == '.' || c == 'e' || c == 'E') throw syntaxError("정수가 필요합니다");
+        if (c != -1) pos--;
+        if (digits == 0) throw syntaxError("잘못된 숫자");
+        return negative ? -value : value;
+    }
+    
+    /**
+     * 숫자 값을 가장 알맞은 타입(Integer, Long, Double)으로 읽기
+     */
+    public Number nextNumber() throws IOException {
+        expect(Token.NUMBER);
+        String text = readNumberText();
+        try {
+            if (text.indexOf('.') < 0 && text.indexOf('e') < 0 && text.indexOf('E') < 0) {
+                long value = Long.parseLong(text);
+                return value == (int) value ? Integer.valueOf((int) value) : Long.valueOf(value);
+            }
+            return Double.valueOf(text);
+        } catch (NumberFormatException e) {
+            throw syntaxError("잘못된 숫자: " + text);
+        }
+    }
+    
+    /**
+     * 현재 값을 통째로 건너뛰기 (중첩 객체/배열 포함)
+     */
+    public void skipValue() throws IOException {
+        int skipDepth = 0;
+        do {
+            Token token = peek();
+            switch (token) {
+                case BEGIN_OBJECT: beginObject(); skipDepth++; break;
+                case BEGIN_ARRAY: beginArray(); skipDepth++; break;
+                case END_OBJECT: endObject(); skipDepth--; break;
+                case END_ARRAY: endArray(); skipDepth--; break;
+                case NAME:
+                case STRING: peeked = null; skipString(); break;
+                case NUMBER: peeked = null; skipNumber(); break;
+                case BOOLEAN: peeked = null; readBoolean(); break;
+                case NULL: nextNull(); break;
+                default: throw syntaxError("건너뛸 값이 없습니다");
+            }
+        } while (skipDepth > 0);
+    }
+    
+    // ============================================
+    // 🔧 내부 구현
+    // ============================================
+    
+    private void expect(Token expected) throws IOException {
+        Token token = peek();
+        if (token != expected) {
+            throw syntaxError(expected + "가 필요하지만 " + token + "를 만났습니다");
+        }
+        peeked = null;
+    }
+    
+    private void push(int scope) {
+        if (depth == stack.length) {
+            int[] grown = new int[depth * 2];
+            System.arraycopy(stack, 0, grown, 0, depth);
+            stack = grown;
+        }
+        stack[depth++] = scope;
+    }
+    
+    private int read() throws IOException {
+        if (pos == limit && !fill()) return -1;
+        return buffer[pos++];
+    }
+    
+    private boolean fill() throws IOException {
+        consumed += limit;
+        pos = 0;
+        limit = 0;
+        int n = in.read(buffer, 0, buffer.length);
+        if (n <= 0) return false;
+        limit = n;
+        return true;
+    }
+    
+    private int nextNonWhitespace() throws IOException {
+        while (true) {
+            if (pos == limit && !fill()) return -1;
+            char c = buffer[pos++];
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t' && c != '\uFEFF') return c;
+        }
+    }
+    
+    /**
+     * 여는 따옴표 다음부터 닫는 따옴표까지 읽어 문자열 생성
+     */
+    private String readString() throws IOException {
+        // 이스케이프가 없고 버퍼 경계를 넘지 않는 흔한 경우는 복사 한 번으로 처리
+        for (int i = pos; i < limit; i++) {
+            char c = buffer[i];
+            if (c == '"') {
+                String value = new String(buffer, pos, i - pos);
+                pos = i + 1;
+                return value;
+            }
+            if (c == '\\') break;
+        }
+        
+        scratch.setLength(0);
+        readStringInto(scratch);
+        return scratch.toString();
+    }
+    
+    private void readStringInto(StringBuilder out) throws IOException {
+        while (true) {
+            int c = read();
+            if (c == -1) throw syntaxError("닫히지 않은 문자열");
+            if (c == '"') return;
+            out.append(c == '\\' ? readEscape() : (char) c);
+        }
+    }
+    
+    private char readEscape() throws IOException {
+        int c = read();
+        switch (c) {
+            case '"': return '"';
+            case '\\': return '\\';
+            case '/': return '/';
+            case 'b': return '\b';
+            case 'f': return '\f';
+            case 'n': return '\n';
+            case 'r': return '\r';
+            case 't': return '\t';
+            case 'u':
+                int value = 0;
+                for (int i = 0; i < 4; i++) {
+                    int digit = Character.digit(read(), 16);
+                    if (digit < 0) throw syntaxError("잘못된 유니코드 이스케이프");
+                    value = (value << 4) | digit;
+                }
+                return (char) value;
+            default:
+                throw syntaxError("잘못된 이스케이프 문자");
+        }
+    }
+    
+    private void skipString() throws IOException {
+        while (true) {
+            int c = read();
+            if (c == -1) throw syntaxError("닫히지 않은 문자열");
+            if (c == '"') return;
+            if (c == '\\') readEscape();
+        }
+    }
+    
+    /**
+     * 문자열을 만들지 않고 후보와 비교 (이스케이프가 있으면 재사용 버퍼로 디코딩 후 비교)
+     */
+    private int matchString(String[] candidates) throws IOException {
+        for (int i = pos; i < limit; i++) {
+            char c = buffer[i];
+            if (c == '"') {
+                int length = i - pos;
+                int start = pos;
+                pos = i + 1;
+                for (int k = 0; k < candidates.length; k++) {
+                    if (regionEquals(candidates[k], buffer, start, length)) return k;
+                }
+                return -1;
+            }
+            if (c == '\\') break;
+        }
+        
+        scratch.setLength(0);
+        readStringInto(scratch);
+        for (int k = 0; k < candidates.length; k++) {
+            if (candidates[k].contentEquals(scratch)) return k;
+        }
+        return -1;
+    }
+    
+    private static boolean regionEquals(String candidate, char[] chars, int start, int length) {
+        if (candidate.length() != length) return false;
+        for (int i = 0; i < length; i++) {
+            if (candidate.charAt(i) != chars[start + i]) return false;
+        }
+        return true;
+    }
+    
+    private boolean readBoolean() throws IOException {
+        int c = read();
+        if (c == 't') {
+            readLiteral("rue");
+            return true;
+        }
+        readLiteral("alse");
+        return false;
+    }
+    
+    private void readLiteral(String rest) throws IOException {
+        for (int i = 0; i < rest.length(); i++) {
+            if (read() != rest.charAt(i)) throw syntaxError("잘못된 리터럴");
+        }
+    }
+    
+    private String readNumberText() throws IOException {
+        scratch.setLength(0);
+        int c = read();
+        while (c != -1 && (c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E' || (c >= '0' && c <= '9'))) {
+            scratch.append((char) c);
+            c = read();
+        }
+        if (c != -1) pos--;
+        return scratch.toString();
+    }
+    
+    private void skipNumber() throws IOException {
+        int c = read();
+        while (c != -1 && (c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E' || (c >= '0' && c <= '9'))) {
+            c = read();
+        }
+        if (c != -1) pos--;
+    }
+    
+    private IOException syntaxError(String message) {
+        return new IOException("JSON 구문 오류 (" + (consumed + pos) + "번째 문자): " + message);
+    }
+}
@@ -1,7 +1,14 @@
 package model;
 
 import constants.TimerConstants;
+import constants.UIConstants;
 import java.awt.*;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 알림 생성 및 관리를 담당하는 클래스
@@ -15,11 +22,24 @@ public class NotificationManager {
     // 현재 프로필 참조 (알림 유형 설정 확인용)
     private UserProfile currentProfile;
     
+    // 스누즈 관리 - 공유 스케줄러에 예약하고 핸들로 추적 (프로필 변경과 무관하게 유지, 화면 깜빡임 종료도 같은 스케줄러 사용)
+    private TimerScheduler snoozeScheduler;
+    private final Map<Long, SnoozeHandle> pendingSnoozes = new ConcurrentHashMap<>();
+    private final AtomicLong snoozeIdSequence = new AtomicLong();
+    
     public NotificationManager() {
+        this(null);
+    }
+    
+    /**
+     * 스누즈 스케줄러를 지정하여 생성 (null이면 공유 타이밍 휠을 필요할 때 사용)
+     */
+    public NotificationManager(TimerScheduler snoozeScheduler) {
         this.soundEnabled = true;
         this.popupEnabled = true;
         this.flashEnabled = true;
         this.snoozeMinutes = TimerConstants.DEFAULT_SNOOZE_MINUTES;
+        this.snoozeScheduler = snoozeScheduler;
     }
     
     /**
@@ -99,33 +119,29 @@ public class NotificationManager {
     
     /**
      * 화면을 깜빡입니다
+     * 창은 EDT에서 띄우고, 닫기는 스누즈와 같은 공유 스케줄러에 예약하여 알림마다 스레드를 만들지 않음
      */
     private void flashScreen() {
-        try {
-            // 화면 깜빡임 효과
-            new Thread(() -> {
-                try {
-                    // 간단한 화면 깜빡임 효과
-                    Frame flashFrame = new Frame();
-                    flashFrame.setUndecorated(true);
-                    flashFrame.setBackground(Color.WHITE);
-                    flashFrame.setAlwaysOnTop(true);
-                    flashFrame.setOpacity(0.3f);
-                    flashFrame.setExtendedState(Frame.MAXIMIZED_BOTH);
-                    
-                    flashFrame.setVisible(true);
-                    Thread.sleep(200);
+        EventQueue.invokeLater(() -> {
+            try {
+                // 간단한 화면 깜빡임 효과
+                Frame flashFrame = new Frame();
+                flashFrame.setUndecorated(true);
+                flashFrame.setBackground(Color.WHITE);
+                flashFrame.setAlwaysOnTop(true);
+                flashFrame.setOpacity(0.3f);
+                flashFrame.setExtendedState(Frame.MAXIMIZED_BOTH);
+                flashFrame.setVisible(true);
+                
+                getSnoozeScheduler().schedule(() -> EventQueue.invokeLater(() -> {
                     flashFrame.setVisible(false);
                     flashFrame.dispose();
-                    
-                } catch (Exception e) {
-                    System.err.println("화면 깜빡임 실패: " + e.getMessage());
-                }
-            }).start();
-            
-        } catch (Exception e) {
-            System.err.println("화면 깜빡임 실패: " + e.getMessage());
-        }
+                }), UIConstants.ANIMATION_DURATION_MS);
+                
+            } catch (Exception e) {
+                System.err.println("화면 깜빡임 실패: " + e.getMessage());
+            }
+        });
     }
     
     /**
@@ -153,16 +169,162 @@ public class NotificationManager {
     
     /**
      * 스누즈 기능 - 지정된 시간 후에 다시 알림
+     * @return 취소/연장에 사용할 스누즈 핸들
      */
-    public void snoozeNotification(TimerModel.NotificationType type) {
-        new Thread(() -> {
-            try {
-                Thread.sleep(snoozeMinutes * TimerConstants.SECONDS_PER_MINUTE * TimerConstants.MILLISECONDS_PER_SECOND); // 상수를 사용한 시간 변환
-                showNotification(type);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
+    public SnoozeHandle snoozeNotification(TimerModel.NotificationType type) {
+        return snoozeNotification(type, snoozeMinutes);
+    }
+    
+    /**
+     * 지정된 분 후에 다시 알림
+     * @return 취소/연장에 사용할 스누즈 핸들
+     */
+    public SnoozeHandle snoozeNotification(TimerModel.NotificationType type, int minutes) {
+        long delayMs = (long) minutes * TimerConstants.SECONDS_PER_MINUTE * TimerConstants.MILLISECONDS_PER_SECOND;
+        SnoozeHandle handle = new SnoozeHandle(snoozeIdSequence.incrementAndGet(), type);
+        
+        synchronized (handle) {
+            pendingSnoozes.put(handle.id, handle);
+            handle.reschedule(System.nanoTime() + TimerConstants.millisToNanos(delayMs));
+        }
+        
+        System.out.println("스누즈 예약: " + type.getName() + " (" + minutes + "분 후)");
+        return handle;
+    }
+    
+    /**
+     * 스누즈 취소
+     * @return 대기 중이던 스누즈를 취소했으면 true
+     */
+    public boolean cancelSnooze(SnoozeHandle handle) {
+        return handle != null && handle.cancel();
+    }
+    
+    /**
+     * 스누즈 연장
+     * @return 대기 중이던 스누즈를 연장했으면 true
+     */
+    public boolean extendSnooze(SnoozeHandle handle, int extraMinutes) {
+        return handle != null && handle.extend(extraMinutes);
+    }
+    
+    /**
+     * 대기 중인 스누즈 목록 (남은 시간 순)
+     */
+    public List<SnoozeHandle> getPendingSnoozes() {
+        List<SnoozeHandle> snoozes = new ArrayList<>(pendingSnoozes.values());
+        snoozes.sort(Comparator.comparingLong(SnoozeHandle::getRemainingMillis));
+        return snoozes;
+    }
+    
+    /**
+     * 대기 중인 스누즈 수
+     */
+    public int getPendingSnoozeCount() {
+        return pendingSnoozes.size();
+    }
+    
+    /**
+     * 모든 스누즈 취소
+     */
+    public void cancelAllSnoozes() {
+        for (SnoozeHandle handle : new ArrayList<>(pendingSnoozes.values())) {
+            handle.cancel();
+        }
+    }
+    
+    private synchronized TimerScheduler getSnoozeScheduler() {
+        if (snoozeScheduler == null) {
+            snoozeScheduler = HierarchicalTimingWheel.getShared();
+        }
+        return snoozeScheduler;
+    }
+    
+    /**
+     * 스누즈 만료 시 알림 표시
+     * 사용자가 직접 미룬 알림이므로 그 사이 프로필이 바뀌어도 유형 필터 없이 표시합니다.
+     */
+    private void deliverSnooze(SnoozeHandle handle, long generation) {
+        synchronized (handle) {
+            // 연장/취소로 대체된 예약이면 무시
+            if (handle.done || handle.generation != generation) return;
+            handle.done = true;
+            pendingSnoozes.remove(handle.id);
+        }
+        
+        if (!shouldShowNotification()) {
+            return;
+        }
+        
+        TimerModel.NotificationType type = handle.type;
+        System.out.println("스누즈 알림 표시: " + type.getName() + " - " + type.getMessage());
+        
+        if (popupEnabled) {
+            showPopupNotification(type);
+        }
+        if (soundEnabled) {
+            playNotificationSound();
+        }
+        if (flashEnabled) {
+            flashScreen();
+        }
+        showSystemTrayNotification(type);
+    }
+    
+    /**
+     * 예약된 스누즈 핸들 - 취소, 연장, 남은 시간 조회 지원
+     */
+    public final class SnoozeHandle {
+        private final long id;
+        private final TimerModel.NotificationType type;
+        private long dueAtNanos;
+        private TimerScheduler.Task task;
+        private long generation;
+        private boolean done;
+        
+        private SnoozeHandle(long id, TimerModel.NotificationType type) {
+            this.id = id;
+            this.type = type;
+        }
+        
+        // 호출 시 handle 모니터를 보유해야 함
+        private void reschedule(long newDueAtNanos) {
+            if (task != null) {
+                task.cancel();
             }
-        }).start();
+            dueAtNanos = newDueAtNanos;
+            long scheduledGeneration = ++generation;
+            long delayMs = TimerConstants.nanosToMillis(Math.max(0, newDueAtNanos - System.nanoTime()));
+            task = getSnoozeScheduler().schedule(() -> deliverSnooze(this, scheduledGeneration), delayMs);
+        }
+        
+        synchronized boolean cancel() {
+            if (done) return false;
+            done = true;
+            task.cancel();
+            pendingSnoozes.remove(id);
+            return true;
+        }
+        
+        synchronized boolean extend(int extraMinutes) {
+            if (done) return false;
+            long extraMs = (long) extraMinutes * TimerConstants.SECONDS_PER_MINUTE * TimerConstants.MILLISECONDS_PER_SECOND;
+            reschedule(dueAtNanos + TimerConstants.millisToNanos(extraMs));
+            return true;
+        }
+        
+        public long getId() { return id; }
+        public TimerModel.NotificationType getType() { return type; }
+        public synchronized boolean isPending() { return !done; }
+        
+        public synchronized long getRemainingMillis() {
+            return TimerConstants.nanosToMillis(Math.max(0, dueAtNanos - System.nanoTime()));
+        }
+        
+        @Override
+        public String toString() {
+            return type.getName() + " (" + TimerConstants.formatTime((int) (getRemainingMillis() / TimerConstants.MILLISECONDS_PER_SECOND)) + " 남음)";
+        }
     }
     
     /**
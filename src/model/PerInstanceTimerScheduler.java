@@ -0,0 +1,69 @@
+package model;
+
+import java.util.Timer;
+import java.util.TimerTask;
+
+/**
+ * 작업마다 새로운 java.util.Timer 스레드를 생성하는 기존 방식의 스케줄러
+ * 단일 데스크톱 타이머에서는 충분하지만 타이머 수만큼 스레드가 늘어납니다.
+ */
+public class PerInstanceTimerScheduler implements TimerScheduler {
+    
+    // 싱글톤 인스턴스 (상태가 없으므로 공유 가능)
+    private static final PerInstanceTimerScheduler INSTANCE = new PerInstanceTimerScheduler();
+    
+    public static PerInstanceTimerScheduler getInstance() {
+        return INSTANCE;
+    }
+    
+    @Override
+    public Task schedule(Runnable action, long delayMs) {
+        Timer timer = new Timer();
+        timer.schedule(wrap(action), Math.max(0, delayMs));
+        return new TimerHandle(timer);
+    }
+    
+    @Override
+    public Task scheduleAtFixedRate(Runnable action, long delayMs, long periodMs) {
+        Timer timer = new Timer();
+        timer.scheduleAtFixedRate(wrap(action), Math.max(0, delayMs), periodMs);
+        return new TimerHandle(timer);
+    }
+    
+    @Override
+    public void shutdown() {
+        // 각 Timer는 핸들 취소 시 개별적으로 종료됨
+    }
+    
+    private TimerTask wrap(Runnable action) {
+        return new TimerTask() {
+            @Override
+            public void run() {
+                action.run();
+            }
+        };
+    }
+    
+    /**
+     * java.util.Timer를 감싸는 작업 핸들
+     */
+    private static class TimerHandle implements Task {
+        private final Timer timer;
+        private volatile boolean cancelled;
+        
+        TimerHandle(Timer timer) {
+            this.timer = timer;
+        }
+        
+        @Override
+        public void cancel() {
+            cancelled = true;
+            timer.cancel();
+        }
+        
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package model;
+
+import constants.TimerConstants;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 데이터 디렉토리의 프로필 파일 변경 감시
+ * 외부에서 profiles.json을 새로 배포하면 쓰기가 끝날 때까지 기다렸다가(디바운스) 리스너를 호출합니다.
+ * 변경이 없으면 감시 스레드는 WatchService에서 대기만 하고 깨어나지 않습니다.
+ */
+public class ProfileFileWatcher {
+    
+    /**
+     * 파일 변경 처리기
+     */
+    public interface Listener {
+        /**
+         * @return 처리했으면 true, 아직 읽을 수 없는 상태(쓰는 중 등)라 나중에 다시 시도해야 하면 false
+         */
+        boolean onFileChanged(Path file);
+    }
+    
+    private final Path directory;
+    private final Path file;
+    private final Listener listener;
+    
+    private WatchService watchService;
+    private Thread watchThread;
+    private volatile boolean running;
+    
+    // 통계
+    private final AtomicLong eventCount = new AtomicLong();
+    private final AtomicLong triggerCount = new AtomicLong();
+    private final AtomicLong retryCount = new AtomicLong();
+    private final AtomicLong giveUpCount = new AtomicLong();
+    
+    public ProfileFileWatcher(Path file, Listener listener) {
+        this.file = file.toAbsolutePath().normalize();
+        this.directory = this.file.getParent();
+        this.listener = listener;
+    }
+    
+    /**
+     * 감시 시작 (디렉토리를 등록할 수 없으면 false, 앱은 시작 시 읽은 내용으로 계속 동작)
+     */
+    public synchronized boolean start() {
+        if (running) return true;
+        
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            // 원자적 교체(임시 파일 → 이동)는 CREATE로, 제자리 덮어쓰기는 MODIFY로 들어옴
+            directory.register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException | UnsupportedOperationException e) {
+            System.err.println("⚠️ 프로필 파일 감시 시작 실패: " + e.getMessage());
+            closeQuietly();
+            return false;
+        }
+        
+        running = true;
+        watchThread = new Thread(this::watchLoop, "ProfileFileWatcher");
+        watchThread.setDaemon(true);
+        watchThread.start();
+        System.out.println("👀 프로필 파일 감시 시작: " + file);
+        return true;
+    }
+    
+    /**
+     * 감시 종료
+     */
+    public synchronized void stop() {
+        if (!running) return;
+        running = false;
+        closeQuietly();  // take()/poll()에서 대기 중인 스레드를 깨움
+        if (watchThread != null) {
+            try {
+                watchThread.join(TimerConstants.PROFILE_RELOAD_DEBOUNCE_MS * 2);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        System.out.println("🧹 프로필 파일 감시 종료");
+    }
+    
+    public boolean isRunning() {
+        return running;
+    }
+    
+    /**
+     * 감시 루프
+     * 대상 파일 이벤트가 오면 마감 시각을 잡고, 그 전에 이벤트가 또 오면 마감을 뒤로 미룸.
+     * 마감이 지나도 파일 크기/수정 시각이 바뀌고 있으면 한 번 더 기다림.
+     */
+    private void watchLoop() {
+        long debounceNanos = TimeUnit.MILLISECONDS.toNanos(TimerConstants.PROFILE_RELOAD_DEBOUNCE_MS);
+        long deadline = 0;          // 0이면 예약된 처리 없음
+        int attempts = 0;
+        FileStamp lastStamp = null;
+        
+        while (running) {
+            WatchKey key;
+            try {
+                if (deadline == 0) {
+                    key = watchService.take();
+                } else {
+                    long wait = deadline - System.nanoTime();
+                    key = wait > 0 ? watchService.poll(wait, TimeUnit.NANOSECONDS) : watchService.poll();
+                }
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                break;
+            }
+            
+            if (key != null) {
+                if (containsTargetEvent(key)) {
+                    deadline = System.nanoTime() + debounceNanos;
+                    attempts = 0;
+                }
+                if (!key.reset()) {
+                    System.err.println("⚠️ 데이터 디렉토리를 더 이상 감시할 수 없습니다: " + directory);
+                    break;
+                }
+                continue;
+            }
+            
+            // 마감 도달: 파일이 아직 자라는 중이면 조금 더 기다림
+            FileStamp stamp = FileStamp.of(file);
+            if (stamp == null) {
+                deadline = 0;  // 파일이 사라짐 (이동 중) - 다음 CREATE 이벤트를 기다림
+                continue;
+            }
+            if (!stamp.equals(lastStamp)) {
+                lastStamp = stamp;
+                deadline = System.nanoTime() + debounceNanos;
+                continue;
+            }
+            
+            triggerCount.incrementAndGet();
+            boolean handled;
+            try {
+                handled = listener.onFileChanged(file);
+            } catch (RuntimeException e) {
+                System.err.println("❌ 프로필 파일 변경 처리 오류: " + e.getMessage());
+                handled = true;
+            }
+            
+            if (handled) {
+                deadline = 0;
+            } else if (++attempts <= TimerConstants.PROFILE_RELOAD_MAX_RETRIES) {
+                retryCount.incrementAndGet();
+                lastStamp = null;
+                deadline = System.nanoTime() + debounceNanos;
+            } else {
+                giveUpCount.incrementAndGet();
+                System.err.println("⚠️ 프로필 파일을 " + attempts + "번 읽지 못해 다음 변경까지 대기합니다");
+                deadline = 0;
+            }
+        }
+        running = false;
+    }
+    
+    private boolean containsTargetEvent(WatchKey key) {
+        boolean matched = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                matched = true;  // 놓친 이벤트가 있으므로 확인해 봄
+                continue;
+            }
+            // .tmp/.bak.N/profiles.bin 등 다른 파일의 변경은 무시
+            Path changed = directory.resolve((Path) event.context());
+            if (changed.equals(file)) {
+                eventCount.incrementAndGet();
+                matched = true;
+            }
+        }
+        return matched;
+    }
+    
+    private void closeQuietly() {
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                // 종료 중이므로 무시
+            }
+        }
+    }
+    
+    /**
+     * 감시 상태 문자열
+     */
+    public String getStatus() {
+        return String.format("%s | 이벤트 %d, 처리 %d, 재시도 %d, 포기 %d",
+            running ? "감시 중" : "중지됨",
+            eventCount.get(), triggerCount.get(), retryCount.get(), giveUpCount.get());
+    }
+    
+    /**
+     * 쓰기 완료 판정용 파일 크기와 수정 시각
+     */
+    private static final class FileStamp {
+        final long size;
+        final FileTime modified;
+        
+        private FileStamp(long size, FileTime modified) {
+            this.size = size;
+            this.modified = modified;
+        }
+        
+        static FileStamp of(Path path) {
+            try {
+                return new FileStamp(Files.size(path), Files.getLastModifiedTime(path));
+            } catch (IOException e) {
+                return null;
+            }
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof FileStamp)) return false;
+            FileStamp other = (FileStamp) o;
+            return size == other.size && modified.equals(other.modified);
+        }
+        
+        @Override
+        public int hashCode() {
+            return Long.hashCode(size) * 31 + modified.hashCode();
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package model;
+
+import constants.TimerConstants;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+
+/**
+ * 대량 프로필 불러오기 파이프라인
+ *
+ *   읽기(호출 스레드, 스트리밍) → 검증(포크조인 풀, 묶음 단위 병렬) → 추가(호출 스레드, 읽은 순서대로 묶음 단위)
+ *
+ * 파일 전체를 문자열로 읽지 않고, 동시에 검증 중인 묶음 수를 제한하므로
+ * 파일 크기와 관계없이 읽기 단계의 메모리 사용량이 일정합니다.
+ * 유효하지 않은 프로필이 하나라도 있으면 즉시 멈추고 실패로 보고하며(이미 추가된 묶음은 호출자가 되돌림),
+ * 다른 스레드에서 cancel()을 호출하면 다음 프로필을 읽기 전에 멈춥니다.
+ */
+public class ProfileImportPipeline {
+    
+    /**
+     * 한 개씩 꺼내 읽는 프로필 원본
+     */
+    public interface ProfileSource extends Closeable {
+        /** 다음 프로필 (끝이면 null) */
+        UserProfile next() throws IOException;
+        
+        /** 지금까지 읽은 바이트 수 */
+        long getBytesRead();
+        
+        /** 전체 바이트 수 (모르면 -1) */
+        long getTotalBytes();
+    }
+    
+    /**
+     * 검증을 통과한 묶음을 받는 곳 (호출 스레드에서 읽은 순서대로 호출됨)
+     */
+    public interface BatchSink {
+        void commit(List<UserProfile> batch);
+    }
+    
+    /**
+     * 진행률 수신기 (호출 스레드에서 호출되므로 UI는 직접 EDT로 넘겨야 함)
+     */
+    public interface ProgressListener {
+        void onProgress(Progress progress);
+    }
+    
+    private final ForkJoinPool pool;
+    private final int batchSize;
+    private final int maxInFlight;
+    private final Consumer<UserProfile> preparer;
+    private volatile ProgressListener progressListener;
+    private volatile boolean cancelled;
+    
+    /**
+     * @param preparer 검증 전에 각 프로필에 적용할 작업 (검증 스레드에서 병렬로 실행, null 가능)
+     */
+    public ProfileImportPipeline(Consumer<UserProfile> preparer) {
+        this(ForkJoinPool.commonPool(), TimerConstants.IMPORT_BATCH_SIZE, preparer);
+    }
+    
+    public ProfileImportPipeline(ForkJoinPool pool, int batchSize, Consumer<UserProfile> preparer) {
+        this.pool = pool;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxInFlight = Math.max(2, pool.getParallelism() + 1);
+        this.preparer = preparer;
+    }
+    
+    public void setProgressListener(ProgressListener listener) {
+        this.progressListener = listener;
+    }
+    
+    /**
+     * 진행 중인 불러오기 취소 (아무 스레드에서나 호출 가능)
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+    
+    public boolean isCancelled() {
+        return cancelled;
+    }
+    
+    /**
+     * 원본을 끝까지 읽어 검증된 묶음을 sink에 넘김 (원본은 닫지 않음)
+     * @throws IOException 읽기/구문 오류
+     */
+    public Result run(ProfileSource source, BatchSink sink) throws IOException {
+        long start = System.nanoTime();
+        long progressIntervalNanos = TimerConstants.IMPORT_PROGRESS_INTERVAL_MS * TimerConstants.NANOS_PER_MILLISECOND;
+        long lastProgress = start;
+        
+        Deque<ForkJoinTask<Batch>> inFlight = new ArrayDeque<>(maxInFlight);
+        Counters counters = new Counters();
+        List<String> issues = new ArrayList<>();
+        List<UserProfile> current = new ArrayList<>(batchSize);
+        
+        try {
+            UserProfile profile;
+            while (!cancelled && issues.isEmpty() && (profile = source.next()) != null) {
+                current.add(profile);
+                counters.read++;
+                
+                if (current.size() == batchSize) {
+                    inFlight.add(submit(current, counters.read - current.size()));
+                    current = new ArrayList<>(batchSize);
+                    // 검증이 읽기보다 느리면 여기서 기다려 메모리에 쌓이는 묶음 수를 제한
+                    while (inFlight.size() >= maxInFlight && issues.isEmpty()) {
+                        drain(inFlight.poll(), sink, counters, issues);
+                    }
+                }
+                
+                long now = System.nanoTime();
+                if (now - lastProgress >= progressIntervalNanos) {
+                    lastProgress = now;
+                    fireProgress(source, counters);
+                }
+            }
+            
+            if (!cancelled && issues.isEmpty() && !current.isEmpty()) {
+                inFlight.add(submit(current, counters.read - current.size()));
+            }
+            while (!inFlight.isEmpty() && !cancelled && issues.isEmpty()) {
+                drain(inFlight.poll(), sink, counters, issues);
+            }
+        } finally {
+            // 실패/취소 시 남은 검증 작업은 결과를 쓰지 않으므로 버림
+            for (ForkJoinTask<Batch> task : inFlight) {
+                task.cancel(false);
+            }
+        }
+        
+        fireProgress(source, counters);
+        return new Result(counters.read, counters.committed, issues, cancelled, System.nanoTime() - start);
+    }
+    
+    private ForkJoinTask<Batch> submit(List<UserProfile> profiles, int firstIndex) {
+        return pool.submit(() -> validate(profiles, firstIndex));
+    }
+    
+    private Batch validate(List<UserProfile> profiles, int firstIndex) {
+        List<String> issues = null;
+        for (int i = 0; i < profiles.size(); i++) {
+            UserProfile profile = profiles.get(i);
+            if (preparer != null) {
+                preparer.accept(profile);
+            }
+            List<String> found = JsonDataManager.validateProfile(profile, firstIndex + i);
+            if (!found.isEmpty()) {
+                if (issues == null) issues = new ArrayList<>();
+                issues.addAll(found);
+            }
+        }
+        return new Batch(profiles, issues);
+    }
+    
+    private void drain(ForkJoinTask<Batch> task, BatchSink sink, Counters counters, List<String> issues) throws IOException {
+        Batch batch;
+        try {
+            batch = task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancelled = true;
+            return;
+        } catch (ExecutionException e) {
+            throw new IOException("프로필 검증 중 오류: " + e.getCause(), e.getCause());
+        }
+        
+        if (batch.issues != null) {
+            issues.addAll(batch.issues.subList(0, Math.min(batch.issues.size(), TimerConstants.IMPORT_MAX_REPORTED_ISSUES)));
+            return;
+        }
+        sink.commit(batch.profiles);
+        counters.committed += batch.profiles.size();
+    }
+    
+    private void fireProgress(ProfileSource source, Counters counters) {
+        ProgressListener listener = progressListener;
+        if (listener != null) {
+            listener.onProgress(new Progress(source.getBytesRead(), source.getTotalBytes(), counters.read, counters.committed));
+        }
+    }
+    
+    private static final class Counters {
+        int read;
+        int committed;
+    }
+    
+    /**
+     * 검증을 마친 묶음 (문제가 없으면 issues는 null)
+     */
+    private static final class Batch {
+        final List<UserProfile> profiles;
+        final List<String> issues;
+        
+        Batch(List<UserProfile> profiles, List<String> issues) {
+            this.profiles = profiles;
+            this.issues = issues;
+        }
+    }
+    
+    /**
+     * 진행률 스냅샷
+     */
+    public static final class Progress {
+        private final long bytesRead;
+        private final long totalBytes;
+        private final int profilesRead;
+        private final int profilesCommitted;
+        
+        Progress(long bytesRead, long totalBytes, int profilesRead, int profilesCommitted) {
+            this.bytesRead = bytesRead;
+            this.totalBytes = totalBytes;
+            this.profilesRead = profilesRead;
+            this.profilesCommitted = profilesCommitted;
+        }
+        
+        public long getBytesRead() { return bytesRead; }
+        public long getTotalBytes() { return totalBytes; }
+        public int getProfilesRead() { return profilesRead; }
+        public int getProfilesCommitted() { return profilesCommitted; }
+        
+        /**
+         * 읽은 바이트 기준 진행률 (0~100, 전체 크기를 모르면 -1)
+         */
+        public int getPercent() {
+            if (totalBytes <= 0) return -1;
+            return (int) Math.min(100, bytesRead * 100 / totalBytes);
+        }
+        
+        @Override
+        public String toString() {
+            return String.format("%d%% | 읽음 %d, 추가 %d", Math.max(0, getPercent()), profilesRead, profilesCommitted);
+        }
+    }
+    
+    /**
+     * 파이프라인 실행 결과
+     */
+    public static final class Result {
+        private final int read;
+        private final int committed;
+        private final List<String> issues;
+        private final boolean cancelled;
+        private final long elapsedNanos;
+        
+        Result(int read, int committed, List<String> issues, boolean cancelled, long elapsedNanos) {
+            this.read = read;
+            this.committed = committed;
+            this.issues = Collections.unmodifiableList(issues);
+            this.cancelled = cancelled;
+            this.elapsedNanos = elapsedNanos;
+        }
+        
+        public int getRead() { return read; }
+        public int getCommitted() { return committed; }
+        public List<String> getIssues() { return issues; }
+        public boolean isCancelled() { return cancelled; }
+        public boolean isValid() { return issues.isEmpty(); }
+        
+        public double getElapsedMillis() {
+            return elapsedNanos / (double) TimerConstants.NANOS_PER_MILLISECOND;
+        }
+        
+        public String getStatus() {
+            String state = cancelled ? "취소됨" : !issues.isEmpty() ? "검증 실패" : "완료";
+            return String.format("%s | 읽음 %d, 추가 %d | %.0fms (%.0f개/초)", state, read, committed,
+                getElapsedMillis(), elapsedNanos == 0 ? 0.0 : read / (elapsedNanos / (double) TimerConstants.NANOS_PER_SECOND));
+        }
+    }
+}
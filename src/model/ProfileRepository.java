@@ -0,0 +1,291 @@
+package model;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * 프로필 목록 저장소
+ * 이름 색인으로 O(1) 조회를 제공하고, 변경할 때마다 새 불변 스냅샷을 만들어
+ * 트레이 메뉴/설정 패널/저장 스레드가 잠금 없이 목록을 순회할 수 있게 합니다.
+ * 변경 작업끼리는 저장소 잠금으로 직렬화됩니다.
+ */
+public class ProfileRepository {
+    
+    /** 자동 이름 형식: "기본 1", "기본 2" ... */
+    public static final String SUFFIX_SPACE = "%s %d";
+    
+    /** 불러오기 이름 형식: "기본 (1)", "기본 (2)" ... */
+    public static final String SUFFIX_PAREN = "%s (%d)";
+    
+    private volatile Snapshot snapshot = new Snapshot(Collections.emptyList());
+    
+    // 이름 형식별 다음 번호 힌트 (같은 기본 이름으로 대량 생성할 때 처음부터 다시 세지 않도록)
+    // 삭제/이름 변경 시 비워서 빈 번호를 다시 쓸 수 있게 함
+    private final Map<String, Integer> suffixHints = new HashMap<>();
+    
+    public ProfileRepository() {}
+    
+    public ProfileRepository(Collection<UserProfile> profiles) {
+        replaceAll(profiles);
+    }
+    
+    // ============================================
+    // 🔍 조회 (잠금 없음)
+    // ============================================
+    
+    /**
+     * 현재 스냅샷 (여러 번 조회해도 일관된 목록이 필요할 때 사용)
+     */
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+    
+    /**
+     * 현재 프로필 목록 (변경 불가)
+     */
+    public List<UserProfile> getAll() {
+        return snapshot.getProfiles();
+    }
+    
+    public UserProfile find(String name) {
+        return snapshot.find(name);
+    }
+    
+    public boolean contains(UserProfile profile) {
+        return snapshot.contains(profile);
+    }
+    
+    public int size() {
+        return snapshot.size();
+    }
+    
+    public boolean isEmpty() {
+        return snapshot.size() == 0;
+    }
+    
+    // ============================================
+    // ✏️ 변경 (복사 후 교체)
+    // ============================================
+    
+    /**
+     * 프로필 추가 (같은 이름이 있으면 추가하지 않음)
+     */
+    public synchronized boolean add(UserProfile profile) {
+        if (profile == null || snapshot.find(profile.getProfileName()) != null) {
+            return false;
+        }
+        List<UserProfile> next = new ArrayList<>(snapshot.size() + 1);
+        next.addAll(snapshot.getProfiles());
+        next.add(profile);
+        snapshot = new Snapshot(next);
+        return true;
+    }
+    
+    /**
+     * 이름이 겹치면 형식에 맞춰 고유한 이름으로 바꾼 뒤 추가
+     * @return 추가된 이름
+     */
+    public synchronized String addUnique(UserProfile profile, String suffixFormat) {
+        String name = allocateUniqueName(profile.getProfileName(), suffixFormat);
+        profile.setProfileName(name);
+        add(profile);
+        return name;
+    }
+    
+    /**
+     * 여러 프로필을 한 번의 복사로 추가 (이름이 겹치는 프로필은 건너뜀)
+     * @return 추가된 개수
+     */
+    public synchronized int addAll(Collection<UserProfile> profiles) {
+        Snapshot current = snapshot;
+        List<UserProfile> appended = new ArrayList<>(profiles.size());
+        Set<String> names = new HashSet<>();
+        
+        for (UserProfile profile : profiles) {
+            String name = profile != null ? profile.getProfileName() : null;
+            if (profile != null && !current.byName.containsKey(name) && names.add(name)) {
+                appended.add(profile);
+            }
+        }
+        if (!appended.isEmpty()) {
+            snapshot = new Snapshot(current, appended);
+        }
+        return appended.size();
+    }
+    
+    /**
+     * 여러 프로필을 한 번의 복사로 추가하며, 겹치는 이름(기존 또는 같은 묶음 안)은 형식에 맞춰 바꿈
+     * @return 추가된 개수
+     */
+    public synchronized int addAllUnique(Collection<UserProfile> profiles, String suffixFormat) {
+        Snapshot current = snapshot;
+        List<UserProfile> appended = new ArrayList<>(profiles.size());
+        Set<String> names = new HashSet<>();
+        Predicate<String> taken = name -> current.byName.containsKey(name) || names.contains(name);
+        
+        for (UserProfile profile : profiles) {
+            if (profile == null) continue;
+            // 저장소 힌트를 함께 써서 묶음을 나눠 추가해도 번호를 처음부터 다시 세지 않음
+            String name = nextFreeName(taken, profile.getProfileName(), suffixFormat, suffixHints);
+            profile.setProfileName(name);
+            names.add(name);
+            appended.add(profile);
+        }
+        if (!appended.isEmpty()) {
+            snapshot = new Snapshot(current, appended);
+        }
+        return appended.size();
+    }
+    
+    public synchronized boolean remove(UserProfile profile) {
+        if (!snapshot.contains(profile)) {
+            return false;
+        }
+        List<UserProfile> next = new ArrayList<>(snapshot.getProfiles());
+        next.remove(profile);
+        snapshot = new Snapshot(next);
+        suffixHints.clear();
+        return true;
+    }
+    
+    /**
+     * 여러 프로필을 한 번의 복사로 삭제 (대량 불러오기 되돌리기 등)
+     * @return 삭제된 개수
+     */
+    public synchronized int removeAll(Collection<UserProfile> profiles) {
+        Set<UserProfile> targets = Collections.newSetFromMap(new IdentityHashMap<>(profiles.size() * 2));
+        targets.addAll(profiles);
+        
+        List<UserProfile> next = new ArrayList<>(snapshot.size());
+        for (UserProfile profile : snapshot.getProfiles()) {
+            if (!targets.contains(profile)) {
+                next.add(profile);
+            }
+        }
+        int removed = snapshot.size() - next.size();
+        if (removed > 0) {
+            snapshot = new Snapshot(next);
+            suffixHints.clear();
+        }
+        return removed;
+    }
+    
+    /**
+     * 전체 목록 교체 (이름이 겹치면 먼저 나온 프로필만 유지)
+     */
+    public synchronized void replaceAll(Collection<UserProfile> profiles) {
+        List<UserProfile> next = new ArrayList<>(profiles.size());
+        Set<String> names = new HashSet<>();
+        for (UserProfile profile : profiles) {
+            if (profile != null && names.add(profile.getProfileName())) {
+                next.add(profile);
+            }
+        }
+        snapshot = new Snapshot(next);
+        suffixHints.clear();
+    }
+    
+    /**
+     * 프로필 이름 변경 (색인도 함께 갱신)
+     * @return 다른 프로필이 이미 그 이름을 쓰고 있으면 false
+     */
+    public synchronized boolean rename(UserProfile profile, String newName) {
+        if (newName == null || !snapshot.contains(profile)) {
+            return false;
+        }
+        UserProfile owner = snapshot.find(newName);
+        if (owner != null) {
+            return owner == profile;
+        }
+        profile.setProfileName(newName);
+        snapshot = new Snapshot(snapshot.getProfiles());
+        suffixHints.clear();
+        return true;
+    }
+    
+    /**
+     * 기본 이름을 쓰는 프로필이 없으면 그대로, 있으면 형식에 맞춰 번호를 붙인 고유 이름 반환
+     * (예약하지 않으므로 같은 스레드에서 바로 추가해야 함)
+     */
+    public synchronized String allocateUniqueName(String baseName, String suffixFormat) {
+        Snapshot current = snapshot;
+        return nextFreeName(name -> current.find(name) != null, baseName, suffixFormat, suffixHints);
+    }
+    
+    private static String nextFreeName(Predicate<String> taken, String baseName,
+                                       String suffixFormat, Map<String, Integer> hints) {
+        if (!taken.test(baseName)) {
+            return baseName;
+        }
+        
+        String hintKey = suffixFormat + '\u0000' + baseName;
+        int counter = hints.getOrDefault(hintKey, 1);
+        String candidate = String.format(suffixFormat, baseName, counter);
+        while (taken.test(candidate)) {
+            counter++;
+            candidate = String.format(suffixFormat, baseName, counter);
+        }
+        hints.put(hintKey, counter + 1);
+        return candidate;
+    }
+    
+    /**
+     * 저장소 밖에서 이름이 바뀐 경우 색인 재구성
+     */
+    public synchronized void reindex() {
+        snapshot = new Snapshot(snapshot.getProfiles());
+        suffixHints.clear();
+    }
+    
+    /**
+     * 한 시점의 불변 프로필 목록과 이름 색인
+     */
+    public static final class Snapshot implements Iterable<UserProfile> {
+        private final List<UserProfile> profiles;
+        private final Map<String, UserProfile> byName;
+        
+        // profiles는 이후 변경되지 않는 목록이어야 함 (호출자가 새로 만든 목록 또는 기존 스냅샷 목록)
+        private Snapshot(List<UserProfile> profiles) {
+            this.profiles = Collections.unmodifiableList(profiles);
+            Map<String, UserProfile> index = new HashMap<>(profiles.size() * 2);
+            for (UserProfile profile : profiles) {
+                index.putIfAbsent(profile.getProfileName(), profile);
+            }
+            this.byName = index;
+        }
+        
+        // 기존 스냅샷 뒤에 덧붙이기 (색인을 통째로 복사한 뒤 새 항목만 넣음)
+        private Snapshot(Snapshot base, List<UserProfile> appended) {
+            List<UserProfile> list = new ArrayList<>(base.profiles.size() + appended.size());
+            list.addAll(base.profiles);
+            list.addAll(appended);
+            this.profiles = Collections.unmodifiableList(list);
+            Map<String, UserProfile> index = new HashMap<>(list.size() * 2);
+            index.putAll(base.byName);
+            for (UserProfile profile : appended) {
+                index.putIfAbsent(profile.getProfileName(), profile);
+            }
+            this.byName = index;
+        }
+        
+        public List<UserProfile> getProfiles() { return profiles; }
+        public int size() { return profiles.size(); }
+        public UserProfile get(int index) { return profiles.get(index); }
+        
+        public UserProfile find(String name) {
+            if (name == null) return null;
+            UserProfile profile = byName.get(name);
+            // 저장소를 거치지 않고 이름이 바뀐 프로필은 색인과 맞지 않으므로 무시
+            return profile != null && name.equals(profile.getProfileName()) ? profile : null;
+        }
+        
+        public boolean contains(UserProfile profile) {
+            return profile != null && byName.get(profile.getProfileName()) == profile;
+        }
+        
+        @Override
+        public Iterator<UserProfile> iterator() {
+            return profiles.iterator();
+        }
+    }
+}
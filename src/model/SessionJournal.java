@@ -0,0 +1,601 @@
+package model;
+
+import constants.TimerConstants;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * 완료된 작업/휴식 페이즈를 기록하는 추가 전용 세션 저널
+ * data/journal 아래 메모리 매핑된 세그먼트 파일에 고정 폭 레코드를 추가하고,
+ * 세그먼트가 가득 차면 새 세그먼트로 넘어갑니다.
+ *
+ * 레코드 구조 (SESSION_JOURNAL_RECORD_SIZE 바이트, 남는 부분은 0):
+ *   [마커][플래그: 휴식 여부 | 알림 유형]
+ *   varint 소유자 번호, varint 완료 시각(세그먼트 기준 시각 대비 델타),
+ *   varint 경과 시간(시작~완료), varint 계획 시간, varint 실제 실행 시간  (모두 밀리초)
+ */
+public class SessionJournal {
+    private static final String DATA_DIR = "data";
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".jnl";
+    private static final String OWNERS_FILE = "owners.txt";
+    
+    // 세그먼트 헤더
+    private static final int MAGIC = 0x43424A31; // "CBJ1"
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 32;
+    
+    // 기록된 슬롯 표시 (파일은 0으로 미리 채워지므로 0이면 빈 슬롯)
+    private static final byte RECORD_MARKER = (byte) 0xA5;
+    private static final int FLAG_BREAK = 1;
+    private static final TimerModel.NotificationType[] TYPES = TimerModel.NotificationType.values();
+    
+    // 공유 인스턴스
+    private static SessionJournal shared;
+    
+    private final Path directory;
+    private final int recordSize;
+    private final int segmentRecords;
+    
+    // 소유자(프로필/사용자) 이름 사전 - 레코드에는 번호만 기록
+    private final List<String> owners = new ArrayList<>();
+    private final Map<String, Integer> ownerIndex = new HashMap<>();
+    
+    private final List<Segment> segments = new ArrayList<>();  // 오래된 순, 마지막이 활성 세그먼트
+    private int nextSegmentIndex = 1;  // 디스크에 있는 가장 큰 번호 다음 (손상되어 건너뛴 파일 포함)
+    private final byte[] encodeBuffer;
+    private long recordCount;
+    private boolean closed;
+    
+    // 소유자별 누적 통계 (처음 조회할 때 한 번 스캔하여 만들고 이후 append마다 갱신, null이면 아직 없음)
+    private List<Aggregate> ownerAggregates;
+    private Aggregate totalAggregate;
+    
+    /**
+     * 기본 설정으로 저널 열기 (data/journal)
+     */
+    public SessionJournal() throws IOException {
+        this(Paths.get(DATA_DIR, TimerConstants.SESSION_JOURNAL_DIR),
+             TimerConstants.SESSION_JOURNAL_RECORD_SIZE, TimerConstants.SESSION_JOURNAL_SEGMENT_RECORDS);
+    }
+    
+    public SessionJournal(Path directory, int recordSize, int segmentRecords) throws IOException {
+        this.directory = directory;
+        this.recordSize = recordSize;
+        this.segmentRecords = segmentRecords;
+        this.encodeBuffer = new byte[recordSize];
+        
+        Files.createDirectories(directory);
+        loadOwners();
+        loadSegments();
+    }
+    
+    /**
+     * 공유 저널 반환 (열기에 실패하면 null)
+     */
+    public static synchronized SessionJournal getShared() {
+        if (shared == null) {
+            try {
+                shared = new SessionJournal();
+            } catch (IOException e) {
+                System.err.println("세션 저널 열기 실패: " + e.getMessage());
+                return null;
+            }
+        }
+        return shared;
+    }
+    
+    /**
+     * 공유 저널이 열려 있으면 디스크에 반영하고 닫기
+     */
+    public static synchronized void closeShared() {
+        if (shared != null) {
+            shared.close();
+            shared = null;
+        }
+    }
+    
+    // ============================================
+    // 기록
+    // ============================================
+    
+    /**
+     * 완료된 페이즈 기록
+     * @param owner 프로필 또는 사용자 이름
+     * @param breakPhase 휴식 페이즈 여부
+     * @param type 완료 시 표시된 알림 유형
+     * @param plannedMillis 계획된 페이즈 길이
+     * @param actualMillis 일시정지를 제외한 실제 실행 시간
+     * @param startedAtMillis 페이즈 시작 시각 (epoch 밀리초)
+     * @param completedAtMillis 페이즈 완료 시각 (epoch 밀리초)
+     */
+    public synchronized void append(String owner, boolean breakPhase, TimerModel.NotificationType type,
+                                    long plannedMillis, long actualMillis,
+                                    long startedAtMillis, long completedAtMillis) {
+        if (closed) return;
+        
+        try {
+            Segment segment = activeSegment(completedAtMillis);
+            int ownerId = ownerId(owner);
+            long completedDelta = Math.max(0, completedAtMillis - segment.baseEpochMillis);
+            long actual = Math.max(0, actualMillis);
+            
+            int length = 0;
+            encodeBuffer[length++] = RECORD_MARKER;
+            encodeBuffer[length++] = (byte) ((type.ordinal() << 4) | (breakPhase ? FLAG_BREAK : 0));
+            length = writeVarint(encodeBuffer, length, ownerId);
+            length = writeVarint(encodeBuffer, length, completedDelta);
+            length = writeVarint(encodeBuffer, length, Math.max(0, completedAtMillis - startedAtMillis));
+            length = writeVarint(encodeBuffer, length, Math.max(0, plannedMillis));
+            length = writeVarint(encodeBuffer, length, actual);
+            
+            // 마커를 마지막에 기록하여 중간에 끊긴 레코드가 유효하게 보이지 않도록 함
+            int offset = HEADER_SIZE + segment.count * recordSize;
+            for (int i = 1; i < length; i++) {
+                segment.buffer.put(offset + i, encodeBuffer[i]);
+            }
+            segment.buffer.put(offset, RECORD_MARKER);
+            segment.count++;
+            recordCount++;
+            
+            // 디코딩했을 때와 같은 값으로 누적
+            if (ownerAggregates != null) {
+                accumulate(ownerId, breakPhase, actual, segment.baseEpochMillis + completedDelta);
+            }
+        } catch (IOException | ArrayIndexOutOfBoundsException e) {
+            System.err.println("세션 기록 실패: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * 활성 세그먼트 반환 (가득 찼으면 새 세그먼트로 교체)
+     */
+    private Segment activeSegment(long nowMillis) throws IOException {
+        Segment active = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+        // 마지막 세그먼트가 손상되어 건너뛰었으면 남은 세그먼트는 읽기 전용이므로 새로 만듦
+        if (active == null || !active.writable || active.count >= active.capacity) {
+            if (active != null && active.writable) {
+                active.buffer.force();
+            }
+            active = createSegment(nextSegmentIndex, nowMillis);
+            nextSegmentIndex++;
+            segments.add(active);
+        }
+        return active;
+    }
+    
+    /**
+     * 소유자 사전에 쓰는 이름 (사전 파일은 한 줄에 하나씩이므로 줄바꿈을 공백으로)
+     */
+    private static String normalizeOwner(String owner) {
+        return owner == null ? TimerConstants.DEFAULT_PROFILE_NAME : owner.replace('\n', ' ').replace('\r', ' ');
+    }
+    
+    private int ownerId(String owner) throws IOException {
+        String name = normalizeOwner(owner);
+        Integer id = ownerIndex.get(name);
+        if (id == null) {
+            id = owners.size();
+            owners.add(name);
+            ownerIndex.put(name, id);
+            Files.write(directory.resolve(OWNERS_FILE), (name + "\n").getBytes(StandardCharsets.UTF_8),
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+        return id;
+    }
+    
+    /**
+     * 매핑된 내용을 디스크에 반영
+     */
+    public synchronized void flush() {
+        if (closed || segments.isEmpty()) return;
+        Segment active = segments.get(segments.size() - 1);
+        if (active.writable) {
+            active.buffer.force();
+        }
+    }
+    
+    public synchronized void close() {
+        flush();
+        closed = true;
+    }
+    
+    // ============================================
+    // 조회
+    // ============================================
+    
+    /**
+     * 모든 레코드를 오래된 순으로 순회
+     */
+    public void forEach(Consumer<Entry> consumer) {
+        Segment[] view;
+        int[] counts;
+        List<String> names;
+        synchronized (this) {
+            view = segments.toArray(new Segment[0]);
+            counts = snapshotCounts();
+            names = new ArrayList<>(owners);
+        }
+        
+        Cursor cursor = new Cursor();
+        for (int s = 0; s < view.length; s++) {
+            Segment segment = view[s];
+            ByteBuffer buffer = segment.readBuffer();
+            if (buffer == null) continue;
+            for (int i = 0; i < counts[s]; i++) {
+                cursor.decode(buffer, HEADER_SIZE + i * recordSize, segment.baseEpochMillis);
+                consumer.accept(new Entry(names.get(cursor.ownerId), cursor.breakPhase,
+                    TYPES[cursor.typeOrdinal],
+                    cursor.plannedMillis, cursor.actualMillis,
+                    cursor.completedAtMillis - cursor.wallElapsedMillis, cursor.completedAtMillis));
+            }
+        }
+    }
+    
+    /**
+     * 소유자별 누적 통계
+     * 처음 호출할 때만 저널 전체를 스캔하고, 이후에는 append가 갱신한 누적값을 바로 반환 (기록 수와 무관)
+     * @param owner 소유자 이름 (null이면 전체)
+     */
+    public synchronized Summary summarize(String owner) {
+        if (ownerAggregates == null) {
+            buildAggregates();
+        }
+        if (owner == null) {
+            return totalAggregate.toSummary();
+        }
+        Integer id = ownerIndex.get(normalizeOwner(owner));
+        if (id == null || id >= ownerAggregates.size() || ownerAggregates.get(id) == null) {
+            return new Summary(0, 0, 0, 0, 0, 0);
+        }
+        return ownerAggregates.get(id).toSummary();
+    }
+    
+    /**
+     * 기존 레코드를 한 번 순차 스캔하여 누적 통계 생성 (레코드당 할당 없음)
+     */
+    private void buildAggregates() {
+        ownerAggregates = new ArrayList<>();
+        totalAggregate = new Aggregate();
+        
+        Cursor cursor = new Cursor();
+        for (Segment segment : segments) {
+            ByteBuffer buffer = segment.readBuffer();
+            if (buffer == null) continue;
+            for (int i = 0; i < segment.count; i++) {
+                cursor.decode(buffer, HEADER_SIZE + i * recordSize, segment.baseEpochMillis);
+                accumulate(cursor.ownerId, cursor.breakPhase, cursor.actualMillis, cursor.completedAtMillis);
+            }
+        }
+    }
+    
+    private void accumulate(int ownerId, boolean breakPhase, long actualMillis, long completedAtMillis) {
+        while (ownerAggregates.size() <= ownerId) {
+            ownerAggregates.add(null);
+        }
+        Aggregate aggregate = ownerAggregates.get(ownerId);
+        if (aggregate == null) {
+            aggregate = new Aggregate();
+            ownerAggregates.set(ownerId, aggregate);
+        }
+        aggregate.add(breakPhase, actualMillis, completedAtMillis);
+        totalAggregate.add(breakPhase, actualMillis, completedAtMillis);
+    }
+    
+    private int[] snapshotCounts() {
+        // 활성 세그먼트의 기록 수는 현재 시점 값으로 고정
+        int[] counts = new int[segments.size()];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = segments.get(i).count;
+        }
+        return counts;
+    }
+    
+    public synchronized long getRecordCount() { return recordCount; }
+    public synchronized int getSegmentCount() { return segments.size(); }
+    public Path getDirectory() { return directory; }
+    
+    /**
+     * 저널 상태 문자열
+     */
+    public synchronized String getStatus() {
+        return String.format(Locale.ROOT, "세션 저널: %d건, 세그먼트 %d개 (%d바이트 레코드, 세그먼트당 %d건), 소유자 %d명",
+            recordCount, segments.size(), recordSize, segmentRecords, owners.size());
+    }
+    
+    // ============================================
+    // 세그먼트 파일 처리
+    // ============================================
+    
+    private void loadOwners() throws IOException {
+        Path ownersPath = directory.resolve(OWNERS_FILE);
+        if (!Files.exists(ownersPath)) return;
+        
+        for (String line : Files.readAllLines(ownersPath, StandardCharsets.UTF_8)) {
+            ownerIndex.putIfAbsent(line, owners.size());
+            owners.add(line);
+        }
+    }
+    
+    private void loadSegments() throws IOException {
+        List<Integer> indexes = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path path : stream) {
+                String name = path.getFileName().toString();
+                try {
+                    indexes.add(Integer.parseInt(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())));
+                } catch (NumberFormatException e) {
+                    System.err.println("알 수 없는 세그먼트 파일 무시: " + name);
+                }
+            }
+        }
+        Collections.sort(indexes);
+        if (!indexes.isEmpty()) {
+            nextSegmentIndex = indexes.get(indexes.size() - 1) + 1;
+        }
+        
+        for (int i = 0; i < indexes.size(); i++) {
+            boolean last = i == indexes.size() - 1;
+            Segment segment = openSegment(indexes.get(i), last);
+            if (segment != null) {
+                segments.add(segment);
+                recordCount += segment.count;
+            }
+        }
+    }
+    
+    private Path segmentPath(int index) {
+        return directory.resolve(String.format(Locale.ROOT, "%s%06d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX));
+    }
+    
+    private long segmentBytes() {
+        return HEADER_SIZE + (long) segmentRecords * recordSize;
+    }
+    
+    private Segment createSegment(int index, long baseEpochMillis) throws IOException {
+        try (FileChannel channel = FileChannel.open(segmentPath(index),
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes());
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, FORMAT_VERSION);
+            buffer.putInt(8, recordSize);
+            buffer.putInt(12, segmentRecords);
+            buffer.putLong(16, baseEpochMillis);
+            return new Segment(index, segmentPath(index), baseEpochMillis, buffer, segmentRecords, 0, true);
+        }
+    }
+    
+    /**
+     * 기존 세그먼트 열기 - 활성 세그먼트만 쓰기 가능하게 매핑하고 나머지는 조회 시 지연 매핑
+     */
+    private Segment openSegment(int index, boolean writable) throws IOException {
+        Path path = segmentPath(index);
+        try (FileChannel channel = FileChannel.open(path, writable
+                ? EnumSet.of(StandardOpenOption.READ, StandardOpenOption.WRITE)
+                : EnumSet.of(StandardOpenOption.READ))) {
+            if (channel.size() < HEADER_SIZE) {
+                System.err.println("손상된 세그먼트 무시: " + path.getFileName());
+                return null;
+            }
+            
+            MappedByteBuffer buffer = channel.map(writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY,
+                                                  0, channel.size());
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT_VERSION || buffer.getInt(8) != recordSize) {
+                System.err.println("형식이 다른 세그먼트 무시: " + path.getFileName());
+                return null;
+            }
+            
+            int capacity = (int) Math.min(buffer.getInt(12), (channel.size() - HEADER_SIZE) / recordSize);
+            long base = buffer.getLong(16);
+            int count = countRecords(buffer, capacity);
+            
+            // 완료된 세그먼트는 조회 전까지 매핑을 유지하지 않음
+            return new Segment(index, path, base, writable ? buffer : null, capacity, count, writable);
+        }
+    }
+    
+    /**
+     * 기록된 레코드 수 - 레코드는 앞에서부터 연속으로 채워지므로 마커를 이진 탐색
+     */
+    private int countRecords(ByteBuffer buffer, int capacity) {
+        int low = 0;
+        int high = capacity;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (buffer.get(HEADER_SIZE + mid * recordSize) == RECORD_MARKER) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+    
+    private static int writeVarint(byte[] target, int offset, long value) {
+        while ((value & ~0x7FL) != 0) {
+            target[offset++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        target[offset++] = (byte) value;
+        return offset;
+    }
+    
+    /**
+     * 세그먼트 파일 하나
+     */
+    private static final class Segment {
+        private final int index;
+        private final Path path;
+        private final long baseEpochMillis;
+        private final int capacity;
+        private final boolean writable;  // 쓰기 가능하게 매핑된 활성 세그먼트
+        private MappedByteBuffer buffer;
+        private int count;
+        
+        Segment(int index, Path path, long baseEpochMillis, MappedByteBuffer buffer, int capacity, int count,
+                boolean writable) {
+            this.index = index;
+            this.path = path;
+            this.baseEpochMillis = baseEpochMillis;
+            this.buffer = buffer;
+            this.capacity = capacity;
+            this.count = count;
+            this.writable = writable;
+        }
+        
+        /**
+         * 읽기용 버퍼 (완료된 세그먼트는 처음 조회할 때 읽기 전용으로 매핑)
+         */
+        synchronized ByteBuffer readBuffer() {
+            if (buffer == null) {
+                try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                    buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                } catch (IOException e) {
+                    System.err.println("세그먼트 읽기 실패: " + path.getFileName() + " - " + e.getMessage());
+                    return null;
+                }
+            }
+            return buffer.duplicate();
+        }
+    }
+    
+    /**
+     * 레코드 디코더 (스캔 중 재사용)
+     */
+    private static final class Cursor {
+        private int position;
+        private int typeOrdinal;
+        private boolean breakPhase;
+        private int ownerId;
+        private long completedAtMillis;
+        private long wallElapsedMillis;
+        private long plannedMillis;
+        private long actualMillis;
+        
+        void decode(ByteBuffer buffer, int offset, long baseEpochMillis) {
+            int flags = buffer.get(offset + 1) & 0xFF;
+            typeOrdinal = flags >>> 4;
+            breakPhase = (flags & FLAG_BREAK) != 0;
+            
+            position = offset + 2;
+            ownerId = (int) readVarint(buffer);
+            completedAtMillis = baseEpochMillis + readVarint(buffer);
+            wallElapsedMillis = readVarint(buffer);
+            plannedMillis = readVarint(buffer);
+            actualMillis = readVarint(buffer);
+        }
+        
+        private long readVarint(ByteBuffer buffer) {
+            long value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = buffer.get(position++);
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return value;
+        }
+    }
+    
+    /**
+     * 소유자 한 명(또는 전체)의 누적값 (저널 잠금으로 보호)
+     */
+    private static final class Aggregate {
+        private int workSessions;
+        private int breakSessions;
+        private long workMillis;
+        private long breakMillis;
+        private long first;
+        private long last;
+        
+        void add(boolean breakPhase, long actualMillis, long completedAtMillis) {
+            if (breakPhase) {
+                breakSessions++;
+                breakMillis += actualMillis;
+            } else {
+                workSessions++;
+                workMillis += actualMillis;
+            }
+            if (first == 0) {
+                first = completedAtMillis;
+            }
+            last = completedAtMillis;
+        }
+        
+        Summary toSummary() {
+            return new Summary(workSessions, breakSessions, workMillis, breakMillis, first, last);
+        }
+    }
+    
+    /**
+     * 기록된 페이즈 하나
+     */
+    public static final class Entry {
+        private final String owner;
+        private final boolean breakPhase;
+        private final TimerModel.NotificationType notificationType;
+        private final long plannedMillis;
+        private final long actualMillis;
+        private final long startedAtMillis;
+        private final long completedAtMillis;
+        
+        Entry(String owner, boolean breakPhase, TimerModel.NotificationType notificationType,
+              long plannedMillis, long actualMillis, long startedAtMillis, long completedAtMillis) {
+            this.owner = owner;
+            this.breakPhase = breakPhase;
+            this.notificationType = notificationType;
+            this.plannedMillis = plannedMillis;
+            this.actualMillis = actualMillis;
+            this.startedAtMillis = startedAtMillis;
+            this.completedAtMillis = completedAtMillis;
+        }
+        
+        public String getOwner() { return owner; }
+        public boolean isBreakPhase() { return breakPhase; }
+        public TimerModel.NotificationType getNotificationType() { return notificationType; }
+        public long getPlannedMillis() { return plannedMillis; }
+        public long getActualMillis() { return actualMillis; }
+        public long getStartedAtMillis() { return startedAtMillis; }
+        public long getCompletedAtMillis() { return completedAtMillis; }
+    }
+    
+    /**
+     * 누적 세션 통계
+     */
+    public static final class Summary {
+        private static final long MILLIS_PER_MINUTE =
+            (long) TimerConstants.SECONDS_PER_MINUTE * TimerConstants.MILLISECONDS_PER_SECOND;
+        
+        private final int workSessions;
+        private final int breakSessions;
+        private final long workMillis;
+        private final long breakMillis;
+        private final long firstCompletedAtMillis;
+        private final long lastCompletedAtMillis;
+        
+        Summary(int workSessions, int breakSessions, long workMillis, long breakMillis,
+                long firstCompletedAtMillis, long lastCompletedAtMillis) {
+            this.workSessions = workSessions;
+            this.breakSessions = breakSessions;
+            this.workMillis = workMillis;
+            this.breakMillis = breakMillis;
+            this.firstCompletedAtMillis = firstCompletedAtMillis;
+            this.lastCompletedAtMillis = lastCompletedAtMillis;
+        }
+        
+        public int getWorkSessions() { return workSessions; }
+        public int getBreakSessions() { return breakSessions; }
+        public long getWorkMinutes() { return workMillis / MILLIS_PER_MINUTE; }
+        public long getBreakMinutes() { return breakMillis / MILLIS_PER_MINUTE; }
+        public long getFirstCompletedAtMillis() { return firstCompletedAtMillis; }
+        public long getLastCompletedAtMillis() { return lastCompletedAtMillis; }
+    }
+}
@@ -10,7 +10,7 @@ import java.util.*;
  * 간단하고 명확한 데이터 저장/로드 관리자
  * 복잡한 JSON 파싱 대신 Properties 파일 형태로 저장
  */
-public class SimpleDataManager {
+public class SimpleDataManager implements DataStore {
     private static final String DATA_DIR = "data";
     private static final String PROFILES_FILE = "profiles.properties";
     private static final String SETTINGS_FILE = "settings.properties";
@@ -42,7 +42,8 @@ public class SimpleDataManager {
      * 프로필들을 간단한 형태로 저장
      * 각 프로필을 섹션으로 구분해서 저장합니다
      */
-    public void saveProfiles(List<UserProfile> profiles) {
+    @Override
+    public void saveProfiles(List<UserProfile> profiles) throws IOException {
         try {
             StringBuilder content = new StringBuilder();
             content.append("# CodeBreak 프로필 설정 파일\n");
@@ -78,14 +79,16 @@ public class SimpleDataManager {
             writeToFile(Paths.get(DATA_DIR, PROFILES_FILE), content.toString());
             System.out.println("✅ 프로필 저장 완료: " + profiles.size() + "개");
             
-        } catch (Exception e) {
+        } catch (IOException e) {
             System.err.println("❌ 프로필 저장 실패: " + e.getMessage());
+            throw e;
         }
     }
     
     /**
      * 프로필들을 간단한 형태로 로드
      */
+    @Override
     public List<UserProfile> loadProfiles() {
         List<UserProfile> profiles = new ArrayList<>();
         
@@ -238,7 +241,8 @@ public class SimpleDataManager {
     /**
      * 애플리케이션 설정을 간단한 형태로 저장
      */
-    public void saveSettings(Map<String, Object> settings) {
+    @Override
+    public void saveSettings(Map<String, Object> settings) throws IOException {
         try {
             StringBuilder content = new StringBuilder();
             content.append("# CodeBreak 애플리케이션 설정\n");
@@ -252,14 +256,16 @@ public class SimpleDataManager {
             writeToFile(Paths.get(DATA_DIR, SETTINGS_FILE), content.toString());
             System.out.println("✅ 설정 저장 완료");
             
-        } catch (Exception e) {
+        } catch (IOException e) {
             System.err.println("❌ 설정 저장 실패: " + e.getMessage());
+            throw e;
         }
     }
     
     /**
      * 애플리케이션 설정을 간단한 형태로 로드
      */
+    @Override
     public Map<String, Object> loadSettings() {
         try {
             Path settingsPath = Paths.get(DATA_DIR, SETTINGS_FILE);
@@ -381,6 +387,7 @@ public class SimpleDataManager {
     /**
      * 현재 저장된 데이터 상태 출력 (디버깅용)
      */
+    @Override
     public void printDataStatus() {
         System.out.println("\n=== 📊 데이터 상태 확인 ===");
         
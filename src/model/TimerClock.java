@@ -0,0 +1,18 @@
+package model;
+
+/**
+ * 타이머가 사용하는 단조 증가 시계
+ * 테스트나 시뮬레이션에서 시간을 직접 제어할 수 있도록 주입 가능합니다.
+ */
+@FunctionalInterface
+public interface TimerClock {
+    
+    /** System.nanoTime 기반 기본 시계 */
+    TimerClock SYSTEM = System::nanoTime;
+    
+    /**
+     * 현재 시각 (나노초, 단조 증가)
+     * @return 나노초 단위 시각
+     */
+    long nanoTime();
+}
@@ -1,10 +1,12 @@
 package model;
 
 import constants.*;
+import events.*;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * 타이머 상태 및 로직을 관리하는 모델 클래스
@@ -32,29 +34,61 @@ public class TimerModel {
         public String getMessage() { return message; }
     }
     
-    private TimerState state;
-    private int workMinutes;
-    private int breakMinutes;
-    private int remainingSeconds;
-    private int currentCycle;
-    private boolean isPomodoroMode;
-    private NotificationType currentNotificationType;
-    private UserProfile currentProfile; // 현재 프로필 참조 추가
+    // 페이즈 표시 문자열
+    private static final String PHASE_WORK = "작업 시간";
+    private static final String PHASE_BREAK = "휴식 시간";
     
-    private Timer timer;
-    private List<TimerListener> listeners;
+    // 상태, 사이클, 마감 시각 등 변경 가능한 타이머 상태 전체를 하나의 불변 스냅샷으로 보관
+    // 모든 전이는 CAS로 스냅샷을 교체하므로 잠금 없이 일관된 상태를 읽을 수 있음
+    private final AtomicReference<Snapshot> snapshot;
+    private volatile UserProfile currentProfile; // 현재 프로필 참조 추가
+    
+    private final TimerScheduler scheduler;
+    private final TimerClock clock;
+    private final AtomicReference<TimerScheduler.Task> tickTask = new AtomicReference<>();
+    private final List<TimerListener> listeners;
+    private final EventBus eventBus;  // 틱/상태 변경/완료 이벤트 발행 대상
+    private final TimerTickEvent tickEvent = new TimerTickEvent(this, 0, 0, 0, null, false);  // 틱마다 갱신해 재사용
+    private final AtomicBoolean tickEventInUse = new AtomicBoolean();
+    private volatile SessionJournal journal;  // 완료된 페이즈 기록 (null이면 기록 안 함)
+    private volatile String journalOwner;     // 기록 소유자 (null이면 현재 프로필 이름)
+    
+    // 다음 완료 때 쓸 무작위 알림 유형 (미리 정해 두어 알림 창을 앞서 준비할 수 있게 함)
+    private final AtomicReference<NotificationType> plannedNotificationType = new AtomicReference<>();
     
     // 포모도로 기본 설정은 TimerConstants에서 관리
     
     public TimerModel() {
-        this.state = TimerState.STOPPED;
-        this.workMinutes = TimerConstants.DEFAULT_WORK_MINUTES;
-        this.breakMinutes = TimerConstants.DEFAULT_BREAK_MINUTES;
-        this.remainingSeconds = TimerConstants.minutesToSeconds(workMinutes);
-        this.currentCycle = 0;
-        this.isPomodoroMode = true;
-        this.currentNotificationType = NotificationType.REST;
-        this.listeners = new ArrayList<>();
+        this(TimerScheduler.createDefault());
+    }
+    
+    /**
+     * 스케줄러를 지정하여 생성 (공유 타이밍 휠 사용 시)
+     */
+    public TimerModel(TimerScheduler scheduler) {
+        this(scheduler, TimerClock.SYSTEM);
+    }
+    
+    /**
+     * 스케줄러와 시계를 지정하여 생성 (결정적 검증용 시계 주입 가능)
+     */
+    public TimerModel(TimerScheduler scheduler, TimerClock clock) {
+        this(scheduler, clock, SimpleEventBus.getInstance());
+    }
+    
+    /**
+     * 스케줄러, 시계, 이벤트 버스를 지정하여 생성
+     */
+    public TimerModel(TimerScheduler scheduler, TimerClock clock, EventBus eventBus) {
+        this.scheduler = scheduler;
+        this.clock = clock;
+        this.eventBus = eventBus;
+        this.snapshot = new AtomicReference<>(new Snapshot(
+            TimerState.STOPPED, 0,
+            TimerConstants.DEFAULT_WORK_MINUTES, TimerConstants.DEFAULT_BREAK_MINUTES, true,
+            NotificationType.REST,
+            TimerConstants.minutesToNanos(TimerConstants.DEFAULT_WORK_MINUTES), 0L, 0L, 0L, 0L));
+        this.listeners = new CopyOnWriteArrayList<>();
     }
     
     public interface TimerListener {
@@ -72,83 +106,182 @@ public class TimerModel {
     }
     
     public void startTimer() {
-        if (state == TimerState.RUNNING) return;
+        Snapshot current;
+        Snapshot next;
+        do {
+            current = snapshot.get();
+            if (current.state == TimerState.RUNNING) return;
+            
+            next = current.withRunning(clock.nanoTime() + current.remainingNanos, current.runId + 1,
+                                       System.currentTimeMillis());
+        } while (!snapshot.compareAndSet(current, next));
         
-        setState(TimerState.RUNNING);
+        notifyStateChanged(current, next);
         
-        timer = new Timer();
-        timer.scheduleAtFixedRate(new TimerTask() {
-            @Override
-            public void run() {
-                tick();
-            }
-        }, TimerConstants.TIMER_TICK_INTERVAL_MS, TimerConstants.TIMER_TICK_INTERVAL_MS);
+        // 남은 시간의 초 경계에 틱이 오도록 첫 지연을 맞춤
+        long remainingMs = TimerConstants.nanosToMillis(next.remainingNanos);
+        long firstDelayMs = remainingMs % TimerConstants.TIMER_TICK_INTERVAL_MS;
+        if (firstDelayMs == 0) {
+            firstDelayMs = TimerConstants.TIMER_TICK_INTERVAL_MS;
+        }
+        
+        // 틱 작업은 자신을 시작한 실행 번호를 기억하고, 이후 전이로 무효화되면 스스로 취소됨
+        long runId = next.runId;
+        TimerScheduler.Task[] self = new TimerScheduler.Task[1];
+        self[0] = scheduler.scheduleAtFixedRate(() -> tick(runId, self[0]),
+            firstDelayMs, TimerConstants.TIMER_TICK_INTERVAL_MS);
+        cancelTask(tickTask.getAndSet(self[0]));
     }
     
     public void pauseTimer() {
-        if (state != TimerState.RUNNING) return;
+        Snapshot current;
+        Snapshot next;
+        do {
+            current = snapshot.get();
+            if (current.state != TimerState.RUNNING) return;
+            
+            next = current.withPaused(clock.nanoTime());
+        } while (!snapshot.compareAndSet(current, next));
         
-        setState(TimerState.PAUSED);
-        if (timer != null) {
-            timer.cancel();
-            timer = null;
-        }
+        cancelTask(tickTask.getAndSet(null));
+        notifyStateChanged(current, next);
     }
     
     public void stopTimer() {
-        setState(TimerState.STOPPED);
-        if (timer != null) {
-            timer.cancel();
-            timer = null;
-        }
-        resetTimer();
+        Snapshot current;
+        Snapshot next;
+        do {
+            current = snapshot.get();
+            next = current.withStopped();
+        } while (!snapshot.compareAndSet(current, next));
+        
+        cancelTask(tickTask.getAndSet(null));
+        notifyStateChanged(current, next);
+        notifyTimerTick();
     }
     
     public void resetTimer() {
-        remainingSeconds = TimerConstants.minutesToSeconds(workMinutes);
-        currentCycle = 0;
+        Snapshot current;
+        do {
+            current = snapshot.get();
+        } while (!snapshot.compareAndSet(current, current.withReset(clock.nanoTime(), System.currentTimeMillis())));
+        
         notifyTimerTick();
     }
     
-    private void tick() {
-        remainingSeconds--;
-        notifyTimerTick();
+    /**
+     * 틱 처리 - 남은 시간은 마감 시각에서 계산하므로 지연된 틱이나 절전 후에도 누적 오차가 없음
+     */
+    private void tick(long runId, TimerScheduler.Task self) {
+        Snapshot current = snapshot.get();
+        if (current.state != TimerState.RUNNING || current.runId != runId) {
+            // 일시정지/정지/재시작으로 무효화된 틱 작업
+            cancelTask(self);
+            return;
+        }
         
-        if (remainingSeconds <= 0) {
-            timerComplete();
+        long remaining = current.deadlineNanos - clock.nanoTime();
+        if (remaining > TimerConstants.millisToNanos(TimerConstants.TIMER_DEADLINE_TOLERANCE_MS)) {
+            notifyTimerTick();
+            return;
         }
+        
+        timerComplete(runId);
     }
     
-    private void timerComplete() {
-        pauseTimer();
-        currentCycle++;
-        
-        // 포모도로 모드에서는 휴식/작업 교대
-        if (isPomodoroMode) {
-            if (currentCycle % 2 == 1) {
-                // 작업 완료 -> 휴식
-                remainingSeconds = TimerConstants.minutesToSeconds(breakMinutes);
-                currentNotificationType = getRandomNotificationType();
+    /**
+     * 페이즈 완료 - 다음 페이즈로 넘어가며 일시정지 상태가 됨
+     * 같은 실행에서 일시정지와 경합하면 먼저 CAS에 성공한 쪽만 반영됩니다.
+     */
+    private void timerComplete(long runId) {
+        Snapshot current;
+        Snapshot next;
+        do {
+            current = snapshot.get();
+            if (current.state != TimerState.RUNNING || current.runId != runId) return;
+            
+            int nextCycle = current.cycle + 1;
+            NotificationType nextType;
+            long nextPhaseNanos;
+            
+            // 포모도로 모드에서는 휴식/작업 교대
+            if (current.pomodoroMode) {
+                if (nextCycle % 2 == 1) {
+                    // 작업 완료 -> 휴식
+                    nextPhaseNanos = TimerConstants.minutesToNanos(current.breakMinutes);
+                    nextType = planNotificationType();
+                } else {
+                    // 휴식 완료 -> 작업
+                    nextPhaseNanos = TimerConstants.minutesToNanos(current.workMinutes);
+                    nextType = NotificationType.REST;
+                }
             } else {
-                // 휴식 완룼 -> 작업
-                remainingSeconds = TimerConstants.minutesToSeconds(workMinutes);
-                currentNotificationType = NotificationType.REST;
+                // 사용자 정의 모드에서는 항상 휴식 알림
+                nextPhaseNanos = TimerConstants.minutesToNanos(current.workMinutes);
+                nextType = planNotificationType();
             }
-        } else {
-            // 사용자 정의 모드에서는 항상 휴식 알림
-            remainingSeconds = TimerConstants.minutesToSeconds(workMinutes);
-            currentNotificationType = getRandomNotificationType();
-        }
+            
+            next = current.withCompleted(nextCycle, nextType, nextPhaseNanos);
+        } while (!snapshot.compareAndSet(current, next));
+        
+        // 사용한 예정 유형은 비워서 다음 페이즈는 새로 고르게 함
+        plannedNotificationType.compareAndSet(next.notificationType, null);
+        cancelTask(tickTask.getAndSet(null));
+        recordPhase(current, next.notificationType);
+        notifyTimerTick();
+        notifyStateChanged(current, next);
+        notifyTimerComplete(current, next);
+    }
+    
+    /**
+     * 완료된 페이즈를 세션 저널에 기록
+     */
+    private void recordPhase(Snapshot completed, NotificationType type) {
+        SessionJournal target = journal;
+        if (target == null) return;
         
-        notifyTimerComplete();
+        long completedAt = System.currentTimeMillis();
+        long startedAt = completed.phaseStartedAtMillis != 0 ? completed.phaseStartedAtMillis : completedAt;
+        long plannedMillis = (long) completed.getPhaseTotalSeconds() * TimerConstants.MILLISECONDS_PER_SECOND;
+        long actualMillis = TimerConstants.nanosToMillis(completed.getPhaseElapsedNanos(clock.nanoTime()));
+        target.append(getJournalOwner(), completed.isBreakPhase(), type, plannedMillis, actualMillis, startedAt, completedAt);
+    }
+    
+    private static void cancelTask(TimerScheduler.Task task) {
+        if (task != null) {
+            task.cancel();
+        }
+    }
+    
+    /**
+     * 다음 완료 때 쓸 무작위 알림 유형 (이미 정해 두었으면 그대로 사용)
+     */
+    private NotificationType planNotificationType() {
+        return plannedNotificationType.updateAndGet(type -> type != null ? type : getRandomNotificationType());
+    }
+    
+    /**
+     * 현재 페이즈가 끝날 때 표시될 알림 유형
+     * 무작위 유형도 이 시점에 정해 두므로 실제 완료 때 같은 유형이 사용됨
+     * @return 알림 유형
+     */
+    public NotificationType getUpcomingNotificationType() {
+        Snapshot s = snapshot.get();
+        // 포모도로 휴식이 끝나면 작업으로 돌아가므로 항상 휴식 알림
+        if (s.pomodoroMode && (s.cycle + 1) % 2 == 0) {
+            return NotificationType.REST;
+        }
+        return planNotificationType();
     }
     
     private NotificationType getRandomNotificationType() {
+        UserProfile profile = currentProfile;
+        
         // 프로필이 설정되어 있으면 활성화된 알림 유형들 중에서만 선택
-        if (currentProfile != null) {
+        if (profile != null) {
             List<NotificationType> enabledTypes = new ArrayList<>();
             for (NotificationType type : NotificationType.values()) {
-                if (currentProfile.isNotificationEnabled(type)) {
+                if (profile.isNotificationEnabled(type)) {
                     enabledTypes.add(type);
                 }
             }
@@ -163,73 +296,288 @@ public class TimerModel {
         return NotificationType.REST;
     }
     
-    private void setState(TimerState newState) {
-        this.state = newState;
-        notifyStateChanged();
-    }
-    
     private void notifyTimerTick() {
-        for (TimerListener listener : listeners) {
-            listener.onTimerTick(remainingSeconds);
+        Snapshot s = snapshot.get();
+        int remainingSeconds = getRemainingSeconds(s);
+        // 리스너가 없으면 반복자도 만들지 않음 (틱마다 할당 방지)
+        if (!listeners.isEmpty()) {
+            for (TimerListener listener : listeners) {
+                listener.onTimerTick(remainingSeconds);
+            }
+        }
+        
+        // 구독자가 없으면 이벤트를 만들지 않음
+        if (!eventBus.hasSubscribers(TimerTickEvent.class)) {
+            return;
+        }
+        // 바로 전달되는 버스면 모델이 가진 이벤트를 갱신해 재사용 (다른 틱이 발행 중이면 새로 만듦)
+        if (eventBus.deliversInline(TimerTickEvent.class) && tickEventInUse.compareAndSet(false, true)) {
+            try {
+                tickEvent.update(remainingSeconds, s.getPhaseTotalSeconds(), s.cycle,
+                                 s.getCurrentPhase(), s.pomodoroMode);
+                eventBus.publish(tickEvent);
+            } finally {
+                tickEventInUse.set(false);
+            }
+        } else {
+            eventBus.publish(new TimerTickEvent(this, remainingSeconds, s.getPhaseTotalSeconds(), s.cycle,
+                                                s.getCurrentPhase(), s.pomodoroMode));
         }
     }
     
-    private void notifyTimerComplete() {
+    private void notifyTimerComplete(Snapshot completed, Snapshot next) {
         for (TimerListener listener : listeners) {
-            listener.onTimerComplete(currentNotificationType);
+            listener.onTimerComplete(next.notificationType);
+        }
+        
+        if (eventBus.hasSubscribers(TimerCompletedEvent.class)) {
+            eventBus.publish(new TimerCompletedEvent(this, next.notificationType, next.cycle, completed.getCurrentPhase(),
+                                                     next.pomodoroMode, next.workMinutes, next.breakMinutes));
         }
     }
     
-    private void notifyStateChanged() {
+    private void notifyStateChanged(Snapshot previous, Snapshot next) {
         for (TimerListener listener : listeners) {
-            listener.onTimerStateChanged(state);
+            listener.onTimerStateChanged(next.state);
+        }
+        
+        if (eventBus.hasSubscribers(TimerStateChangedEvent.class)) {
+            eventBus.publish(new TimerStateChangedEvent(this, previous.state, next.state, getRemainingSeconds(next),
+                                                        next.cycle, next.getCurrentPhase()));
         }
     }
     
+    /**
+     * 현재 상태 스냅샷 (잠금 없이 일관된 읽기)
+     * @return 불변 스냅샷
+     */
+    public Snapshot getSnapshot() {
+        return snapshot.get();
+    }
+    
+    /**
+     * 스냅샷 기준 남은 시간 (초, 올림)
+     */
+    public int getRemainingSeconds(Snapshot s) {
+        return TimerConstants.nanosToCeilSeconds(s.getRemainingNanos(clock.nanoTime()));
+    }
+    
+    /**
+     * 스냅샷 기준 남은 시간 포맷 (MM:SS)
+     */
+    public String getFormattedTime(Snapshot s) {
+        return TimerConstants.formatTime(getRemainingSeconds(s));
+    }
+    
     // Getters and Setters
-    public TimerState getState() { return state; }
-    public int getWorkMinutes() { return workMinutes; }
-    public int getBreakMinutes() { return breakMinutes; }
-    public int getRemainingSeconds() { return remainingSeconds; }
-    public int getCurrentCycle() { return currentCycle; }
-    public boolean isPomodoroMode() { return isPomodoroMode; }
-    public NotificationType getCurrentNotificationType() { return currentNotificationType; }
+    public TimerState getState() { return snapshot.get().state; }
+    public int getWorkMinutes() { return snapshot.get().workMinutes; }
+    public int getBreakMinutes() { return snapshot.get().breakMinutes; }
+    public int getRemainingSeconds() { return getRemainingSeconds(snapshot.get()); }
+    public long getRemainingMillis() { return TimerConstants.nanosToMillis(snapshot.get().getRemainingNanos(clock.nanoTime())); }
+    public int getCurrentCycle() { return snapshot.get().cycle; }
+    public boolean isPomodoroMode() { return snapshot.get().pomodoroMode; }
+    public NotificationType getCurrentNotificationType() { return snapshot.get().notificationType; }
+    public TimerScheduler getScheduler() { return scheduler; }
+    public EventBus getEventBus() { return eventBus; }
+    public SessionJournal getSessionJournal() { return journal; }
+    
+    /**
+     * 완료된 페이즈를 기록할 세션 저널 지정
+     * @param journal 세션 저널 (null이면 기록 안 함)
+     * @param owner 기록 소유자 (null이면 현재 프로필 이름 사용)
+     */
+    public void setSessionJournal(SessionJournal journal, String owner) {
+        this.journal = journal;
+        this.journalOwner = owner;
+    }
+    
+    /**
+     * 기록 소유자 (지정되지 않았으면 현재 프로필 이름)
+     */
+    public String getJournalOwner() {
+        String owner = journalOwner;
+        if (owner != null) return owner;
+        UserProfile profile = currentProfile;
+        return profile != null ? profile.getProfileName() : TimerConstants.DEFAULT_PROFILE_NAME;
+    }
     
     public void setWorkMinutes(int workMinutes) {
-        this.workMinutes = workMinutes;
-        if (state == TimerState.STOPPED) {
-            remainingSeconds = TimerConstants.minutesToSeconds(workMinutes);
+        Snapshot current;
+        Snapshot next;
+        do {
+            current = snapshot.get();
+            next = current.withWorkMinutes(workMinutes);
+        } while (!snapshot.compareAndSet(current, next));
+        
+        if (next.state == TimerState.STOPPED) {
             notifyTimerTick();
         }
     }
     
     public void setBreakMinutes(int breakMinutes) {
-        this.breakMinutes = breakMinutes;
+        Snapshot current;
+        do {
+            current = snapshot.get();
+        } while (!snapshot.compareAndSet(current, current.withBreakMinutes(breakMinutes)));
     }
     
     public void setPomodoroMode(boolean pomodoroMode) {
-        this.isPomodoroMode = pomodoroMode;
+        Snapshot current;
+        do {
+            current = snapshot.get();
+        } while (!snapshot.compareAndSet(current, current.withPomodoroMode(pomodoroMode)));
     }
     
     public void setCurrentProfile(UserProfile profile) {
         this.currentProfile = profile;
+        plannedNotificationType.set(null);  // 활성화된 알림 유형이 달라질 수 있음
         System.out.println("TimerModel에 프로필 설정: " + (profile != null ? profile.getProfileName() : "null"));
     }
     
     public UserProfile getCurrentProfile() {
         return currentProfile;
     }
-
     
     public String getFormattedTime() {
-        return TimerConstants.formatTime(remainingSeconds);
+        return getFormattedTime(snapshot.get());
     }
     
     public String getCurrentPhase() {
-        if (isPomodoroMode) {
-            return (currentCycle % 2 == 0) ? "작업 시간" : "휴식 시간";
-        } else {
-            return "작업 시간";
+        return snapshot.get().getCurrentPhase();
+    }
+    
+    /**
+     * 타이머 상태의 불변 스냅샷
+     * 상태, 사이클, 설정값, 페이즈 마감 시각을 함께 담아 한 번의 읽기로 일관된 값을 제공합니다.
+     */
+    public static final class Snapshot {
+        private final TimerState state;
+        private final int cycle;
+        private final int workMinutes;
+        private final int breakMinutes;
+        private final boolean pomodoroMode;
+        private final NotificationType notificationType;
+        private final long remainingNanos;  // 실행 중이 아닐 때의 정확한 남은 시간
+        private final long deadlineNanos;   // 실행 중일 때의 단조 시계 기준 마감 시각
+        private final long runId;           // 시작할 때마다 증가하는 실행 번호
+        private final long phaseStartedAtMillis;  // 현재 페이즈를 처음 시작한 벽시계 시각 (미시작이면 0)
+        private final long phaseElapsedNanos;     // 현재 실행 구간 이전까지 누적된 실행 시간
+        
+        private Snapshot(TimerState state, int cycle, int workMinutes, int breakMinutes, boolean pomodoroMode,
+                         NotificationType notificationType, long remainingNanos, long deadlineNanos, long runId,
+                         long phaseStartedAtMillis, long phaseElapsedNanos) {
+            this.state = state;
+            this.cycle = cycle;
+            this.workMinutes = workMinutes;
+            this.breakMinutes = breakMinutes;
+            this.pomodoroMode = pomodoroMode;
+            this.notificationType = notificationType;
+            this.remainingNanos = remainingNanos;
+            this.deadlineNanos = deadlineNanos;
+            this.runId = runId;
+            this.phaseStartedAtMillis = phaseStartedAtMillis;
+            this.phaseElapsedNanos = phaseElapsedNanos;
         }
+        
+        private Snapshot withRunning(long deadline, long newRunId, long nowMillis) {
+            long startedAt = phaseStartedAtMillis != 0 ? phaseStartedAtMillis : nowMillis;
+            return new Snapshot(TimerState.RUNNING, cycle, workMinutes, breakMinutes, pomodoroMode,
+                                notificationType, remainingNanos, deadline, newRunId, startedAt, phaseElapsedNanos);
+        }
+        
+        private Snapshot withPaused(long now) {
+            // 밀리초 이하의 남은 시간까지 보존
+            return new Snapshot(TimerState.PAUSED, cycle, workMinutes, breakMinutes, pomodoroMode,
+                                notificationType, getRemainingNanos(now), 0L, runId,
+                                phaseStartedAtMillis, getPhaseElapsedNanos(now));
+        }
+        
+        private Snapshot withStopped() {
+            return new Snapshot(TimerState.STOPPED, 0, workMinutes, breakMinutes, pomodoroMode,
+                                notificationType, TimerConstants.minutesToNanos(workMinutes), 0L, runId, 0L, 0L);
+        }
+        
+        private Snapshot withReset(long now, long nowMillis) {
+            long phaseNanos = TimerConstants.minutesToNanos(workMinutes);
+            boolean running = state == TimerState.RUNNING;
+            return new Snapshot(state, 0, workMinutes, breakMinutes, pomodoroMode,
+                                notificationType, phaseNanos, running ? now + phaseNanos : 0L, runId,
+                                running ? nowMillis : 0L, 0L);
+        }
+        
+        private Snapshot withCompleted(int nextCycle, NotificationType nextType, long nextPhaseNanos) {
+            return new Snapshot(TimerState.PAUSED, nextCycle, workMinutes, breakMinutes, pomodoroMode,
+                                nextType, nextPhaseNanos, 0L, runId, 0L, 0L);
+        }
+        
+        private Snapshot withWorkMinutes(int minutes) {
+            long remaining = state == TimerState.STOPPED ? TimerConstants.minutesToNanos(minutes) : remainingNanos;
+            return new Snapshot(state, cycle, minutes, breakMinutes, pomodoroMode,
+                                notificationType, remaining, deadlineNanos, runId, phaseStartedAtMillis, phaseElapsedNanos);
+        }
+        
+        private Snapshot withBreakMinutes(int minutes) {
+            return new Snapshot(state, cycle, workMinutes, minutes, pomodoroMode,
+                                notificationType, remainingNanos, deadlineNanos, runId, phaseStartedAtMillis, phaseElapsedNanos);
+        }
+        
+        private Snapshot withPomodoroMode(boolean enabled) {
+            return new Snapshot(state, cycle, workMinutes, breakMinutes, enabled,
+                                notificationType, remainingNanos, deadlineNanos, runId, phaseStartedAtMillis, phaseElapsedNanos);
+        }
+        
+        /**
+         * 지정 시각 기준 현재 페이즈의 실제 실행 시간 (일시정지 구간 제외, 나노초)
+         */
+        public long getPhaseElapsedNanos(long nowNanos) {
+            if (state == TimerState.RUNNING) {
+                // 실행 구간 시작 시각 = 마감 시각 - 시작 시점의 남은 시간
+                return phaseElapsedNanos + (nowNanos - (deadlineNanos - remainingNanos));
+            }
+            return phaseElapsedNanos;
+        }
+        
+        /**
+         * 현재 페이즈가 휴식인지 여부
+         */
+        public boolean isBreakPhase() {
+            return pomodoroMode && cycle % 2 == 1;
+        }
+        
+        public long getPhaseStartedAtMillis() { return phaseStartedAtMillis; }
+        
+        /**
+         * 지정 시각 기준 남은 시간 (나노초)
+         */
+        public long getRemainingNanos(long nowNanos) {
+            if (state == TimerState.RUNNING) {
+                return Math.max(0, deadlineNanos - nowNanos);
+            }
+            return remainingNanos;
+        }
+        
+        /**
+         * 현재 페이즈의 전체 길이 (초)
+         */
+        public int getPhaseTotalSeconds() {
+            int minutes = isBreakPhase() ? breakMinutes : workMinutes;
+            return TimerConstants.minutesToSeconds(minutes);
+        }
+        
+        public String getCurrentPhase() {
+            if (pomodoroMode) {
+                return (cycle % 2 == 0) ? PHASE_WORK : PHASE_BREAK;
+            } else {
+                return PHASE_WORK;
+            }
+        }
+        
+        public TimerState getState() { return state; }
+        public int getCurrentCycle() { return cycle; }
+        public int getWorkMinutes() { return workMinutes; }
+        public int getBreakMinutes() { return breakMinutes; }
+        public boolean isPomodoroMode() { return pomodoroMode; }
+        public NotificationType getNotificationType() { return notificationType; }
     }
 }
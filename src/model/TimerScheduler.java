@@ -0,0 +1,62 @@
+package model;
+
+import constants.TimerConstants;
+
+/**
+ * 타이머 틱과 페이즈 완료를 구동하는 스케줄러 인터페이스
+ * 인스턴스별 java.util.Timer 방식과 공유 타이밍 휠 방식을 교체할 수 있게 합니다.
+ */
+public interface TimerScheduler {
+    
+    /**
+     * 예약된 작업 핸들
+     */
+    interface Task {
+        
+        /**
+         * 예약을 취소합니다. 이미 취소된 경우 아무 동작도 하지 않습니다.
+         */
+        void cancel();
+        
+        /**
+         * 취소 여부
+         * @return 취소되었으면 true
+         */
+        boolean isCancelled();
+    }
+    
+    /**
+     * 지정된 지연 후 한 번 실행되는 작업을 예약합니다.
+     * @param action 실행할 작업
+     * @param delayMs 지연 시간 (밀리초)
+     * @return 작업 핸들
+     */
+    Task schedule(Runnable action, long delayMs);
+    
+    /**
+     * 고정 주기로 반복 실행되는 작업을 예약합니다.
+     * @param action 실행할 작업
+     * @param delayMs 첫 실행까지의 지연 시간 (밀리초)
+     * @param periodMs 실행 주기 (밀리초)
+     * @return 작업 핸들
+     */
+    Task scheduleAtFixedRate(Runnable action, long delayMs, long periodMs);
+    
+    /**
+     * 스케줄러를 종료합니다.
+     */
+    void shutdown();
+    
+    /**
+     * 시스템 속성에 따라 기본 스케줄러를 선택합니다.
+     * -Dcodebreak.scheduler=wheel 이면 공유 타이밍 휠을, 그 외에는 인스턴스별 Timer를 사용합니다.
+     * @return 기본 스케줄러
+     */
+    static TimerScheduler createDefault() {
+        String type = System.getProperty(TimerConstants.SCHEDULER_PROPERTY, TimerConstants.SCHEDULER_TYPE_TIMER);
+        if (TimerConstants.SCHEDULER_TYPE_WHEEL.equalsIgnoreCase(type)) {
+            return HierarchicalTimingWheel.getShared();
+        }
+        return PerInstanceTimerScheduler.getInstance();
+    }
+}
@@ -3,6 +3,8 @@ package model;
 import constants.*;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 사용자 설정을 저장하고 관리하는 클래스
@@ -22,6 +24,9 @@ public class UserProfile {
     // 알림 유형별 활성화 상태 (Map으로 변경)
     private Map<TimerModel.NotificationType, Boolean> notificationSettings;
     
+    // 변경 번호 (설정 변경은 EDT, 자동 저장, 파일 감시 스레드 등에서 일어날 수 있으므로 원자적으로 증가)
+    private final AtomicInteger version = new AtomicInteger();
+    
     // 기본 생성자
     public UserProfile() {
         this(TimerConstants.DEFAULT_PROFILE_NAME);
@@ -104,6 +109,8 @@ public class UserProfile {
      * 프로필을 다른 프로필로부터 복사
      */
     public void copyFrom(UserProfile other) {
+        if (hasSameSettings(other)) return;  // 변경 없으면 버전 유지
+        
         this.workMinutes = other.workMinutes;
         this.breakMinutes = other.breakMinutes;
         this.pomodoroMode = other.pomodoroMode;
@@ -116,6 +123,23 @@ public class UserProfile {
         
         // 알림 설정 복사
         this.notificationSettings = new HashMap<>(other.notificationSettings);
+        touch();
+    }
+    
+    /**
+     * 이름을 제외한 설정 값이 모두 같은지 확인
+     */
+    public boolean hasSameSettings(UserProfile other) {
+        return workMinutes == other.workMinutes &&
+               breakMinutes == other.breakMinutes &&
+               pomodoroMode == other.pomodoroMode &&
+               soundEnabled == other.soundEnabled &&
+               popupEnabled == other.popupEnabled &&
+               flashEnabled == other.flashEnabled &&
+               snoozeMinutes == other.snoozeMinutes &&
+               autoStart == other.autoStart &&
+               minimizeToTray == other.minimizeToTray &&
+               notificationSettings.equals(other.notificationSettings);
     }
     
     /**
@@ -132,7 +156,9 @@ public class UserProfile {
      * 알림 유형 활성화/비활성화
      */
     public void setNotificationEnabled(TimerModel.NotificationType type, boolean enabled) {
-        notificationSettings.put(type, enabled);
+        if (!Boolean.valueOf(enabled).equals(notificationSettings.put(type, enabled))) {
+            touch();
+        }
         System.out.println("프로필 '" + profileName + "'에서 알림 " + type.getName() + " 설정: " + enabled);
     }
     
@@ -143,34 +169,54 @@ public class UserProfile {
     
     // Getters and Setters
     public String getProfileName() { return profileName; }
-    public void setProfileName(String profileName) { this.profileName = profileName; }
+    public void setProfileName(String profileName) {
+        if (!Objects.equals(this.profileName, profileName)) { this.profileName = profileName; touch(); }
+    }
     
     public int getWorkMinutes() { return workMinutes; }
-    public void setWorkMinutes(int workMinutes) { this.workMinutes = workMinutes; }
+    public void setWorkMinutes(int workMinutes) {
+        if (this.workMinutes != workMinutes) { this.workMinutes = workMinutes; touch(); }
+    }
     
     public int getBreakMinutes() { return breakMinutes; }
-    public void setBreakMinutes(int breakMinutes) { this.breakMinutes = breakMinutes; }
+    public void setBreakMinutes(int breakMinutes) {
+        if (this.breakMinutes != breakMinutes) { this.breakMinutes = breakMinutes; touch(); }
+    }
     
     public boolean isPomodoroMode() { return pomodoroMode; }
-    public void setPomodoroMode(boolean pomodoroMode) { this.pomodoroMode = pomodoroMode; }
+    public void setPomodoroMode(boolean pomodoroMode) {
+        if (this.pomodoroMode != pomodoroMode) { this.pomodoroMode = pomodoroMode; touch(); }
+    }
     
     public boolean isSoundEnabled() { return soundEnabled; }
-    public void setSoundEnabled(boolean soundEnabled) { this.soundEnabled = soundEnabled; }
+    public void setSoundEnabled(boolean soundEnabled) {
+        if (this.soundEnabled != soundEnabled) { this.soundEnabled = soundEnabled; touch(); }
+    }
     
     public boolean isPopupEnabled() { return popupEnabled; }
-    public void setPopupEnabled(boolean popupEnabled) { this.popupEnabled = popupEnabled; }
+    public void setPopupEnabled(boolean popupEnabled) {
+        if (this.popupEnabled != popupEnabled) { this.popupEnabled = popupEnabled; touch(); }
+    }
     
     public boolean isFlashEnabled() { return flashEnabled; }
-    public void setFlashEnabled(boolean flashEnabled) { this.flashEnabled = flashEnabled; }
+    public void setFlashEnabled(boolean flashEnabled) {
+        if (this.flashEnabled != flashEnabled) { this.flashEnabled = flashEnabled; touch(); }
+    }
     
     public int getSnoozeMinutes() { return snoozeMinutes; }
-    public void setSnoozeMinutes(int snoozeMinutes) { this.snoozeMinutes = snoozeMinutes; }
+    public void setSnoozeMinutes(int snoozeMinutes) {
+        if (this.snoozeMinutes != snoozeMinutes) { this.snoozeMinutes = snoozeMinutes; touch(); }
+    }
     
     public boolean isAutoStart() { return autoStart; }
-    public void setAutoStart(boolean autoStart) { this.autoStart = autoStart; }
+    public void setAutoStart(boolean autoStart) {
+        if (this.autoStart != autoStart) { this.autoStart = autoStart; touch(); }
+    }
     
     public boolean isMinimizeToTray() { return minimizeToTray; }
-    public void setMinimizeToTray(boolean minimizeToTray) { this.minimizeToTray = minimizeToTray; }
+    public void setMinimizeToTray(boolean minimizeToTray) {
+        if (this.minimizeToTray != minimizeToTray) { this.minimizeToTray = minimizeToTray; touch(); }
+    }
     
     // 알림 설정 관련 getters/setters
     public Map<TimerModel.NotificationType, Boolean> getNotificationSettings() { 
@@ -178,6 +224,18 @@ public class UserProfile {
     }
     
     public void setNotificationSettings(Map<TimerModel.NotificationType, Boolean> settings) { 
-        this.notificationSettings = new HashMap<>(settings); 
+        if (!notificationSettings.equals(settings)) {
+            this.notificationSettings = new HashMap<>(settings);
+            touch();
+        }
+    }
+    
+    /**
+     * 변경 번호 (값이 실제로 바뀔 때마다 증가, 직렬화 캐시 무효화에 사용)
+     */
+    public int getVersion() { return version.get(); }
+    
+    private void touch() {
+        version.incrementAndGet();
     }
 }
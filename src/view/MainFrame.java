@@ -3,6 +3,7 @@ package view;
 import model.*;
 import controller.*;
 import constants.*;
+import events.*;
 
 import javax.swing.*;
 import java.awt.*;
@@ -16,7 +17,7 @@ import java.awt.image.BufferedImage;
 public class MainFrame extends JFrame {
     private TimerModel timerModel;
     private NotificationManager notificationManager;
-    private JsonDataManager dataManager;
+    private DataStore dataStore;
     
     private TimerPanel timerPanel;
     private SettingsPanel settingsPanel;
@@ -26,10 +27,14 @@ public class MainFrame extends JFrame {
     private TimerController timerController;
     private SettingsController settingsController;
     private SystemTrayController trayController;
+    private TimerFrameDispatcher frameDispatcher;  // 틱 알림을 EDT 작업 하나로 병합
+    private NotificationPresenter notificationPresenter;  // 완료 알림 창을 미리 준비하고 재사용
     
     // UIConstants에서 가져온 상수들 사용
     
     public MainFrame() {
+        // 첫 알림이 바로 뜨도록 알림 아이콘을 백그라운드에서 미리 그려 둠
+        NotificationIconCache.warmUpAsync();
         initializeModels();
         initializeControllers();
         applyInitialProfileSettings();  // 초기 프로필 설정 적용
@@ -52,8 +57,9 @@ public class MainFrame extends JFrame {
      */
     private void initializeModels() {
         timerModel = new TimerModel();
+        timerModel.setSessionJournal(SessionJournal.getShared(), null);  // 현재 프로필 이름으로 기록
         notificationManager = new NotificationManager();
-        dataManager = new JsonDataManager();
+        dataStore = DataStore.createDefault();  // -Dcodebreak.datastore로 선택
     }
     
     /**
@@ -61,8 +67,9 @@ public class MainFrame extends JFrame {
      */
     private void initializeControllers() {
         timerController = new TimerController(timerModel, notificationManager);
-        settingsController = new SettingsController(dataManager);
-        trayController = new SystemTrayController(this, timerModel);
+        settingsController = new SettingsController(dataStore);
+        frameDispatcher = new TimerFrameDispatcher(timerModel);
+        trayController = new SystemTrayController(this, timerModel, frameDispatcher);
         
         // SettingsController와 TimerController 연결
         settingsController.setTimerController(timerController);
@@ -210,7 +217,7 @@ public class MainFrame extends JFrame {
         tabbedPane = new JTabbedPane();
         
         // 타이머 패널 - 설정 컨트롤러 전달
-        timerPanel = new TimerPanel(timerModel, timerController, settingsController);
+        timerPanel = new TimerPanel(timerModel, timerController, settingsController, frameDispatcher);
         tabbedPane.addTab("타이머", new ImageIcon(), timerPanel, "타이머 제어");
         
         // 설정 패널
@@ -248,58 +255,18 @@ public class MainFrame extends JFrame {
             }
         });
         
-        // 타이머 이벤트 리스너
-        timerModel.addTimerListener(new TimerModel.TimerListener() {
-            @Override
-            public void onTimerTick(int remainingSeconds) {
-                // 타이틀바에 남은 시간 표시
-                if (timerModel.getState() == TimerModel.TimerState.RUNNING) {
-                    setTitle(UIConstants.APP_TITLE + " - " + timerModel.getFormattedTime());
-                } else {
-                    setTitle(UIConstants.APP_TITLE);
-                }
-            }
-            
-            @Override
-            public void onTimerComplete(TimerModel.NotificationType type) {
-                // 알림 다이얼로그 표시
-                SwingUtilities.invokeLater(() -> {
-                    NotificationDialog dialog = new NotificationDialog(MainFrame.this, type, timerController);
-                    dialog.setVisible(true);
-                });
+        // 타이머 프레임 리스너 (EDT에서 호출됨)
+        notificationPresenter = new NotificationPresenter(this, timerModel, timerController);
+        frameDispatcher.addFrameListener(frame -> {
+            // 타이틀바에 남은 시간 표시
+            if (frame.getState() == TimerModel.TimerState.RUNNING) {
+                setTitle(UIConstants.APP_TITLE + " - " + frame.getFormattedTime());
+            } else {
+                setTitle(UIConstants.APP_TITLE);
             }
             
-            @Override
-            public void onTimerStateChanged(TimerModel.TimerState state) {
-                // 상태에 따라 UI 업데이트
-                updateUIForState(state);
-            }
-        });
-    }
-    
-    /**
-     * 상태에 따른 UI 업데이트
-     */
-    private void updateUIForState(TimerModel.TimerState state) {
-        SwingUtilities.invokeLater(() -> {
-            switch (state) {
-                case RUNNING:
-                    if (trayController != null) {
-                        trayController.updateTrayIcon("실행 중");
-                    }
-                    break;
-                case PAUSED:
-                    if (trayController != null) {
-                        trayController.updateTrayIcon("일시정지");
-                    }
-                    break;
-                case STOPPED:
-                    setTitle(UIConstants.APP_TITLE);
-                    if (trayController != null) {
-                        trayController.updateTrayIcon("정지");
-                    }
-                    break;
-            }
+            // 마감 전 알림 창 준비, 완료 시 표시
+            notificationPresenter.onTimerFrame(frame);
         });
     }
     
@@ -357,11 +324,28 @@ public class MainFrame extends JFrame {
                 settingsController.shutdown();
             }
             
+            // 대기 중인 이벤트 전달 후 이벤트 버스 종료
+            SimpleEventBus.getInstance().shutdown();
+            
+            // 세션 기록 디스크 반영
+            SessionJournal.closeShared();
+            
             // 시스템 트레이 정리
             if (trayController != null) {
                 trayController.cleanup();
             }
             
+            // 알림 창 정리
+            if (notificationPresenter != null) {
+                System.out.println("📊 완료 알림: " + notificationPresenter.getStatus());
+                notificationPresenter.dispose();
+            }
+            
+            // 프레임 디스패처 해제
+            if (frameDispatcher != null) {
+                frameDispatcher.dispose();
+            }
+            
             System.exit(0);
         }
     }
@@ -533,7 +517,8 @@ public class MainFrame extends JFrame {
     // Getters
     public TimerModel getTimerModel() { return timerModel; }
     public NotificationManager getNotificationManager() { return notificationManager; }
-    public JsonDataManager getDataManager() { return dataManager; }
+    public DataStore getDataStore() { return dataStore; }
     public TimerController getTimerController() { return timerController; }
     public SettingsController getSettingsController() { return settingsController; }
+    public TimerFrameDispatcher getFrameDispatcher() { return frameDispatcher; }
 }
@@ -10,7 +10,7 @@ import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
-import java.awt.image.BufferedImage;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 알림 팝업 창
@@ -36,27 +36,98 @@ public class NotificationDialog extends JDialog {
     private static final int DIALOG_WIDTH = 400;
     private static final int DIALOG_HEIGHT = 250;
     
-    public NotificationDialog(Frame parent, TimerModel.NotificationType type, TimerController controller) {
+    // 마감 시각부터 화면에 그려질 때까지 걸린 시간 통계 (모든 알림 창 공유)
+    private static final AtomicLong shownCount = new AtomicLong();
+    private static final AtomicLong prewarmedCount = new AtomicLong();
+    private static final AtomicLong totalLatencyNanos = new AtomicLong();
+    private static final AtomicLong maxLatencyNanos = new AtomicLong();
+    
+    // 표시 시점 정보 (EDT에서만 사용)
+    private long deadlineNanos;
+    private boolean prewarmed;
+    private boolean awaitingPixels;
+    
+    /**
+     * 알림 유형 없이 창만 만들어 둠 (표시 전에 prepare로 유형을 채움)
+     * 재사용을 전제로 하므로 닫아도 dispose하지 않고 숨기기만 합니다.
+     */
+    public NotificationDialog(Frame parent, TimerController controller) {
         super(parent, "휴식 알림", true);
-        this.notificationType = type;
         this.timerController = controller;
         this.remainingTimeout = timeoutSeconds;
         
         initializeUI();
         setupEventHandlers();
-        startCountdown();
-        
-        // 다이얼로그를 화면 중앙에 표시
-        setLocationRelativeTo(parent);
+        createCountdown();
         
         // 항상 맨 위에 표시
         setAlwaysOnTop(true);
+    }
+    
+    /**
+     * 알림 유형에 맞게 내용을 채우고 화면에 띄우지 않은 채 배치까지 끝내 둠
+     * 네이티브 창 생성과 레이아웃 비용을 마감 전에 미리 치르기 위한 것 (EDT에서 호출)
+     */
+    public void prepare(TimerModel.NotificationType type) {
+        this.notificationType = type;
+        
+        iconLabel.setIcon(NotificationIconCache.getIcon(type));
+        titleLabel.setText(type != null ? type.getName() : "");
+        messageLabel.setText("<html><div style='text-align: center; color: black;'>" + 
+                             (type != null ? type.getMessage() : "") + 
+                             "<br><br>잠시 휴식을 취하고 건강을 챙기세요!</div></html>");
+        resetCountdown();
+        
+        // 보이지 않는 상태로 네이티브 창을 만들고 배치
+        if (!isDisplayable()) {
+            addNotify();
+        }
+        validate();
+        setLocationRelativeTo(getOwner());
+    }
+    
+    /**
+     * 알림 표시 (모달이므로 닫힐 때까지 반환하지 않음)
+     * @param type 표시할 알림 유형 (준비된 유형과 다르면 여기서 다시 채움)
+     * @param deadlineNanos 페이즈 마감 시각 (System.nanoTime 기준, 지연 측정용)
+     */
+    public void showNotification(TimerModel.NotificationType type, long deadlineNanos) {
+        prewarmed = isDisplayable() && type == notificationType;
+        if (!prewarmed) {
+            prepare(type);
+        }
+        this.deadlineNanos = deadlineNanos;
+        awaitingPixels = true;
+        
+        countdownTimer.restart();
+        
+        // 다이얼로그를 화면 중앙에 표시
+        setLocationRelativeTo(getOwner());
         
         // 화면 점등 효과
         flashScreen();
         
         // 시스템 소리 재생
         Toolkit.getDefaultToolkit().beep();
+        
+        setVisible(true);
+    }
+    
+    public TimerModel.NotificationType getNotificationType() {
+        return notificationType;
+    }
+    
+    /**
+     * 표시 후 첫 그리기가 끝나면 마감 시각부터의 지연을 기록
+     */
+    @Override
+    public void paint(Graphics g) {
+        super.paint(g);
+        if (awaitingPixels) {
+            awaitingPixels = false;
+            Toolkit.getDefaultToolkit().sync();
+            recordLatency(System.nanoTime() - deadlineNanos);
+        }
     }
     
     /**
@@ -132,11 +203,11 @@ public class NotificationDialog extends JDialog {
         headerPanel.setOpaque(false);
         
         // 아이콘
-        iconLabel = new JLabel(createNotificationIcon(), SwingConstants.CENTER);
+        iconLabel = new JLabel((Icon) null, SwingConstants.CENTER);
         headerPanel.add(iconLabel, BorderLayout.WEST);
         
         // 제목
-        titleLabel = new JLabel(notificationType.getName(), SwingConstants.CENTER);
+        titleLabel = new JLabel("", SwingConstants.CENTER);
         titleLabel.setFont(new Font(Font.SANS_SERIF, Font.BOLD, 20));
         titleLabel.setForeground(new Color(70, 130, 180));
         headerPanel.add(titleLabel, BorderLayout.CENTER);
@@ -145,10 +216,7 @@ public class NotificationDialog extends JDialog {
         JPanel messagePanel = new JPanel(new BorderLayout(10, 10));
         messagePanel.setOpaque(false);
         
-        messageLabel = new JLabel("<html><div style='text-align: center; color: black;'>" + 
-                                 notificationType.getMessage() + 
-                                 "<br><br>잠시 휴식을 취하고 건강을 챙기세요!</div></html>", 
-                                 SwingConstants.CENTER);
+        messageLabel = new JLabel("", SwingConstants.CENTER);
         messageLabel.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 14));
         messageLabel.setForeground(Color.BLACK); // 명시적 텍스트 색상 설정
         messageLabel.setOpaque(true);
@@ -222,139 +290,6 @@ public class NotificationDialog extends JDialog {
         return button;
     }
     
-    /**
-     * 알림 아이콘 생성
-     */
-    private ImageIcon createNotificationIcon() {
-        // 간단한 아이콘 생성 (64x64)
-        BufferedImage icon = new BufferedImage(64, 64, BufferedImage.TYPE_INT_ARGB);
-        Graphics2D g2d = icon.createGraphics();
-        
-        // 안티얼라이싱 설정
-        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-        
-        // 알림 유형에 따른 아이콘 그리기
-        switch (notificationType) {
-            case REST:
-                drawRestIcon(g2d);
-                break;
-            case STRETCH:
-                drawStretchIcon(g2d);
-                break;
-            case WATER:
-                drawWaterIcon(g2d);
-                break;
-            case EYE_REST:
-                drawEyeRestIcon(g2d);
-                break;
-            default:
-                drawDefaultIcon(g2d);
-                break;
-        }
-        
-        g2d.dispose();
-        return new ImageIcon(icon);
-    }
-    
-    /**
-     * 휴식 아이콘 그리기
-     */
-    private void drawRestIcon(Graphics2D g2d) {
-        // 의자 모양
-        g2d.setColor(new Color(139, 69, 19)); // 갈색
-        g2d.fillRect(20, 35, 25, 20); // 등받이
-        g2d.fillRect(15, 50, 35, 5);  // 좌석
-        
-        // 사람
-        g2d.setColor(new Color(255, 220, 177)); // 살색
-        g2d.fillOval(25, 15, 15, 15); // 머리
-        g2d.setColor(new Color(70, 130, 180)); // 파란색 옷
-        g2d.fillRect(28, 30, 9, 15); // 몸
-    }
-    
-    /**
-     * 스트레칭 아이콘 그리기
-     */
-    private void drawStretchIcon(Graphics2D g2d) {
-        // 사람 모양 (팔을 벌린)
-        g2d.setColor(new Color(255, 220, 177)); // 살색
-        g2d.fillOval(27, 10, 10, 10); // 머리
-        
-        g2d.setColor(new Color(70, 130, 180)); // 파란색 옷
-        g2d.fillRect(30, 20, 4, 20); // 몸
-        
-        // 팔 (벌린 모양)
-        g2d.setStroke(new BasicStroke(3));
-        g2d.drawLine(20, 25, 32, 25); // 왼쪽 팔
-        g2d.drawLine(44, 25, 32, 25); // 오른쪽 팔
-        
-        // 다리
-        g2d.drawLine(32, 40, 25, 55); // 왼쪽 다리
-        g2d.drawLine(32, 40, 39, 55); // 오른쪽 다리
-    }
-    
-    /**
-     * 물 마시기 아이콘 그리기
-     */
-    private void drawWaterIcon(Graphics2D g2d) {
-        // 물컵
-        g2d.setColor(new Color(173, 216, 230)); // 연한 파란색
-        g2d.fillRect(25, 20, 15, 25);
-        
-        // 컵 테두리
-        g2d.setColor(Color.BLUE);
-        g2d.setStroke(new BasicStroke(2));
-        g2d.drawRect(25, 20, 15, 25);
-        
-        // 물
-        g2d.setColor(new Color(0, 150, 255));
-        g2d.fillRect(27, 30, 11, 13);
-        
-        // 물방울
-        g2d.setColor(new Color(0, 191, 255));
-        g2d.fillOval(20, 10, 6, 8);
-        g2d.fillOval(38, 12, 4, 6);
-    }
-    
-    /**
-     * 눈 휴식 아이콘 그리기
-     */
-    private void drawEyeRestIcon(Graphics2D g2d) {
-        // 얼굴
-        g2d.setColor(new Color(255, 220, 177)); // 살색
-        g2d.fillOval(20, 20, 24, 24);
-        
-        // 감은 눈
-        g2d.setColor(Color.BLACK);
-        g2d.setStroke(new BasicStroke(2));
-        g2d.drawArc(25, 30, 4, 2, 0, 180); // 왼쪽 눈
-        g2d.drawArc(35, 30, 4, 2, 0, 180); // 오른쪽 눈
-        
-        // Z (잠)
-        g2d.setColor(new Color(70, 130, 180));
-        g2d.setFont(new Font(Font.SANS_SERIF, Font.BOLD, 12));
-        g2d.drawString("Z", 48, 20);
-        g2d.drawString("z", 45, 15);
-        g2d.drawString("z", 42, 12);
-    }
-    
-    /**
-     * 기본 아이콘 그리기
-     */
-    private void drawDefaultIcon(Graphics2D g2d) {
-        // 알림 벨
-        g2d.setColor(new Color(255, 215, 0)); // 금색
-        g2d.fillArc(25, 20, 15, 15, 0, 180); // 벨 몸체
-        g2d.fillRect(30, 35, 5, 3); // 벨 손잡이
-        
-        // 알림 표시
-        g2d.setColor(Color.RED);
-        g2d.fillOval(38, 18, 8, 8); // 빨간 점
-        g2d.setColor(Color.WHITE);
-        g2d.setFont(new Font(Font.SANS_SERIF, Font.BOLD, 8));
-        g2d.drawString("!", 41, 24);
-    }
-    
     /**
      * 이벤트 핸들러 설정
      */
@@ -415,32 +350,66 @@ public class NotificationDialog extends JDialog {
     }
     
     /**
-     * 카운트다운 시작
+     * 마감 시각부터 화면에 그려질 때까지 걸린 시간 기록
+     */
+    private void recordLatency(long elapsed) {
+        shownCount.incrementAndGet();
+        if (prewarmed) {
+            prewarmedCount.incrementAndGet();
+        }
+        totalLatencyNanos.addAndGet(elapsed);
+        maxLatencyNanos.accumulateAndGet(elapsed, Math::max);
+        System.out.println("🔔 알림 표시: 마감 후 " + TimerConstants.nanosToMillis(elapsed) + "ms"
+            + (prewarmed ? " (미리 준비됨)" : "") + " | " + getShowLatencyStatus());
+    }
+    
+    /**
+     * 알림 창 표시 지연 통계 문자열 (마감 시각 → 화면 표시)
+     */
+    public static String getShowLatencyStatus() {
+        long count = shownCount.get();
+        double avgMs = count == 0 ? 0 : totalLatencyNanos.get() / (double) count / TimerConstants.NANOS_PER_MILLISECOND;
+        return String.format("표시 %d회 (미리 준비 %d회), 평균 %.1fms, 최대 %.1fms | 아이콘 캐시: %s",
+            count, prewarmedCount.get(), avgMs, maxLatencyNanos.get() / (double) TimerConstants.NANOS_PER_MILLISECOND,
+            NotificationIconCache.getStatus());
+    }
+    
+    /**
+     * 카운트다운 타이머 생성 (표시할 때마다 다시 시작)
      */
-    private void startCountdown() {
+    private void createCountdown() {
         countdownTimer = new Timer(1000, new ActionListener() {
             @Override
             public void actionPerformed(ActionEvent e) {
                 remainingTimeout--;
-                timeoutBar.setValue(remainingTimeout);
-                timeoutBar.setString(remainingTimeout + "초 후 자동으로 휴식 시작");
+                updateTimeoutBar();
                 
                 if (remainingTimeout <= 0) {
                     handleTimeoutAction();
                 }
             }
         });
-        countdownTimer.start();
+    }
+    
+    /**
+     * 카운트다운을 처음 값으로 되돌림
+     */
+    private void resetCountdown() {
+        countdownTimer.stop();
+        remainingTimeout = timeoutSeconds;
+        updateTimeoutBar();
+    }
+    
+    private void updateTimeoutBar() {
+        timeoutBar.setValue(remainingTimeout);
+        timeoutBar.setString(remainingTimeout + "초 후 자동으로 휴식 시작");
     }
     
     /**
      * 카운트다운 중지
      */
     private void stopCountdown() {
-        if (countdownTimer != null) {
-            countdownTimer.stop();
-            countdownTimer = null;
-        }
+        countdownTimer.stop();
     }
     
     /**
@@ -485,11 +454,17 @@ public class NotificationDialog extends JDialog {
     }
     
     /**
-     * 다이얼로그 닫기
+     * 다이얼로그 닫기 (재사용을 위해 숨기기만 하고 다음 알림을 위해 카운트다운을 되돌림)
      */
     private void closeDialog() {
         setVisible(false);
-        dispose();
+        resetCountdown();
+    }
+    
+    @Override
+    public void dispose() {
+        countdownTimer.stop();
+        super.dispose();
     }
     
     /**
@@ -0,0 +1,238 @@
+package view;
+
+import model.TimerModel;
+import constants.TimerConstants;
+import constants.UIConstants;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BaseMultiResolutionImage;
+import java.awt.image.BufferedImage;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 알림 유형별 아이콘 캐시 (프로세스 전체 공유)
+ * 유형 + 크기 + 화면 배율마다 한 번만 그리고, 이후 알림 창은 만들어 둔 아이콘을 그대로 사용합니다.
+ * 시작할 때 백그라운드에서 미리 그려 두면 첫 알림도 그리기 비용 없이 바로 표시됩니다.
+ */
+public final class NotificationIconCache {
+    
+    // 아이콘 도안의 기준 크기 (좌표는 이 크기 기준)
+    private static final double DESIGN_SIZE = 64.0;
+    
+    private static final Map<String, ImageIcon> ICONS = new ConcurrentHashMap<>();
+    
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+    private static final AtomicLong renderNanos = new AtomicLong();
+    
+    private NotificationIconCache() {
+    }
+    
+    /**
+     * 기본 크기와 기본 화면 배율의 알림 아이콘
+     */
+    public static ImageIcon getIcon(TimerModel.NotificationType type) {
+        return getIcon(type, UIConstants.NOTIFICATION_ICON_SIZE, TrayIconAtlas.defaultScale());
+    }
+    
+    /**
+     * 유형/크기/배율에 맞는 알림 아이콘 (처음 요청할 때만 그림)
+     * @param type 알림 유형 (null이면 기본 아이콘)
+     */
+    public static ImageIcon getIcon(TimerModel.NotificationType type, int size, double scale) {
+        String key = (type != null ? type.name() : "DEFAULT") + "/" + size + "@" + scale;
+        ImageIcon icon = ICONS.get(key);
+        if (icon != null) {
+            hits.incrementAndGet();
+            return icon;
+        }
+        return ICONS.computeIfAbsent(key, k -> createIcon(type, size, scale));
+    }
+    
+    /**
+     * 모든 알림 유형의 아이콘을 백그라운드 스레드에서 미리 그림
+     * 폰트 로딩 같은 첫 그리기 비용을 알림 시점 전에 치르기 위한 것으로, 여러 번 호출해도 안전함
+     */
+    public static void warmUpAsync() {
+        Thread warmUp = new Thread(() -> {
+            try {
+                double scale = TrayIconAtlas.defaultScale();
+                for (TimerModel.NotificationType type : TimerModel.NotificationType.values()) {
+                    getIcon(type, UIConstants.NOTIFICATION_ICON_SIZE, scale);
+                }
+                getIcon(null, UIConstants.NOTIFICATION_ICON_SIZE, scale);
+            } catch (Exception e) {
+                // 미리 그리기 실패는 무시 (알림 시점에 다시 그림)
+                System.err.println("알림 아이콘 미리 그리기 실패: " + e.getMessage());
+            }
+        }, "NotificationIcon-WarmUp");
+        warmUp.setDaemon(true);
+        warmUp.setPriority(Thread.MIN_PRIORITY);
+        warmUp.start();
+    }
+    
+    /**
+     * 캐시 상태 문자열
+     */
+    public static String getStatus() {
+        return String.format("아이콘 %d개 | 적중 %d, 생성 %d | 그리기 %.1fms",
+            ICONS.size(), hits.get(), misses.get(), renderNanos.get() / (double) TimerConstants.NANOS_PER_MILLISECOND);
+    }
+    
+    private static ImageIcon createIcon(TimerModel.NotificationType type, int size, double scale) {
+        long start = System.nanoTime();
+        misses.incrementAndGet();
+        
+        BufferedImage base = render(type, size);
+        Image image = base;
+        if (scale > 1.0) {
+            BufferedImage hiDpi = render(type, (int) Math.ceil(size * scale));
+            image = new BaseMultiResolutionImage(base, hiDpi);
+        }
+        ImageIcon icon = new ImageIcon(image);
+        
+        renderNanos.addAndGet(System.nanoTime() - start);
+        return icon;
+    }
+    
+    /**
+     * 아이콘 한 장 그리기 (캐시에 넣을 때만 호출)
+     * 기준 크기(64) 좌표로 그리고 실제 픽셀 크기에 맞춰 확대함
+     */
+    private static BufferedImage render(TimerModel.NotificationType type, int pixels) {
+        BufferedImage icon = new BufferedImage(pixels, pixels, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = icon.createGraphics();
+        
+        // 안티얼라이싱 설정
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.scale(pixels / DESIGN_SIZE, pixels / DESIGN_SIZE);
+        
+        // 알림 유형에 따른 아이콘 그리기
+        if (type == null) {
+            drawDefaultIcon(g2d);
+        } else {
+            switch (type) {
+                case REST:
+                    drawRestIcon(g2d);
+                    break;
+                case STRETCH:
+                    drawStretchIcon(g2d);
+                    break;
+                case WATER:
+                    drawWaterIcon(g2d);
+                    break;
+                case EYE_REST:
+                    drawEyeRestIcon(g2d);
+                    break;
+                default:
+                    drawDefaultIcon(g2d);
+                    break;
+            }
+        }
+        
+        g2d.dispose();
+        return icon;
+    }
+    
+    /**
+     * 휴식 아이콘 그리기
+     */
+    private static void drawRestIcon(Graphics2D g2d) {
+        // 의자 모양
+        g2d.setColor(new Color(139, 69, 19)); // 갈색
+        g2d.fillRect(20, 35, 25, 20); // 등받이
+        g2d.fillRect(15, 50, 35, 5);  // 좌석
+        
+        // 사람
+        g2d.setColor(new Color(255, 220, 177)); // 살색
+        g2d.fillOval(25, 15, 15, 15); // 머리
+        g2d.setColor(new Color(70, 130, 180)); // 파란색 옷
+        g2d.fillRect(28, 30, 9, 15); // 몸
+    }
+    
+    /**
+     * 스트레칭 아이콘 그리기
+     */
+    private static void drawStretchIcon(Graphics2D g2d) {
+        // 사람 모양 (팔을 벌린)
+        g2d.setColor(new Color(255, 220, 177)); // 살색
+        g2d.fillOval(27, 10, 10, 10); // 머리
+        
+        g2d.setColor(new Color(70, 130, 180)); // 파란색 옷
+        g2d.fillRect(30, 20, 4, 20); // 몸
+        
+        // 팔 (벌린 모양)
+        g2d.setStroke(new BasicStroke(3));
+        g2d.drawLine(20, 25, 32, 25); // 왼쪽 팔
+        g2d.drawLine(44, 25, 32, 25); // 오른쪽 팔
+        
+        // 다리
+        g2d.drawLine(32, 40, 25, 55); // 왼쪽 다리
+        g2d.drawLine(32, 40, 39, 55); // 오른쪽 다리
+    }
+    
+    /**
+     * 물 마시기 아이콘 그리기
+     */
+    private static void drawWaterIcon(Graphics2D g2d) {
+        // 물컵
+        g2d.setColor(new Color(173, 216, 230)); // 연한 파란색
+        g2d.fillRect(25, 20, 15, 25);
+        
+        // 컵 테두리
+        g2d.setColor(Color.BLUE);
+        g2d.setStroke(new BasicStroke(2));
+        g2d.drawRect(25, 20, 15, 25);
+        
+        // 물
+        g2d.setColor(new Color(0, 150, 255));
+        g2d.fillRect(27, 30, 11, 13);
+        
+        // 물방울
+        g2d.setColor(new Color(0, 191, 255));
+        g2d.fillOval(20, 10, 6, 8);
+        g2d.fillOval(38, 12, 4, 6);
+    }
+    
+    /**
+     * 눈 휴식 아이콘 그리기
+     */
+    private static void drawEyeRestIcon(Graphics2D g2d) {
+        // 얼굴
+        g2d.setColor(new Color(255, 220, 177)); // 살색
+        g2d.fillOval(20, 20, 24, 24);
+        
+        // 감은 눈
+        g2d.setColor(Color.BLACK);
+        g2d.setStroke(new BasicStroke(2));
+        g2d.drawArc(25, 30, 4, 2, 0, 180); // 왼쪽 눈
+        g2d.drawArc(35, 30, 4, 2, 0, 180); // 오른쪽 눈
+        
+        // Z (잠)
+        g2d.setColor(new Color(70, 130, 180));
+        g2d.setFont(new Font(Font.SANS_SERIF, Font.BOLD, 12));
+        g2d.drawString("Z", 48, 20);
+        g2d.drawString("z", 45, 15);
+        g2d.drawString("z", 42, 12);
+    }
+    
+    /**
+     * 기본 아이콘 그리기
+     */
+    private static void drawDefaultIcon(Graphics2D g2d) {
+        // 알림 벨
+        g2d.setColor(new Color(255, 215, 0)); // 금색
+        g2d.fillArc(25, 20, 15, 15, 0, 180); // 벨 몸체
+        g2d.fillRect(30, 35, 5, 3); // 벨 손잡이
+        
+        // 알림 표시
+        g2d.setColor(Color.RED);
+        g2d.fillOval(38, 18, 8, 8); // 빨간 점
+        g2d.setColor(Color.WHITE);
+        g2d.setFont(new Font(Font.SANS_SERIF, Font.BOLD, 8));
+        g2d.drawString("!", 41, 24);
+    }
+}
@@ -0,0 +1,109 @@
+package view;
+
+import model.TimerModel;
+import controller.TimerController;
+import controller.TimerFrameDispatcher;
+import constants.TimerConstants;
+
+import java.awt.Frame;
+
+/**
+ * 페이즈 완료 알림 창을 미리 준비해 두었다가 마감 순간에는 보여주기만 하는 관리자
+ * 마감 몇 초 전에 다음 알림 유형으로 창을 화면 밖에서 만들고 배치해 두며,
+ * 닫힌 창은 버리지 않고 다음 알림에 다시 사용합니다. (EDT에서만 사용)
+ */
+public class NotificationPresenter {
+    
+    private final Frame owner;
+    private final TimerModel timerModel;
+    private final TimerController timerController;
+    
+    private NotificationDialog dialog;  // 재사용하는 알림 창 (처음 준비할 때 생성)
+    private long deadlineNanos;         // 현재 페이즈 예상 마감 시각 (System.nanoTime 기준, 모르면 0)
+    
+    // 통계
+    private int prepareCount;
+    private int showCount;
+    
+    public NotificationPresenter(Frame owner, TimerModel timerModel, TimerController timerController) {
+        this.owner = owner;
+        this.timerModel = timerModel;
+        this.timerController = timerController;
+    }
+    
+    /**
+     * 타이머 프레임 처리: 마감이 가까우면 알림 창을 준비하고, 완료 프레임이면 표시
+     */
+    public void onTimerFrame(TimerFrameDispatcher.Frame frame) {
+        if (frame.isCompleted()) {
+            show(frame.getCompletedType());
+            return;
+        }
+        
+        if (frame.getState() != TimerModel.TimerState.RUNNING) {
+            // 일시정지/정지 중에는 마감 시각이 의미 없음 (재개 후 다시 계산)
+            deadlineNanos = 0;
+            return;
+        }
+        
+        if (frame.getRemainingSeconds() <= TimerConstants.NOTIFICATION_PREWARM_SECONDS) {
+            deadlineNanos = System.nanoTime()
+                + timerModel.getRemainingMillis() * TimerConstants.NANOS_PER_MILLISECOND;
+            prepare(timerModel.getUpcomingNotificationType());
+        }
+    }
+    
+    /**
+     * 알림 창을 화면 밖에서 준비 (이미 같은 유형으로 준비되어 있으면 아무것도 하지 않음)
+     */
+    private void prepare(TimerModel.NotificationType type) {
+        if (dialog == null) {
+            dialog = new NotificationDialog(owner, timerController);
+        } else if (dialog.isVisible()
+                   || (dialog.isDisplayable() && dialog.getNotificationType() == type)) {
+            // 표시 중인 창은 건드리지 않음
+            return;
+        }
+        dialog.prepare(type);
+        prepareCount++;
+    }
+    
+    /**
+     * 완료 알림 표시 (모달이므로 닫힐 때까지 반환하지 않음)
+     */
+    private void show(TimerModel.NotificationType type) {
+        long deadline = deadlineNanos != 0 ? deadlineNanos : System.nanoTime();
+        deadlineNanos = 0;
+        
+        showCount++;
+        if (dialog != null && dialog.isVisible()) {
+            // 이전 알림이 아직 열려 있으면 이번 알림만 새 창으로 표시
+            NotificationDialog extra = new NotificationDialog(owner, timerController);
+            extra.showNotification(type, deadline);
+            extra.dispose();
+            return;
+        }
+        if (dialog == null) {
+            dialog = new NotificationDialog(owner, timerController);
+        }
+        dialog.showNotification(type, deadline);
+    }
+    
+    /**
+     * 재사용하던 알림 창 정리
+     */
+    public void dispose() {
+        if (dialog != null) {
+            dialog.dispose();
+            dialog = null;
+        }
+    }
+    
+    /**
+     * 준비/표시 상태 문자열
+     */
+    public String getStatus() {
+        return String.format("준비 %d회, 표시 %d회 | %s", prepareCount, showCount,
+            NotificationDialog.getShowLatencyStatus());
+    }
+}
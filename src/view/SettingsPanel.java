@@ -2,15 +2,13 @@ package view;
 
 import model.*;
 import controller.*;
+import events.*;
 
 import javax.swing.*;
 import javax.swing.border.*;
 import java.awt.*;
 import java.awt.event.*;
 import java.util.List;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 
 /**
  * 🚀 향상된 설정 패널 - 실시간 동기화와 자동 저장 지원
@@ -51,7 +49,8 @@ public class SettingsPanel extends JPanel {
     
     // 이벤트 처리
     private boolean isUpdating = false;
-    private ScheduledExecutorService uiUpdateScheduler;
+    private long lastSaveStateSequence = -1;    // EDT에서만 접근
+    private final EventHandler<SaveStateEvent> saveStateHandler = this::renderSaveState;
     
     public SettingsPanel(SettingsController settingsController, NotificationManager notificationManager) {
         this.settingsController = settingsController;
@@ -59,9 +58,11 @@ public class SettingsPanel extends JPanel {
         
         initializeUI();
         setupEventHandlers();
-        startUIUpdateScheduler();
         refreshAllSettings();
         
+        // 저장 상태는 바뀔 때만 이벤트로 받음 (주기적으로 확인하지 않음)
+        SimpleEventBus.getInstance().subscribe(SaveStateEvent.class, saveStateHandler, SimpleEventBus.EDT_EXECUTOR);
+        
         System.out.println("✅ SettingsPanel 초기화 완료");
     }
     
@@ -512,14 +513,12 @@ public class SettingsPanel extends JPanel {
         duplicateProfileButton.addActionListener(e -> duplicateCurrentProfile());
         deleteProfileButton.addActionListener(e -> deleteCurrentProfile());
         
-        // 타이머 설정 변경 (즉시 저장 및 즉시 UI 업데이트 추가)
+        // 타이머 설정 변경 (즉시 저장, 상태 표시는 저장 상태 이벤트로 갱신)
         workMinutesSpinner.addChangeListener(e -> {
             if (!isUpdating) {
                 settingsController.updateCurrentProfileSetting("workMinutes", workMinutesSpinner.getValue());
                 // 즉시 저장 추가
                 settingsController.forceSave();
-                // 즉시 UI 업데이트
-                SwingUtilities.invokeLater(this::updateStatus);
             }
         });
         
@@ -528,8 +527,6 @@ public class SettingsPanel extends JPanel {
                 settingsController.updateCurrentProfileSetting("breakMinutes", breakMinutesSpinner.getValue());
                 // 즉시 저장 추가
                 settingsController.forceSave();
-                // 즉시 UI 업데이트
-                SwingUtilities.invokeLater(this::updateStatus);
             }
         });
         
@@ -538,19 +535,15 @@ public class SettingsPanel extends JPanel {
                 settingsController.updateCurrentProfileSetting("pomodoroMode", pomodoroModeCheckBox.isSelected());
                 // 즉시 저장 추가
                 settingsController.forceSave();
-                // 즉시 UI 업데이트
-                SwingUtilities.invokeLater(this::updateStatus);
             }
         });
         
-        // 알림 설정 변경 (즉시 저장 및 즉시 UI 업데이트 추가)
+        // 알림 설정 변경 (즉시 저장)
         soundEnabledCheckBox.addActionListener(e -> {
             if (!isUpdating) {
                 updateNotificationSettings();
                 // 즉시 저장 추가
                 settingsController.forceSave();
-                // 즉시 UI 업데이트
-                SwingUtilities.invokeLater(this::updateStatus);
             }
         });
         
@@ -559,8 +552,6 @@ public class SettingsPanel extends JPanel {
                 updateNotificationSettings();
                 // 즉시 저장 추가
                 settingsController.forceSave();
-                // 즉시 UI 업데이트
-                SwingUtilities.invokeLater(this::updateStatus);
             }
         });
         
@@ -569,8 +560,6 @@ public class SettingsPanel extends JPanel {
                 updateNotificationSettings();
                 // 즉시 저장 추가
                 settingsController.forceSave();
-                // 즉시 UI 업데이트
-                SwingUtilities.invokeLater(this::updateStatus);
             }
         });
         
@@ -579,8 +568,6 @@ public class SettingsPanel extends JPanel {
                 updateNotificationSettings();
                 // 즉시 저장 추가
                 settingsController.forceSave();
-                // 즉시 UI 업데이트
-                SwingUtilities.invokeLater(this::updateStatus);
             }
         });
         
@@ -593,21 +580,17 @@ public class SettingsPanel extends JPanel {
                         updateNotificationTypes();
                         // 즉시 저장 추가
                         settingsController.forceSave();
-                        // 즉시 UI 업데이트
-                        SwingUtilities.invokeLater(this::updateStatus);
                     }
                 });
             }
         }
         
-        // 일반 설정 변경 (즉시 저장 및 즉시 UI 업데이트 추가)
+        // 일반 설정 변경 (즉시 저장)
         autoStartCheckBox.addActionListener(e -> {
             if (!isUpdating) {
                 settingsController.updateCurrentProfileSetting("autoStart", autoStartCheckBox.isSelected());
                 // 즉시 저장 추가
                 settingsController.forceSave();
-                // 즉시 UI 업데이트
-                SwingUtilities.invokeLater(this::updateStatus);
             }
         });
         
@@ -616,8 +599,6 @@ public class SettingsPanel extends JPanel {
                 settingsController.updateCurrentProfileSetting("minimizeToTray", minimizeToTrayCheckBox.isSelected());
                 // 즉시 저장 추가
                 settingsController.forceSave();
-                // 즉시 UI 업데이트
-                SwingUtilities.invokeLater(this::updateStatus);
             }
         });
         
@@ -628,20 +609,6 @@ public class SettingsPanel extends JPanel {
         });
     }
     
-    /**
-     * ⏰ UI 업데이트 스케줄러 시작
-     */
-    private void startUIUpdateScheduler() {
-        uiUpdateScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
-            Thread t = new Thread(r, "UI-Update-Thread");
-            t.setDaemon(true);
-            return t;
-        });
-        
-        // 주기적으로 상태 업데이트 (더 빠른 주기로 변경: 0.5초 -> 0.1초)
-        uiUpdateScheduler.scheduleAtFixedRate(this::updateStatus, 50, 100, TimeUnit.MILLISECONDS);
-    }
-    
     /**
      * 🔄 모든 설정 새로고침
      */
@@ -729,30 +696,56 @@ public class SettingsPanel extends JPanel {
     }
     
     /**
-     * 📊 상태 업데이트 (디버깅 로그 추가 및 개선된 반응성)
+     * 📊 상태 업데이트 (컨트롤러의 마지막 저장 상태로 다시 그림)
      */
     private void updateStatus() {
-        SwingUtilities.invokeLater(() -> {
-            boolean hasChanges = settingsController.hasUnsavedChanges();
-            
-            // 디버깅 로그 추가
-            if (hasChanges) {
-                System.out.println("🔍 상태 체크: 저장 진행 중...");
-            }
-            
-            if (hasChanges) {
+        renderSaveState(settingsController.getSaveState());
+    }
+    
+    /**
+     * 💾 저장 상태 표시 (EDT에서 호출, 순서가 뒤바뀌어 도착한 이전 상태는 무시)
+     */
+    private void renderSaveState(SaveStateEvent event) {
+        if (event.getSequence() < lastSaveStateSequence) {
+            return;
+        }
+        lastSaveStateSequence = event.getSequence();
+        
+        switch (event.getState()) {
+            case DIRTY:
+                statusLabel.setText("⏳ 변경사항 저장 대기 중...");
+                statusLabel.setForeground(Color.BLACK);
+                saveProgressBar.setIndeterminate(true);
+                saveProgressBar.setString("대기 중");
+                break;
+                
+            case SAVING:
                 statusLabel.setText("⏳ 변경사항 저장 중...");
                 statusLabel.setForeground(Color.BLACK);
                 saveProgressBar.setIndeterminate(true);
                 saveProgressBar.setString("저장 중");
-            } else {
-                statusLabel.setText("✅ 모든 변경사항 저장됨");
+                break;
+                
+            case SAVED:
+                statusLabel.setText("✅ 모든 변경사항 저장됨 (" + formatTime(event.getTimestamp()) + ")");
                 statusLabel.setForeground(Color.BLACK);
                 saveProgressBar.setIndeterminate(false);
                 saveProgressBar.setValue(100);
                 saveProgressBar.setString("저장됨");
-            }
-        });
+                break;
+                
+            case FAILED:
+                statusLabel.setText("❌ 저장 실패 (" + formatTime(event.getTimestamp()) + "): " + event.getMessage());
+                statusLabel.setForeground(Color.RED);
+                saveProgressBar.setIndeterminate(false);
+                saveProgressBar.setValue(0);
+                saveProgressBar.setString("실패");
+                break;
+        }
+    }
+    
+    private static String formatTime(long millis) {
+        return new java.text.SimpleDateFormat("HH:mm:ss").format(new java.util.Date(millis));
     }
     
     /**
@@ -763,20 +756,15 @@ public class SettingsPanel extends JPanel {
         UserProfile current = settingsController.getCurrentProfile();
         
         if (!newName.isEmpty() && !newName.equals(current.getProfileName())) {
-            // 중복 체크
-            boolean nameExists = settingsController.getAllProfiles().stream()
-                .anyMatch(p -> p != current && p.getProfileName().equals(newName));
-            
-            if (nameExists) {
+            // 중복이면 이름 변경 거부
+            if (!settingsController.renameProfile(current, newName)) {
                 JOptionPane.showMessageDialog(this, 
                     "같은 이름의 프로필이 이미 존재합니다: " + newName, 
                     "중복된 이름", JOptionPane.WARNING_MESSAGE);
                 profileNameField.setText(current.getProfileName());
             } else {
-                current.setProfileName(newName);
                 settingsController.forceSave();
                 refreshProfileList();
-                updateStatus();
             }
         }
     }
@@ -839,8 +827,6 @@ public class SettingsPanel extends JPanel {
         settingsController.updateCurrentProfileSetting("workMinutes", workMinutes);
         settingsController.updateCurrentProfileSetting("breakMinutes", breakMinutes);
         settingsController.updateCurrentProfileSetting("pomodoroMode", pomodoroMode);
-        
-        updateStatus();
     }
     
     /**
@@ -949,12 +935,8 @@ public class SettingsPanel extends JPanel {
     private void forceSave() {
         System.out.println("💾 강제 저장 시작...");
         settingsController.forceSave();
-        
-        // 저장 후 즉시 상태 업데이트 (지연 없이)
-        SwingUtilities.invokeLater(() -> {
-            updateStatus();
-            System.out.println("✅ 강제 저장 완료");
-        });
+        // 상태 표시는 저장 상태 이벤트로 갱신됨
+        System.out.println("✅ 강제 저장 완료");
         
         JOptionPane.showMessageDialog(this, 
             "모든 설정이 즉시 저장되었습니다.", 
@@ -1135,37 +1117,8 @@ public class SettingsPanel extends JPanel {
                     }
                 }
                 
-                // 불러오기 실행
-                SettingsController.ImportResult result;
-                if (isAddMode) {
-                    result = settingsController.importProfilesFromFile(filePath);
-                } else {
-                    result = settingsController.replaceAllProfilesFromFile(filePath);
-                }
-                
-                // 결과 표시
-                if (result.isSuccess()) {
-                    refreshAllSettings(); // UI 새로고침
-                    
-                    String details = "";
-                    if (result.getAddedCount() > 0) {
-                        details += "추가된 프로필: " + result.getAddedCount() + "개\n";
-                    }
-                    if (result.getSkippedCount() > 0) {
-                        details += "건너뛴 프로필: " + result.getSkippedCount() + "개 (이미 존재)\n";
-                    }
-                    details += "현재 총 프로필: " + settingsController.getAllProfiles().size() + "개";
-                    
-                    JOptionPane.showMessageDialog(this,
-                        result.getMessage() + "\n\n" + details,
-                        "불러오기 완료",
-                        JOptionPane.INFORMATION_MESSAGE);
-                } else {
-                    JOptionPane.showMessageDialog(this,
-                        result.getMessage(),
-                        "불러오기 실패",
-                        JOptionPane.ERROR_MESSAGE);
-                }
+                // 불러오기 실행 (대량 파일도 UI가 멈추지 않도록 백그라운드에서, 진행률 표시 및 취소 가능)
+                runImport(filePath, isAddMode);
                 
             } catch (Exception e) {
                 JOptionPane.showMessageDialog(this,
@@ -1178,19 +1131,83 @@ public class SettingsPanel extends JPanel {
     }
     
     /**
-     * 🧹 리소스 정리
+     * 📥 백그라운드 불러오기 - ProgressMonitor로 진행률을 보여주고 취소 버튼으로 중단
      */
-    public void cleanup() {
-        if (uiUpdateScheduler != null && !uiUpdateScheduler.isShutdown()) {
-            uiUpdateScheduler.shutdown();
-            try {
-                if (!uiUpdateScheduler.awaitTermination(1, TimeUnit.SECONDS)) {
-                    uiUpdateScheduler.shutdownNow();
+    private void runImport(String filePath, boolean isAddMode) {
+        ProfileImportPipeline pipeline = settingsController.createImportPipeline();
+        ProgressMonitor monitor = new ProgressMonitor(this, "프로필 불러오는 중...", "", 0, 100);
+        monitor.setMillisToDecideToPopup(200);
+        
+        SwingWorker<SettingsController.ImportResult, ProfileImportPipeline.Progress> worker =
+            new SwingWorker<SettingsController.ImportResult, ProfileImportPipeline.Progress>() {
+                @Override
+                protected SettingsController.ImportResult doInBackground() {
+                    pipeline.setProgressListener(this::publish);
+                    return isAddMode
+                        ? settingsController.importProfilesFromFile(filePath, pipeline)
+                        : settingsController.replaceAllProfilesFromFile(filePath, pipeline);
+                }
+                
+                @Override
+                protected void process(List<ProfileImportPipeline.Progress> chunks) {
+                    if (monitor.isCanceled()) {
+                        pipeline.cancel();
+                        return;
+                    }
+                    ProfileImportPipeline.Progress latest = chunks.get(chunks.size() - 1);
+                    monitor.setProgress(Math.max(0, latest.getPercent()));
+                    monitor.setNote(latest.toString());
+                }
+                
+                @Override
+                protected void done() {
+                    monitor.close();
+                    try {
+                        showImportResult(get());
+                    } catch (Exception e) {
+                        JOptionPane.showMessageDialog(SettingsPanel.this,
+                            "프로필 불러오기 중 오류가 발생했습니다:\n" + e.getMessage(),
+                            "오류",
+                            JOptionPane.ERROR_MESSAGE);
+                    }
                 }
-            } catch (InterruptedException e) {
-                uiUpdateScheduler.shutdownNow();
+            };
+        worker.execute();
+    }
+    
+    /**
+     * 불러오기 결과 표시
+     */
+    private void showImportResult(SettingsController.ImportResult result) {
+        if (result.isSuccess()) {
+            refreshAllSettings(); // UI 새로고침
+            
+            String details = "";
+            if (result.getAddedCount() > 0) {
+                details += "추가된 프로필: " + result.getAddedCount() + "개\n";
             }
+            if (result.getSkippedCount() > 0) {
+                details += "건너뛴 프로필: " + result.getSkippedCount() + "개 (이미 존재)\n";
+            }
+            details += "현재 총 프로필: " + settingsController.getAllProfiles().size() + "개";
+            
+            JOptionPane.showMessageDialog(this,
+                result.getMessage() + "\n\n" + details,
+                "불러오기 완료",
+                JOptionPane.INFORMATION_MESSAGE);
+        } else {
+            JOptionPane.showMessageDialog(this,
+                result.getMessage(),
+                "불러오기 실패",
+                JOptionPane.ERROR_MESSAGE);
         }
+    }
+    
+    /**
+     * 🧹 리소스 정리
+     */
+    public void cleanup() {
+        SimpleEventBus.getInstance().unsubscribe(SaveStateEvent.class, saveStateHandler);
         
         System.out.println("✅ SettingsPanel 정리 완료");
     }
@@ -12,10 +12,11 @@ import java.awt.event.ActionListener;
 /**
  * 타이머 표시 및 제어 패널 - 프로필 변경 실시간 반영 기능 추가
  */
-public class TimerPanel extends JPanel implements TimerModel.TimerListener, EventHandler<ProfileChangedEvent> {
+public class TimerPanel extends JPanel implements TimerFrameDispatcher.FrameListener, EventHandler<ProfileChangedEvent> {
     private TimerModel timerModel;
     private TimerController timerController;
     private SettingsController settingsController;
+    private TimerFrameDispatcher frameDispatcher;
     private EventBus eventBus;  // 이벤트 버스 추가
     
     // UI 컴포넌트
@@ -37,21 +38,35 @@ public class TimerPanel extends JPanel implements TimerModel.TimerListener, Even
     private JPanel settingsPanel;
     private JPanel displayPanel;
     
-    public TimerPanel(TimerModel timerModel, TimerController timerController, SettingsController settingsController) {
+    // 이전 프레임의 표시 상태와 렌더링 통계 (EDT에서만 접근)
+    private TimerViewState lastViewState;
+    private long renderedFrames;
+    private long unchangedFrames;
+    private long componentUpdates;
+    private long repaintRegions;  // Swing에 실제로 요청된 더티 영역 수 (RepaintCounter가 셈)
+    
+    public TimerPanel(TimerModel timerModel, TimerController timerController, SettingsController settingsController,
+                      TimerFrameDispatcher frameDispatcher) {
         this.timerModel = timerModel;
         this.timerController = timerController;
         this.settingsController = settingsController;
+        this.frameDispatcher = frameDispatcher;
         this.eventBus = SimpleEventBus.getInstance();  // EventBus 인스턴스 가져오기
         
+        // 기본 RepaintManager일 때만 교체 (다른 도구가 설치한 관리자는 건드리지 않음)
+        if (RepaintManager.currentManager(this).getClass() == RepaintManager.class) {
+            RepaintManager.setCurrentManager(new RepaintCounter());
+        }
+        
         initializeUI();
         setupEventHandlers();
         updateDisplay();
         
-        // 타이머 리스너 등록
-        timerModel.addTimerListener(this);
+        // 타이머 프레임 리스너 등록 (틱/상태/완료가 EDT 작업 하나로 병합되어 전달됨)
+        frameDispatcher.addFrameListener(this);
         
-        // 프로필 변경 이벤트 구독
-        eventBus.subscribe(ProfileChangedEvent.class, this);
+        // 프로필 변경 이벤트 구독 (EDT에서 전달받음)
+        eventBus.subscribe(ProfileChangedEvent.class, this, SimpleEventBus.EDT_EXECUTOR);
         
         System.out.println("✅ TimerPanel에서 ProfileChangedEvent 구독 시작");
     }
@@ -61,21 +76,24 @@ public class TimerPanel extends JPanel implements TimerModel.TimerListener, Even
      */
     @Override
     public void handle(ProfileChangedEvent event) {
-        SwingUtilities.invokeLater(() -> {
-            System.out.println("🔄 TimerPanel에서 프로필 변경 감지: " + event.getNewProfile().getProfileName());
-            
-            UserProfile newProfile = event.getNewProfile();
-            
-            // 타이머 모델 업데이트
-            timerModel.setWorkMinutes(newProfile.getWorkMinutes());
-            timerModel.setBreakMinutes(newProfile.getBreakMinutes());
-            timerModel.setPomodoroMode(newProfile.isPomodoroMode());
-            
-            // UI 업데이트
-            updateDisplay();
-            
-            System.out.println("✅ 타이머 UI 업데이트 완료: " + newProfile.getWorkMinutes() + "분/" + newProfile.getBreakMinutes() + "분");
-        });
+        // EDT_EXECUTOR로 구독했으므로 이미 EDT에서 실행됨
+        // 선택되지 않은 프로필의 변경(외부 파일 반영 등)은 타이머와 무관
+        if (!event.isActiveProfile() || event.getNewProfile() == null) {
+            return;
+        }
+        System.out.println("🔄 TimerPanel에서 프로필 변경 감지: " + event.getNewProfile().getProfileName());
+        
+        UserProfile newProfile = event.getNewProfile();
+        
+        // 타이머 모델 업데이트
+        timerModel.setWorkMinutes(newProfile.getWorkMinutes());
+        timerModel.setBreakMinutes(newProfile.getBreakMinutes());
+        timerModel.setPomodoroMode(newProfile.isPomodoroMode());
+        
+        // UI 업데이트
+        updateDisplay();
+        
+        System.out.println("✅ 타이머 UI 업데이트 완료: " + newProfile.getWorkMinutes() + "분/" + newProfile.getBreakMinutes() + "분");
     }
     
     /**
@@ -338,146 +356,142 @@ public class TimerPanel extends JPanel implements TimerModel.TimerListener, Even
      */
     private void updateDisplay() {
         SwingUtilities.invokeLater(() -> {
-            // 시간 표시 업데이트
-            timeLabel.setText(timerModel.getFormattedTime());
-            
-            // 페이즈 표시 업데이트
-            phaseLabel.setText(timerModel.getCurrentPhase());
-            
-            // 사이클 표시 업데이트
-            cycleLabel.setText("사이클: " + timerModel.getCurrentCycle());
-            
-            // 진행 바 업데이트
-            updateProgressBar();
-            
-            // 버튼 상태 업데이트
-            updateButtonStates();
-            
-            // 설정 값 업데이트
-            updateSettings();
+            TimerModel.Snapshot snapshot = timerModel.getSnapshot();
+            renderDisplay(snapshot, timerModel.getRemainingSeconds(snapshot));
         });
     }
     
     /**
-     * 진행 바 업데이트
+     * 한 번의 스냅샷으로 만든 표시 상태를 이전 프레임과 비교하여 바뀐 컴포넌트만 갱신 (EDT에서 호출)
+     * 실행 중 매 틱에는 보통 시간 라벨과 진행 바만 바뀜
      */
-    private void updateProgressBar() {
-        int totalSeconds;
-        int elapsedSeconds;
-        
-        if (timerModel.isPomodoroMode() && timerModel.getCurrentCycle() % 2 == 1) {
-            // 휴식 시간
-            totalSeconds = timerModel.getBreakMinutes() * 60;
-        } else {
-            // 작업 시간
-            totalSeconds = timerModel.getWorkMinutes() * 60;
+    private void renderDisplay(TimerModel.Snapshot snapshot, int remainingSeconds) {
+        TimerViewState next = TimerViewState.of(snapshot, remainingSeconds);
+        TimerViewState prev = lastViewState;
+        lastViewState = next;
+        
+        int updates = 0;
+        
+        // 시간 표시 업데이트
+        if (prev == null || !next.getTimeText().equals(prev.getTimeText())) {
+            timeLabel.setText(next.getTimeText());
+            updates++;
+        }
+        
+        // 페이즈 표시 업데이트
+        if (prev == null || !next.getPhaseText().equals(prev.getPhaseText())) {
+            phaseLabel.setText(next.getPhaseText());
+            updates++;
+        }
+        
+        // 사이클 표시 업데이트
+        if (prev == null || next.getCycle() != prev.getCycle()) {
+            cycleLabel.setText(next.getCycleText());
+            updates++;
+        }
+        
+        // 진행 바 업데이트 (초 단위 틱에서도 백분율이 같으면 건너뜀)
+        if (prev == null || next.getProgressPercent() != prev.getProgressPercent()) {
+            progressBar.setValue(next.getProgressPercent());
+            progressBar.setString(next.getProgressPercent() + "%");
+            updates += 2;
+        }
+        
+        // 버튼/설정 활성화 상태는 타이머 상태가 바뀔 때만 갱신
+        if (prev == null || next.getState() != prev.getState()) {
+            updates += updateButtonStates(next);
         }
         
-        elapsedSeconds = totalSeconds - timerModel.getRemainingSeconds();
-        int progress = (int) ((double) elapsedSeconds / totalSeconds * 100);
+        // 설정 값 업데이트
+        updates += updateSettings(prev, next);
         
-        progressBar.setValue(progress);
-        progressBar.setString(progress + "%");
+        renderedFrames++;
+        componentUpdates += updates;
+        if (updates == 0) {
+            unchangedFrames++;
+        }
     }
     
     /**
-     * 버튼 상태 업데이트
+     * 버튼 상태 업데이트 (폰트/색상/테두리는 생성 시 한 번만 설정)
+     * @return 갱신한 컴포넌트 수
      */
-    private void updateButtonStates() {
-        TimerModel.TimerState state = timerModel.getState();
-        
-        switch (state) {
-            case STOPPED:
-                startButton.setEnabled(true);
-                startButton.setText("시작");
-                startButton.setForeground(Color.WHITE); // 텍스트 색상 재설정
-                pauseButton.setEnabled(false);
-                pauseButton.setForeground(Color.WHITE);
-                stopButton.setEnabled(false);
-                stopButton.setForeground(Color.WHITE);
-                resetButton.setEnabled(true);
-                resetButton.setForeground(Color.WHITE);
-                
-                // 설정 변경 가능
-                workMinutesSpinner.setEnabled(true);
-                breakMinutesSpinner.setEnabled(true);
-                pomodoroModeCheckBox.setEnabled(true);
-                break;
-                
-            case RUNNING:
-                startButton.setEnabled(false);
-                startButton.setForeground(Color.WHITE);
-                pauseButton.setEnabled(true);
-                pauseButton.setForeground(Color.WHITE);
-                stopButton.setEnabled(true);
-                stopButton.setForeground(Color.WHITE);
-                resetButton.setEnabled(false);
-                resetButton.setForeground(Color.WHITE);
-                
-                // 설정 변경 불가
-                workMinutesSpinner.setEnabled(false);
-                breakMinutesSpinner.setEnabled(false);
-                pomodoroModeCheckBox.setEnabled(false);
-                break;
-                
-            case PAUSED:
-                startButton.setEnabled(true);
-                startButton.setText("재개");
-                startButton.setForeground(Color.WHITE);
-                pauseButton.setEnabled(false);
-                pauseButton.setForeground(Color.WHITE);
-                stopButton.setEnabled(true);
-                stopButton.setForeground(Color.WHITE);
-                resetButton.setEnabled(true);
-                resetButton.setForeground(Color.WHITE);
-                
-                // 설정 변경 불가
-                workMinutesSpinner.setEnabled(false);
-                breakMinutesSpinner.setEnabled(false);
-                pomodoroModeCheckBox.setEnabled(false);
-                break;
+    private int updateButtonStates(TimerViewState state) {
+        int touched = 0;
+        touched += setEnabledIfChanged(startButton, state.isStartEnabled());
+        touched += setEnabledIfChanged(pauseButton, state.isPauseEnabled());
+        touched += setEnabledIfChanged(stopButton, state.isStopEnabled());
+        touched += setEnabledIfChanged(resetButton, state.isResetEnabled());
+        
+        String startText = state.getStartText();
+        if (startText != null && !startText.equals(startButton.getText())) {
+            startButton.setText(startText);
+            touched++;
         }
         
-        // 모든 버튼의 폰트와 스타일 재설정
-        JButton[] buttons = {startButton, pauseButton, stopButton, resetButton};
-        for (JButton button : buttons) {
-            button.setOpaque(true);
-            button.setBorderPainted(false);
-            button.setFont(new Font(Font.SANS_SERIF, Font.BOLD, 12));
-            button.repaint();
+        // 실행 중이 아닐 때만 설정 변경 가능
+        boolean editable = state.isSettingsEditable();
+        touched += setEnabledIfChanged(workMinutesSpinner, editable);
+        touched += setEnabledIfChanged(breakMinutesSpinner, editable);
+        touched += setEnabledIfChanged(pomodoroModeCheckBox, editable);
+        return touched;
+    }
+    
+    private static int setEnabledIfChanged(JComponent component, boolean enabled) {
+        if (component.isEnabled() == enabled) {
+            return 0;
         }
+        component.setEnabled(enabled);
+        return 1;
     }
     
     /**
      * 설정 값 업데이트
+     * 스피너/체크박스는 사용자가 직접 바꿀 수 있으므로 값이 바뀐 프레임에서 실제 컴포넌트 값과 한 번 더 비교
+     * @return 갱신한 컴포넌트 수
      */
-    private void updateSettings() {
-        if (!workMinutesSpinner.getValue().equals(timerModel.getWorkMinutes())) {
-            workMinutesSpinner.setValue(timerModel.getWorkMinutes());
+    private int updateSettings(TimerViewState prev, TimerViewState next) {
+        int touched = 0;
+        
+        if ((prev == null || next.getWorkMinutes() != prev.getWorkMinutes())
+                && !workMinutesSpinner.getValue().equals(next.getWorkMinutes())) {
+            workMinutesSpinner.setValue(next.getWorkMinutes());
+            touched++;
         }
         
-        if (!breakMinutesSpinner.getValue().equals(timerModel.getBreakMinutes())) {
-            breakMinutesSpinner.setValue(timerModel.getBreakMinutes());
+        if ((prev == null || next.getBreakMinutes() != prev.getBreakMinutes())
+                && !breakMinutesSpinner.getValue().equals(next.getBreakMinutes())) {
+            breakMinutesSpinner.setValue(next.getBreakMinutes());
+            touched++;
         }
         
-        if (pomodoroModeCheckBox.isSelected() != timerModel.isPomodoroMode()) {
-            pomodoroModeCheckBox.setSelected(timerModel.isPomodoroMode());
+        if ((prev == null || next.isPomodoroMode() != prev.isPomodoroMode())
+                && pomodoroModeCheckBox.isSelected() != next.isPomodoroMode()) {
+            pomodoroModeCheckBox.setSelected(next.isPomodoroMode());
             updateBreakSettingsVisibility();
+            touched += 2;
         }
+        return touched;
     }
     
-    // TimerModel.TimerListener 구현
-    @Override
-    public void onTimerTick(int remainingSeconds) {
-        updateDisplay();
+    /**
+     * 렌더링 통계 문자열 (프레임당 컴포넌트 갱신 수와 다시 그리기 영역 수)
+     */
+    public String getRenderStatus() {
+        long frames = renderedFrames;
+        return String.format("프레임 %d (변경 없음 %d) | 컴포넌트 갱신 %.2f/프레임, 다시 그리기 영역 %.2f/프레임",
+            frames, unchangedFrames,
+            frames == 0 ? 0.0 : componentUpdates / (double) frames,
+            frames == 0 ? 0.0 : repaintRegions / (double) frames);
     }
     
+    // TimerFrameDispatcher.FrameListener 구현 (EDT에서 호출됨)
     @Override
-    public void onTimerComplete(TimerModel.NotificationType type) {
-        updateDisplay();
+    public void onTimerFrame(TimerFrameDispatcher.Frame frame) {
+        renderDisplay(frame.getSnapshot(), frame.getRemainingSeconds());
         
-        // 완료 효과 (색상 변경)
-        SwingUtilities.invokeLater(() -> {
+        if (frame.isCompleted()) {
+            // 완료 효과 (색상 변경)
             Color originalColor = timeLabel.getForeground();
             timeLabel.setForeground(Color.RED);
             
@@ -487,25 +501,40 @@ public class TimerPanel extends JPanel implements TimerModel.TimerListener, Even
                 ((Timer) e.getSource()).stop();
             });
             flashTimer.start();
-        });
-    }
-    
-    @Override
-    public void onTimerStateChanged(TimerModel.TimerState state) {
-        updateDisplay();
+        }
     }
     
     /**
      * 패널 정리
      */
     public void cleanup() {
-        // 타이머 리스너 해제
-        timerModel.removeTimerListener(this);
+        // 타이머 프레임 리스너 해제
+        frameDispatcher.removeFrameListener(this);
         
         // 이벤트 구독 해제
         if (eventBus != null) {
             eventBus.unsubscribe(ProfileChangedEvent.class, this);
             System.out.println("🧹 TimerPanel ProfileChangedEvent 구독 해제");
         }
+        System.out.println("📊 TimerPanel 렌더링: " + getRenderStatus());
+    }
+    
+    /**
+     * 패널 안 컴포넌트가 Swing에 요청한 더티 영역을 세는 RepaintManager
+     * 그리기는 기본 구현에 그대로 맡기고, 요청한 컴포넌트가 속한 TimerPanel의 영역 수만 늘림
+     */
+    private static final class RepaintCounter extends RepaintManager {
+        @Override
+        public void addDirtyRegion(JComponent c, int x, int y, int w, int h) {
+            super.addDirtyRegion(c, x, y, w, h);
+            if (w <= 0 || h <= 0 || !c.isShowing()) return;
+            
+            for (Container parent = c; parent != null; parent = parent.getParent()) {
+                if (parent instanceof TimerPanel) {
+                    ((TimerPanel) parent).repaintRegions++;
+                    return;
+                }
+            }
+        }
     }
 }
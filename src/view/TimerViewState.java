@@ -0,0 +1,73 @@
+package view;
+
+import model.TimerModel;
+import constants.TimerConstants;
+
+/**
+ * 타이머 패널에 표시할 값의 불변 스냅샷
+ * 이전 프레임의 상태와 비교하여 실제로 바뀐 컴포넌트만 갱신하는 데 사용합니다.
+ */
+public final class TimerViewState {
+    private final String timeText;
+    private final String phaseText;
+    private final int cycle;
+    private final int progressPercent;
+    private final TimerModel.TimerState state;
+    private final int workMinutes;
+    private final int breakMinutes;
+    private final boolean pomodoroMode;
+    
+    private TimerViewState(String timeText, String phaseText, int cycle, int progressPercent,
+                           TimerModel.TimerState state, int workMinutes, int breakMinutes, boolean pomodoroMode) {
+        this.timeText = timeText;
+        this.phaseText = phaseText;
+        this.cycle = cycle;
+        this.progressPercent = progressPercent;
+        this.state = state;
+        this.workMinutes = workMinutes;
+        this.breakMinutes = breakMinutes;
+        this.pomodoroMode = pomodoroMode;
+    }
+    
+    /**
+     * 모델 스냅샷과 남은 시간으로 표시 상태 생성
+     */
+    public static TimerViewState of(TimerModel.Snapshot snapshot, int remainingSeconds) {
+        // 현재 페이즈(작업/휴식)의 전체 길이 대비 경과 비율
+        int totalSeconds = snapshot.getPhaseTotalSeconds();
+        int progress = totalSeconds <= 0 ? 0
+            : (int) ((double) (totalSeconds - remainingSeconds) / totalSeconds * 100);
+        
+        return new TimerViewState(TimerConstants.formatTime(remainingSeconds), snapshot.getCurrentPhase(),
+            snapshot.getCurrentCycle(), progress, snapshot.getState(),
+            snapshot.getWorkMinutes(), snapshot.getBreakMinutes(), snapshot.isPomodoroMode());
+    }
+    
+    public String getTimeText() { return timeText; }
+    public String getPhaseText() { return phaseText; }
+    public int getCycle() { return cycle; }
+    public String getCycleText() { return "사이클: " + cycle; }
+    public int getProgressPercent() { return progressPercent; }
+    public TimerModel.TimerState getState() { return state; }
+    public int getWorkMinutes() { return workMinutes; }
+    public int getBreakMinutes() { return breakMinutes; }
+    public boolean isPomodoroMode() { return pomodoroMode; }
+    
+    // 버튼/설정 활성화 상태 (타이머 상태에서 결정됨)
+    public boolean isStartEnabled() { return state != TimerModel.TimerState.RUNNING; }
+    public boolean isPauseEnabled() { return state == TimerModel.TimerState.RUNNING; }
+    public boolean isStopEnabled() { return state != TimerModel.TimerState.STOPPED; }
+    public boolean isResetEnabled() { return state != TimerModel.TimerState.RUNNING; }
+    public boolean isSettingsEditable() { return state == TimerModel.TimerState.STOPPED; }
+    
+    /**
+     * 시작 버튼 문구 (실행 중에는 바꾸지 않으므로 null)
+     */
+    public String getStartText() {
+        switch (state) {
+            case STOPPED: return "시작";
+            case PAUSED: return "재개";
+            default: return null;
+        }
+    }
+}
@@ -0,0 +1,278 @@
+package view;
+
+import model.TimerModel;
+import constants.TimerConstants;
+import constants.UIConstants;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Arc2D;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Path2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BaseMultiResolutionImage;
+import java.awt.image.BufferedImage;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 미리 그려 둔 트레이 아이콘 모음
+ * 트레이 크기와 화면 배율마다 한 번만 만들며, 타이머 상태별 아이콘과
+ * 진행률 링 프레임(기본 60단계)을 모두 담아 실행 중에는 이미지를 바꿔 끼우기만 합니다.
+ * 각 프레임은 1배율과 화면 배율 이미지를 함께 가진 다중 해상도 이미지입니다.
+ * 처음 표시할 정지 아이콘만 바로 그리고 나머지 프레임은 백그라운드 스레드에서 그려 EDT를 막지 않습니다.
+ */
+public final class TrayIconAtlas {
+    
+    // 트레이 크기 + 배율별 아틀라스 (한 번 만들면 재사용)
+    private static final Map<String, TrayIconAtlas> ATLASES = new ConcurrentHashMap<>();
+    
+    private static final TimerModel.TimerState[] STATES = TimerModel.TimerState.values();
+    
+    private final int size;
+    private final double scale;
+    private final int steps;
+    private final AtomicReferenceArray<Image[]> frames;  // [상태][진행 단계], 상태별로 다 그린 뒤 공개 (그리는 중이면 null)
+    private final AtomicReferenceArray<Image> onDemand;  // 공개 전에 요청되어 직접 그린 프레임 (상태 × 단계)
+    private final AtomicLong pixelBytes = new AtomicLong();
+    private final long startNanos;
+    private volatile long buildNanos;          // 모든 프레임을 다 그리면 설정
+    private final long firstIconNanos;
+    
+    private TrayIconAtlas(int size, double scale, int steps) {
+        this.startNanos = System.nanoTime();
+        this.size = size;
+        this.scale = scale;
+        this.steps = Math.max(1, steps);
+        this.frames = new AtomicReferenceArray<>(STATES.length);
+        this.onDemand = new AtomicReferenceArray<>(STATES.length * (this.steps + 1));
+        
+        // 트레이에 처음 올릴 정지 아이콘은 바로 그림
+        buildState(TimerModel.TimerState.STOPPED);
+        this.firstIconNanos = System.nanoTime() - startNanos;
+    }
+    
+    /**
+     * 나머지 상태의 프레임을 백그라운드 스레드에서 그림
+     */
+    private void buildRemainingAsync() {
+        Thread builder = new Thread(() -> {
+            try {
+                for (TimerModel.TimerState state : STATES) {
+                    if (frames.get(state.ordinal()) == null) {
+                        buildState(state);
+                    }
+                }
+                buildNanos = System.nanoTime() - startNanos;
+            } catch (Exception e) {
+                // 그리지 못한 프레임은 요청 시점에 직접 그림
+                System.err.println("트레이 아이콘 미리 그리기 실패: " + e.getMessage());
+            }
+        }, "TrayIcon-Atlas");
+        builder.setDaemon(true);
+        builder.setPriority(Thread.MIN_PRIORITY);
+        builder.start();
+    }
+    
+    /**
+     * 한 상태의 모든 진행 단계를 그려 공개 (먼저 요청되어 그려 둔 프레임은 그대로 사용)
+     */
+    private void buildState(TimerModel.TimerState state) {
+        // 정지 상태에는 진행률이 없으므로 한 장만 그림
+        int count = state == TimerModel.TimerState.STOPPED ? 1 : steps + 1;
+        Image[] images = new Image[count];
+        for (int step = 0; step < count; step++) {
+            images[step] = onDemandFrame(state, step);
+        }
+        frames.set(state.ordinal(), images);
+    }
+    
+    /**
+     * 한 프레임을 한 번만 그려 보관 (두 스레드가 동시에 그리면 먼저 보관된 것을 사용)
+     */
+    private Image onDemandFrame(TimerModel.TimerState state, int step) {
+        int index = state.ordinal() * (steps + 1) + step;
+        Image image = onDemand.get(index);
+        if (image == null) {
+            onDemand.compareAndSet(index, null, renderFrame(state, step));
+            image = onDemand.get(index);
+        }
+        return image;
+    }
+    
+    private Image renderFrame(TimerModel.TimerState state, int step) {
+        double fraction = state == TimerModel.TimerState.STOPPED ? 0.0 : step / (double) steps;
+        BufferedImage base = render(state, fraction, size, 1.0);
+        long bytes = (long) base.getWidth() * base.getHeight() * 4;
+        Image image = base;
+        if (scale > 1.0) {
+            BufferedImage hiDpi = render(state, fraction, (int) Math.ceil(size * scale), scale);
+            bytes += (long) hiDpi.getWidth() * hiDpi.getHeight() * 4;
+            image = new BaseMultiResolutionImage(base, hiDpi);
+        }
+        pixelBytes.addAndGet(bytes);
+        return image;
+    }
+    
+    /**
+     * 트레이 크기와 기본 화면 배율에 맞는 아틀라스
+     * 처음 요청할 때 정지 아이콘만 그려 바로 반환하고 나머지 프레임은 백그라운드에서 그림
+     */
+    public static TrayIconAtlas forTray(SystemTray tray) {
+        int size = UIConstants.TRAY_ICON_SIZE;
+        if (tray != null) {
+            Dimension traySize = tray.getTrayIconSize();
+            if (traySize != null && traySize.width > 0 && traySize.height > 0) {
+                size = Math.min(traySize.width, traySize.height);
+            }
+        }
+        return get(size, defaultScale(), UIConstants.TRAY_PROGRESS_STEPS);
+    }
+    
+    public static TrayIconAtlas get(int size, double scale, int steps) {
+        String key = size + "@" + scale + "/" + steps;
+        return ATLASES.computeIfAbsent(key, k -> {
+            TrayIconAtlas atlas = new TrayIconAtlas(size, scale, steps);
+            atlas.buildRemainingAsync();
+            return atlas;
+        });
+    }
+    
+    static double defaultScale() {
+        if (GraphicsEnvironment.isHeadless()) {
+            return 1.0;
+        }
+        AffineTransform transform = GraphicsEnvironment.getLocalGraphicsEnvironment()
+            .getDefaultScreenDevice().getDefaultConfiguration().getDefaultTransform();
+        return Math.max(1.0, Math.max(transform.getScaleX(), transform.getScaleY()));
+    }
+    
+    /**
+     * 진행률(0.0~1.0)에 가장 가까운 단계
+     */
+    public int stepFor(double fraction) {
+        if (!(fraction > 0)) return 0;  // NaN 포함
+        if (fraction >= 1) return steps;
+        return (int) Math.round(fraction * steps);
+    }
+    
+    /**
+     * 상태와 진행 단계에 맞는 미리 그린 아이콘 (할당 없음)
+     * 아직 그리는 중인 상태면 그 프레임 한 장만 직접 그려 보관하고, 공개될 상태 프레임에도 같은 이미지를 씀
+     */
+    public Image getIcon(TimerModel.TimerState state, int step) {
+        Image[] images = frames.get(state.ordinal());
+        if (images == null) {
+            int last = state == TimerModel.TimerState.STOPPED ? 0 : steps;
+            return onDemandFrame(state, Math.max(0, Math.min(step, last)));
+        }
+        return images[Math.max(0, Math.min(step, images.length - 1))];
+    }
+    
+    /**
+     * 모든 프레임을 다 그렸는지 여부
+     */
+    public boolean isComplete() {
+        return buildNanos > 0;
+    }
+    
+    public int getSize() { return size; }
+    public double getScale() { return scale; }
+    public int getSteps() { return steps; }
+    
+    /**
+     * 아틀라스 상태 문자열
+     */
+    public String getStatus() {
+        int count = 0;
+        for (int i = 0; i < frames.length(); i++) {
+            Image[] images = frames.get(i);
+            if (images != null) count += images.length;
+        }
+        long built = buildNanos;
+        return String.format("%dpx @%.2fx | 프레임 %d개, %dKB | 첫 아이콘 %.1fms, %s",
+            size, scale, count, pixelBytes.get() / 1024,
+            firstIconNanos / (double) TimerConstants.NANOS_PER_MILLISECOND,
+            built > 0 ? String.format("전체 %.1fms", built / (double) TimerConstants.NANOS_PER_MILLISECOND) : "나머지 그리는 중");
+    }
+    
+    /**
+     * 아이콘 한 장 그리기 (아틀라스를 만들 때만 호출)
+     * 논리 크기 기준 좌표로 그리고 배율만큼 확대하여 고해상도 화면에서도 선명하게 함
+     */
+    private BufferedImage render(TimerModel.TimerState state, double fraction, int pixels, double renderScale) {
+        BufferedImage icon = new BufferedImage(pixels, pixels, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = icon.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_PURE);
+        g2d.scale(renderScale, renderScale);
+        
+        double s = size;
+        double ring = Math.max(1.5, s / 8.0);  // 진행률 링 두께
+        
+        // 상태에 따른 원형 배경
+        g2d.setColor(stateColor(state));
+        g2d.fill(new Ellipse2D.Double(1, 1, s - 2, s - 2));
+        
+        // 진행률 링: 옅은 바탕 위에 12시 방향부터 시계 방향으로 경과 비율만큼
+        if (state != TimerModel.TimerState.STOPPED) {
+            double inset = 1 + ring / 2;
+            double diameter = s - 2 * inset;
+            g2d.setStroke(new BasicStroke((float) ring, BasicStroke.CAP_BUTT, BasicStroke.JOIN_ROUND));
+            g2d.setColor(new Color(255, 255, 255, 90));
+            g2d.draw(new Ellipse2D.Double(inset, inset, diameter, diameter));
+            if (fraction > 0) {
+                g2d.setColor(Color.WHITE);
+                g2d.draw(new Arc2D.Double(inset, inset, diameter, diameter, 90, -360 * fraction, Arc2D.OPEN));
+            }
+        } else {
+            g2d.setColor(Color.WHITE);
+            g2d.setStroke(new BasicStroke(1));
+            g2d.draw(new Ellipse2D.Double(1, 1, s - 2, s - 2));
+        }
+        
+        // 상태 표시 기호
+        g2d.setColor(Color.WHITE);
+        switch (state) {
+            case RUNNING: {
+                // 재생 표시 (작은 삼각형)
+                Path2D.Double triangle = new Path2D.Double();
+                triangle.moveTo(s * 0.40, s * 0.31);
+                triangle.lineTo(s * 0.66, s * 0.50);
+                triangle.lineTo(s * 0.40, s * 0.69);
+                triangle.closePath();
+                g2d.fill(triangle);
+                break;
+            }
+            case PAUSED: {
+                // 일시정지 표시 (두 개의 세로선)
+                double bar = Math.max(1.5, s / 8.0);
+                g2d.fill(new Rectangle2D.Double(s * 0.36, s * 0.31, bar, s * 0.38));
+                g2d.fill(new Rectangle2D.Double(s * 0.64 - bar, s * 0.31, bar, s * 0.38));
+                break;
+            }
+            case STOPPED:
+            default:
+                // 정지 표시 (작은 사각형)
+                g2d.fill(new Rectangle2D.Double(s / 3, s / 3, s / 3, s / 3));
+                break;
+        }
+        
+        g2d.dispose();
+        return icon;
+    }
+    
+    private static Color stateColor(TimerModel.TimerState state) {
+        switch (state) {
+            case RUNNING:
+                return new Color(60, 179, 113);  // 녹색
+            case PAUSED:
+                return new Color(255, 165, 0);   // 주황색
+            case STOPPED:
+            default:
+                return new Color(128, 128, 128); // 회색
+        }
+    }
+}